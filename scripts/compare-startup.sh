@@ -0,0 +1,67 @@
+#!/usr/bin/env bash
+#
+# Compares the startup time and resident memory of the JVM, JVM+AOT and native builds of the application.
+# Usually run through ./gradlew -Pnative compareStartup, which builds both artifacts first.
+#
+# Usage: scripts/compare-startup.sh <boot jar> <native executable>
+#
+# Startup time is measured until /actuator/health answers; RSS is read from /proc once it does (Linux only).
+# The config server import is made optional and the config snapshot is disabled so every variant starts alike.
+set -euo pipefail
+
+JAR=${1:?boot jar required}
+NATIVE=${2:?native executable required}
+PORT=${PORT:-18080}
+RUNS=${RUNS:-3}
+LOG_DIR=${LOG_DIR:-build/reports/startup}
+APP_ARGS=(
+  "--server.port=${PORT}"
+  "--application.config-snapshot.import=optional:configserver:"
+  "--application.config-snapshot.enabled=false"
+  "--spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration"
+  "--spring.cloud.refresh.enabled=false"
+)
+
+mkdir -p "${LOG_DIR}"
+
+# measure <name> <command...>: prints "<startup ms> <rss kB>" for one run
+measure() {
+  local name=$1
+  shift
+  local start
+  start=$(date +%s%N)
+  "$@" "${APP_ARGS[@]}" >"${LOG_DIR}/${name}.log" 2>&1 &
+  local pid=$!
+  until curl -sf "http://127.0.0.1:${PORT}/actuator/health" >/dev/null; do
+    if ! kill -0 "${pid}" 2>/dev/null; then
+      echo "${name} exited during startup, see ${LOG_DIR}/${name}.log" >&2
+      exit 1
+    fi
+    sleep 0.02
+  done
+  local end
+  end=$(date +%s%N)
+  local rss
+  rss=$(awk '/^VmRSS/ { print $2 }' "/proc/${pid}/status")
+  kill "${pid}"
+  wait "${pid}" 2>/dev/null || true
+  echo "$(((end - start) / 1000000)) ${rss}"
+}
+
+report() {
+  local name=$1
+  shift
+  local total_ms=0 total_rss=0
+  for _ in $(seq "${RUNS}"); do
+    read -r ms rss < <(measure "${name}" "$@")
+    total_ms=$((total_ms + ms))
+    total_rss=$((total_rss + rss))
+  done
+  printf "%-10s %12d %12d\n" "${name}" $((total_ms / RUNS)) $((total_rss / RUNS / 1024))
+}
+
+printf "%-10s %12s %12s\n" "build" "startup ms" "RSS MB"
+report jvm java -jar "${JAR}"
+report jvm-aot java -Dspring.aot.enabled=true -jar "${JAR}"
+report native "${NATIVE}"
+echo "Averages of ${RUNS} runs; logs in ${LOG_DIR}"
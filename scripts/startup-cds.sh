@@ -0,0 +1,110 @@
+#!/usr/bin/env bash
+#
+# Trains an AppCDS archive for the startup-optimized (fast-startup) mode and reports the startup footprint of the
+# default mode, the fast-startup mode and the fast-startup mode with the archive. Usually run through
+# ./gradlew cdsArchive and ./gradlew startupReport.
+#
+# Usage: scripts/startup-cds.sh train  <classpath> <archive>
+#        scripts/startup-cds.sh report <classpath> <archive>
+#
+# CDS cannot archive classes loaded from the nested jars of the boot jar, so the application is started from the
+# plain jar and its runtime classpath, which must be identical when training and when using the archive.
+# Time to first request is measured until /actuator/health answers; the heap in use when ready is taken from the
+# "Startup footprint" line logged by StartupMetrics.
+set -euo pipefail
+
+COMMAND=${1:?train or report required}
+CLASSPATH=${2:?classpath required}
+ARCHIVE=${3:?archive path required}
+PORT=${PORT:-18080}
+RUNS=${RUNS:-3}
+LOG_DIR=${LOG_DIR:-build/reports/startup}
+MAIN_CLASS=com.audition.AuditionApplication
+APP_ARGS=(
+  "--server.port=${PORT}"
+  "--application.config-snapshot.import=optional:configserver:"
+  "--application.config-snapshot.enabled=false"
+  "--spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration"
+)
+FAST_ARGS=("--spring.profiles.active=fast-startup")
+
+mkdir -p "${LOG_DIR}"
+
+# start <log> <java args...>: starts the application in the background and waits for the first answered request
+start() {
+  local log=$1
+  shift
+  java "$@" -cp "${CLASSPATH}" "${MAIN_CLASS}" "${APP_ARGS[@]}" >"${log}" 2>&1 &
+  PID=$!
+  until curl -sf "http://127.0.0.1:${PORT}/actuator/health" >/dev/null; do
+    if ! kill -0 "${PID}" 2>/dev/null; then
+      echo "application exited during startup, see ${log}" >&2
+      exit 1
+    fi
+    sleep 0.02
+  done
+}
+
+stop() {
+  kill "${PID}"
+  wait "${PID}" 2>/dev/null || true
+}
+
+# measure <name> <java and application args...>: prints "<time to first request ms> <heap MB>" for one run
+measure() {
+  local name=$1
+  shift
+  local log="${LOG_DIR}/${name}.log"
+  local begin
+  begin=$(date +%s%N)
+  start "${log}" "$@"
+  local end
+  end=$(date +%s%N)
+  local heap=""
+  while [ -z "${heap}" ] && kill -0 "${PID}" 2>/dev/null; do
+    heap=$(sed -n 's/.*Startup footprint: ready [0-9]* ms after JVM start, \([0-9]*\) MB heap in use.*/\1/p' "${log}")
+    sleep 0.02
+  done
+  stop
+  echo "$(((end - begin) / 1000000)) ${heap:-0}"
+}
+
+report() {
+  local name=$1
+  shift
+  local total_ms=0 total_heap=0
+  for _ in $(seq "${RUNS}"); do
+    read -r ms heap < <(measure "${name}" "$@")
+    total_ms=$((total_ms + ms))
+    total_heap=$((total_heap + heap))
+  done
+  printf "%-18s %22d %12d\n" "${name}" $((total_ms / RUNS)) $((total_heap / RUNS))
+}
+
+case "${COMMAND}" in
+  train)
+    # the archive is written when the JVM exits, after the classes of startup and the first request were loaded
+    mkdir -p "$(dirname "${ARCHIVE}")"
+    rm -f "${ARCHIVE}"
+    APP_ARGS+=("${FAST_ARGS[@]}")
+    start "${LOG_DIR}/cds-training.log" "-XX:ArchiveClassesAtExit=${ARCHIVE}"
+    stop
+    [ -f "${ARCHIVE}" ] || { echo "no archive written, see ${LOG_DIR}/cds-training.log" >&2; exit 1; }
+    echo "CDS archive written to ${ARCHIVE}"
+    ;;
+  report)
+    [ -f "${ARCHIVE}" ] || { echo "no archive at ${ARCHIVE}, run the cdsArchive task first" >&2; exit 1; }
+    {
+      printf "%-18s %22s %12s\n" "mode" "first request ms" "heap MB"
+      report default
+      APP_ARGS+=("${FAST_ARGS[@]}")
+      report fast-startup
+      report fast-startup-cds "-XX:SharedArchiveFile=${ARCHIVE}"
+      echo "Averages of ${RUNS} runs; logs in ${LOG_DIR}"
+    } | tee "${LOG_DIR}/startup-report.txt"
+    ;;
+  *)
+    echo "unknown command ${COMMAND}, expected train or report" >&2
+    exit 1
+    ;;
+esac
@@ -0,0 +1,90 @@
+package com.audition.benchmark;
+
+import com.audition.common.logging.AuditionLogger;
+import com.audition.configuration.HttpClientProperties;
+import com.audition.configuration.WebServiceConfiguration;
+import com.audition.integration.AuditionIntegrationClient;
+import com.audition.model.AuditionPost;
+import com.audition.model.Comment;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+/**
+ * Full {@link AuditionIntegrationClient} round trip over loopback HTTP: the application {@code RestTemplate} (buffering
+ * request factory, logging interceptor, Jackson converter) against an in-process JDK {@link HttpServer} that answers
+ * with pre-serialized JSON, so the measurement covers request building, transport and response binding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClientRoundTripBenchmark {
+
+    private HttpServer server;
+    private AuditionIntegrationClient client;
+
+    @Setup
+    public void setUp() throws IOException {
+        final WebServiceConfiguration configuration = new WebServiceConfiguration(new AuditionLogger());
+        final ObjectMapper mapper = configuration.objectMapper().disable(SerializationFeature.INDENT_OUTPUT);
+        final List<AuditionPost> posts = Datasets.posts(100);
+        final List<Comment> comments = Datasets.comments(500);
+        final byte[] postsJson = mapper.writeValueAsBytes(posts);
+        final byte[] postJson = mapper.writeValueAsBytes(posts.get(0));
+        final byte[] commentsJson = mapper.writeValueAsBytes(comments.subList(0, 5));
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/posts", exchange -> respond(exchange,
+            exchange.getRequestURI().getPath().equals("/posts") ? postsJson : postJson));
+        server.createContext("/comments", exchange -> respond(exchange, commentsJson));
+        server.start();
+
+        client = new AuditionIntegrationClient(configuration.restTemplate(new RestTemplateBuilder(), new HttpClientProperties()));
+        client.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public List<AuditionPost> getPosts() {
+        return client.getPosts();
+    }
+
+    @Benchmark
+    public AuditionPost getPostById() {
+        return client.getPostById("1");
+    }
+
+    @Benchmark
+    public List<Comment> getCommentsForPost() {
+        return client.getCommentsForPost("1");
+    }
+
+    private static void respond(final HttpExchange exchange, final byte[] body) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
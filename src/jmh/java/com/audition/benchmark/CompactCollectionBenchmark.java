@@ -0,0 +1,97 @@
+package com.audition.benchmark;
+
+import com.audition.configuration.WebServiceConfiguration;
+import com.audition.model.AuditionPost;
+import com.audition.model.Comment;
+import com.audition.model.CompactComments;
+import com.audition.model.CompactPosts;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * The two sides of {@code application.cache.compact}: reading cached post and comment collections held as lists of
+ * records ({@code records}) or as {@link CompactPosts} and {@link CompactComments} ({@code compact}).
+ *
+ * <p>{@link #scanPosts()} and {@link #scanComments()} touch every field of every element, as the {@code userId} filter
+ * and paging do; the {@code write*} benchmarks serialize the collections as API responses. Run with the {@code gc}
+ * profiler configured in the build, {@code gc.alloc.rate.norm} shows the bytes a read allocates: nothing beyond the
+ * iterator for records, a record and its decoded strings per element for the compact form.
+ *
+ * <p>The retained heap of both forms is measured once per trial by walking the object graph with JOL and printed with
+ * the run output, next to the {@code HeapLayout} estimate the compact classes report. Compaction pays off only when the
+ * heap saved outweighs the extra allocation at the read rate the cache actually sees.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CompactCollectionBenchmark {
+
+    @Param({"records", "compact"})
+    private String form;
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<AuditionPost> posts;
+    private List<Comment> comments;
+
+    @Setup
+    public void setUp() {
+        writer = new WebServiceConfiguration(null).objectMapper().writer().without(SerializationFeature.INDENT_OUTPUT);
+        final List<AuditionPost> postRecords = Datasets.posts(size);
+        final List<Comment> commentRecords = Datasets.comments(size * 5);
+        final boolean compact = "compact".equals(form);
+        posts = compact ? CompactPosts.of(postRecords) : postRecords;
+        comments = compact ? CompactComments.of(commentRecords) : commentRecords;
+        final long estimatedPosts = compact
+            ? ((CompactPosts) posts).footprintBytes() : CompactPosts.beanFootprintBytes(postRecords);
+        final long estimatedComments = compact
+            ? ((CompactComments) comments).footprintBytes() : CompactComments.beanFootprintBytes(commentRecords);
+        System.out.printf(Locale.ROOT, "%nretained bytes [%s, %d]: posts %d (estimated %d), comments %d (estimated %d)%n",
+            form, size, GraphLayout.parseInstance(posts).totalSize(), estimatedPosts,
+            GraphLayout.parseInstance(comments).totalSize(), estimatedComments); //NOPMD - printed with the benchmark output
+    }
+
+    @Benchmark
+    public long scanPosts() {
+        long checksum = 0;
+        for (final AuditionPost post : posts) {
+            checksum += post.id() + post.userId() + post.title().length() + post.body().length();
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long scanComments() {
+        long checksum = 0;
+        for (final Comment comment : comments) {
+            checksum += comment.id() + comment.postId() + comment.name().length() + comment.email().length()
+                + comment.body().length();
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public byte[] writePosts() throws JsonProcessingException {
+        return writer.writeValueAsBytes(posts);
+    }
+
+    @Benchmark
+    public byte[] writeComments() throws JsonProcessingException {
+        return writer.writeValueAsBytes(comments);
+    }
+}
@@ -0,0 +1,70 @@
+package com.audition.benchmark;
+
+import com.audition.integration.AuditionIntegrationClient;
+import com.audition.model.AuditionPost;
+import com.audition.service.AuditionService;
+import com.audition.web.AuditionController;
+import com.audition.web.PageParameters;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link AuditionController#getPosts(Integer, PageParameters)} without paging, unfiltered and filtered by user id, over
+ * an in-memory upstream so only the controller and service work is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ControllerFilterBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private AuditionController controller;
+    private PageParameters unpaged;
+    private Integer userId;
+
+    @Setup
+    public void setUp() {
+        final List<AuditionPost> posts = List.copyOf(Datasets.posts(size));
+        controller = new AuditionController(new AuditionService(new InMemoryClient(posts)));
+        unpaged = new PageParameters();
+        userId = posts.get(posts.size() / 2).userId();
+    }
+
+    @Benchmark
+    public List<AuditionPost> allPosts() {
+        return controller.getPosts(null, unpaged).getBody();
+    }
+
+    @Benchmark
+    public List<AuditionPost> postsOfUser() {
+        return controller.getPosts(userId, unpaged).getBody();
+    }
+
+    /**
+     * Upstream client answering from a fixed list.
+     */
+    private static final class InMemoryClient extends AuditionIntegrationClient {
+
+        private final List<AuditionPost> posts;
+
+        InMemoryClient(final List<AuditionPost> posts) {
+            super(null);
+            this.posts = posts;
+        }
+
+        @Override
+        public List<AuditionPost> getPosts() {
+            return posts;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.audition.benchmark;
+
+import com.audition.model.AuditionPost;
+import com.audition.model.Comment;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generated datasets shaped like the JSONPlaceholder posts and comments: ten posts per user and five comments per
+ * post.
+ */
+public final class Datasets {
+
+    private Datasets() {
+    }
+
+    public static List<AuditionPost> posts(final int count) {
+        final List<AuditionPost> posts = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            posts.add(new AuditionPost(1 + (id - 1) / 10, id,
+                "sunt aut facere repellat provident occaecati excepturi optio reprehenderit " + id,
+                "quia et suscipit\nsuscipit recusandae consequuntur expedita et cum\nreprehenderit molestiae ut ut "
+                    + "quas totam\nnostrum rerum est autem sunt rem eveniet architecto " + id));
+        }
+        return posts;
+    }
+
+    public static List<Comment> comments(final int count) {
+        final List<Comment> comments = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            comments.add(new Comment(1 + (id - 1) / 5, id, "id labore ex et quam laborum " + id,
+                "user" + id + "@" + (id % 2 == 0 ? "gardner.biz" : "sydney.com"),
+                "laudantium enim quasi est quidem magnam voluptate ipsam eos\ntempora quo necessitatibus\n"
+                    + "dolor quam autem quasi\nreiciendis et nam sapiente accusantium " + id));
+        }
+        return comments;
+    }
+}
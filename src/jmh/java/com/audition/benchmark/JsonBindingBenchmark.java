@@ -0,0 +1,92 @@
+package com.audition.benchmark;
+
+import com.audition.configuration.WebServiceConfiguration;
+import com.audition.model.AuditionPost;
+import com.audition.model.Comment;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares reflective databinding with the Blackbird-enabled application {@link ObjectMapper} for the model types,
+ * inbound (upstream responses) and outbound (API responses). Readers and writers are created once per trial, as in
+ * the application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonBindingBenchmark {
+
+    @Param({"reflection", "blackbird"})
+    private String binding;
+
+    private ObjectReader postsReader;
+    private ObjectReader commentsReader;
+    private ObjectWriter writer;
+    private byte[] postsJson;
+    private byte[] commentsJson;
+    private List<AuditionPost> posts;
+    private List<Comment> comments;
+
+    @Setup
+    public void setUp() throws IOException {
+        final ObjectMapper mapper = "blackbird".equals(binding)
+            ? new WebServiceConfiguration(null).objectMapper()
+            : reflectiveMapper();
+        posts = Datasets.posts(100);
+        comments = Datasets.comments(500);
+        postsReader = mapper.readerFor(new TypeReference<List<AuditionPost>>() {
+        });
+        commentsReader = mapper.readerFor(new TypeReference<List<Comment>>() {
+        });
+        writer = mapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        postsJson = writer.writeValueAsBytes(posts);
+        commentsJson = writer.writeValueAsBytes(comments);
+    }
+
+    @Benchmark
+    public List<AuditionPost> readPosts() throws IOException {
+        return postsReader.readValue(postsJson);
+    }
+
+    @Benchmark
+    public List<Comment> readComments() throws IOException {
+        return commentsReader.readValue(commentsJson);
+    }
+
+    @Benchmark
+    public byte[] writePosts() throws IOException {
+        return writer.writeValueAsBytes(posts);
+    }
+
+    @Benchmark
+    public byte[] writeComments() throws IOException {
+        return writer.writeValueAsBytes(comments);
+    }
+
+    /**
+     * The application mapper settings without the Blackbird module.
+     */
+    private static ObjectMapper reflectiveMapper() {
+        final ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        return mapper;
+    }
+}
@@ -0,0 +1,84 @@
+package com.audition.benchmark;
+
+import com.audition.configuration.WebServiceConfiguration;
+import com.audition.model.AuditionPost;
+import com.audition.model.Comment;
+import com.audition.web.projection.FieldProjection;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Serialization of post and comment lists with the application {@link ObjectMapper}, as written to API responses.
+ * {@code pretty} is the mapper's default indented output, {@code compact} the same mapper without
+ * {@link SerializationFeature#INDENT_OUTPUT}. {@link #writeProjectedPosts()} measures a {@code ?fields=id,title}
+ * projection.
+ *
+ * <p>The payload sizes do not vary between operations, so they are computed once per trial and printed with the run
+ * output next to the times: the bytes of the full and the projected post list, the projected share, and the bytes of
+ * the comment list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    @Param({"pretty", "compact"})
+    private String layout;
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private ObjectWriter projectedWriter;
+    private List<AuditionPost> posts;
+    private List<Comment> comments;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        final ObjectMapper mapper = new WebServiceConfiguration(null).objectMapper();
+        writer = "pretty".equals(layout) ? mapper.writer() : mapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        final FieldProjection projection = new FieldProjection(mapper);
+        projectedWriter = "pretty".equals(layout)
+            ? projection.writerFor(projection.parse("id,title"))
+            : projection.writerFor(projection.parse("id,title")).without(SerializationFeature.INDENT_OUTPUT);
+        posts = Datasets.posts(size);
+        comments = Datasets.comments(size * 5);
+        reportPayloadSizes();
+    }
+
+    private void reportPayloadSizes() throws JsonProcessingException {
+        final int full = writer.writeValueAsBytes(posts).length;
+        final int projected = projectedWriter.writeValueAsBytes(posts).length;
+        System.out.printf(Locale.ROOT, "%npayload bytes [%s, %d]: posts %d, projected posts %d (%d%%), comments %d%n",
+            layout, size, full, projected, Math.round(100.0 * projected / full),
+            writer.writeValueAsBytes(comments).length); //NOPMD - printed with the benchmark output
+    }
+
+    @Benchmark
+    public byte[] writePosts() throws JsonProcessingException {
+        return writer.writeValueAsBytes(posts);
+    }
+
+    @Benchmark
+    public byte[] writeComments() throws JsonProcessingException {
+        return writer.writeValueAsBytes(comments);
+    }
+
+    @Benchmark
+    public byte[] writeProjectedPosts() throws JsonProcessingException {
+        return projectedWriter.writeValueAsBytes(posts);
+    }
+}
@@ -0,0 +1,130 @@
+package com.audition.web.advice;
+
+import com.audition.common.exception.SystemException;
+import com.audition.common.logging.AuditionLogger;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.LegacyAbstractLogger;
+import org.slf4j.helpers.MessageFormatter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Error path costs: {@link ExceptionControllerAdvice} turning exceptions into {@link ProblemDetail}s and
+ * {@link AuditionLogger} formatting its messages. The logger writes to an in-memory sink that formats every message
+ * but performs no I/O, so only the formatting is measured. Lives in the advice package because the handler methods are
+ * package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorHandlingBenchmark {
+
+    private ExceptionControllerAdvice advice;
+    private AuditionLogger auditionLogger;
+    private FormattingLogger logger;
+    private SystemException systemException;
+    private SystemException unmappableException;
+    private HttpClientErrorException clientErrorException;
+    private ProblemDetail problemDetail;
+
+    @Setup
+    public void setUp() {
+        auditionLogger = new AuditionLogger();
+        advice = new ExceptionControllerAdvice(auditionLogger);
+        logger = new FormattingLogger();
+        systemException = new SystemException("Cannot find a Post with id: 123", "Resource Not Found", 404);
+        unmappableException = new SystemException("Unexpected upstream status", "Upstream Error", 999);
+        clientErrorException = new HttpClientErrorException(HttpStatus.BAD_REQUEST, "Bad Request");
+        problemDetail = advice.handleSystemException(systemException);
+    }
+
+    @Benchmark
+    public ProblemDetail systemExceptionProblemDetail() {
+        return advice.handleSystemException(systemException);
+    }
+
+    @Benchmark
+    public ProblemDetail unmappableStatusProblemDetail() {
+        return advice.handleSystemException(unmappableException);
+    }
+
+    @Benchmark
+    public ProblemDetail clientErrorProblemDetail() {
+        return advice.handleMainException(clientErrorException);
+    }
+
+    @Benchmark
+    public void logProblemDetail(final Blackhole blackhole) {
+        auditionLogger.logStandardProblemDetail(logger, problemDetail, systemException);
+        blackhole.consume(logger.last);
+    }
+
+    @Benchmark
+    public void logHttpStatusCodeError(final Blackhole blackhole) {
+        auditionLogger.logHttpStatusCodeError(logger, "Cannot find any Posts", 404);
+        blackhole.consume(logger.last);
+    }
+
+    @Benchmark
+    public void logParameterized(final Blackhole blackhole) {
+        auditionLogger.info(logger, "Request URI: {}", "https://jsonplaceholder.typicode.com/posts/1");
+        blackhole.consume(logger.last);
+    }
+
+    /**
+     * Logger with every level enabled that formats each message into {@link #last} instead of writing it.
+     */
+    private static final class FormattingLogger extends LegacyAbstractLogger {
+
+        private static final long serialVersionUID = 1L;
+
+        private String last;
+
+        @Override
+        protected String getFullyQualifiedCallerName() {
+            return null;
+        }
+
+        @Override
+        protected void handleNormalizedLoggingCall(final Level level, final Marker marker,
+            final String messagePattern, final Object[] arguments, final Throwable throwable) {
+            last = MessageFormatter.basicArrayFormat(messagePattern, arguments);
+        }
+
+        @Override
+        public boolean isTraceEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isDebugEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isInfoEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isWarnEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isErrorEnabled() {
+            return true;
+        }
+    }
+}
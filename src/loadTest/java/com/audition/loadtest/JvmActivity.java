@@ -0,0 +1,93 @@
+package com.audition.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Garbage collection, allocation, thread and heap counters of this JVM, which hosts both the application and the load
+ * generator.
+ *
+ * <p>Allocation is summed per thread from the HotSpot thread allocation counters; threads that end between two
+ * snapshots are not included, which leaves the pooled server and executor threads that do the work measured. Virtual
+ * threads have no such counters, so in virtual thread mode the allocation is undercounted. The peak platform thread
+ * count and the peak heap usage are tracked from one snapshot to the next; the heap peak is the sum of the peaks of
+ * the heap pools, an upper bound of the actual peak.
+ */
+final class JvmActivity {
+
+    private final long collections;
+    private final long collectionMillis;
+    private final Map<Long, Long> allocatedBytes;
+    private final int peakThreads;
+    private final long peakHeapBytes;
+
+    private JvmActivity(final long collections, final long collectionMillis, final Map<Long, Long> allocatedBytes,
+        final int peakThreads, final long peakHeapBytes) {
+        this.collections = collections;
+        this.collectionMillis = collectionMillis;
+        this.allocatedBytes = allocatedBytes;
+        this.peakThreads = peakThreads;
+        this.peakHeapBytes = peakHeapBytes;
+    }
+
+    static JvmActivity snapshot() {
+        long collections = 0;
+        long collectionMillis = 0;
+        for (final GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            collections += Math.max(0, collector.getCollectionCount());
+            collectionMillis += Math.max(0, collector.getCollectionTime());
+        }
+        final Map<Long, Long> allocated = new HashMap<>();
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+            && threads.isThreadAllocatedMemoryEnabled()) {
+            final long[] ids = threads.getAllThreadIds();
+            final long[] bytes = threads.getThreadAllocatedBytes(ids);
+            for (int i = 0; i < ids.length; i++) {
+                if (bytes[i] >= 0) {
+                    allocated.put(ids[i], bytes[i]);
+                }
+            }
+        }
+        final int peakThreads = ManagementFactory.getThreadMXBean().getPeakThreadCount();
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+        long peakHeap = 0;
+        for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+                peakHeap += pool.getPeakUsage().getUsed();
+                pool.resetPeakUsage();
+            }
+        }
+        return new JvmActivity(collections, collectionMillis, allocated, peakThreads, peakHeap);
+    }
+
+    /**
+     * Activity between an earlier snapshot and this one.
+     *
+     * @param earlier the earlier snapshot
+     * @return the collections, collection time, allocated bytes, peak threads and peak heap in between
+     */
+    Delta since(final JvmActivity earlier) {
+        long allocated = 0;
+        for (final Map.Entry<Long, Long> thread : allocatedBytes.entrySet()) {
+            allocated += thread.getValue() - earlier.allocatedBytes.getOrDefault(thread.getKey(), 0L);
+        }
+        return new Delta(collections - earlier.collections, collectionMillis - earlier.collectionMillis, allocated,
+            peakThreads, peakHeapBytes);
+    }
+
+    /**
+     * Activity over a period.
+     *
+     * @param collections      garbage collections
+     * @param collectionMillis time spent in garbage collection
+     * @param allocatedBytes   bytes allocated by threads alive at the end of the period
+     * @param peakThreads      highest number of live platform threads
+     * @param peakHeapBytes    sum of the peak usage of the heap pools
+     */
+    record Delta(long collections, long collectionMillis, long allocatedBytes, int peakThreads, long peakHeapBytes) {
+    }
+}
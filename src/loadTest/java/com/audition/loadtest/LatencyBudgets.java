@@ -0,0 +1,103 @@
+package com.audition.loadtest;
+
+import com.audition.loadtest.OpenLoadGenerator.RouteResult;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Latency budgets a load test run must meet, read from a properties file.
+ *
+ * <p>Keys are {@code <route>.<percentile>} with the maximum latency in milliseconds as value, where the route is a
+ * {@link Route} name or {@code *} for every route, and the percentile is written as {@code p50}, {@code p99},
+ * {@code p999} (99.9), {@code p9999} (99.99) or {@code max}. A route-specific budget replaces the {@code *} budget of
+ * the same percentile. {@code max-error-rate} bounds the fraction of failed requests per route.
+ */
+final class LatencyBudgets {
+
+    private static final String ANY_ROUTE = "*";
+    private static final String MAX_ERROR_RATE = "max-error-rate";
+
+    private final Properties budgets;
+
+    private LatencyBudgets(final Properties budgets) {
+        this.budgets = budgets;
+    }
+
+    static LatencyBudgets load(final Path file) throws IOException {
+        final Properties budgets = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            budgets.load(reader);
+        }
+        return new LatencyBudgets(budgets);
+    }
+
+    /**
+     * Check the results of a run.
+     *
+     * @param results the latencies and failures per route
+     * @return one message per exceeded budget; empty when all budgets are met
+     */
+    List<String> violations(final Map<Route, RouteResult> results) {
+        final List<String> violations = new ArrayList<>();
+        for (final Map.Entry<Route, RouteResult> entry : results.entrySet()) {
+            final String route = entry.getKey().routeName();
+            final RouteResult result = entry.getValue();
+            for (final String percentile : percentiles(route)) {
+                final double budgetMillis = Double.parseDouble(budget(route, percentile).trim());
+                final double actualMillis = result.latencies().getTotalCount() == 0 ? 0
+                    : result.latencies().getValueAtPercentile(percentile(percentile)) / 1000.0;
+                if (actualMillis > budgetMillis) {
+                    violations.add(String.format(Locale.ROOT, "%s %s: %.1f ms exceeds the budget of %.1f ms",
+                        route, percentile, actualMillis, budgetMillis));
+                }
+            }
+            final String maxErrorRate = budgets.getProperty(MAX_ERROR_RATE);
+            if (maxErrorRate != null && result.errorRate() > Double.parseDouble(maxErrorRate.trim())) {
+                violations.add(String.format(Locale.ROOT, "%s: error rate %.4f exceeds the budget of %s", route,
+                    result.errorRate(), maxErrorRate.trim()));
+            }
+        }
+        return violations;
+    }
+
+    private List<String> percentiles(final String route) {
+        final List<String> percentiles = new ArrayList<>();
+        for (final String key : budgets.stringPropertyNames()) {
+            final int separator = key.lastIndexOf('.');
+            if (separator > 0) {
+                final String keyRoute = key.substring(0, separator);
+                final String percentile = key.substring(separator + 1);
+                if ((keyRoute.equals(route) || keyRoute.equals(ANY_ROUTE)) && !percentiles.contains(percentile)) {
+                    percentiles.add(percentile);
+                }
+            }
+        }
+        return percentiles;
+    }
+
+    private String budget(final String route, final String percentile) {
+        return budgets.getProperty(route + "." + percentile, budgets.getProperty(ANY_ROUTE + "." + percentile));
+    }
+
+    /**
+     * Translate {@code p50} to 50, {@code p999} to 99.9 and {@code max} to 100.
+     */
+    static double percentile(final String name) {
+        if ("max".equals(name)) {
+            return 100;
+        }
+        if (!name.startsWith("p") || name.length() < 3) {
+            throw new IllegalArgumentException("Unsupported percentile: " + name);
+        }
+        final String digits = name.substring(1);
+        return Double.parseDouble(digits.length() == 2 ? digits : digits.substring(0, 2) + "." + digits.substring(2));
+    }
+}
@@ -0,0 +1,63 @@
+package com.audition.loadtest;
+
+import com.audition.simulator.LatencyDistribution;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Settings of a load test run, read from {@code loadtest.*} system properties.
+ *
+ * @param rate          requests per second started, regardless of how quickly responses arrive
+ * @param warmup        time driven at the full rate before measuring
+ * @param duration      measured time
+ * @param requestTimeout time after which a request counts as failed
+ * @param routes        routes requested in turn
+ * @param budgets       latency budgets file
+ * @param reportDir     directory the reports are written to
+ * @param application   extra application properties, from {@code loadtest.app.*}
+ */
+record LoadSettings(int rate, Duration warmup, Duration duration, Duration requestTimeout, List<Route> routes,
+                    Path budgets, Path reportDir, Map<String, String> application) {
+
+    private static final String PREFIX = "loadtest.";
+    private static final String APPLICATION_PREFIX = PREFIX + "app.";
+
+    static LoadSettings fromProperties(final Properties properties) {
+        final List<Route> routes = new ArrayList<>();
+        for (final String name : properties.getProperty(PREFIX + "routes", "posts,post,post-comments,comments")
+            .split(",")) {
+            routes.add(Route.fromName(name.trim()));
+        }
+        final Map<String, String> application = new LinkedHashMap<>();
+        for (final String key : properties.stringPropertyNames()) {
+            if (key.startsWith(APPLICATION_PREFIX)) {
+                application.put(key.substring(APPLICATION_PREFIX.length()), properties.getProperty(key));
+            }
+        }
+        return new LoadSettings(
+            Integer.parseInt(properties.getProperty(PREFIX + "rate", "100")),
+            duration(properties, "warmup", "10s"),
+            duration(properties, "duration", "30s"),
+            duration(properties, "request-timeout", "10s"),
+            List.copyOf(routes),
+            Path.of(properties.getProperty(PREFIX + "budgets", "config/loadtest/latency-budgets.properties")),
+            Path.of(properties.getProperty(PREFIX + "report-dir", "build/reports/loadtest")),
+            application);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%d req/s for %ds after %ds warm-up over %s", rate, duration.toSeconds(),
+            warmup.toSeconds(), routes);
+    }
+
+    private static Duration duration(final Properties properties, final String key, final String defaultValue) {
+        return LatencyDistribution.parseDuration(properties.getProperty(PREFIX + key, defaultValue));
+    }
+}
@@ -0,0 +1,115 @@
+package com.audition.loadtest;
+
+import com.audition.AuditionApplication;
+import com.audition.loadtest.JvmActivity.Delta;
+import com.audition.loadtest.OpenLoadGenerator.RouteResult;
+import com.audition.simulator.SimulatorProfile;
+import com.audition.simulator.UpstreamSimulator;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * End-to-end load test of the application endpoints, run by {@code ./gradlew loadTest}.
+ *
+ * <p>The run starts the {@link UpstreamSimulator} (configured by {@code simulator.*} properties), boots the
+ * application on a random port against it, drives an open-model load (see {@link OpenLoadGenerator}) through a
+ * warm-up and a measured phase, and reports the latency percentiles per route together with the garbage collection,
+ * allocation, peak thread count and peak heap of the measured phase. The report is printed and written to
+ * {@code report.txt} in the report directory, next to one HdrHistogram percentile distribution ({@code .hgrm}) per
+ * route.
+ *
+ * <p>The process exits with status 1 when a budget of the {@link LatencyBudgets} file is exceeded, which fails the
+ * Gradle task.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        final LoadSettings settings = LoadSettings.fromProperties(System.getProperties());
+        final LatencyBudgets budgets = LatencyBudgets.load(settings.budgets());
+        final List<String> violations;
+        try (UpstreamSimulator simulator = UpstreamSimulator.start(
+            SimulatorProfile.fromProperties(System.getProperties(), UpstreamSimulator.PROPERTY_PREFIX));
+            ConfigurableApplicationContext application = boot(settings, simulator)) {
+            final String baseUrl = "http://127.0.0.1:" + application.getEnvironment().getProperty("local.server.port");
+            final OpenLoadGenerator generator = new OpenLoadGenerator(baseUrl, settings.routes(), simulator.posts(),
+                settings.requestTimeout());
+
+            generator.run(settings.rate(), settings.warmup());
+            final JvmActivity before = JvmActivity.snapshot();
+            final Map<Route, RouteResult> results = generator.run(settings.rate(), settings.duration());
+            final Delta activity = JvmActivity.snapshot().since(before);
+
+            violations = budgets.violations(results);
+            report(settings, results, activity, violations);
+        }
+        System.exit(violations.isEmpty() ? 0 : 1); //NOPMD - the exit status is the result of the Gradle task
+    }
+
+    private static ConfigurableApplicationContext boot(final LoadSettings settings,
+        final UpstreamSimulator simulator) {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("api.host.baseurl", simulator.baseUrl());
+        properties.put("spring.autoconfigure.exclude",
+            "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration");
+        properties.put("logging.level.com.audition", "WARN");
+        properties.put("application.config-snapshot.enabled", "false");
+        properties.putAll(settings.application());
+        return new SpringApplicationBuilder(AuditionApplication.class).properties(properties).run();
+    }
+
+    private static void report(final LoadSettings settings, final Map<Route, RouteResult> results,
+        final Delta activity, final List<String> violations) throws IOException {
+        Files.createDirectories(settings.reportDir());
+        long requests = 0;
+        final StringBuilder report = new StringBuilder(1024);
+        report.append("Load test: ").append(settings).append(System.lineSeparator())
+            .append(String.format(Locale.ROOT, "%-15s %9s %7s %9s %9s %9s %9s %9s%n", "route", "requests", "errors",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (final Map.Entry<Route, RouteResult> entry : results.entrySet()) {
+            final Histogram latencies = entry.getValue().latencies();
+            requests += entry.getValue().requests();
+            report.append(String.format(Locale.ROOT, "%-15s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                entry.getKey(), entry.getValue().requests(), entry.getValue().failures(),
+                millis(latencies, 50), millis(latencies, 90), millis(latencies, 99), millis(latencies, 99.9),
+                millis(latencies, 100)));
+            try (PrintStream out = new PrintStream(Files.newOutputStream(
+                settings.reportDir().resolve(entry.getKey().routeName() + ".hgrm")), false, StandardCharsets.UTF_8)) {
+                latencies.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        final double seconds = settings.duration().toMillis() / 1000.0;
+        report.append(String.format(Locale.ROOT, "GC: %d collections, %d ms; allocated %.1f MB (%.1f MB/s, %.1f KB per "
+                + "request, load generator included)%n", activity.collections(), activity.collectionMillis(),
+            activity.allocatedBytes() / 1e6, activity.allocatedBytes() / 1e6 / seconds,
+            requests == 0 ? 0 : activity.allocatedBytes() / 1e3 / requests));
+        report.append(String.format(Locale.ROOT, "Peak: %d platform threads, %.1f MB heap%n", activity.peakThreads(),
+            activity.peakHeapBytes() / 1e6));
+        if (violations.isEmpty()) {
+            report.append("All latency budgets met (").append(settings.budgets()).append(')');
+        } else {
+            report.append("Latency budgets exceeded (").append(settings.budgets()).append("):");
+            violations.forEach(violation -> report.append(System.lineSeparator()).append("  ").append(violation));
+        }
+        report.append(System.lineSeparator());
+        Files.writeString(settings.reportDir().resolve("report.txt"), report, StandardCharsets.UTF_8);
+        System.out.print(report); //NOPMD - the report is the output of the Gradle task
+    }
+
+    private static double millis(final Histogram latencies, final double percentile) {
+        return latencies.getTotalCount() == 0 ? 0 : latencies.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
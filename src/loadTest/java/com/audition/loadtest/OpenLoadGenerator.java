@@ -0,0 +1,127 @@
+package com.audition.loadtest;
+
+import com.audition.model.AuditionPost;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Open-model load generator: requests are started at a constant arrival rate, whether or not earlier requests have
+ * completed, as independent users would.
+ *
+ * <p>Latency is measured from the time a request was scheduled to start, not from when it was actually sent, so a
+ * stalled generator or a saturated application shows up in the percentiles instead of silently lowering the rate
+ * (coordinated omission). Latencies are recorded per route in HdrHistograms with microsecond resolution.
+ */
+final class OpenLoadGenerator {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final List<Route> routes;
+    private final List<AuditionPost> posts;
+    private final Duration requestTimeout;
+    private final SplittableRandom random = new SplittableRandom(1);
+    private final Map<Route, Recorder> recorders = new EnumMap<>(Route.class);
+    private final Map<Route, LongAdder> failures = new EnumMap<>(Route.class);
+    private final AtomicLong inFlight = new AtomicLong();
+
+    OpenLoadGenerator(final String baseUrl, final List<Route> routes, final List<AuditionPost> posts,
+        final Duration requestTimeout) {
+        this.httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        this.baseUrl = baseUrl;
+        this.routes = routes;
+        this.posts = posts;
+        this.requestTimeout = requestTimeout;
+        for (final Route route : routes) {
+            recorders.put(route, new Recorder(3));
+            failures.put(route, new LongAdder());
+        }
+    }
+
+    /**
+     * Drive the load for the given time and wait for the outstanding requests.
+     *
+     * @param rate     requests started per second
+     * @param duration how long requests are started
+     * @return the latencies and failures per route of the requests started in this phase
+     * @throws InterruptedException when interrupted while waiting
+     */
+    Map<Route, RouteResult> run(final int rate, final Duration duration) throws InterruptedException {
+        reset();
+        final long start = System.nanoTime();
+        final long requests = duration.toNanos() * rate / NANOS_PER_SECOND;
+        for (long sequence = 0; sequence < requests; sequence++) {
+            final long intendedStart = start + sequence * NANOS_PER_SECOND / rate;
+            final long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(routes.get((int) (sequence % routes.size())), intendedStart);
+        }
+        final long deadline = System.nanoTime() + requestTimeout.toNanos() + NANOS_PER_SECOND;
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        final Map<Route, RouteResult> results = new EnumMap<>(Route.class);
+        for (final Route route : routes) {
+            results.put(route, new RouteResult(recorders.get(route).getIntervalHistogram(),
+                failures.get(route).sum()));
+        }
+        return results;
+    }
+
+    private void send(final Route route, final long intendedStart) {
+        final AuditionPost post = posts.get(random.nextInt(posts.size()));
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + route.path(post)))
+            .timeout(requestTimeout)
+            .GET()
+            .build();
+        inFlight.incrementAndGet();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .whenComplete((response, failure) -> {
+                if (failure != null || response.statusCode() >= 400) {
+                    failures.get(route).increment();
+                } else {
+                    recorders.get(route).recordValue(
+                        Math.max(1, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart)));
+                }
+                inFlight.decrementAndGet();
+            });
+    }
+
+    private void reset() {
+        recorders.values().forEach(Recorder::reset);
+        failures.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * Outcome of one route.
+     *
+     * @param latencies latencies of the successful requests, in microseconds
+     * @param failures  requests that failed, timed out or were answered with an error status
+     */
+    record RouteResult(Histogram latencies, long failures) {
+
+        long requests() {
+            return latencies.getTotalCount() + failures;
+        }
+
+        double errorRate() {
+            return requests() == 0 ? 0 : (double) failures / requests();
+        }
+    }
+}
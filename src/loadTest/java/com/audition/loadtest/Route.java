@@ -0,0 +1,53 @@
+package com.audition.loadtest;
+
+import com.audition.model.AuditionPost;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Application endpoints driven by the load test. Each request is given a random post of the upstream dataset to take
+ * its ids from. The {@code async-*} routes are the {@code /async} variants of the synchronous ones, for comparing both
+ * against a slow upstream ({@code ./gradlew asyncLoadComparison}).
+ */
+enum Route {
+
+    POSTS("posts", post -> "/posts"),
+    POSTS_OF_USER("posts-of-user", post -> "/posts?userId=" + post.userId()),
+    POST("post", post -> "/posts/" + post.id()),
+    POST_COMMENTS("post-comments", post -> "/posts/" + post.id() + "/comments"),
+    COMMENTS("comments", post -> "/comments?postId=" + post.id()),
+    ASYNC_POSTS("async-posts", post -> "/async/posts"),
+    ASYNC_POST("async-post", post -> "/async/posts/" + post.id()),
+    ASYNC_POST_COMMENTS("async-post-comments", post -> "/async/posts/" + post.id() + "/comments"),
+    ASYNC_COMMENTS("async-comments", post -> "/async/comments?postId=" + post.id());
+
+    private final String routeName;
+    private final Function<AuditionPost, String> path;
+
+    Route(final String routeName, final Function<AuditionPost, String> path) {
+        this.routeName = routeName;
+        this.path = path;
+    }
+
+    String routeName() {
+        return routeName;
+    }
+
+    String path(final AuditionPost post) {
+        return path.apply(post);
+    }
+
+    static Route fromName(final String name) {
+        for (final Route route : values()) {
+            if (route.routeName.equals(name.toLowerCase(Locale.ROOT))) {
+                return route;
+            }
+        }
+        throw new IllegalArgumentException("Unknown route: " + name);
+    }
+
+    @Override
+    public String toString() {
+        return routeName;
+    }
+}
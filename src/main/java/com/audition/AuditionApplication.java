@@ -1,13 +1,24 @@
 package com.audition;
 
+import com.audition.configuration.AuditionRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(AuditionRuntimeHints.class)
 public class AuditionApplication {
 
+    /**
+     * Startup steps buffered for the {@code application.startup.phase} metrics and the actuator startup endpoint.
+     */
+    private static final int STARTUP_STEPS = 4096;
+
     public static void main(final String[] args) {
-        SpringApplication.run(AuditionApplication.class, args);
+        final SpringApplication application = new SpringApplication(AuditionApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+        application.run(args);
     }
 
 }
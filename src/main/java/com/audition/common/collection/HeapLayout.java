@@ -0,0 +1,69 @@
+package com.audition.common.collection;
+
+/**
+ * Rough heap size arithmetic for a 64-bit HotSpot JVM with compressed references and compact strings (the defaults
+ * for heaps below 32 GB). Used to report the footprint of in-memory structures; the figures are estimates, not
+ * measurements.
+ */
+public final class HeapLayout {
+
+    /**
+     * Size of an object header.
+     */
+    public static final int OBJECT_HEADER = 12;
+
+    /**
+     * Size of an array header, including the length field.
+     */
+    public static final int ARRAY_HEADER = 16;
+
+    /**
+     * Size of a compressed object reference.
+     */
+    public static final int REFERENCE = 4;
+
+    private static final int STRING_SHALLOW = 24;
+    private static final int LATIN1_MAX = 0xFF;
+
+    private HeapLayout() {
+    }
+
+    /**
+     * Size of an object with the given field bytes, padded to the 8 byte object alignment.
+     *
+     * @param fieldBytes total size of the instance fields
+     * @return the estimated object size
+     */
+    public static long object(final long fieldBytes) {
+        return align(OBJECT_HEADER + fieldBytes);
+    }
+
+    /**
+     * Size of an array.
+     *
+     * @param length      number of elements
+     * @param elementSize size of one element in bytes
+     * @return the estimated array size
+     */
+    public static long array(final long length, final int elementSize) {
+        return align(ARRAY_HEADER + length * elementSize);
+    }
+
+    /**
+     * Retained size of a string: the string object and its Latin-1 or UTF-16 backing array.
+     *
+     * @param value the string, may be {@code null}
+     * @return the estimated size, zero for {@code null}
+     */
+    public static long string(final String value) {
+        if (value == null) {
+            return 0;
+        }
+        final boolean latin1 = value.chars().allMatch(c -> c <= LATIN1_MAX);
+        return STRING_SHALLOW + array(value.length(), latin1 ? 1 : 2);
+    }
+
+    private static long align(final long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
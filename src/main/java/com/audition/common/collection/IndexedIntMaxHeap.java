@@ -0,0 +1,179 @@
+package com.audition.common.collection;
+
+import java.util.Arrays;
+
+/**
+ * Binary max-heap of {@code int} keys ordered by an {@code int} priority that can be changed in place.
+ *
+ * <p>The heap tracks the position of every key, so raising or lowering the priority of a key is {@code O(log n)} and
+ * the {@code k} largest entries can be read in {@code O(k log k)} without disturbing the heap. Ties are ordered by the
+ * smaller key first. The heap is not thread-safe; callers guard it with their own lock.
+ */
+public class IndexedIntMaxHeap {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private int[] priorities = new int[INITIAL_CAPACITY];
+    private final IntIntHashMap positions = new IntIntHashMap();
+    private int size;
+
+    /**
+     * Number of keys in the heap.
+     *
+     * @return the key count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Priority of a key.
+     *
+     * @param key          the key
+     * @param defaultValue returned when the key is absent
+     * @return the priority or the default
+     */
+    public int priority(final int key, final int defaultValue) {
+        final int position = positions.get(key, -1);
+        return position < 0 ? defaultValue : priorities[position];
+    }
+
+    /**
+     * Insert the key or change its priority.
+     *
+     * @param key      the key
+     * @param priority the new priority
+     */
+    public void set(final int key, final int priority) {
+        int position = positions.get(key, -1);
+        if (position < 0) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                priorities = Arrays.copyOf(priorities, size * 2);
+            }
+            position = size++;
+            keys[position] = key;
+            positions.put(key, position);
+        }
+        priorities[position] = priority;
+        siftUp(position);
+        siftDown(positions.get(key, position));
+    }
+
+    /**
+     * Visit the {@code k} entries with the highest priority, highest first.
+     *
+     * @param k        maximum number of entries
+     * @param consumer receives each key and its priority
+     */
+    public void top(final int k, final IntIntHashMap.IntIntConsumer consumer) {
+        if (k <= 0 || size == 0) {
+            return;
+        }
+        // frontier of heap positions whose parents were already emitted, itself kept as a max-heap
+        final int[] frontier = new int[Math.min(size, 2 * k + 1)];
+        int frontierSize = 1;
+        frontier[0] = 0;
+        for (int emitted = 0; emitted < k && frontierSize > 0; emitted++) {
+            final int position = frontier[0];
+            consumer.accept(keys[position], priorities[position]);
+            frontier[0] = frontier[--frontierSize];
+            siftDownFrontier(frontier, frontierSize);
+            for (int child = 2 * position + 1; child <= 2 * position + 2 && child < size; child++) {
+                frontier[frontierSize] = child;
+                siftUpFrontier(frontier, frontierSize++);
+            }
+        }
+    }
+
+    /**
+     * Visit every entry, in no particular order.
+     *
+     * @param consumer receives each key and its priority
+     */
+    public void forEach(final IntIntHashMap.IntIntConsumer consumer) {
+        for (int i = 0; i < size; i++) {
+            consumer.accept(keys[i], priorities[i]);
+        }
+    }
+
+    private boolean higher(final int a, final int b) {
+        return priorities[a] > priorities[b] || priorities[a] == priorities[b] && keys[a] < keys[b];
+    }
+
+    private void siftUp(final int start) {
+        int child = start;
+        while (child > 0) {
+            final int parent = (child - 1) >>> 1;
+            if (!higher(child, parent)) {
+                return;
+            }
+            swap(child, parent);
+            child = parent;
+        }
+    }
+
+    private void siftDown(final int start) {
+        int parent = start;
+        while (true) {
+            final int left = 2 * parent + 1;
+            if (left >= size) {
+                return;
+            }
+            final int right = left + 1;
+            final int largest = right < size && higher(right, left) ? right : left;
+            if (!higher(largest, parent)) {
+                return;
+            }
+            swap(parent, largest);
+            parent = largest;
+        }
+    }
+
+    private void swap(final int i, final int j) {
+        final int key = keys[i];
+        final int priority = priorities[i];
+        keys[i] = keys[j];
+        priorities[i] = priorities[j];
+        keys[j] = key;
+        priorities[j] = priority;
+        positions.put(keys[i], i);
+        positions.put(keys[j], j);
+    }
+
+    private void siftUpFrontier(final int[] frontier, final int start) {
+        int child = start;
+        while (child > 0) {
+            final int parent = (child - 1) >>> 1;
+            if (!higher(frontier[child], frontier[parent])) {
+                return;
+            }
+            swapFrontier(frontier, child, parent);
+            child = parent;
+        }
+    }
+
+    private void siftDownFrontier(final int[] frontier, final int frontierSize) {
+        int parent = 0;
+        while (true) {
+            final int left = 2 * parent + 1;
+            if (left >= frontierSize) {
+                return;
+            }
+            final int right = left + 1;
+            final int largest = right < frontierSize && higher(frontier[right], frontier[left]) ? right : left;
+            if (!higher(frontier[largest], frontier[parent])) {
+                return;
+            }
+            swapFrontier(frontier, parent, largest);
+            parent = largest;
+        }
+    }
+
+    private static void swapFrontier(final int[] frontier, final int i, final int j) {
+        final int tmp = frontier[i];
+        frontier[i] = frontier[j];
+        frontier[j] = tmp;
+    }
+}
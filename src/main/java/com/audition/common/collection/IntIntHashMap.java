@@ -0,0 +1,180 @@
+package com.audition.common.collection;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from {@code int} keys to {@code int} values.
+ *
+ * <p>Keys and values are stored in parallel primitive arrays (linear probing, load factor 0.5), so lookups and
+ * updates neither box nor allocate. Entries cannot be removed. The map is not thread-safe; callers guard it with their
+ * own lock.
+ */
+public class IntIntHashMap {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int size;
+
+    /**
+     * Create an empty map.
+     */
+    public IntIntHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Create an empty map sized for the expected number of entries.
+     *
+     * @param expectedSize number of entries the map should hold without resizing
+     */
+    public IntIntHashMap(final int expectedSize) {
+        allocate(Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1));
+    }
+
+    /**
+     * Number of entries.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Whether the key is present.
+     *
+     * @param key the key
+     * @return {@code true} when an entry exists
+     */
+    public boolean containsKey(final int key) {
+        return used[slot(key)];
+    }
+
+    /**
+     * Value mapped to the key.
+     *
+     * @param key          the key
+     * @param defaultValue returned when the key is absent
+     * @return the mapped value or the default
+     */
+    public int get(final int key, final int defaultValue) {
+        final int slot = slot(key);
+        return used[slot] ? values[slot] : defaultValue;
+    }
+
+    /**
+     * Map the key to the value.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void put(final int key, final int value) {
+        final int slot = slot(key);
+        if (!used[slot]) {
+            insert(slot, key, value);
+            return;
+        }
+        values[slot] = value;
+    }
+
+    /**
+     * Add a delta to the value of the key, treating an absent key as zero.
+     *
+     * @param key   the key
+     * @param delta amount to add
+     * @return the updated value
+     */
+    public int addTo(final int key, final int delta) {
+        final int slot = slot(key);
+        if (!used[slot]) {
+            insert(slot, key, delta);
+            return delta;
+        }
+        values[slot] += delta;
+        return values[slot];
+    }
+
+    /**
+     * Visit every entry, in no particular order.
+     *
+     * @param consumer receives each key and value
+     */
+    public void forEach(final IntIntConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Remove all entries, keeping the allocated capacity.
+     */
+    public void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    private void insert(final int slot, final int key, final int value) {
+        keys[slot] = key;
+        values[slot] = value;
+        used[slot] = true;
+        size++;
+        if (size * 2 > keys.length) {
+            rehash();
+        }
+    }
+
+    private int slot(final int key) {
+        final int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (used[slot] && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash() {
+        final int[] oldKeys = keys;
+        final int[] oldValues = values;
+        final boolean[] oldUsed = used;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                final int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                used[slot] = true;
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+    }
+
+    private static int mix(final int key) {
+        final int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Receives the entries of an {@link IntIntHashMap}.
+     */
+    @FunctionalInterface
+    public interface IntIntConsumer {
+
+        /**
+         * Accept one entry.
+         *
+         * @param key   the key
+         * @param value the value
+         */
+        void accept(int key, int value);
+    }
+}
@@ -0,0 +1,128 @@
+package com.audition.common.collection;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Open-addressing hash map from {@link String} keys to {@code int} values.
+ *
+ * <p>Keys and values are stored in parallel arrays (linear probing, load factor 0.5), so values are never boxed and
+ * lookups do not allocate. An empty slot is marked by a {@code null} key, so {@code null} keys are rejected. Entries
+ * cannot be removed. The map is not thread-safe; callers guard it with their own lock.
+ */
+public class StringIntHashMap {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private String[] keys;
+    private int[] values;
+    private int size;
+
+    /**
+     * Create an empty map.
+     */
+    public StringIntHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Create an empty map sized for the expected number of entries.
+     *
+     * @param expectedSize number of entries the map should hold without resizing
+     */
+    public StringIntHashMap(final int expectedSize) {
+        allocate(Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1));
+    }
+
+    /**
+     * Number of entries.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Whether the key is present.
+     *
+     * @param key the key
+     * @return {@code true} when an entry exists
+     */
+    public boolean containsKey(final String key) {
+        return keys[slot(key)] != null;
+    }
+
+    /**
+     * Value mapped to the key.
+     *
+     * @param key          the key
+     * @param defaultValue returned when the key is absent
+     * @return the mapped value or the default
+     */
+    public int get(final String key, final int defaultValue) {
+        final int slot = slot(key);
+        return keys[slot] != null ? values[slot] : defaultValue;
+    }
+
+    /**
+     * Map the key to the value.
+     *
+     * @param key   the key, not {@code null}
+     * @param value the value
+     */
+    public void put(final String key, final int value) {
+        final int slot = slot(key);
+        if (keys[slot] == null) {
+            keys[slot] = key;
+            values[slot] = value;
+            size++;
+            if (size * 2 > keys.length) {
+                rehash();
+            }
+            return;
+        }
+        values[slot] = value;
+    }
+
+    /**
+     * Remove all entries, keeping the allocated capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, null);
+        size = 0;
+    }
+
+    private int slot(final String key) {
+        Objects.requireNonNull(key, "key");
+        final int mask = keys.length - 1;
+        int slot = mix(key.hashCode()) & mask;
+        while (keys[slot] != null && !keys[slot].equals(key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash() {
+        final String[] oldKeys = keys;
+        final int[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                final int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        keys = new String[capacity];
+        values = new int[capacity];
+    }
+
+    private static int mix(final int hash) {
+        final int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,105 @@
+package com.audition.common.collection;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable table of distinct strings addressed by {@code int} reference.
+ *
+ * <p>Columns of highly repetitive values (email domains, names) store one {@code int} per row and share a single
+ * {@link String} instance per distinct value. {@code null} is encoded as reference {@code -1}.
+ */
+public final class StringPool {
+
+    private final String[] values;
+
+    private StringPool(final String[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Start building a pool.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * String for a reference.
+     *
+     * @param ref a reference returned by {@link Builder#add(String)}
+     * @return the string, or {@code null} for reference {@code -1}
+     */
+    public String get(final int ref) {
+        return ref < 0 ? null : values[ref];
+    }
+
+    /**
+     * Number of distinct strings.
+     *
+     * @return the pool size
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Approximate retained heap size: the reference array plus one compact (Latin-1) string per distinct value.
+     *
+     * @return the estimated size in bytes
+     */
+    public long footprintBytes() {
+        long bytes = HeapLayout.array(values.length, HeapLayout.REFERENCE);
+        for (final String value : values) {
+            bytes += HeapLayout.string(value);
+        }
+        return bytes;
+    }
+
+    /**
+     * Collects strings, assigning the same reference to equal values.
+     */
+    public static final class Builder {
+
+        private final Map<String, Integer> refs = new HashMap<>();
+        private String[] values = new String[16];
+
+        private Builder() {
+        }
+
+        /**
+         * Add a string to the pool.
+         *
+         * @param value the string, may be {@code null}
+         * @return its reference, {@code -1} for {@code null}
+         */
+        public int add(final String value) {
+            if (value == null) {
+                return -1;
+            }
+            final Integer existing = refs.get(value);
+            if (existing != null) {
+                return existing;
+            }
+            final int ref = refs.size();
+            if (ref == values.length) {
+                values = Arrays.copyOf(values, ref * 2);
+            }
+            values[ref] = value;
+            refs.put(value, ref);
+            return ref;
+        }
+
+        /**
+         * Build the immutable pool.
+         *
+         * @return the pool
+         */
+        public StringPool build() {
+            return new StringPool(Arrays.copyOf(values, refs.size()));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.audition.common.collection;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Immutable column of strings stored back to back as UTF-8 in a single {@code byte[]}.
+ *
+ * <p>Suited to long, rarely repeated text such as post and comment bodies: the column costs two arrays in total
+ * instead of one {@link String} (header, hash and backing array) per row. Values are decoded on access.
+ */
+public final class Utf8Column {
+
+    private final byte[] data;
+    private final int[] offsets;
+    private final BitSet nulls;
+
+    private Utf8Column(final byte[] data, final int[] offsets, final BitSet nulls) {
+        this.data = data;
+        this.offsets = offsets;
+        this.nulls = nulls;
+    }
+
+    /**
+     * Start building a column.
+     *
+     * @param expectedRows expected number of rows
+     * @return a new builder
+     */
+    public static Builder builder(final int expectedRows) {
+        return new Builder(expectedRows);
+    }
+
+    /**
+     * Value of a row.
+     *
+     * @param row the row index
+     * @return the decoded string, or {@code null} when {@code null} was stored
+     */
+    public String get(final int row) {
+        if (nulls.get(row)) {
+            return null;
+        }
+        return new String(data, offsets[row], offsets[row + 1] - offsets[row], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Number of rows.
+     *
+     * @return the row count
+     */
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Approximate retained heap size of the column.
+     *
+     * @return the estimated size in bytes
+     */
+    public long footprintBytes() {
+        return HeapLayout.array(data.length, 1) + HeapLayout.array(offsets.length, Integer.BYTES)
+            + HeapLayout.OBJECT_HEADER + HeapLayout.array(nulls.size() / Long.SIZE, Long.BYTES);
+    }
+
+    /**
+     * Appends rows to a growing buffer.
+     */
+    public static final class Builder {
+
+        private byte[] data;
+        private int[] offsets;
+        private final BitSet nulls = new BitSet();
+        private int length;
+        private int rows;
+
+        private Builder(final int expectedRows) {
+            this.data = new byte[Math.max(64, expectedRows * 64)];
+            this.offsets = new int[Math.max(1, expectedRows) + 1];
+        }
+
+        /**
+         * Append a row.
+         *
+         * @param value the string, may be {@code null}
+         * @return this builder
+         */
+        public Builder add(final String value) {
+            if (rows + 1 == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            if (value == null) {
+                nulls.set(rows);
+            } else {
+                final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                if (length + bytes.length > data.length) {
+                    data = Arrays.copyOf(data, Math.max(data.length * 2, length + bytes.length));
+                }
+                System.arraycopy(bytes, 0, data, length, bytes.length);
+                length += bytes.length;
+            }
+            offsets[++rows] = length;
+            return this;
+        }
+
+        /**
+         * Build the immutable column, trimming the buffers to size.
+         *
+         * @return the column
+         */
+        public Utf8Column build() {
+            return new Utf8Column(Arrays.copyOf(data, length), Arrays.copyOf(offsets, rows + 1), nulls);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.audition.common.concurrent;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to JDK 21+ virtual threads from code compiled for Java 17.
+ *
+ * <p>The build targets Java 17, so the virtual thread API ({@code Thread.ofVirtual()},
+ * {@code Executors.newThreadPerTaskExecutor}) is looked up reflectively. On older runtimes {@link #isSupported()}
+ * returns {@code false} and {@link #newThreadPerTaskExecutor(String)} fails fast with a descriptive message.
+ */
+public final class VirtualThreads {
+
+    private static final int VIRTUAL_THREADS_FEATURE_VERSION = 21;
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Whether the running JVM supports virtual threads.
+     *
+     * @return {@code true} on JDK 21 or newer
+     */
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= VIRTUAL_THREADS_FEATURE_VERSION;
+    }
+
+    /**
+     * Create an executor that starts a new, named virtual thread for every task.
+     *
+     * @param namePrefix prefix of the virtual thread names, followed by a sequence number
+     * @return the executor service
+     * @throws IllegalStateException when the running JVM does not support virtual threads
+     */
+    public static ExecutorService newThreadPerTaskExecutor(final String namePrefix) {
+        if (!isSupported()) {
+            throw new IllegalStateException("Virtual threads require a JDK " + VIRTUAL_THREADS_FEATURE_VERSION
+                + "+ runtime, running on " + Runtime.version());
+        }
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            final ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            final Method newExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) newExecutor.invoke(null, factory);
+        } catch (final ClassNotFoundException | NoSuchMethodException | IllegalAccessException
+                       | InvocationTargetException e) {
+            throw new IllegalStateException("Unable to create a virtual thread executor", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.audition.common.interceptor;
+
+import com.audition.common.resilience.UpstreamLoadBalancer;
+import java.io.IOException;
+import java.net.URI;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+
+/**
+ * Sends requests addressed to the upstream base URL to the endpoint chosen by an {@link UpstreamLoadBalancer}.
+ *
+ * <p>Requests to other hosts pass through unchanged. Connection errors and 5xx responses count as failures of the
+ * chosen endpoint; every other response counts as a success, since 4xx answers are the caller's fault. Hedged and
+ * retried attempts pass through the interceptor one by one, so each attempt picks its own endpoint.
+ */
+public class LoadBalancingClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String baseUrl;
+    private final UpstreamLoadBalancer loadBalancer;
+
+    /**
+     * Create the interceptor.
+     *
+     * @param baseUrl      the configured upstream base URL that requests are addressed to
+     * @param loadBalancer balancer choosing the endpoint of each request
+     */
+    public LoadBalancingClientHttpRequestInterceptor(final String baseUrl, final UpstreamLoadBalancer loadBalancer) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        this.loadBalancer = loadBalancer;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(final HttpRequest request, final byte[] body,
+        final ClientHttpRequestExecution execution) throws IOException {
+        final String target = request.getURI().toString();
+        if (!target.startsWith(baseUrl)) {
+            return execution.execute(request, body);
+        }
+        final UpstreamLoadBalancer.Endpoint endpoint = loadBalancer.choose();
+        final URI rewritten = URI.create(endpoint.getBaseUrl() + target.substring(baseUrl.length()));
+        final long start = System.nanoTime();
+        boolean success = false;
+        try {
+            final ClientHttpResponse response = execution.execute(new HttpRequestWrapper(request) {
+                @Override
+                public URI getURI() {
+                    return rewritten;
+                }
+            }, body);
+            success = !response.getStatusCode().is5xxServerError();
+            return response;
+        } finally {
+            loadBalancer.complete(endpoint, System.nanoTime() - start, success);
+        }
+    }
+}
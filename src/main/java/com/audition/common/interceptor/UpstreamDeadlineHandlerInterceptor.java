@@ -0,0 +1,63 @@
+package com.audition.common.interceptor;
+
+import com.audition.common.resilience.UpstreamDeadline;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * Spring MVC interceptor that binds an {@link UpstreamDeadline} of the request timeout while a handler runs.
+ *
+ * <p>Work the handler hands to a context-propagating executor captures the deadline, so the upstream calls made for
+ * an asynchronous request give up when the request itself times out instead of running on after it has been answered
+ * with 503. The deadline is unbound again once the handler returns.
+ */
+public class UpstreamDeadlineHandlerInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PREVIOUS_DEADLINE = UpstreamDeadlineHandlerInterceptor.class.getName() + ".previous";
+
+    private final Duration timeout;
+
+    /**
+     * Create the interceptor.
+     *
+     * @param timeout the request timeout
+     */
+    public UpstreamDeadlineHandlerInterceptor(final Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+        final Object handler) {
+        final Long previous = UpstreamDeadline.bind(System.nanoTime() + timeout.toNanos());
+        if (previous != null) {
+            request.setAttribute(PREVIOUS_DEADLINE, previous);
+        }
+        return true;
+    }
+
+    @Override
+    public void postHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler,
+        final ModelAndView modelAndView) {
+        restore(request);
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(final HttpServletRequest request, final HttpServletResponse response,
+        final Object handler) {
+        restore(request);
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response,
+        final Object handler, final Exception ex) {
+        restore(request);
+    }
+
+    private static void restore(final HttpServletRequest request) {
+        UpstreamDeadline.restore((Long) request.getAttribute(PREVIOUS_DEADLINE));
+    }
+}
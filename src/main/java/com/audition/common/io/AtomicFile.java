@@ -0,0 +1,80 @@
+package com.audition.common.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+
+/**
+ * A file that is only ever replaced as a whole, for snapshots that are read back by the next instance.
+ *
+ * <p>New contents are written to a temporary file next to the target, which is then moved over it atomically, so a
+ * crash while writing never leaves a truncated file behind. On POSIX file systems the file is readable by its owner
+ * only, since snapshots may hold credentials or upstream data.
+ */
+public final class AtomicFile {
+
+    private final Path path;
+
+    /**
+     * Create a handle.
+     *
+     * @param path the file
+     */
+    public AtomicFile(final Path path) {
+        this.path = path;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Whether the file can be read.
+     *
+     * @return {@code true} when the file exists and is readable
+     */
+    public boolean exists() {
+        return Files.isRegularFile(path) && Files.isReadable(path);
+    }
+
+    /**
+     * Replace the file, creating missing parent directories.
+     *
+     * @param contents writes the new contents; the stream is closed afterwards
+     * @throws IOException when the file cannot be written
+     */
+    public void replace(final Contents contents) throws IOException {
+        final Path absolute = path.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        final Path temporary = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try {
+            if (Files.getFileStore(temporary).supportsFileAttributeView("posix")) {
+                Files.setPosixFilePermissions(temporary, PosixFilePermissions.fromString("rw-------"));
+            }
+            try (OutputStream output = Files.newOutputStream(temporary)) {
+                contents.writeTo(output);
+            }
+            Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface Contents {
+
+        /**
+         * Write the contents.
+         *
+         * @param output the stream to write to
+         * @throws IOException when writing fails
+         */
+        void writeTo(OutputStream output) throws IOException;
+    }
+}
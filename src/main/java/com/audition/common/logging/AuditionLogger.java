@@ -20,6 +20,12 @@ public class AuditionLogger {
         }
     }
 
+    public void info(final Logger logger, final String message, final Object... arguments) {
+        if (logger.isInfoEnabled()) {
+            logger.info(message, arguments);
+        }
+    }
+
     public void debug(final Logger logger, final String message) {
         if (logger.isDebugEnabled()) {
             logger.debug(message);
@@ -0,0 +1,36 @@
+package com.audition.common.resilience;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+/**
+ * {@link SimpleClientHttpRequestFactory} that shortens the connect and read timeouts of each connection to the time
+ * left until the {@link UpstreamDeadline} of the current thread, and refuses to open a connection once it has passed.
+ * Without a bound deadline the configured timeouts apply unchanged.
+ */
+public class DeadlineClientHttpRequestFactory extends SimpleClientHttpRequestFactory {
+
+    @Override
+    protected void prepareConnection(final HttpURLConnection connection, final String httpMethod) throws IOException {
+        super.prepareConnection(connection, httpMethod);
+        final long remaining = UpstreamDeadline.remainingNanos();
+        if (remaining == UpstreamDeadline.UNBOUNDED) {
+            return;
+        }
+        final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(remaining);
+        if (remainingMillis <= 0) {
+            throw new SocketTimeoutException("Upstream call deadline exceeded");
+        }
+        connection.setConnectTimeout(bounded(connection.getConnectTimeout(), remainingMillis));
+        connection.setReadTimeout(bounded(connection.getReadTimeout(), remainingMillis));
+    }
+
+    private static int bounded(final int timeoutMillis, final long remainingMillis) {
+        // zero means no timeout for HttpURLConnection
+        final long limit = Math.min(remainingMillis, Integer.MAX_VALUE);
+        return timeoutMillis <= 0 ? (int) limit : (int) Math.min(timeoutMillis, limit);
+    }
+}
@@ -0,0 +1,88 @@
+package com.audition.common.resilience;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size ring buffer of the most recent latency samples for a single upstream operation.
+ *
+ * <p>Recording is lock-free so the window can be updated from any number of request threads. The configured
+ * percentile is recomputed lazily (at most once every few samples) so readers on the hot path only pay for an atomic
+ * read.
+ */
+public class LatencyWindow {
+
+    private static final long RECOMPUTE_INTERVAL = 32;
+
+    private final AtomicLongArray samples;
+    private final double percentile;
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong computedAt = new AtomicLong();
+    private final AtomicLong cachedPercentile = new AtomicLong();
+
+    /**
+     * Create a window.
+     *
+     * @param capacity   number of samples retained
+     * @param percentile percentile reported by {@link #percentileNanos()}, in the range (0, 1]
+     */
+    public LatencyWindow(final int capacity, final double percentile) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("percentile must be in the range (0, 1]");
+        }
+        this.samples = new AtomicLongArray(capacity);
+        this.percentile = percentile;
+    }
+
+    /**
+     * Record a single latency sample.
+     *
+     * @param nanos observed latency in nanoseconds
+     */
+    public void record(final long nanos) {
+        final long n = count.getAndIncrement();
+        samples.set((int) (n % samples.length()), nanos);
+    }
+
+    /**
+     * Number of samples currently held by the window.
+     *
+     * @return the sample count, capped at the window capacity
+     */
+    public int size() {
+        return (int) Math.min(count.get(), samples.length());
+    }
+
+    /**
+     * The configured percentile over the retained samples.
+     *
+     * @return the percentile latency in nanoseconds, or 0 when no samples have been recorded
+     */
+    public long percentileNanos() {
+        final long n = count.get();
+        final long last = computedAt.get();
+        final long interval = Math.max(1, Math.min(RECOMPUTE_INTERVAL, n / 4));
+        if (n - last >= interval && computedAt.compareAndSet(last, n)) {
+            cachedPercentile.set(compute(n));
+        }
+        return cachedPercentile.get();
+    }
+
+    private long compute(final long n) {
+        final int size = (int) Math.min(n, samples.length());
+        if (size == 0) {
+            return 0;
+        }
+        final long[] copy = new long[size];
+        for (int i = 0; i < size; i++) {
+            copy[i] = samples.get(i);
+        }
+        Arrays.sort(copy);
+        final int index = (int) Math.ceil(percentile * size) - 1;
+        return copy[Math.max(0, Math.min(index, size - 1))];
+    }
+}
@@ -0,0 +1,229 @@
+package com.audition.common.resilience;
+
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.HedgingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Sends a second, identical upstream request when the first one is slower than usual and returns whichever answers
+ * first.
+ *
+ * <p>For every operation the hedger keeps a {@link LatencyWindow} of recent attempt latencies. A call waits for the
+ * primary attempt up to the configured percentile of that window; if no answer arrived by then, and the shared
+ * {@link TokenBudget} allows it, a hedge attempt is started. The first successful attempt wins and the other one is
+ * cancelled. When hedging is disabled, or while an operation has fewer than {@code min-samples} latencies recorded, the
+ * call runs directly on the caller's thread.
+ *
+ * <p>Cancelling an attempt does not interrupt blocking socket I/O, so attempts are bounded by the connect and read
+ * timeouts of the HTTP client ({@code application.http-client.*}). A caller additionally waits at most
+ * {@code application.hedging.timeout}, or until its {@link UpstreamDeadline}, for its attempts and then fails with
+ * 504 instead of queueing behind a stuck upstream. The deadline follows the attempts onto the executor.
+ *
+ * <p>Metrics (all tagged with {@code operation}):
+ * <ul>
+ *   <li>{@code audition.hedge.requests} - calls that went through the hedger
+ *   <li>{@code audition.hedge.sent} - hedge attempts started
+ *   <li>{@code audition.hedge.wins} - calls answered by the hedge attempt
+ *   <li>{@code audition.hedge.budget.exhausted} - hedges skipped because the budget was empty
+ * </ul>
+ */
+public class RequestHedger {
+
+    private static final String OPERATION_TAG = "operation";
+
+    private final HedgingProperties properties;
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final TokenBudget budget;
+    private final ConcurrentMap<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+
+    /**
+     * Create a hedger.
+     *
+     * @param properties    hedging settings
+     * @param executor      executor running the primary and hedge attempts
+     * @param meterRegistry registry receiving the hedge metrics
+     */
+    public RequestHedger(final HedgingProperties properties, final ExecutorService executor,
+        final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.budget = new TokenBudget(properties.getBudgetRatio(), properties.getBudgetBurst());
+    }
+
+    /**
+     * A hedger that never hedges and simply invokes the call. Useful for unit tests.
+     *
+     * @return a disabled hedger
+     */
+    public static RequestHedger disabled() {
+        return new RequestHedger(new HedgingProperties(), null, new SimpleMeterRegistry());
+    }
+
+    /**
+     * Execute the call, hedging it when enabled and the operation is slower than its configured percentile.
+     *
+     * @param operation logical name of the upstream operation, used for latency tracking and metric tags
+     * @param call      the idempotent upstream call
+     * @param <T>       the response type
+     * @return the response of the first attempt to succeed
+     */
+    public <T> T execute(final String operation, final Supplier<T> call) {
+        if (!properties.isEnabled()) {
+            return call.get();
+        }
+        counter("audition.hedge.requests", operation).increment();
+        budget.deposit();
+        final LatencyWindow window = windows.computeIfAbsent(operation,
+            op -> new LatencyWindow(properties.getWindowSize(), properties.getPercentile()));
+
+        if (window.size() < properties.getMinSamples()) {
+            return timed(call, window);
+        }
+        final Attempt<T> primary;
+        try {
+            primary = submit(call, window);
+        } catch (final RejectedExecutionException e) {
+            return call.get();
+        }
+
+        final long delay = Math.max(properties.getMinDelay().toNanos(), window.percentileNanos());
+        try {
+            return primary.result().get(delay, TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            return hedge(operation, call, window, primary);
+        } catch (final ExecutionException e) {
+            throw propagate(e.getCause());
+        } catch (final InterruptedException e) {
+            primary.cancel();
+            Thread.currentThread().interrupt();
+            throw interrupted(e);
+        }
+    }
+
+    private <T> T hedge(final String operation, final Supplier<T> call, final LatencyWindow window,
+        final Attempt<T> primary) {
+        if (!budget.tryWithdraw()) {
+            counter("audition.hedge.budget.exhausted", operation).increment();
+            return awaitOrCancel(primary);
+        }
+        final Attempt<T> secondary;
+        try {
+            secondary = submit(call, window);
+        } catch (final RejectedExecutionException e) {
+            return awaitOrCancel(primary);
+        }
+        counter("audition.hedge.sent", operation).increment();
+
+        final CompletableFuture<T> winner = new CompletableFuture<>();
+        final AtomicInteger pending = new AtomicInteger(2);
+        primary.result().whenComplete((value, error) -> complete(winner, pending, value, error));
+        secondary.result().whenComplete((value, error) -> {
+            if (error == null && !winner.isDone()) {
+                counter("audition.hedge.wins", operation).increment();
+            }
+            complete(winner, pending, value, error);
+        });
+        try {
+            return await(winner);
+        } finally {
+            primary.cancel();
+            secondary.cancel();
+        }
+    }
+
+    private static <T> void complete(final CompletableFuture<T> winner, final AtomicInteger pending, final T value,
+        final Throwable error) {
+        if (error == null) {
+            winner.complete(value);
+        } else if (pending.decrementAndGet() == 0) {
+            winner.completeExceptionally(error);
+        }
+    }
+
+    private static <T> T timed(final Supplier<T> call, final LatencyWindow window) {
+        final long start = System.nanoTime();
+        final T value = call.get();
+        window.record(System.nanoTime() - start);
+        return value;
+    }
+
+    private <T> Attempt<T> submit(final Supplier<T> call, final LatencyWindow window) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final Future<?> task = executor.submit(() -> {
+            try {
+                result.complete(timed(call, window));
+            } catch (final RuntimeException e) { //NOPMD - handed over to the waiting caller
+                result.completeExceptionally(e);
+            }
+        });
+        return new Attempt<>(result, task);
+    }
+
+    private <T> T awaitOrCancel(final Attempt<T> attempt) {
+        try {
+            return await(attempt.result());
+        } finally {
+            attempt.cancel();
+        }
+    }
+
+    private <T> T await(final CompletableFuture<T> future) {
+        final long timeout = Math.min(properties.getTimeout().toNanos(), UpstreamDeadline.remainingNanos());
+        try {
+            return future.get(timeout, TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            throw new SystemException("No upstream response within the timeout or call deadline",
+                HttpStatus.GATEWAY_TIMEOUT.value(), e);
+        } catch (final ExecutionException e) {
+            throw propagate(e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw interrupted(e);
+        }
+    }
+
+    private static RuntimeException propagate(final Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new SystemException(cause.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR.value(), cause);
+    }
+
+    private static SystemException interrupted(final InterruptedException e) {
+        return new SystemException("Interrupted while waiting for the upstream response",
+            HttpStatus.SERVICE_UNAVAILABLE.value(), e);
+    }
+
+    private Counter counter(final String name, final String operation) {
+        return meterRegistry.counter(name, OPERATION_TAG, operation);
+    }
+
+    /**
+     * A single in-flight attempt: the future exposing its result and the executor task that can be cancelled.
+     */
+    private record Attempt<T>(CompletableFuture<T> result, Future<?> task) {
+
+        void cancel() {
+            task.cancel(true);
+        }
+    }
+}
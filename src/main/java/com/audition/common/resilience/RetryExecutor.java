@@ -0,0 +1,152 @@
+package com.audition.common.resilience;
+
+import com.audition.configuration.RetryProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Retries idempotent upstream calls with exponential backoff and full jitter.
+ *
+ * <p>A failed attempt is retried only when all of the following hold:
+ * <ul>
+ *   <li>the failure is retryable: an upstream status listed in {@link RetryProperties#getRetryableStatuses()} or,
+ *       when enabled, a connection/I-O error ({@link ResourceAccessException});
+ *   <li>the maximum number of attempts has not been reached;
+ *   <li>the backoff would end before the call deadline;
+ *   <li>the shared {@link TokenBudget} has a token left, so retries cannot amplify an upstream outage.
+ * </ul>
+ * Otherwise the last failure is rethrown unchanged so callers keep their existing error handling.
+ *
+ * <p>The call deadline is bound as the {@link UpstreamDeadline} while the call runs, so every attempt is cut short
+ * when the deadline passes instead of only the backoffs being checked against it. An earlier deadline already bound
+ * by the caller, such as the timeout of an asynchronous request, is kept.
+ *
+ * <p>Metrics (tagged with {@code operation}):
+ * <ul>
+ *   <li>{@code audition.upstream.attempts} - attempts per call, additionally tagged with {@code outcome}
+ *   <li>{@code audition.retry.budget.exhausted} - retries skipped because the budget was empty
+ *   <li>{@code audition.retry.deadline.exceeded} - retries skipped because the deadline was too close
+ * </ul>
+ */
+public class RetryExecutor {
+
+    private static final String OPERATION_TAG = "operation";
+
+    private final RetryProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final TokenBudget budget;
+
+    /**
+     * Create a retry executor.
+     *
+     * @param properties    retry settings
+     * @param meterRegistry registry receiving the retry metrics
+     */
+    public RetryExecutor(final RetryProperties properties, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.budget = new TokenBudget(properties.getBudgetRatio(), properties.getBudgetBurst());
+    }
+
+    /**
+     * A retry executor that invokes each call exactly once. Useful for unit tests.
+     *
+     * @return a disabled retry executor
+     */
+    public static RetryExecutor disabled() {
+        return new RetryExecutor(new RetryProperties(), new SimpleMeterRegistry());
+    }
+
+    /**
+     * Execute the call, retrying retryable failures according to the configured policy.
+     *
+     * @param operation logical name of the upstream operation, used for metric tags
+     * @param call      the idempotent upstream call
+     * @param <T>       the response type
+     * @return the result of the first successful attempt
+     */
+    public <T> T execute(final String operation, final Supplier<T> call) {
+        if (!properties.isEnabled()) {
+            return call.get();
+        }
+        budget.deposit();
+        final long deadline = System.nanoTime() + properties.getDeadline().toNanos();
+        return UpstreamDeadline.within(deadline, () -> attempts(operation, call, deadline));
+    }
+
+    private <T> T attempts(final String operation, final Supplier<T> call, final long deadline) {
+        int attempt = 1;
+        while (true) {
+            try {
+                final T result = call.get();
+                recordAttempts(operation, attempt, "success");
+                return result;
+            } catch (final RuntimeException e) {
+                if (!isRetryable(e) || attempt >= properties.getMaxAttempts()) {
+                    recordAttempts(operation, attempt, "failure");
+                    throw e;
+                }
+                final long backoff = backoffNanos(attempt);
+                if (System.nanoTime() + backoff >= deadline) {
+                    meterRegistry.counter("audition.retry.deadline.exceeded", OPERATION_TAG, operation).increment();
+                    recordAttempts(operation, attempt, "failure");
+                    throw e;
+                }
+                if (!budget.tryWithdraw()) {
+                    meterRegistry.counter("audition.retry.budget.exhausted", OPERATION_TAG, operation).increment();
+                    recordAttempts(operation, attempt, "failure");
+                    throw e;
+                }
+                if (!sleep(backoff)) {
+                    recordAttempts(operation, attempt, "failure");
+                    throw e;
+                }
+                attempt++;
+            }
+        }
+    }
+
+    /**
+     * Full-jitter backoff: a uniformly random delay between zero and the exponential cap for this attempt.
+     *
+     * @param attempt the attempt that just failed (1-based)
+     * @return the delay before the next attempt in nanoseconds
+     */
+    long backoffNanos(final int attempt) {
+        final double cap = properties.getInitialBackoff().toNanos()
+            * Math.pow(properties.getMultiplier(), attempt - 1);
+        final long bounded = (long) Math.min(cap, properties.getMaxBackoff().toNanos());
+        return bounded <= 0 ? 0 : ThreadLocalRandom.current().nextLong(bounded + 1);
+    }
+
+    private boolean isRetryable(final RuntimeException e) {
+        if (e instanceof HttpStatusCodeException) {
+            return properties.getRetryableStatuses()
+                .contains(((HttpStatusCodeException) e).getStatusCode().value());
+        }
+        return properties.isRetryConnectionErrors() && e instanceof ResourceAccessException;
+    }
+
+    private static boolean sleep(final long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void recordAttempts(final String operation, final int attempts, final String outcome) {
+        DistributionSummary.builder("audition.upstream.attempts")
+            .tags(OPERATION_TAG, operation, "outcome", outcome)
+            .register(meterRegistry)
+            .record(attempts);
+    }
+}
@@ -0,0 +1,67 @@
+package com.audition.common.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket used to cap the amount of extra upstream load generated by hedging and retries.
+ *
+ * <p>Every regular request deposits a fraction of a token (the configured ratio) and every extra request withdraws a
+ * whole token. With a ratio of {@code 0.05} extra requests can therefore never exceed roughly 5% of the regular
+ * traffic once the initial reserve of {@code maxTokens} has been spent.
+ */
+public class TokenBudget {
+
+    private static final long SCALE = 1000L;
+
+    private final long depositPerRequest;
+    private final long maxTokens;
+    private final AtomicLong tokens;
+
+    /**
+     * Create a budget that starts full.
+     *
+     * @param ratio     tokens deposited per regular request
+     * @param maxTokens maximum number of tokens that can be accumulated
+     */
+    public TokenBudget(final double ratio, final double maxTokens) {
+        if (ratio < 0 || maxTokens < 0) {
+            throw new IllegalArgumentException("ratio and maxTokens must not be negative");
+        }
+        this.depositPerRequest = Math.round(ratio * SCALE);
+        this.maxTokens = Math.round(maxTokens * SCALE);
+        this.tokens = new AtomicLong(this.maxTokens);
+    }
+
+    /**
+     * Credit the budget for a regular request.
+     */
+    public void deposit() {
+        tokens.accumulateAndGet(depositPerRequest, (current, delta) -> Math.min(maxTokens, current + delta));
+    }
+
+    /**
+     * Try to spend one token for an extra request.
+     *
+     * @return {@code true} when a token was available and has been withdrawn
+     */
+    public boolean tryWithdraw() {
+        while (true) {
+            final long current = tokens.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (tokens.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Tokens currently available.
+     *
+     * @return the (fractional) number of tokens in the bucket
+     */
+    public double available() {
+        return (double) tokens.get() / SCALE;
+    }
+}
@@ -0,0 +1,89 @@
+package com.audition.common.resilience;
+
+import io.micrometer.context.ContextRegistry;
+import java.util.function.Supplier;
+
+/**
+ * The point in time by which the upstream calls made for the current piece of work must have answered.
+ *
+ * <p>A deadline is bound to the current thread with {@link #within(long, Supplier)} (by the {@link RetryExecutor} for
+ * its call deadline) or {@link #bind(long)} (for the timeout of an asynchronous request). Nested deadlines never extend
+ * an outer one. The {@link DeadlineClientHttpRequestFactory} shortens the connect and read timeouts of every attempt to
+ * the time that is left, so a single slow attempt cannot outlive the deadline.
+ *
+ * <p>Deadlines are {@link System#nanoTime()} values.
+ */
+public final class UpstreamDeadline {
+
+    /**
+     * Value returned by {@link #remainingNanos()} when no deadline is bound.
+     */
+    public static final long UNBOUNDED = Long.MAX_VALUE;
+
+    private static final String CONTEXT_KEY = "audition.upstream-deadline";
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private UpstreamDeadline() {
+    }
+
+    /**
+     * Propagate the bound deadline to tasks submitted to executors that capture the
+     * {@link io.micrometer.context.ContextSnapshot}.
+     */
+    public static void propagateAcrossThreads() {
+        ContextRegistry.getInstance()
+            .registerThreadLocalAccessor(CONTEXT_KEY, CURRENT::get, CURRENT::set, CURRENT::remove);
+    }
+
+    /**
+     * Run a call with a deadline bound, or the current one if that is earlier.
+     *
+     * @param deadline the deadline as a {@link System#nanoTime()} value
+     * @param call     the call
+     * @param <T>      the result type
+     * @return the result of the call
+     */
+    public static <T> T within(final long deadline, final Supplier<T> call) {
+        final Long previous = bind(deadline);
+        try {
+            return call.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Bind a deadline to the current thread, keeping the current one if that is earlier.
+     *
+     * @param deadline the deadline as a {@link System#nanoTime()} value
+     * @return the previously bound deadline, to be passed to {@link #restore(Long)}
+     */
+    public static Long bind(final long deadline) {
+        final Long previous = CURRENT.get();
+        CURRENT.set(previous != null && previous - deadline < 0 ? previous : deadline);
+        return previous;
+    }
+
+    /**
+     * Restore the deadline that was bound before {@link #bind(long)}.
+     *
+     * @param previous the previous deadline, or {@code null} to unbind
+     */
+    public static void restore(final Long previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Time left until the bound deadline.
+     *
+     * @return the remaining nanoseconds, zero or negative once the deadline has passed, or {@link #UNBOUNDED}
+     */
+    public static long remainingNanos() {
+        final Long deadline = CURRENT.get();
+        return deadline == null ? UNBOUNDED : deadline - System.nanoTime();
+    }
+}
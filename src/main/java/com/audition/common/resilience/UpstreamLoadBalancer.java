@@ -0,0 +1,326 @@
+package com.audition.common.resilience;
+
+import com.audition.common.logging.AuditionLogger;
+import com.audition.configuration.LoadBalancingProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Chooses the upstream replica each request is sent to.
+ *
+ * <p>An endpoint is available when its last active health check passed and it is not ejected. Among the available
+ * endpoints (all endpoints when none is available) the configured strategy picks one:
+ * <ul>
+ *   <li>{@code POWER_OF_TWO_CHOICES} compares two random endpoints by outstanding requests times median latency, so
+ *       load spreads evenly without every request herding onto the single best endpoint;
+ *   <li>{@code LEAST_OUTSTANDING} takes the endpoint with the fewest outstanding requests, the faster one on ties.
+ * </ul>
+ *
+ * <p>Endpoints are ejected for {@code ejection-time} after {@code failure-threshold} consecutive failures, or when a
+ * health check finds their median latency above {@code latency-factor} times the median latency of the other
+ * endpoints; at most {@code max-ejection-percent} of the endpoints are ejected at once. An ejected endpoint comes back
+ * with a fresh latency window.
+ *
+ * <p>Metrics (all tagged with {@code endpoint}):
+ * <ul>
+ *   <li>{@code audition.upstream.endpoint.requests} - timer of the requests sent, tagged with {@code outcome}
+ *   <li>{@code audition.upstream.endpoint.outstanding} - requests in flight
+ *   <li>{@code audition.upstream.endpoint.available} - 1 when the endpoint receives requests, 0 otherwise
+ *   <li>{@code audition.upstream.endpoint.ejections} - ejections, tagged with {@code reason}
+ * </ul>
+ */
+public class UpstreamLoadBalancer implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UpstreamLoadBalancer.class);
+    private static final String ENDPOINT_TAG = "endpoint";
+    private static final double MEDIAN = 0.5;
+    private static final int PERCENT = 100;
+
+    private final LoadBalancingProperties properties;
+    private final List<Endpoint> endpoints;
+    private final Predicate<URI> healthCheck;
+    private final MeterRegistry meterRegistry;
+    private final AuditionLogger auditionLogger;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Create a balancer.
+     *
+     * @param properties     load balancing settings
+     * @param endpoints      base URLs of the upstream replicas
+     * @param healthCheck    tells whether the health check URL of an endpoint answers successfully
+     * @param meterRegistry  registry receiving the endpoint metrics
+     * @param auditionLogger application logger
+     */
+    public UpstreamLoadBalancer(final LoadBalancingProperties properties, final List<URI> endpoints,
+        final Predicate<URI> healthCheck, final MeterRegistry meterRegistry, final AuditionLogger auditionLogger) {
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("at least one endpoint is required");
+        }
+        this.properties = properties;
+        this.healthCheck = healthCheck;
+        this.meterRegistry = meterRegistry;
+        this.auditionLogger = auditionLogger;
+        this.endpoints = endpoints.stream().map(this::register).toList();
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("upstream-health-");
+        threadFactory.setDaemon(true);
+        this.scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+    }
+
+    /**
+     * Health check issuing a GET with the given connect and read timeout.
+     *
+     * @param timeout connect and read timeout
+     * @return the health check
+     */
+    public static Predicate<URI> httpHealthCheck(final Duration timeout) {
+        final SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) timeout.toMillis());
+        requestFactory.setReadTimeout((int) timeout.toMillis());
+        return uri -> {
+            try (ClientHttpResponse response = requestFactory.createRequest(uri, HttpMethod.GET).execute()) {
+                return response.getStatusCode().is2xxSuccessful();
+            } catch (final IOException e) {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Start the periodic health checks.
+     */
+    public void start() {
+        final long interval = properties.getHealthCheckInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::checkHealth, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Choose the endpoint for a request and count the request as outstanding on it. Every call must be followed by
+     * {@link #complete(Endpoint, long, boolean)}.
+     *
+     * @return the endpoint
+     */
+    public Endpoint choose() {
+        final long now = System.nanoTime();
+        final List<Endpoint> available = new ArrayList<>(endpoints.size());
+        for (final Endpoint endpoint : endpoints) {
+            if (endpoint.isAvailable(now)) {
+                available.add(endpoint);
+            }
+        }
+        final List<Endpoint> candidates = available.isEmpty() ? endpoints : available;
+        final Endpoint chosen = candidates.size() == 1 ? candidates.get(0)
+            : properties.getStrategy() == LoadBalancingProperties.Strategy.LEAST_OUTSTANDING
+                ? leastOutstanding(candidates) : powerOfTwoChoices(candidates);
+        chosen.outstanding.incrementAndGet();
+        return chosen;
+    }
+
+    /**
+     * Record the outcome of a request sent to an endpoint.
+     *
+     * @param endpoint the endpoint returned by {@link #choose()}
+     * @param nanos    time until the response arrived
+     * @param success  whether the endpoint answered without a server error
+     */
+    public void complete(final Endpoint endpoint, final long nanos, final boolean success) {
+        endpoint.outstanding.decrementAndGet();
+        Timer.builder("audition.upstream.endpoint.requests")
+            .tag(ENDPOINT_TAG, endpoint.name)
+            .tag("outcome", success ? "success" : "failure")
+            .register(meterRegistry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+        if (success) {
+            endpoint.consecutiveFailures.set(0);
+            endpoint.latencies().record(nanos);
+        } else if (endpoint.consecutiveFailures.incrementAndGet() >= properties.getFailureThreshold()) {
+            eject(endpoint, "failures");
+        }
+    }
+
+    /**
+     * Run the active health checks and eject latency outliers. Failures are logged rather than thrown, since an
+     * exception would cancel the periodic checks for good.
+     */
+    void checkHealth() {
+        try {
+            runHealthChecks();
+        } catch (final RuntimeException e) {
+            auditionLogger.logErrorWithException(LOG, "Upstream health check failed", e);
+        }
+    }
+
+    private void runHealthChecks() {
+        for (final Endpoint endpoint : endpoints) {
+            endpoint.healthy.set(healthCheck.test(endpoint.baseUri.resolve(properties.getHealthCheckPath())));
+        }
+        final long now = System.nanoTime();
+        final List<Endpoint> measured = endpoints.stream()
+            .filter(endpoint -> !endpoint.isEjected(now)
+                && endpoint.latencies().size() >= properties.getMinSamples())
+            .toList();
+        if (measured.size() < 2) {
+            return;
+        }
+        final long[] medians = measured.stream().mapToLong(endpoint -> endpoint.latencies().percentileNanos())
+            .toArray();
+        for (int i = 0; i < measured.size(); i++) {
+            final long others = medianExcluding(medians, i);
+            if (others > 0 && medians[i] > properties.getLatencyFactor() * others) {
+                eject(measured.get(i), "latency");
+            }
+        }
+    }
+
+    private void eject(final Endpoint endpoint, final String reason) {
+        final long now = System.nanoTime();
+        final long ejected = endpoints.stream().filter(other -> other.isEjected(now)).count();
+        if (endpoint.isEjected(now) || (ejected + 1) * PERCENT > (long) properties.getMaxEjectionPercent()
+            * endpoints.size()) {
+            return;
+        }
+        endpoint.ejectedUntil.set(now + properties.getEjectionTime().toNanos());
+        endpoint.consecutiveFailures.set(0);
+        endpoint.latencies.set(newWindow());
+        meterRegistry.counter("audition.upstream.endpoint.ejections", ENDPOINT_TAG, endpoint.name, "reason", reason)
+            .increment();
+    }
+
+    private Endpoint powerOfTwoChoices(final List<Endpoint> candidates) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        final Endpoint a = candidates.get(first);
+        final Endpoint b = candidates.get(second);
+        return a.cost() <= b.cost() ? a : b;
+    }
+
+    private static Endpoint leastOutstanding(final List<Endpoint> candidates) {
+        final int offset = ThreadLocalRandom.current().nextInt(candidates.size());
+        Endpoint best = candidates.get(offset);
+        for (int i = 1; i < candidates.size(); i++) {
+            final Endpoint candidate = candidates.get((offset + i) % candidates.size());
+            final int difference = candidate.outstanding.get() - best.outstanding.get();
+            if (difference < 0 || difference == 0
+                && candidate.latencies().percentileNanos() < best.latencies().percentileNanos()) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    private static long medianExcluding(final long[] values, final int excluded) {
+        final long[] others = new long[values.length - 1];
+        for (int i = 0, j = 0; i < values.length; i++) {
+            if (i != excluded) {
+                others[j++] = values[i];
+            }
+        }
+        Arrays.sort(others);
+        return others[(others.length - 1) / 2];
+    }
+
+    private LatencyWindow newWindow() {
+        return new LatencyWindow(properties.getWindowSize(), MEDIAN);
+    }
+
+    private Endpoint register(final URI uri) {
+        final String base = uri.toString().endsWith("/") ? uri.toString() : uri + "/";
+        final Endpoint endpoint = new Endpoint(URI.create(base), newWindow());
+        Gauge.builder("audition.upstream.endpoint.outstanding", endpoint.outstanding, AtomicInteger::get)
+            .tag(ENDPOINT_TAG, endpoint.name)
+            .register(meterRegistry);
+        Gauge.builder("audition.upstream.endpoint.available", endpoint,
+                e -> e.isAvailable(System.nanoTime()) ? 1 : 0)
+            .tag(ENDPOINT_TAG, endpoint.name)
+            .register(meterRegistry);
+        return endpoint;
+    }
+
+    /**
+     * An upstream replica and its load and health state.
+     */
+    public static final class Endpoint {
+
+        private final URI baseUri;
+        private final String name;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final AtomicLong ejectedUntil = new AtomicLong();
+        private final AtomicBoolean healthy = new AtomicBoolean(true);
+        private final AtomicReference<LatencyWindow> latencies;
+
+        Endpoint(final URI baseUri, final LatencyWindow latencies) {
+            this.baseUri = baseUri;
+            this.name = baseUri.toString();
+            this.latencies = new AtomicReference<>(latencies);
+        }
+
+        /**
+         * Base URL of the endpoint, ending with a slash.
+         *
+         * @return the base URL
+         */
+        public String getBaseUrl() {
+            return name;
+        }
+
+        public int getOutstanding() {
+            return outstanding.get();
+        }
+
+        public boolean isHealthy() {
+            return healthy.get();
+        }
+
+        LatencyWindow latencies() {
+            return latencies.get();
+        }
+
+        boolean isEjected(final long now) {
+            return ejectedUntil.get() - now > 0;
+        }
+
+        boolean isAvailable(final long now) {
+            return healthy.get() && !isEjected(now);
+        }
+
+        private double cost() {
+            return (outstanding.get() + 1) * (double) Math.max(1, latencies().percentileNanos());
+        }
+    }
+}
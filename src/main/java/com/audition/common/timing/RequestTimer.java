@@ -0,0 +1,181 @@
+package com.audition.common.timing;
+
+import io.micrometer.context.ContextRegistry;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-request accumulator of the time spent in each {@link Phase}, rendered as a {@code Server-Timing} header.
+ *
+ * <p>The timer of the current request is bound to the request thread by
+ * {@link com.audition.configuration.ResponseHeaderInjector} and follows the work onto the service and hedging
+ * executors through the context propagation of those executors. Code on the request path records into it with
+ * {@link #start()} and {@link #stop(Phase, long)}; when no timer is bound both are a thread-local read and nothing is
+ * allocated, so the instrumentation costs next to nothing while the header is disabled.
+ *
+ * <p>Phases may be recorded concurrently (for example by hedged attempts) and from several places; durations of the
+ * same phase add up.
+ */
+public final class RequestTimer {
+
+    /**
+     * Value returned by {@link #start()} when no timer is bound.
+     */
+    public static final long NOT_TIMED = Long.MIN_VALUE;
+
+    private static final String CONTEXT_KEY = "audition.request-timer";
+    private static final ThreadLocal<RequestTimer> CURRENT = new ThreadLocal<>();
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final AtomicLongArray nanos = new AtomicLongArray(Phase.values().length);
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    /**
+     * Propagate the bound timer to tasks submitted to executors that capture the
+     * {@link io.micrometer.context.ContextSnapshot}.
+     */
+    public static void propagateAcrossThreads() {
+        ContextRegistry.getInstance()
+            .registerThreadLocalAccessor(CONTEXT_KEY, CURRENT::get, CURRENT::set, CURRENT::remove);
+    }
+
+    /**
+     * The timer bound to the current thread.
+     *
+     * @return the timer, or {@code null} when the current work is not timed
+     */
+    public static RequestTimer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Bind a timer to the current thread.
+     *
+     * @param timer the timer, or {@code null} to unbind
+     * @return the previously bound timer, to be restored afterwards
+     */
+    public static RequestTimer bind(final RequestTimer timer) {
+        final RequestTimer previous = CURRENT.get();
+        if (timer == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(timer);
+        }
+        return previous;
+    }
+
+    /**
+     * Start timing a phase on the current thread.
+     *
+     * @return the start time to pass to {@link #stop(Phase, long)}, or {@link #NOT_TIMED}
+     */
+    public static long start() {
+        return CURRENT.get() == null ? NOT_TIMED : System.nanoTime();
+    }
+
+    /**
+     * Add the time since {@code started} to a phase of the timer bound to the current thread.
+     *
+     * @param phase   the phase
+     * @param started the value returned by {@link #start()}
+     */
+    public static void stop(final Phase phase, final long started) {
+        if (started != NOT_TIMED) {
+            final RequestTimer timer = CURRENT.get();
+            if (timer != null) {
+                timer.record(phase, System.nanoTime() - started);
+            }
+        }
+    }
+
+    /**
+     * Add time to a phase.
+     *
+     * @param phase    the phase
+     * @param duration the duration in nanoseconds
+     */
+    public void record(final Phase phase, final long duration) {
+        nanos.addAndGet(phase.ordinal(), Math.max(0, duration));
+    }
+
+    /**
+     * Count an upstream request attempt, including retries and hedges.
+     */
+    public void attempt() {
+        attempts.incrementAndGet();
+    }
+
+    /**
+     * Total time recorded for a phase.
+     *
+     * @param phase the phase
+     * @return the time in nanoseconds
+     */
+    public long nanos(final Phase phase) {
+        return nanos.get(phase.ordinal());
+    }
+
+    public int getAttempts() {
+        return attempts.get();
+    }
+
+    /**
+     * Render the recorded phases as a {@code Server-Timing} header value, for example
+     * {@code cache;dur=0.02, upstream;dur=12.41;desc="2 attempts", serialization;dur=0.35}. Phases without recorded
+     * time are left out.
+     *
+     * @return the header value; empty when nothing was recorded
+     */
+    public String toHeaderValue() {
+        final StringBuilder header = new StringBuilder(128);
+        for (final Phase phase : Phase.values()) {
+            final long duration = nanos(phase);
+            if (duration == 0 && (phase != Phase.UPSTREAM || getAttempts() == 0)) {
+                continue;
+            }
+            if (header.length() > 0) {
+                header.append(", ");
+            }
+            header.append(phase.metricName).append(";dur=")
+                .append(String.format(Locale.ROOT, "%.2f", duration / NANOS_PER_MILLI));
+            if (phase == Phase.UPSTREAM) {
+                final int count = getAttempts();
+                header.append(";desc=\"").append(count).append(count == 1 ? " attempt\"" : " attempts\"");
+            }
+        }
+        return header.toString();
+    }
+
+    /**
+     * Request processing phases reported in the {@code Server-Timing} header.
+     */
+    public enum Phase {
+        /**
+         * Cache lookups, excluding the upstream load on a miss.
+         */
+        CACHE("cache"),
+        /**
+         * Upstream calls from the first attempt to the response, including retries, hedges and reading the body.
+         */
+        UPSTREAM("upstream"),
+        /**
+         * Mapping upstream response bodies to objects; part of the upstream time.
+         */
+        DESERIALIZATION("deserialization"),
+        /**
+         * Filtering, grouping and paging of fetched collections.
+         */
+        FILTERING("filter"),
+        /**
+         * Writing the response body.
+         */
+        SERIALIZATION("serialization");
+
+        private final String metricName;
+
+        Phase(final String metricName) {
+            this.metricName = metricName;
+        }
+    }
+}
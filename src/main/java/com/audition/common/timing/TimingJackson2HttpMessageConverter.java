@@ -0,0 +1,49 @@
+package com.audition.common.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Jackson converter recording into the {@link RequestTimer} of the current request: reads (upstream response bodies
+ * on the {@code RestTemplate}) as {@link RequestTimer.Phase#DESERIALIZATION} and writes (response bodies in Spring MVC)
+ * as {@link RequestTimer.Phase#SERIALIZATION}.
+ */
+public class TimingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    /**
+     * Create the converter.
+     *
+     * @param objectMapper the mapper used for reading and writing
+     */
+    public TimingJackson2HttpMessageConverter(final ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public Object read(final Type type, final Class<?> contextClass, final HttpInputMessage inputMessage)
+        throws IOException, HttpMessageNotReadableException {
+        final long started = RequestTimer.start();
+        try {
+            return super.read(type, contextClass, inputMessage);
+        } finally {
+            RequestTimer.stop(RequestTimer.Phase.DESERIALIZATION, started);
+        }
+    }
+
+    @Override
+    protected void writeInternal(final Object object, final Type type, final HttpOutputMessage outputMessage)
+        throws IOException, HttpMessageNotWritableException {
+        final long started = RequestTimer.start();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            RequestTimer.stop(RequestTimer.Phase.SERIALIZATION, started);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.audition.configuration;
+
+import com.audition.common.logging.AuditionLogger;
+import com.audition.integration.AuditionIntegrationClient;
+import com.audition.model.AuditionPost;
+import com.audition.model.Comment;
+import com.audition.service.AuditionService;
+import com.audition.web.AuditionController;
+import com.audition.web.PageParameters;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolationException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Warms the application up before it reports ready.
+ *
+ * <p>The warm-up runs inside the {@link ApplicationReadyEvent} listener, and Spring Boot only switches the readiness
+ * state to {@code ACCEPTING_TRAFFIC} once the ready listeners have returned, so {@code /actuator/health/readiness}
+ * stays {@code OUT_OF_SERVICE} until it is over. It has two phases, each timed as {@code application.warmup.phase}:
+ * <ol>
+ *   <li>{@code connections}: {@code application.warmup.connections} concurrent upstream lookups through the
+ *       {@link AuditionService}, which open the upstream connections, exercise the {@link RestTemplate} and
+ *       deserialization paths and fill the cache when it is enabled.</li>
+ *   <li>{@code requests}: {@code application.warmup.iterations} synthetic requests replayed through an
+ *       {@link AuditionController} served by a stub holding the posts and comments fetched in the first phase (or
+ *       generated ones when the upstream did not answer), with every response serialized by the application's
+ *       {@link ObjectMapper}. Requests with an invalid post id go to the application's controller bean instead, whose
+ *       method validation rejects them before they reach the service; no proxy is created at runtime, which a native
+ *       image could not do. The replay never reaches the upstream.</li>
+ * </ol>
+ *
+ * <p>The whole warm-up is bounded by {@code application.warmup.timeout}; the application becomes ready when it is
+ * reached. Progress and duration are reported by the {@link WarmupEndpoint}.
+ */
+@Component
+@EnableConfigurationProperties(WarmupProperties.class)
+public class ApplicationWarmup {
+
+    static final String PHASE_TIMER = "application.warmup.phase";
+    private static final Logger LOG = LoggerFactory.getLogger(ApplicationWarmup.class);
+    private static final String CONNECTIONS = "connections";
+    private static final String REQUESTS = "requests";
+    private static final int SYNTHETIC_POSTS = 10;
+    private static final int SYNTHETIC_COMMENTS_PER_POST = 5;
+
+    private final WarmupProperties properties;
+    private final AuditionService auditionService;
+    private final Executor executor;
+    private final AuditionController controller;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AuditionLogger auditionLogger;
+    private final AtomicReference<State> state;
+    private final AtomicReference<String> phase = new AtomicReference<>("");
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicLong startNanos = new AtomicLong();
+    private final AtomicLong endNanos = new AtomicLong();
+
+    /**
+     * Create the warm-up.
+     *
+     * @param properties      warm-up settings
+     * @param auditionService service used for the upstream lookups
+     * @param executor        executor the upstream lookups run on concurrently
+     * @param controller      the application's controller, proxied for method validation
+     * @param objectMapper    mapper the responses are serialized with
+     * @param meterRegistry   registry the phases are timed in
+     * @param auditionLogger  application logger
+     */
+    public ApplicationWarmup(final WarmupProperties properties, final AuditionService auditionService,
+        @Qualifier("auditionServiceExecutor") final Executor executor, final AuditionController controller,
+        final ObjectMapper objectMapper, final MeterRegistry meterRegistry, final AuditionLogger auditionLogger) {
+        this.properties = properties;
+        this.auditionService = auditionService;
+        this.executor = executor;
+        this.controller = controller;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.auditionLogger = auditionLogger;
+        this.state = new AtomicReference<>(properties.isEnabled() ? State.PENDING : State.DISABLED);
+    }
+
+    /**
+     * Run the warm-up, when enabled, before the application reports ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isEnabled()) {
+            run();
+        }
+    }
+
+    /**
+     * Report the warm-up progress.
+     *
+     * @return the current progress
+     */
+    public Progress progress() {
+        final State current = state.get();
+        final long start = startNanos.get();
+        final long end = current == State.RUNNING ? System.nanoTime() : endNanos.get();
+        return new Progress(current, phase.get(), completed.get(),
+            properties.getConnections() + properties.getIterations(),
+            start == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(end - start));
+    }
+
+    void run() {
+        startNanos.set(System.nanoTime());
+        final long deadline = startNanos.get() + properties.getTimeout().toNanos();
+        state.set(State.RUNNING);
+        final List<CompletableFuture<?>> lookups = new ArrayList<>();
+        final boolean connected = timed(CONNECTIONS, () -> openConnections(lookups, deadline));
+        final boolean finished = connected && timed(REQUESTS, () -> replay(
+            resultOr(lookups, 0, syntheticPosts()), resultOr(lookups, 1, syntheticComments()), deadline));
+        endNanos.set(System.nanoTime());
+        state.set(finished ? State.COMPLETED : State.TIMED_OUT);
+        final Progress progress = progress();
+        auditionLogger.info(LOG, "Warm-up {} after {} of {} steps in {} ms", progress.state(), progress.completed(),
+            progress.total(), progress.durationMillis());
+    }
+
+    private boolean timed(final String name, final BooleanSupplier step) {
+        phase.set(name);
+        final long start = System.nanoTime();
+        try {
+            return step.getAsBoolean();
+        } finally {
+            Timer.builder(PHASE_TIMER)
+                .description("Duration of a warm-up phase")
+                .tag("phase", name)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private boolean openConnections(final List<CompletableFuture<?>> lookups, final long deadline) {
+        final List<Supplier<?>> requests = new ArrayList<>();
+        requests.add(auditionService::getPosts);
+        requests.add(auditionService::getComments);
+        for (int i = requests.size(); i < properties.getConnections(); i++) {
+            final String postId = String.valueOf(i - 1);
+            requests.add(() -> auditionService.getPostById(postId));
+        }
+        requests.stream()
+            .limit(properties.getConnections())
+            .map(request -> CompletableFuture.supplyAsync(request, executor)
+                .whenComplete((result, failure) -> completed.incrementAndGet()))
+            .forEach(lookups::add);
+        try {
+            CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new))
+                .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (final ExecutionException e) {
+            auditionLogger.warn(LOG, "Warm-up could not reach the upstream, replaying generated data: "
+                + e.getCause().getMessage());
+        } catch (final TimeoutException e) {
+            return false;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+
+    private boolean replay(final List<AuditionPost> posts, final List<Comment> comments, final long deadline) {
+        final AuditionController stub = new AuditionController(new AuditionService(new ReplayClient(posts, comments)));
+        final int userId = posts.get(0).userId();
+        final String postId = String.valueOf(posts.get(0).id());
+        final List<Supplier<Object>> requests = List.of(
+            () -> stub.getPosts(null, new PageParameters()).getBody(),
+            () -> stub.getPosts(userId, new PageParameters()).getBody(),
+            () -> stub.getPostsWithComments(userId),
+            () -> stub.getPosts(postId),
+            () -> stub.getPostWithComments(postId),
+            () -> stub.getComments(postId, new PageParameters()).getBody(),
+            () -> stub.getCommentsForPost(postId, new PageParameters()).getBody(),
+            // rejected by the method validation of the real controller, warming up the constraint violation path
+            () -> controller.getPosts("0"));
+        for (int i = 0; i < properties.getIterations(); i++) {
+            if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            try {
+                objectMapper.writeValueAsBytes(requests.get(i % requests.size()).get());
+            } catch (final ConstraintViolationException expected) {
+                // the invalid request
+            } catch (final JsonProcessingException e) {
+                auditionLogger.logErrorWithException(LOG, "Warm-up response could not be serialized", e);
+                return false;
+            }
+            completed.incrementAndGet();
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> resultOr(final List<CompletableFuture<?>> lookups, final int index,
+        final List<T> fallback) {
+        if (index < lookups.size() && lookups.get(index).isDone() && !lookups.get(index).isCompletedExceptionally()) {
+            final List<T> result = (List<T>) lookups.get(index).join();
+            if (result != null && !result.isEmpty()) {
+                return result;
+            }
+        }
+        return fallback;
+    }
+
+    private static List<AuditionPost> syntheticPosts() {
+        return IntStream.rangeClosed(1, SYNTHETIC_POSTS)
+            .mapToObj(id -> new AuditionPost(1 + id % 2, id, "warm-up post " + id, "body of warm-up post " + id))
+            .toList();
+    }
+
+    private static List<Comment> syntheticComments() {
+        return IntStream.range(0, SYNTHETIC_POSTS * SYNTHETIC_COMMENTS_PER_POST)
+            .mapToObj(id -> new Comment(1 + id / SYNTHETIC_COMMENTS_PER_POST, id + 1, "warm-up comment " + id,
+                "warmup@example.com", "body of warm-up comment " + id))
+            .toList();
+    }
+
+    /**
+     * State of the warm-up.
+     */
+    public enum State {
+        DISABLED, PENDING, RUNNING, COMPLETED, TIMED_OUT
+    }
+
+    /**
+     * Warm-up progress as reported by the {@link WarmupEndpoint}.
+     *
+     * @param state          the state
+     * @param phase          the current or last phase
+     * @param completed      completed upstream lookups and replayed requests
+     * @param total          planned upstream lookups and replayed requests
+     * @param durationMillis time spent so far, or in total once finished
+     */
+    public record Progress(State state, String phase, int completed, int total, long durationMillis) {
+
+    }
+
+    /**
+     * Stub client serving the replayed requests from memory.
+     */
+    private static final class ReplayClient extends AuditionIntegrationClient {
+
+        private final List<AuditionPost> posts;
+        private final List<Comment> comments;
+
+        ReplayClient(final List<AuditionPost> posts, final List<Comment> comments) {
+            super((RestTemplate) null);
+            this.posts = posts;
+            this.comments = comments;
+        }
+
+        @Override
+        public List<AuditionPost> getPosts() {
+            return posts;
+        }
+
+        @Override
+        public AuditionPost getPostById(final String id) {
+            return posts.stream().filter(post -> String.valueOf(post.id()).equals(id)).findFirst().orElse(null);
+        }
+
+        @Override
+        public List<Comment> getCommentsByPostId(final String postId) {
+            return comments.stream().filter(comment -> String.valueOf(comment.postId()).equals(postId)).toList();
+        }
+
+        @Override
+        public List<Comment> getCommentsForPost(final String postId) {
+            return getCommentsByPostId(postId);
+        }
+
+        @Override
+        public List<Comment> getComments() {
+            return comments;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.audition.configuration;
+
+import com.audition.common.concurrent.VirtualThreads;
+import com.audition.common.interceptor.UpstreamDeadlineHandlerInterceptor;
+import com.audition.common.resilience.UpstreamDeadline;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration for asynchronous request handling.
+ *
+ * <p>Asynchronous controller methods return a {@link java.util.concurrent.CompletableFuture} so the servlet thread is
+ * released while the upstream call is in flight. The work itself runs on the {@code auditionServiceExecutor} defined
+ * here, which is metered under the {@code audition.service} executor name and propagates the caller's
+ * observation/tracing context. Requests not answered within {@code application.async.timeout} are completed with 503;
+ * the same timeout is the {@link UpstreamDeadline} of the upstream calls made for them, so those calls stop too.
+ */
+@Configuration
+@EnableConfigurationProperties({AsyncProperties.class, PrefetchProperties.class, ThreadingProperties.class})
+@RequiredArgsConstructor
+public class AsyncConfiguration implements WebMvcConfigurer {
+
+    private final AsyncProperties asyncProperties;
+    private final ThreadingProperties threadingProperties;
+
+    /**
+     * Executor for {@link com.audition.service.AuditionService} calls made on behalf of asynchronous requests. In
+     * virtual thread mode every task gets its own virtual thread and the pool settings are ignored.
+     *
+     * @param meterRegistry registry used to publish executor metrics
+     * @return the executor service
+     */
+    @Bean
+    public ExecutorService auditionServiceExecutor(final MeterRegistry meterRegistry) {
+        final ExecutorService executor = threadingProperties.isVirtual()
+            ? VirtualThreads.newThreadPerTaskExecutor("audition-service-vt-")
+            : new ThreadPoolExecutor(asyncProperties.getCorePoolSize(), asyncProperties.getMaxPoolSize(), 60,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(asyncProperties.getQueueCapacity()),
+                new CustomizableThreadFactory("audition-service-"));
+        final ExecutorService monitored = ExecutorServiceMetrics.monitor(meterRegistry, executor, "audition.service");
+        UpstreamDeadline.propagateAcrossThreads();
+        return ContextExecutorService.wrap(monitored, ContextSnapshot::captureAll);
+    }
+
+    /**
+     * Executor for comment prefetches. Its threads run at minimum priority and its queue is small and bounded, so
+     * prefetching yields to request processing and is rejected (and dropped) instead of piling up under load. It uses
+     * platform threads in virtual thread mode too, since virtual threads cannot be deprioritized.
+     *
+     * @param properties    prefetch settings
+     * @param meterRegistry registry used to publish executor metrics
+     * @return the executor service
+     */
+    @Bean
+    public ExecutorService commentPrefetchExecutor(final PrefetchProperties properties,
+        final MeterRegistry meterRegistry) {
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("comment-prefetch-");
+        threadFactory.setThreadPriority(Thread.MIN_PRIORITY);
+        threadFactory.setDaemon(true);
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+            60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, "audition.prefetch");
+    }
+
+    /**
+     * Apply the configured timeout to asynchronous requests.
+     *
+     * @param configurer the Spring MVC async support configurer
+     */
+    @Override
+    public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncProperties.getTimeout().toMillis());
+    }
+
+    /**
+     * Bound the upstream calls made for asynchronous requests by the request timeout.
+     *
+     * @param registry the Spring MVC interceptor registry
+     */
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new UpstreamDeadlineHandlerInterceptor(asyncProperties.getTimeout()))
+            .addPathPatterns("/async/**");
+    }
+}
@@ -0,0 +1,36 @@
+package com.audition.configuration;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the asynchronous endpoints and the executor running {@link com.audition.service.AuditionService}
+ * calls on their behalf ({@code application.async.*}).
+ */
+@ConfigurationProperties(prefix = "application.async")
+@Getter
+@Setter
+public class AsyncProperties {
+
+    /**
+     * Time after which an asynchronous request is answered with 503 Service Unavailable.
+     */
+    private Duration timeout = Duration.ofSeconds(10);
+
+    /**
+     * Core threads of the service executor.
+     */
+    private int corePoolSize = 16;
+
+    /**
+     * Maximum threads of the service executor.
+     */
+    private int maxPoolSize = 64;
+
+    /**
+     * Tasks queued before the executor grows beyond its core size; further work is rejected with 503.
+     */
+    private int queueCapacity = 500;
+}
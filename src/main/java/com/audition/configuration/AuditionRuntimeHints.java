@@ -0,0 +1,47 @@
+package com.audition.configuration;
+
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionStatistics;
+import com.audition.model.Comment;
+import com.audition.model.PostCommentCount;
+import com.audition.model.PostWithComments;
+import com.audition.model.SearchHit;
+import com.audition.service.CacheSnapshot;
+import com.audition.web.PageParameters;
+import java.util.concurrent.Executors;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.support.BindingReflectionHintsRegistrar;
+import org.springframework.http.ProblemDetail;
+
+/**
+ * Reflection hints for the ahead-of-time processed and native image builds ({@code ./gradlew -Pnative ...}).
+ *
+ * <p>Spring infers hints for beans, {@code @ConfigurationProperties} and {@code @RequestBody} types, but not for
+ * types that are only bound reflectively at runtime:
+ * <ul>
+ *   <li>the Jackson models, read from the upstream and written to responses (and introspected by field projection),
+ *       including the record constructors Jackson binds through;
+ *   <li>the {@link CacheSnapshot} contents, read and written with the application {@code ObjectMapper};
+ *   <li>{@link ProblemDetail}, serialized by the application {@code ObjectMapper} without Spring's mixin;
+ *   <li>{@link PageParameters}, a Lombok bean populated by data binding from query parameters;
+ *   <li>the JDK 21 virtual thread API looked up by {@link com.audition.common.concurrent.VirtualThreads}.
+ * </ul>
+ */
+public class AuditionRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(), AuditionPost.class, Comment.class,
+            PostWithComments.class, SearchHit.class, PostCommentCount.class, AuditionStatistics.class,
+            CacheSnapshot.Contents.class, CacheSnapshot.Entry.class, ProblemDetail.class, PageParameters.class);
+        hints.reflection()
+            .registerType(Thread.class, MemberCategory.INVOKE_PUBLIC_METHODS)
+            .registerType(TypeReference.of("java.lang.Thread$Builder"), MemberCategory.INVOKE_PUBLIC_METHODS)
+            .registerType(Executors.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+}
@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.SneakyThrows;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -18,12 +19,19 @@ import org.springframework.security.web.SecurityFilterChain;
  * protecting other actuator endpoints and leaving other application endpoints open by default.
  *
  * <ul>
- *   <li>Permit access to <code>/actuator/health</code> and <code>/actuator/info</code> to support
- *       health checks from load balancers and platform probes.
- *   <li>Require authentication for the remaining actuator endpoints under <code>/actuator/**</code>.
+ *   <li>Permit access to <code>/actuator/health</code> (including the liveness and readiness groups) and
+ *       <code>/actuator/info</code> to support health checks from load balancers and platform probes.
+ *   <li>Require authentication for the remaining actuator endpoints under <code>/actuator/**</code>, including the
+ *       on-demand profiling recordings at <code>/actuator/profiling</code>.
  *   <li>Allow access to any other request (application endpoints) by default.
  *   <li>Use HTTP Basic authentication for protected endpoints (simple, suitable for internal
  *       or demo scenarios; replace or augment with a stronger mechanism in production).
+ *   <li>Exempt only the profiling endpoint (<code>/actuator/profiling/**</code>) from CSRF protection so that
+ *       operators' tools can start recordings without first fetching a token. This does not make the endpoint
+ *       CSRF-safe, since browsers resend cached HTTP Basic credentials with forged requests; the exposure is accepted
+ *       because a forged request can at most start one recording of bounded length
+ *       (<code>application.profiling.max-duration</code>) while concurrent ones are refused, and the response is not
+ *       readable cross-origin. Every other endpoint keeps the CSRF check.
  * </ul>
  */
 @Configuration
@@ -38,9 +46,10 @@ public class AuditionSecurityConfiguration {
      *
      * <p>The chain is configured to:
      * <ol>
-     *   <li>Allow unauthenticated access to <code>/actuator/health</code> and <code>/actuator/info</code>.</li>
+     *   <li>Allow unauthenticated access to <code>/actuator/health/**</code> and <code>/actuator/info</code>.</li>
      *   <li>Require authentication for any other <code>/actuator/**</code> endpoints.</li>
      *   <li>Permit all other requests by default.</li>
+     *   <li>Skip the CSRF check for the profiling endpoint only.</li>
      * </ol>
      *
      * @param http the {@link HttpSecurity} builder provided by Spring Security
@@ -52,11 +61,13 @@ public class AuditionSecurityConfiguration {
     public SecurityFilterChain securityFilterChain(final HttpSecurity http) {
         http
             .authorizeHttpRequests((auth) -> auth
-                .requestMatchers("/actuator/health", "/actuator/info").permitAll()
+                .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
                 .requestMatchers("/actuator/**")
                 .authenticated()
                 .anyRequest().permitAll()
-            ).httpBasic();
+            )
+            .csrf(csrf -> csrf.ignoringRequestMatchers(EndpointRequest.to(ProfilingEndpoint.class)))
+            .httpBasic();
         return http.build();
     }
 
@@ -0,0 +1,55 @@
+package com.audition.configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the in-memory cache of upstream responses ({@code application.cache.*}).
+ */
+@ConfigurationProperties(prefix = "application.cache")
+@Getter
+@Setter
+public class CacheProperties {
+
+    /**
+     * Whether upstream responses are cached. Disabled by default so every request reflects the upstream state.
+     */
+    private boolean enabled;
+
+    /**
+     * Time a cached response is served before it is fetched again.
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /**
+     * Maximum number of cached responses. Expired entries are swept when it is reached; while it is still reached
+     * after that, new responses are served without being cached.
+     */
+    private int maxEntries = 10_000;
+
+    /**
+     * Longest time a lookup waits for a concurrent load of the same response before it fails with 504.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Whether cached post and comment collections are stored in compact columnar form. Reduces the heap held by the
+     * cache, but every read of an element allocates a new record and decodes its strings; measure both sides with
+     * the {@code CompactCollectionBenchmark} before enabling it.
+     */
+    private boolean compact;
+
+    /**
+     * Whether the cached posts and comments are written to {@code snapshot-path} at shutdown and restored from it at
+     * startup, so a replacement instance starts with a warm cache.
+     */
+    private boolean snapshot;
+
+    /**
+     * Cache snapshot file, relative to the working directory unless absolute.
+     */
+    private Path snapshotPath = Path.of("cache-snapshot.json");
+}
@@ -0,0 +1,45 @@
+package com.audition.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for adaptive selection between the two upstream comment routes ({@code application.comment-routing.*}).
+ *
+ * <p>{@code /posts/{id}/comments} and {@code /comments?postId={id}} return the same data. When adaptive routing is
+ * enabled, comment lookups go to the route that currently has the lower error rate or, when both fail equally often,
+ * the lower median latency, whichever of the two the caller asked for.
+ */
+@ConfigurationProperties(prefix = "application.comment-routing")
+@Getter
+@Setter
+public class CommentRoutingProperties {
+
+    /**
+     * Whether comment lookups are sent to the healthier and faster route. Disabled by default, in which case every
+     * lookup uses the route it was made for.
+     */
+    private boolean enabled;
+
+    /**
+     * Number of recent lookups per route that latency and error rate are computed over.
+     */
+    private int windowSize = 100;
+
+    /**
+     * Lookups a route needs in its window before it is compared with the other; until then the requested route is
+     * used.
+     */
+    private int minSamples = 20;
+
+    /**
+     * Share of lookups sent to the route that is not preferred, so its statistics stay current.
+     */
+    private double probeRate = 0.05;
+
+    /**
+     * Difference in error rate below which the routes count as equally healthy and latency decides.
+     */
+    private double errorRateTolerance = 0.02;
+}
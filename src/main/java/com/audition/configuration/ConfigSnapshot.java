@@ -0,0 +1,101 @@
+package com.audition.configuration;
+
+import com.audition.common.io.AtomicFile;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.PropertySource;
+
+/**
+ * Local copy of the configuration served by the config server.
+ *
+ * <p>The snapshot is a properties file holding the effective value of every key of the config server property
+ * sources. It is an {@link AtomicFile}: replaced as a whole and, since the config server may serve credentials,
+ * readable by its owner only.
+ */
+public class ConfigSnapshot {
+
+    public static final String DEFAULT_PATH = "config-snapshot.properties";
+
+    /**
+     * Prefix of the names of the property sources loaded from the config server.
+     */
+    static final String CONFIG_SERVER_SOURCE_PREFIX = "configserver:";
+
+    private final AtomicFile file;
+
+    /**
+     * Create a snapshot handle.
+     *
+     * @param path the snapshot file
+     */
+    public ConfigSnapshot(final Path path) {
+        this.file = new AtomicFile(path);
+    }
+
+    public Path getPath() {
+        return file.getPath();
+    }
+
+    /**
+     * Whether a snapshot can be read.
+     *
+     * @return {@code true} when the snapshot file exists and is readable
+     */
+    public boolean exists() {
+        return file.exists();
+    }
+
+    /**
+     * Read the snapshot.
+     *
+     * @return the snapshotted properties
+     * @throws IOException when the file cannot be read
+     */
+    public Properties read() throws IOException {
+        final Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file.getPath(), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+
+    /**
+     * Replace the snapshot.
+     *
+     * @param properties the properties to store
+     * @throws IOException when the file cannot be written
+     */
+    public void write(final Properties properties) throws IOException {
+        file.replace(output -> properties.store(new OutputStreamWriter(output, StandardCharsets.UTF_8),
+            "Configuration fetched from the config server"));
+    }
+
+    /**
+     * Collect the effective values of the config server property sources of an environment.
+     *
+     * @param environment the environment
+     * @return the properties; empty when nothing was loaded from the config server
+     */
+    public static Properties fromConfigServer(final ConfigurableEnvironment environment) {
+        final Properties properties = new Properties();
+        for (final PropertySource<?> source : environment.getPropertySources()) {
+            if (source.getName().startsWith(CONFIG_SERVER_SOURCE_PREFIX)
+                && source instanceof EnumerablePropertySource<?> enumerable) {
+                for (final String name : enumerable.getPropertyNames()) {
+                    final Object value = enumerable.getProperty(name);
+                    if (value != null && !properties.containsKey(name)) {
+                        properties.setProperty(name, String.valueOf(value));
+                    }
+                }
+            }
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,76 @@
+package com.audition.configuration;
+
+import java.nio.file.Path;
+import java.util.Map;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * Start from the local {@link ConfigSnapshot} instead of the config server when one exists.
+ *
+ * <p>{@code application.yml} imports {@code ${application.config-snapshot.import:configserver:...}}. Running before
+ * the config data is loaded, this post-processor points that import at the snapshot file, so startup reads a local
+ * file instead of blocking on the config server.
+ *
+ * <p>Spring Cloud runs the environment post-processors again on every context refresh. Once the application is ready
+ * the {@link ConfigSnapshotReconciler} sets {@code application.config-snapshot.refreshing} in the default properties,
+ * which refreshes carry over, and this post-processor then leaves the import alone, so refreshes (including the
+ * reconciling one) import from the config server instead of the snapshot.
+ */
+public class ConfigSnapshotEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    public static final String PROPERTY_SOURCE_NAME = "configSnapshotImport";
+    static final String ENABLED = "application.config-snapshot.enabled";
+    static final String PATH = "application.config-snapshot.path";
+    static final String IMPORT = "application.config-snapshot.import";
+    static final String ACTIVE = "application.config-snapshot.active";
+    static final String REFRESHING = "application.config-snapshot.refreshing";
+
+    @Override
+    public void postProcessEnvironment(final ConfigurableEnvironment environment, final SpringApplication application) {
+        if (!environment.getProperty(ENABLED, Boolean.class, true)
+            || environment.getProperty(REFRESHING, Boolean.class, false)) {
+            return;
+        }
+        final ConfigSnapshot snapshot = new ConfigSnapshot(Path.of(environment.getProperty(PATH,
+            ConfigSnapshot.DEFAULT_PATH)));
+        if (snapshot.exists()) {
+            environment.getPropertySources().addLast(new MapPropertySource(PROPERTY_SOURCE_NAME, Map.of(
+                IMPORT, importLocation(snapshot.getPath()),
+                ACTIVE, Boolean.TRUE)));
+        }
+    }
+
+    /**
+     * Config data location under which a snapshot file is imported.
+     *
+     * @param path the snapshot file
+     * @return the import location
+     */
+    static String importLocation(final Path path) {
+        return "optional:file:" + path.toAbsolutePath();
+    }
+
+    /**
+     * Runs just before the config data (including {@code application.yml}) is loaded.
+     */
+    @Override
+    public int getOrder() {
+        return ConfigDataEnvironmentPostProcessor.ORDER - 1;
+    }
+
+    /**
+     * Whether the environment was started from a snapshot.
+     *
+     * @param environment the environment
+     * @return {@code true} when the configuration was imported from the snapshot instead of the config server
+     */
+    public static boolean isActive(final Environment environment) {
+        return environment.getProperty(ACTIVE, Boolean.class, false);
+    }
+}
@@ -0,0 +1,36 @@
+package com.audition.configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the local snapshot of the config server configuration ({@code application.config-snapshot.*}).
+ *
+ * <p>When a snapshot exists the application starts from it instead of waiting for the config server, and fetches the
+ * current configuration in the background. {@code enabled} and {@code path} are read before {@code application.yml}
+ * is loaded, so they can only be overridden with system properties, environment variables or command line
+ * arguments.
+ */
+@ConfigurationProperties(prefix = "application.config-snapshot")
+@Getter
+@Setter
+public class ConfigSnapshotProperties {
+
+    /**
+     * Whether the configuration fetched from the config server is snapshotted and used for the next start.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Snapshot file, relative to the working directory unless absolute.
+     */
+    private Path path = Path.of(ConfigSnapshot.DEFAULT_PATH);
+
+    /**
+     * Pause between attempts to reach the config server after starting from the snapshot.
+     */
+    private Duration retryInterval = Duration.ofSeconds(30);
+}
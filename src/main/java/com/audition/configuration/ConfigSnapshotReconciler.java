@@ -0,0 +1,192 @@
+package com.audition.configuration;
+
+import com.audition.common.logging.AuditionLogger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.DefaultPropertiesPropertySource;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.context.refresh.ContextRefresher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the {@link ConfigSnapshot} in line with the config server.
+ *
+ * <p>When the application was started from the config server, the fetched configuration is written to the snapshot
+ * once the application is ready. When it was started from the snapshot, the context is refreshed from the config
+ * server on a background thread (rebinding {@code @ConfigurationProperties} and refresh-scoped beans), retrying every
+ * {@code application.config-snapshot.retry-interval} until the config server answers, and the snapshot is then
+ * replaced. Every attempt is timed as {@code application.config.reconcile}, tagged with its outcome.
+ *
+ * <p>Once the application is ready, the environment is marked as refreshing, so the
+ * {@link ConfigSnapshotEnvironmentPostProcessor} does not point refreshed environments back at the snapshot. Once the
+ * config server has answered, the property source loaded from the snapshot file at startup is removed.
+ */
+@Component
+@EnableConfigurationProperties(ConfigSnapshotProperties.class)
+public class ConfigSnapshotReconciler {
+
+    static final String RECONCILE_TIMER = "application.config.reconcile";
+    private static final Logger LOG = LoggerFactory.getLogger(ConfigSnapshotReconciler.class);
+
+    private final ConfigSnapshotProperties properties;
+    private final ConfigurableEnvironment environment;
+    private final ObjectProvider<ContextRefresher> contextRefresher;
+    private final MeterRegistry meterRegistry;
+    private final AuditionLogger auditionLogger;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Create the reconciler.
+     *
+     * @param properties       snapshot settings
+     * @param environment      the application environment
+     * @param contextRefresher refreshes the environment from the config server, when available
+     * @param meterRegistry    registry the reconcile attempts are timed in
+     * @param auditionLogger   application logger
+     */
+    public ConfigSnapshotReconciler(final ConfigSnapshotProperties properties,
+        final ConfigurableEnvironment environment, final ObjectProvider<ContextRefresher> contextRefresher,
+        final MeterRegistry meterRegistry, final AuditionLogger auditionLogger) {
+        this.properties = properties;
+        this.environment = environment;
+        this.contextRefresher = contextRefresher;
+        this.meterRegistry = meterRegistry;
+        this.auditionLogger = auditionLogger;
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("config-reconcile-");
+        threadFactory.setDaemon(true);
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, threadFactory);
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.scheduler = executor;
+    }
+
+    /**
+     * Snapshot the configuration fetched at startup, or start reconciling a configuration started from the snapshot.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        final boolean fromSnapshot = ConfigSnapshotEnvironmentPostProcessor.isActive(environment);
+        markRefreshing();
+        if (fromSnapshot) {
+            auditionLogger.info(LOG, "Started from config snapshot {}, reconciling with the config server",
+                properties.getPath().toAbsolutePath());
+            scheduler.execute(this::reconcile);
+        } else {
+            save();
+        }
+    }
+
+    /**
+     * Refresh the environment from the config server and replace the snapshot; scheduled again when the config
+     * server cannot be reached.
+     *
+     * @return {@code true} when the configuration was fetched from the config server
+     */
+    boolean reconcile() {
+        final ContextRefresher refresher = contextRefresher.getIfAvailable();
+        if (refresher == null) {
+            return false;
+        }
+        markRefreshing();
+        final long start = System.nanoTime();
+        String outcome = "unavailable";
+        try {
+            final Set<String> changed = refresher.refresh();
+            if (save()) {
+                removeSnapshotSources();
+                outcome = "success";
+                auditionLogger.info(LOG, "Reconciled with the config server, changed keys: {}", changed);
+                return true;
+            }
+        } catch (final RuntimeException e) {
+            outcome = "error";
+            auditionLogger.logErrorWithException(LOG, "Reconciling with the config server failed", e);
+        } finally {
+            Timer.builder(RECONCILE_TIMER)
+                .description("Attempts to refresh the configuration from the config server after a snapshot start")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(this::reconcile, properties.getRetryInterval().toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return false;
+    }
+
+    /**
+     * Keep the {@link ConfigSnapshotEnvironmentPostProcessor} from importing the snapshot into refreshed environments.
+     * A refresh starts from a pristine copy of the environment that keeps only the command line arguments and the
+     * default properties, so the marker goes into the default properties.
+     */
+    private void markRefreshing() {
+        DefaultPropertiesPropertySource.addOrMerge(
+            Map.of(ConfigSnapshotEnvironmentPostProcessor.REFRESHING, Boolean.TRUE), environment.getPropertySources());
+    }
+
+    /**
+     * Drop the property source loaded from the snapshot file at startup, now that the config server sources replace
+     * it; a refresh only adds and replaces property sources, it never removes them.
+     */
+    private void removeSnapshotSources() {
+        final String location = ConfigSnapshotEnvironmentPostProcessor.importLocation(properties.getPath());
+        final MutablePropertySources sources = environment.getPropertySources();
+        sources.stream().map(PropertySource::getName).filter(name -> name.contains(location)).toList()
+            .forEach(sources::remove);
+    }
+
+    /**
+     * Write the configuration loaded from the config server to the snapshot.
+     *
+     * @return {@code true} when the environment held configuration from the config server
+     */
+    boolean save() {
+        final Properties fetched = ConfigSnapshot.fromConfigServer(environment);
+        if (fetched.isEmpty()) {
+            return false;
+        }
+        try {
+            new ConfigSnapshot(properties.getPath()).write(fetched);
+        } catch (final IOException e) {
+            auditionLogger.logErrorWithException(LOG, "Could not write the config snapshot", e);
+        }
+        return true;
+    }
+
+    /**
+     * Stop retrying and wait for a running refresh to finish.
+     *
+     * @param timeout maximum time to wait
+     * @return {@code true} when no refresh is running anymore
+     * @throws InterruptedException when interrupted while waiting
+     */
+    boolean drain(final Duration timeout) throws InterruptedException {
+        scheduler.shutdown();
+        return scheduler.awaitTermination(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
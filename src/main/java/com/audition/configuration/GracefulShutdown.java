@@ -0,0 +1,123 @@
+package com.audition.configuration;
+
+import com.audition.common.logging.AuditionLogger;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shutdown sequence that lets a replaced instance finish its work.
+ *
+ * <ol>
+ *   <li>When the context closes, Spring Boot reports the readiness state {@code REFUSING_TRAFFIC}; the instance then
+ *       keeps serving for {@code application.shutdown.readiness-delay} so probes and load balancers take it out of
+ *       rotation before it refuses requests.</li>
+ *   <li>The web server stops accepting connections and drains the in-flight requests, bounded by
+ *       {@code spring.lifecycle.timeout-per-shutdown-phase} ({@code server.shutdown: graceful}).</li>
+ *   <li>This lifecycle then stops the {@code auditionServiceExecutor}, letting queued and running tasks finish, and
+ *       lets a running configuration refresh complete, together bounded by {@code application.shutdown.drain-timeout}.
+ *       </li>
+ *   <li>Finally the {@link com.audition.service.CacheSnapshotStore} flushes the cache to its snapshot.</li>
+ * </ol>
+ */
+@Component
+@EnableConfigurationProperties(ShutdownProperties.class)
+public class GracefulShutdown implements SmartLifecycle {
+
+    /**
+     * Below the web server graceful shutdown (default phase - 1024) and stop (default phase - 2048).
+     */
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 3072;
+    private static final Logger LOG = LoggerFactory.getLogger(GracefulShutdown.class);
+
+    private final ShutdownProperties properties;
+    private final ApplicationContext applicationContext;
+    private final ExecutorService executor;
+    private final ConfigSnapshotReconciler reconciler;
+    private final AuditionLogger auditionLogger;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * Create the shutdown sequence.
+     *
+     * @param properties         shutdown settings
+     * @param applicationContext the application context, told apart from child contexts closing
+     * @param executor           executor of the service calls
+     * @param reconciler         the background configuration refresh
+     * @param auditionLogger     application logger
+     */
+    public GracefulShutdown(final ShutdownProperties properties, final ApplicationContext applicationContext,
+        @Qualifier("auditionServiceExecutor") final ExecutorService executor,
+        final ConfigSnapshotReconciler reconciler, final AuditionLogger auditionLogger) {
+        this.properties = properties;
+        this.applicationContext = applicationContext;
+        this.executor = executor;
+        this.reconciler = reconciler;
+        this.auditionLogger = auditionLogger;
+    }
+
+    /**
+     * Keep serving for the readiness delay after the application reported not-ready.
+     *
+     * @param event the closed event
+     */
+    @EventListener
+    public void onContextClosed(final ContextClosedEvent event) {
+        if (event.getApplicationContext() == applicationContext && properties.getReadinessDelay().toMillis() > 0) {
+            auditionLogger.info(LOG, "Reported not-ready, refusing requests in {}", properties.getReadinessDelay());
+            try {
+                Thread.sleep(properties.getReadinessDelay().toMillis());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running.set(true);
+    }
+
+    @Override
+    public void stop() {
+        if (!running.compareAndSet(true, false)) {
+            return;
+        }
+        final long deadline = System.nanoTime() + properties.getDrainTimeout().toNanos();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(remaining(deadline), TimeUnit.NANOSECONDS)) {
+                auditionLogger.warn(LOG, "Service executor tasks still running after the drain timeout");
+            }
+            if (!reconciler.drain(Duration.ofNanos(remaining(deadline)))) {
+                auditionLogger.warn(LOG, "Configuration refresh still running after the drain timeout");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private static long remaining(final long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+}
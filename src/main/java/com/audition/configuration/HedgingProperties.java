@@ -0,0 +1,64 @@
+package com.audition.configuration;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for hedged upstream requests ({@code application.hedging.*}).
+ *
+ * <p>Hedging is disabled by default. When enabled, a second identical request is sent if the first one has not
+ * answered within the configured percentile of recently observed latencies for the same operation.
+ */
+@ConfigurationProperties(prefix = "application.hedging")
+@Getter
+@Setter
+public class HedgingProperties {
+
+    /**
+     * Whether single-post and comment lookups are hedged.
+     */
+    private boolean enabled;
+
+    /**
+     * Percentile of recent latency after which the hedge request is sent.
+     */
+    private double percentile = 0.95;
+
+    /**
+     * Lower bound for the hedge delay, protects the upstream when latencies are tiny.
+     */
+    private Duration minDelay = Duration.ofMillis(10);
+
+    /**
+     * Number of recent latency samples kept per operation.
+     */
+    private int windowSize = 1000;
+
+    /**
+     * Samples required before an operation becomes eligible for hedging.
+     */
+    private int minSamples = 20;
+
+    /**
+     * Extra load allowed by hedging, as a fraction of regular requests.
+     */
+    private double budgetRatio = 0.05;
+
+    /**
+     * Hedges that may be sent in a burst before the ratio applies.
+     */
+    private double budgetBurst = 10;
+
+    /**
+     * Longest time a hedged call waits for an answer from its attempts; the attempts are then cancelled and the call
+     * fails with 504. Keep it above the connect plus read timeout of the HTTP client.
+     */
+    private Duration timeout = Duration.ofSeconds(10);
+
+    /**
+     * Threads of the executor running hedged attempts.
+     */
+    private int poolSize = 32;
+}
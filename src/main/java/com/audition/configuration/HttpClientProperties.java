@@ -0,0 +1,28 @@
+package com.audition.configuration;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the HTTP client used for upstream calls ({@code application.http-client.*}).
+ *
+ * <p>Both timeouts bound blocking socket operations, so an upstream that accepts connections but never answers cannot
+ * hold a request or hedging thread indefinitely; a cancelled attempt does not interrupt blocking I/O.
+ */
+@ConfigurationProperties(prefix = "application.http-client")
+@Getter
+@Setter
+public class HttpClientProperties {
+
+    /**
+     * Longest time to wait for a connection to the upstream to be established.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Longest time to wait for data from the upstream once connected, per read.
+     */
+    private Duration readTimeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,228 @@
+package com.audition.configuration;
+
+import com.audition.common.logging.AuditionLogger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Takes time-bounded Java Flight Recorder recordings of the running application and summarizes them.
+ *
+ * <p>Only one recording runs at a time. {@link #record(Duration, String)} blocks the calling thread for the length of
+ * the recording and leaves a {@code .jfr} file the caller owns; {@link #summarize(Path, String, Duration)} reduces
+ * such a file to the methods that were most often on-CPU and the sites that allocated the most, attributed to the
+ * innermost frame under {@code application.profiling.package-prefix} so library and JDK code is charged to the
+ * application method that called it.
+ */
+@Component
+@EnableConfigurationProperties(ProfilingProperties.class)
+public class JfrProfiler {
+
+    static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+    private static final Logger LOG = LoggerFactory.getLogger(JfrProfiler.class);
+
+    private final ProfilingProperties properties;
+    private final AuditionLogger auditionLogger;
+    private final AtomicBoolean recording = new AtomicBoolean();
+
+    /**
+     * Create the profiler.
+     *
+     * @param properties     profiling settings
+     * @param auditionLogger application logger
+     */
+    public JfrProfiler(final ProfilingProperties properties, final AuditionLogger auditionLogger) {
+        this.properties = properties;
+        this.auditionLogger = auditionLogger;
+    }
+
+    /**
+     * Record the application for the given duration.
+     *
+     * @param duration the recording length, between zero and {@code application.profiling.max-duration}
+     * @param settings the name of the JFR settings profile, e.g. {@code default} or {@code profile}
+     * @return the recording file, to be deleted by the caller
+     * @throws IllegalArgumentException when the duration is out of bounds or the settings profile is unknown
+     * @throws IllegalStateException when another recording is running
+     * @throws IOException when the recording cannot be written
+     * @throws InterruptedException when the thread is interrupted while recording
+     */
+    public Path record(final Duration duration, final String settings) throws IOException, InterruptedException {
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(properties.getMaxDuration()) > 0) {
+            throw new IllegalArgumentException(
+                "Recording duration must be positive and at most " + properties.getMaxDuration() + ": " + duration);
+        }
+        final Configuration configuration = configuration(settings);
+        if (!recording.compareAndSet(false, true)) {
+            throw new IllegalStateException("A profiling recording is already running");
+        }
+        try (Recording jfr = new Recording(configuration)) {
+            jfr.setName("audition-profiling");
+            jfr.setToDisk(true);
+            final Path file = Files.createTempFile("audition-profile-", ".jfr");
+            auditionLogger.info(LOG, "Starting a JFR recording of {} with the '{}' settings", duration, settings);
+            boolean dumped = false;
+            try {
+                jfr.start();
+                Thread.sleep(duration.toMillis());
+                jfr.stop();
+                jfr.dump(file);
+                dumped = true;
+            } finally {
+                if (!dumped) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            return file;
+        } finally {
+            recording.set(false);
+        }
+    }
+
+    /**
+     * Summarize a recording into hot methods and allocation sites of the application packages.
+     *
+     * @param file the recording file
+     * @param settings the settings profile the recording was taken with
+     * @param duration the recording length
+     * @return the summary
+     * @throws IOException when the recording cannot be read
+     */
+    public ProfileSummary summarize(final Path file, final String settings, final Duration duration) throws IOException {
+        long executionSamples = 0;
+        final Map<String, Long> samplesByMethod = new HashMap<>();
+        final Map<AllocationKey, Long> bytesBySite = new HashMap<>();
+        try (RecordingFile recordingFile = new RecordingFile(file)) {
+            while (recordingFile.hasMoreEvents()) {
+                final RecordedEvent event = recordingFile.readEvent();
+                final String type = event.getEventType().getName();
+                if (EXECUTION_SAMPLE.equals(type)) {
+                    executionSamples++;
+                    final String method = applicationFrame(event.getStackTrace());
+                    if (method != null) {
+                        samplesByMethod.merge(method, 1L, Long::sum);
+                    }
+                } else if (ALLOCATION_SAMPLE.equals(type)) {
+                    final String method = applicationFrame(event.getStackTrace());
+                    final RecordedClass objectClass = event.getClass("objectClass");
+                    if (method != null && objectClass != null) {
+                        bytesBySite.merge(new AllocationKey(method, objectClass.getName()), event.getLong("weight"), Long::sum);
+                    }
+                }
+            }
+        }
+        final long total = executionSamples;
+        final List<HotMethod> hotMethods = samplesByMethod.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+            .limit(properties.getTopN())
+            .map(entry -> new HotMethod(entry.getKey(), entry.getValue(), percent(entry.getValue(), total)))
+            .toList();
+        final List<AllocationSite> allocationSites = bytesBySite.entrySet().stream()
+            .sorted(Map.Entry.<AllocationKey, Long>comparingByValue().reversed()
+                .thenComparing(entry -> entry.getKey().method())
+                .thenComparing(entry -> entry.getKey().objectClass()))
+            .limit(properties.getTopN())
+            .map(entry -> new AllocationSite(entry.getKey().method(), entry.getKey().objectClass(), entry.getValue()))
+            .toList();
+        return new ProfileSummary(settings, duration.toMillis(), executionSamples, hotMethods, allocationSites);
+    }
+
+    /**
+     * Names of the JFR settings profiles available in this JVM.
+     *
+     * @return the settings names
+     */
+    public List<String> settingsNames() {
+        return Configuration.getConfigurations().stream()
+            .map(Configuration::getName)
+            .sorted(Comparator.naturalOrder())
+            .toList();
+    }
+
+    private Configuration configuration(final String settings) {
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (final IOException | ParseException e) {
+            throw new IllegalArgumentException(
+                "Unknown JFR settings '" + settings + "', expected one of " + settingsNames(), e);
+        }
+    }
+
+    private String applicationFrame(final RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return null;
+        }
+        for (final RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.isJavaFrame()) {
+                final String type = frame.getMethod().getType().getName();
+                if (type.startsWith(properties.getPackagePrefix())) {
+                    return type + "." + frame.getMethod().getName();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static double percent(final long samples, final long total) {
+        return total == 0 ? 0 : Math.round(samples * 10_000.0 / total) / 100.0;
+    }
+
+    private record AllocationKey(String method, String objectClass) {
+
+    }
+
+    /**
+     * Summary of a recording.
+     *
+     * @param settings the settings profile the recording was taken with
+     * @param durationMillis the recording length in milliseconds
+     * @param executionSamples the number of CPU samples taken across all threads
+     * @param hotMethods the application methods most often on-CPU, including the code they called
+     * @param allocationSites the application methods and object types that allocated the most
+     */
+    public record ProfileSummary(String settings, long durationMillis, long executionSamples, List<HotMethod> hotMethods,
+                                 List<AllocationSite> allocationSites) {
+
+    }
+
+    /**
+     * An application method and its share of the CPU samples.
+     *
+     * @param method the fully qualified method name
+     * @param samples the CPU samples attributed to the method
+     * @param percent the samples as a percentage of all CPU samples
+     */
+    public record HotMethod(String method, long samples, double percent) {
+
+    }
+
+    /**
+     * An application method and the estimated bytes it allocated for one object type.
+     *
+     * @param method the fully qualified method name
+     * @param objectClass the allocated type
+     * @param bytes the sampled allocation weight in bytes
+     */
+    public record AllocationSite(String method, String objectClass, long bytes) {
+
+    }
+}
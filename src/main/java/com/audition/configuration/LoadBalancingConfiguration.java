@@ -0,0 +1,60 @@
+package com.audition.configuration;
+
+import com.audition.common.interceptor.LoadBalancingClientHttpRequestInterceptor;
+import com.audition.common.logging.AuditionLogger;
+import com.audition.common.resilience.UpstreamLoadBalancer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Opt-in client-side load balancing, enabled with {@code application.load-balancing.enabled=true}.
+ *
+ * <p>The balancer interceptor is put in front of the logging interceptor of the application's {@code RestTemplate},
+ * so the logged request URI is the one of the chosen endpoint. Without explicit endpoints the single configured
+ * {@code api.host.baseurl} is used, which keeps the health checks and metrics but balances nothing.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.load-balancing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(LoadBalancingProperties.class)
+public class LoadBalancingConfiguration {
+
+    /**
+     * Create the balancer and start its health checks.
+     *
+     * @param properties     load balancing settings
+     * @param baseUrl        the upstream base URL, used when no endpoints are configured
+     * @param meterRegistry  registry receiving the endpoint metrics
+     * @param auditionLogger application logger
+     * @return the balancer
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public UpstreamLoadBalancer upstreamLoadBalancer(final LoadBalancingProperties properties,
+        @Value("${api.host.baseurl}") final String baseUrl, final MeterRegistry meterRegistry,
+        final AuditionLogger auditionLogger) {
+        final List<URI> endpoints = properties.getEndpoints().isEmpty() ? List.of(URI.create(baseUrl))
+            : properties.getEndpoints();
+        return new UpstreamLoadBalancer(properties, endpoints,
+            UpstreamLoadBalancer.httpHealthCheck(properties.getHealthCheckTimeout()), meterRegistry, auditionLogger);
+    }
+
+    /**
+     * Route the application's {@code RestTemplate} requests through the balancer.
+     *
+     * @param baseUrl              the upstream base URL that requests are addressed to
+     * @param upstreamLoadBalancer the balancer
+     * @return the customizer
+     */
+    @Bean
+    public RestTemplateCustomizer loadBalancingRestTemplateCustomizer(@Value("${api.host.baseurl}") final String baseUrl,
+        final UpstreamLoadBalancer upstreamLoadBalancer) {
+        return restTemplate -> restTemplate.getInterceptors()
+            .add(0, new LoadBalancingClientHttpRequestInterceptor(baseUrl, upstreamLoadBalancer));
+    }
+}
@@ -0,0 +1,96 @@
+package com.audition.configuration;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for client-side load balancing across upstream replicas ({@code application.load-balancing.*}).
+ *
+ * <p>Load balancing is disabled by default. When enabled, requests addressed to {@code api.host.baseurl} are sent to
+ * one of the configured endpoints instead, chosen by the configured strategy among the endpoints that pass their
+ * health checks and are not ejected as outliers.
+ */
+@ConfigurationProperties(prefix = "application.load-balancing")
+@Getter
+@Setter
+public class LoadBalancingProperties {
+
+    /**
+     * Whether upstream requests are spread across {@code endpoints}.
+     */
+    private boolean enabled;
+
+    /**
+     * Base URLs of the upstream replicas; {@code api.host.baseurl} alone when empty.
+     */
+    private List<URI> endpoints = new ArrayList<>();
+
+    /**
+     * How an endpoint is chosen for a request.
+     */
+    private Strategy strategy = Strategy.POWER_OF_TWO_CHOICES;
+
+    /**
+     * Consecutive failed requests (connection errors and 5xx responses) after which an endpoint is ejected.
+     */
+    private int failureThreshold = 5;
+
+    /**
+     * Ejects an endpoint whose median latency exceeds this multiple of the median latency of the other endpoints.
+     */
+    private double latencyFactor = 3.0;
+
+    /**
+     * Number of recent latency samples kept per endpoint.
+     */
+    private int windowSize = 100;
+
+    /**
+     * Samples required before an endpoint's latency is compared with the others.
+     */
+    private int minSamples = 20;
+
+    /**
+     * Time an ejected endpoint receives no requests.
+     */
+    private Duration ejectionTime = Duration.ofSeconds(30);
+
+    /**
+     * Upper bound for the share of endpoints ejected at the same time, in percent.
+     */
+    private int maxEjectionPercent = 50;
+
+    /**
+     * Pause between active health checks, which also evaluate the latency outliers.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+    /**
+     * Path requested by the health checks, relative to the endpoint base URL; a 2xx answer is healthy.
+     */
+    private String healthCheckPath = "posts/1";
+
+    /**
+     * Connect and read timeout of a health check.
+     */
+    private Duration healthCheckTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Endpoint selection strategies.
+     */
+    public enum Strategy {
+        /**
+         * Compare two random endpoints and take the one with fewer outstanding requests, weighted by its latency.
+         */
+        POWER_OF_TWO_CHOICES,
+        /**
+         * Take the endpoint with the fewest outstanding requests, the faster one on ties.
+         */
+        LEAST_OUTSTANDING
+    }
+}
@@ -0,0 +1,39 @@
+package com.audition.configuration;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for prefetching the comments of a post when the post is fetched ({@code application.prefetch.*}).
+ *
+ * <p>Prefetching only has an effect with {@code application.cache.enabled}, since the prefetched comments are kept
+ * in the cache until the follow-up request asks for them.
+ */
+@ConfigurationProperties(prefix = "application.prefetch")
+@Getter
+@Setter
+public class PrefetchProperties {
+
+    /**
+     * Whether serving a post warms the cache with its comments. Disabled by default.
+     */
+    private boolean enabled;
+
+    /**
+     * Threads of the low-priority prefetch executor.
+     */
+    private int threads = 2;
+
+    /**
+     * Prefetches waiting for a thread; further prefetches are dropped.
+     */
+    private int queueCapacity = 16;
+
+    /**
+     * Prefetches that waited longer than this for a thread are dropped, since the request they were meant for has
+     * most likely arrived already.
+     */
+    private Duration maxQueueTime = Duration.ofSeconds(1);
+}
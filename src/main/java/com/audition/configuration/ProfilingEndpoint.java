@@ -0,0 +1,115 @@
+package com.audition.configuration;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint ({@code /actuator/profiling}) taking on-demand Java Flight Recorder recordings with the
+ * {@link JfrProfiler}. Like the other non-health actuator endpoints it requires authentication. Starting a recording
+ * changes the state of the JVM, so both operations are {@code POST}s.
+ *
+ * <ul>
+ *   <li><code>POST /actuator/profiling?duration=30s&amp;settings=profile</code> records and streams the {@code .jfr}
+ *       file, to be opened in JDK Mission Control or with {@code jfr print}.
+ *   <li><code>POST /actuator/profiling/summary?duration=30s&amp;settings=profile</code> records and answers with the
+ *       hot methods and allocation sites of the application packages.
+ * </ul>
+ *
+ * <p>Both parameters are optional and default to {@code application.profiling.default-duration} and
+ * {@code application.profiling.default-settings}. The response is sent when the recording ends; invalid parameters
+ * are answered with 400 and a request made while another recording is running with 409.
+ */
+@Component
+@WebEndpoint(id = "profiling")
+public class ProfilingEndpoint {
+
+    static final String SUMMARY = "summary";
+    static final int STATUS_CONFLICT = 409;
+
+    private final JfrProfiler profiler;
+    private final ProfilingProperties properties;
+
+    public ProfilingEndpoint(final JfrProfiler profiler, final ProfilingProperties properties) {
+        this.profiler = profiler;
+        this.properties = properties;
+    }
+
+    /**
+     * Record the application and stream the recording.
+     *
+     * @param duration the recording length, optional
+     * @param settings the JFR settings profile, optional
+     * @return the {@code .jfr} file, deleted once it has been sent
+     * @throws IOException when the recording cannot be written or read
+     * @throws InterruptedException when the request thread is interrupted while recording
+     */
+    @WriteOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> recording(@Nullable final Duration duration, @Nullable final String settings)
+        throws IOException, InterruptedException {
+        final Path file;
+        try {
+            file = profiler.record(durationOrDefault(duration), settingsOrDefault(settings));
+        } catch (final IllegalArgumentException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        } catch (final IllegalStateException e) {
+            return new WebEndpointResponse<>(STATUS_CONFLICT);
+        }
+        // a plain InputStreamResource, so the body is streamed without asking the resource for its length first
+        return new WebEndpointResponse<>(
+            new InputStreamResource(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE)));
+    }
+
+    /**
+     * Record the application and summarize the recording.
+     *
+     * @param view the requested view, {@code summary}
+     * @param duration the recording length, optional
+     * @param settings the JFR settings profile, optional
+     * @return the summary of the recording
+     * @throws IOException when the recording cannot be written or read
+     * @throws InterruptedException when the request thread is interrupted while recording
+     */
+    @WriteOperation
+    public WebEndpointResponse<JfrProfiler.ProfileSummary> summary(@Selector final String view,
+                                                                   @Nullable final Duration duration,
+                                                                   @Nullable final String settings)
+        throws IOException, InterruptedException {
+        if (!SUMMARY.equals(view)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        final Duration length = durationOrDefault(duration);
+        final String profile = settingsOrDefault(settings);
+        final Path file;
+        try {
+            file = profiler.record(length, profile);
+        } catch (final IllegalArgumentException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        } catch (final IllegalStateException e) {
+            return new WebEndpointResponse<>(STATUS_CONFLICT);
+        }
+        try {
+            return new WebEndpointResponse<>(profiler.summarize(file, profile, length));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private Duration durationOrDefault(final Duration duration) {
+        return duration == null ? properties.getDefaultDuration() : duration;
+    }
+
+    private String settingsOrDefault(final String settings) {
+        return settings == null || settings.isBlank() ? properties.getDefaultSettings() : settings;
+    }
+}
@@ -0,0 +1,40 @@
+package com.audition.configuration;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the on-demand Java Flight Recorder profiling endpoint ({@code application.profiling.*}).
+ */
+@ConfigurationProperties(prefix = "application.profiling")
+@Getter
+@Setter
+public class ProfilingProperties {
+
+    /**
+     * Recording length used when a request does not name one.
+     */
+    private Duration defaultDuration = Duration.ofSeconds(30);
+
+    /**
+     * Longest recording a request may ask for; the HTTP exchange is held open for the whole recording.
+     */
+    private Duration maxDuration = Duration.ofMinutes(5);
+
+    /**
+     * JFR settings profile used when a request does not name one: {@code default} (low overhead) or {@code profile}.
+     */
+    private String defaultSettings = "profile";
+
+    /**
+     * Package prefix of the frames attributed to hot methods and allocation sites in the summary.
+     */
+    private String packagePrefix = "com.audition.";
+
+    /**
+     * Number of hot methods and allocation sites reported in the summary.
+     */
+    private int topN = 20;
+}
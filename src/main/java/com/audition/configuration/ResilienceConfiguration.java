@@ -0,0 +1,91 @@
+package com.audition.configuration;
+
+import com.audition.common.concurrent.VirtualThreads;
+import com.audition.common.resilience.RequestHedger;
+import com.audition.common.resilience.RetryExecutor;
+import com.audition.common.resilience.UpstreamDeadline;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Beans supporting resilient upstream calls made by the integration client.
+ *
+ * <ul>
+ *   <li>A dedicated, metered executor for hedged attempts. The executor propagates the caller's observation/tracing
+ *       context so hedged calls stay part of the incoming request's trace, and the caller's
+ *       {@link com.audition.common.resilience.UpstreamDeadline} so they are bounded by it.
+ *   <li>The {@link RequestHedger} and {@link RetryExecutor} used by
+ *       {@link com.audition.integration.AuditionIntegrationClient}.
+ * </ul>
+ */
+@Configuration
+@EnableConfigurationProperties({HedgingProperties.class, RetryProperties.class, ThreadingProperties.class})
+public class ResilienceConfiguration {
+
+    /**
+     * Executor running primary and hedge attempts. It is bounded so a slow upstream cannot accumulate unbounded work;
+     * rejected primaries fall back to running on the caller's thread. In virtual thread mode every attempt gets its
+     * own virtual thread instead.
+     *
+     * @param properties          hedging settings
+     * @param threadingProperties threading mode
+     * @param meterRegistry       registry used to publish executor metrics
+     * @return the executor service
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService upstreamHedgingExecutor(final HedgingProperties properties,
+        final ThreadingProperties threadingProperties, final MeterRegistry meterRegistry) {
+        final ExecutorService executor;
+        if (threadingProperties.isVirtual()) {
+            executor = VirtualThreads.newThreadPerTaskExecutor("upstream-hedge-vt-");
+        } else {
+            final ThreadPoolExecutor pool = new ThreadPoolExecutor(properties.getPoolSize(), properties.getPoolSize(),
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(properties.getPoolSize() * 4),
+                new CustomizableThreadFactory("upstream-hedge-"));
+            pool.allowCoreThreadTimeOut(true);
+            executor = pool;
+        }
+        final ExecutorService monitored = ExecutorServiceMetrics.monitor(meterRegistry, executor,
+            "upstream.hedging");
+        UpstreamDeadline.propagateAcrossThreads();
+        return ContextExecutorService.wrap(monitored, ContextSnapshot::captureAll);
+    }
+
+    /**
+     * Create the request hedger.
+     *
+     * @param properties              hedging settings
+     * @param upstreamHedgingExecutor executor for hedged attempts
+     * @param meterRegistry           registry receiving hedge metrics
+     * @return the hedger
+     */
+    @Bean
+    public RequestHedger requestHedger(final HedgingProperties properties,
+        @Qualifier("upstreamHedgingExecutor") final ExecutorService upstreamHedgingExecutor,
+        final MeterRegistry meterRegistry) {
+        return new RequestHedger(properties, upstreamHedgingExecutor, meterRegistry);
+    }
+
+    /**
+     * Create the retry executor for idempotent upstream GETs.
+     *
+     * @param properties    retry settings
+     * @param meterRegistry registry receiving retry metrics
+     * @return the retry executor
+     */
+    @Bean
+    public RetryExecutor retryExecutor(final RetryProperties properties, final MeterRegistry meterRegistry) {
+        return new RetryExecutor(properties, meterRegistry);
+    }
+}
@@ -1,5 +1,6 @@
 package com.audition.configuration;
 
+import com.audition.common.timing.RequestTimer;
 import io.micrometer.tracing.Tracer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -9,8 +10,12 @@ import java.io.IOException;
 import java.util.Optional;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
 
 /**
  * Servlet filter that injects tracing identifiers into the HTTP response headers.
@@ -32,6 +37,12 @@ import org.springframework.web.filter.OncePerRequestFilter;
  *       scanning. It is safe to use as a singleton bean because it holds no mutable state.
  * </ul>
  *
+ * <p>With {@code application.server-timing.enabled} the filter also adds a <b>Server-Timing</b> header to API
+ * responses, reporting the time spent in each {@link RequestTimer.Phase}. A {@link RequestTimer} is bound to the
+ * request for that purpose and the response body is buffered, so the header can still be set once the body has been
+ * serialized. Asynchronous requests are completed on their async dispatch, which the filter then also handles.
+ * Actuator responses are neither timed nor buffered.
+ *
  * <p>Usage:
  * <ul>
  *   <li>Registering this component in a Spring Boot application will ensure trace and span
@@ -41,21 +52,54 @@ import org.springframework.web.filter.OncePerRequestFilter;
  * </ul>
  */
 @Component
+@EnableConfigurationProperties(ServerTimingProperties.class)
 @Getter
 @Setter
 public class ResponseHeaderInjector extends OncePerRequestFilter {
 
+    static final String SERVER_TIMING = "Server-Timing";
+    private static final String TIMER_ATTRIBUTE = ResponseHeaderInjector.class.getName() + ".timer";
+
     private final Tracer tracer;
+    private final ServerTimingProperties serverTimingProperties;
 
     /**
-     * Create a new filter which uses the supplied {@link Tracer} to obtain the current trace/span ids when available.
+     * Create a new filter which uses the supplied {@link Tracer} to obtain the current trace/span ids when available
+     * and does not add a {@code Server-Timing} header.
      *
      * @param tracer the Micrometer tracer used to access the current trace context (may be null in tests or non-tracing
      *               environments)
      */
     public ResponseHeaderInjector(final Tracer tracer) {
+        this(tracer, new ServerTimingProperties());
+    }
+
+    /**
+     * Create a new filter.
+     *
+     * @param tracer                 the Micrometer tracer used to access the current trace context (may be null in
+     *                               tests or non-tracing environments)
+     * @param serverTimingProperties settings of the {@code Server-Timing} header
+     */
+    @Autowired
+    public ResponseHeaderInjector(final Tracer tracer, final ServerTimingProperties serverTimingProperties) {
         super();
         this.tracer = tracer;
+        this.serverTimingProperties = serverTimingProperties;
+        if (serverTimingProperties.isEnabled()) {
+            RequestTimer.propagateAcrossThreads();
+        }
+    }
+
+    /**
+     * Asynchronous dispatches are filtered too when the {@code Server-Timing} header is enabled, since that is where
+     * asynchronous requests are serialized and completed.
+     *
+     * @return whether async dispatches are skipped
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return !serverTimingProperties.isEnabled();
     }
 
     /**
@@ -87,6 +131,38 @@ public class ResponseHeaderInjector extends OncePerRequestFilter {
                 });
         }
 
-        filterChain.doFilter(request, response);
+        if (!serverTimingProperties.isEnabled()
+            || request.getRequestURI().startsWith(request.getContextPath() + "/actuator")) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        doFilterTimed(request, response, filterChain);
+    }
+
+    private void doFilterTimed(final HttpServletRequest request, final HttpServletResponse response,
+        final FilterChain filterChain) throws ServletException, IOException {
+        RequestTimer timer = (RequestTimer) request.getAttribute(TIMER_ATTRIBUTE);
+        if (timer == null) {
+            timer = new RequestTimer();
+            request.setAttribute(TIMER_ATTRIBUTE, timer);
+        }
+        ContentCachingResponseWrapper buffered = WebUtils.getNativeResponse(response,
+            ContentCachingResponseWrapper.class);
+        if (buffered == null) {
+            buffered = new ContentCachingResponseWrapper(response);
+        }
+        final RequestTimer previous = RequestTimer.bind(timer);
+        try {
+            filterChain.doFilter(request, buffered);
+        } finally {
+            RequestTimer.bind(previous);
+            if (!isAsyncStarted(request)) {
+                final String serverTiming = timer.toHeaderValue();
+                if (!serverTiming.isEmpty()) {
+                    buffered.setHeader(SERVER_TIMING, serverTiming);
+                }
+                buffered.copyBodyToResponse();
+            }
+        }
     }
 }
@@ -0,0 +1,70 @@
+package com.audition.configuration;
+
+import java.time.Duration;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for retrying idempotent upstream GETs ({@code application.retry.*}).
+ *
+ * <p>Retries are disabled by default. When enabled, failed attempts are retried with exponential backoff and full
+ * jitter, but only for the configured status codes and connection errors, only while the call deadline allows it and
+ * only while the shared retry budget has tokens left.
+ */
+@ConfigurationProperties(prefix = "application.retry")
+@Getter
+@Setter
+public class RetryProperties {
+
+    /**
+     * Whether upstream GETs are retried.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of attempts, including the first one.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Backoff cap for the first retry; doubled (see multiplier) for every further retry.
+     */
+    private Duration initialBackoff = Duration.ofMillis(50);
+
+    /**
+     * Upper bound for a single backoff.
+     */
+    private Duration maxBackoff = Duration.ofSeconds(1);
+
+    /**
+     * Growth factor of the backoff cap between attempts.
+     */
+    private double multiplier = 2.0;
+
+    /**
+     * Upstream HTTP status codes that are retried.
+     */
+    private Set<Integer> retryableStatuses = Set.of(502, 503, 504);
+
+    /**
+     * Whether connection and I/O errors are retried.
+     */
+    private boolean retryConnectionErrors = true;
+
+    /**
+     * Overall time allowed for a call including all retries; no retry is started that would end after it.
+     */
+    private Duration deadline = Duration.ofSeconds(3);
+
+    /**
+     * Retries allowed by the budget, as a fraction of regular requests.
+     */
+    private double budgetRatio = 0.1;
+
+    /**
+     * Retries that may be sent in a burst before the ratio applies.
+     */
+    private double budgetBurst = 10;
+}
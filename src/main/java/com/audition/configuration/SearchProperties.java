@@ -0,0 +1,20 @@
+package com.audition.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the full-text search over posts and comments ({@code application.search.*}).
+ */
+@ConfigurationProperties(prefix = "application.search")
+@Getter
+@Setter
+public class SearchProperties {
+
+    /**
+     * Whether fetched posts and comments are indexed and {@code /search} is served. Disabled by default, since
+     * indexing adds work to every upstream fetch.
+     */
+    private boolean enabled;
+}
@@ -0,0 +1,20 @@
+package com.audition.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the {@code Server-Timing} response header ({@code application.server-timing.*}).
+ */
+@ConfigurationProperties(prefix = "application.server-timing")
+@Getter
+@Setter
+public class ServerTimingProperties {
+
+    /**
+     * Whether API responses carry a {@code Server-Timing} header with the time spent per processing phase. Disabled
+     * by default, since the header buffers the response body and discloses internal timings.
+     */
+    private boolean enabled;
+}
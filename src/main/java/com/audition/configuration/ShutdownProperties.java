@@ -0,0 +1,26 @@
+package com.audition.configuration;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the graceful shutdown sequence ({@code application.shutdown.*}). The time the web server waits for
+ * in-flight requests is {@code spring.lifecycle.timeout-per-shutdown-phase}.
+ */
+@ConfigurationProperties(prefix = "application.shutdown")
+@Getter
+@Setter
+public class ShutdownProperties {
+
+    /**
+     * Time between reporting not-ready and refusing new requests, so load balancers and probes notice first.
+     */
+    private Duration readinessDelay = Duration.ZERO;
+
+    /**
+     * Upper bound for the executor tasks and background refreshes still running once the web server has stopped.
+     */
+    private Duration drainTimeout = Duration.ofSeconds(20);
+}
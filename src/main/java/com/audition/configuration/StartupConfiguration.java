@@ -0,0 +1,54 @@
+package com.audition.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.HandlerAdapter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Configuration for the startup-optimized {@code fast-startup} profile.
+ *
+ * <p>That profile turns on {@code spring.main.lazy-initialization} so that beans nothing asks for during startup
+ * (documentation, management and metrics infrastructure, unused clients) are only created when first used. The
+ * request path is kept eager by the filter defined here: the controllers and their advice, the MVC handler
+ * infrastructure, the message converters, the {@link ObjectMapper} and the upstream {@link RestTemplate} - together
+ * with everything they depend on - are still created at startup, so the first request does not pay for them.
+ */
+@Configuration
+public class StartupConfiguration {
+
+    private static final Class<?>[] REQUEST_PATH_TYPES = {HandlerMapping.class, HandlerAdapter.class,
+        HandlerExceptionResolver.class, HttpMessageConverter.class, ObjectMapper.class, RestTemplate.class};
+
+    /**
+     * Keep the beans serving requests eager when lazy initialization is enabled. Static so that it is available to
+     * the bean factory post-processor that applies lazy initialization.
+     *
+     * @return the exclude filter
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter requestPathLazyInitializationExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> isRequestPath(beanType);
+    }
+
+    static boolean isRequestPath(final Class<?> beanType) {
+        if (AnnotatedElementUtils.hasAnnotation(beanType, Controller.class)
+            || AnnotatedElementUtils.hasAnnotation(beanType, ControllerAdvice.class)) {
+            return true;
+        }
+        for (final Class<?> type : REQUEST_PATH_TYPES) {
+            if (type.isAssignableFrom(beanType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
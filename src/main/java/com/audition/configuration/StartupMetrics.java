@@ -0,0 +1,82 @@
+package com.audition.configuration;
+
+import com.audition.common.logging.AuditionLogger;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.management.ManagementFactory;
+import java.util.HashSet;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the duration of each top-level startup phase (for example
+ * {@code spring.boot.application.environment-prepared}, which includes loading the configuration, or
+ * {@code spring.context.refresh}) as the {@code application.startup.phase} timer, tagged with the phase name.
+ *
+ * <p>The phases are taken from the {@link BufferingApplicationStartup} installed by
+ * {@link com.audition.AuditionApplication}; nothing is published when the application is started with another
+ * {@link ApplicationStartup}.
+ *
+ * <p>The heap in use once the application is ready is published as the {@code application.startup.heap} gauge and
+ * logged together with the JVM uptime; {@code scripts/startup-cds.sh} reads that line to compare startup modes.
+ */
+@Component
+public class StartupMetrics {
+
+    static final String PHASE_TIMER = "application.startup.phase";
+    static final String HEAP_GAUGE = "application.startup.heap";
+    private static final Logger LOG = LoggerFactory.getLogger(StartupMetrics.class);
+    private static final long MEGABYTE = 1024 * 1024;
+
+    private final MeterRegistry meterRegistry;
+    private final AuditionLogger auditionLogger;
+
+    public StartupMetrics(final MeterRegistry meterRegistry, final AuditionLogger auditionLogger) {
+        this.meterRegistry = meterRegistry;
+        this.auditionLogger = auditionLogger;
+    }
+
+    /**
+     * Record the startup phases and footprint once the application is ready.
+     *
+     * @param event the ready event
+     */
+    @EventListener
+    public void onApplicationReady(final ApplicationReadyEvent event) {
+        if (event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup) {
+            record(startup.getBufferedTimeline());
+        }
+        recordFootprint(ManagementFactory.getRuntimeMXBean().getUptime(),
+            ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+    }
+
+    void record(final StartupTimeline timeline) {
+        final Set<Long> recorded = new HashSet<>();
+        for (final StartupTimeline.TimelineEvent event : timeline.getEvents()) {
+            if (event.getStartupStep().getParentId() == null && recorded.add(event.getStartupStep().getId())) {
+                Timer.builder(PHASE_TIMER)
+                    .description("Duration of a top-level application startup phase")
+                    .tag("phase", event.getStartupStep().getName())
+                    .register(meterRegistry)
+                    .record(event.getDuration());
+            }
+        }
+    }
+
+    void recordFootprint(final long uptimeMillis, final long heapUsedBytes) {
+        Gauge.builder(HEAP_GAUGE, () -> heapUsedBytes)
+            .description("Heap in use when the application became ready")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        auditionLogger.info(LOG, "Startup footprint: ready {} ms after JVM start, {} MB heap in use", uptimeMillis,
+            heapUsedBytes / MEGABYTE);
+    }
+}
@@ -0,0 +1,20 @@
+package com.audition.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the aggregate statistics over posts and comments ({@code application.statistics.*}).
+ */
+@ConfigurationProperties(prefix = "application.statistics")
+@Getter
+@Setter
+public class StatisticsProperties {
+
+    /**
+     * Whether fetched posts and comments are aggregated and the {@code /stats} endpoints are served. Disabled by
+     * default, since aggregation adds work to every upstream fetch.
+     */
+    private boolean enabled;
+}
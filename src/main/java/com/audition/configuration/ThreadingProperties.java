@@ -0,0 +1,20 @@
+package com.audition.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Threading mode of the application ({@code application.threads.*}).
+ */
+@ConfigurationProperties(prefix = "application.threads")
+@Getter
+@Setter
+public class ThreadingProperties {
+
+    /**
+     * Run Tomcat request handling, the service executor and hedged upstream attempts on virtual threads. Requires a
+     * JDK 21+ runtime; startup fails on older runtimes when enabled.
+     */
+    private boolean virtual;
+}
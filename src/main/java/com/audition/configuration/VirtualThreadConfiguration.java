@@ -0,0 +1,31 @@
+package com.audition.configuration;
+
+import com.audition.common.concurrent.VirtualThreads;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Opt-in virtual thread execution mode, enabled with {@code application.threads.virtual=true} on a JDK 21+ runtime.
+ *
+ * <p>Tomcat's request processing executor is replaced by a virtual-thread-per-request executor here; the service and
+ * hedging executors switch to virtual threads in {@link AsyncConfiguration} and {@link ResilienceConfiguration}. The
+ * blocking upstream path (RestTemplate over {@code HttpURLConnection}, the buffering logging interceptor and the
+ * logback appenders) relies on {@code java.util.concurrent} locks rather than monitors, so it does not pin carrier
+ * threads; run with {@code -Djdk.tracePinnedThreads=short} to verify after changing that path.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.threads", name = "virtual", havingValue = "true")
+public class VirtualThreadConfiguration {
+
+    /**
+     * Run every Tomcat request on its own virtual thread.
+     *
+     * @return the protocol handler customizer
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(VirtualThreads.newThreadPerTaskExecutor("tomcat-vt-"));
+    }
+}
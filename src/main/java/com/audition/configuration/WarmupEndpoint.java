@@ -0,0 +1,30 @@
+package com.audition.configuration;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint ({@code /actuator/warmup}) reporting the state, progress and duration of the
+ * {@link ApplicationWarmup}.
+ */
+@Component
+@Endpoint(id = "warmup")
+public class WarmupEndpoint {
+
+    private final ApplicationWarmup applicationWarmup;
+
+    public WarmupEndpoint(final ApplicationWarmup applicationWarmup) {
+        this.applicationWarmup = applicationWarmup;
+    }
+
+    /**
+     * Report the warm-up progress.
+     *
+     * @return the current progress
+     */
+    @ReadOperation
+    public ApplicationWarmup.Progress progress() {
+        return applicationWarmup.progress();
+    }
+}
@@ -0,0 +1,35 @@
+package com.audition.configuration;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the warm-up phase run before the application reports ready ({@code application.warmup.*}).
+ */
+@ConfigurationProperties(prefix = "application.warmup")
+@Getter
+@Setter
+public class WarmupProperties {
+
+    /**
+     * Whether the warm-up runs. Disabled by default so the application is ready as soon as it has started.
+     */
+    private boolean enabled;
+
+    /**
+     * Number of concurrent upstream requests used to open connections before the replay.
+     */
+    private int connections = 4;
+
+    /**
+     * Number of synthetic requests replayed through the controller.
+     */
+    private int iterations = 2000;
+
+    /**
+     * Upper bound of the whole warm-up; the application reports ready when it is reached, warm or not.
+     */
+    private Duration timeout = Duration.ofSeconds(30);
+}
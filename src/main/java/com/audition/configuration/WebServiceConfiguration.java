@@ -2,16 +2,21 @@ package com.audition.configuration;
 
 import com.audition.common.interceptor.AuditionClientHttpRequestInterceptor;
 import com.audition.common.logging.AuditionLogger;
+import com.audition.common.resilience.DeadlineClientHttpRequestFactory;
+import com.audition.common.timing.TimingJackson2HttpMessageConverter;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import java.text.SimpleDateFormat;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
 import org.springframework.http.client.BufferingClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
@@ -26,7 +31,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  * <ul>
  *   <li>An {@link ObjectMapper} configured for the application's JSON needs (date format,
  *       lenient deserialization, camelCase property names, no null/empty values, etc.).
- *   <li>A {@link RestTemplate} wired with a buffering request factory, a JSON message
+ *   <li>A {@link RestTemplate} wired with a buffering request factory with connect and read timeouts, a JSON message
  *       converter that uses the configured {@link ObjectMapper} and a request interceptor
  *       that logs requests/responses.
  *   <li>A convenience {@link MappingJackson2HttpMessageConverter} that uses the configured
@@ -38,6 +43,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  * configuration easily.
  */
 @Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
 @RequiredArgsConstructor
 public class WebServiceConfiguration implements WebMvcConfigurer {
 
@@ -55,6 +61,8 @@ public class WebServiceConfiguration implements WebMvcConfigurer {
      *   <li>Exclude null and empty values from serialization
      *   <li>Write dates as ISO dates (not timestamps)
      *   <li>Enable pretty-print (INDENT_OUTPUT) to make debug output human-readable
+     *   <li>Register the Blackbird module, which replaces reflective property access and record construction with
+     *       generated lambdas (skipped in native images, where runtime class generation is unavailable)
      * </ul>
      *
      * @return a configured {@link ObjectMapper}
@@ -74,6 +82,10 @@ public class WebServiceConfiguration implements WebMvcConfigurer {
         //  5. does not write datas as timestamps. - hope this is date not datas
         objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
         objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        //  6. generated accessors instead of reflection
+        if (!NativeDetector.inNativeImage()) {
+            objectMapper.registerModule(new BlackbirdModule());
+        }
         return objectMapper;
     }
 
@@ -84,13 +96,14 @@ public class WebServiceConfiguration implements WebMvcConfigurer {
      * read by interceptors for logging without consuming the stream permanently. It also registers the application's
      * JSON message converter and a request interceptor.
      *
-     * @param builder a {@link RestTemplateBuilder} provided by Spring
+     * @param builder    a {@link RestTemplateBuilder} provided by Spring
+     * @param properties the connect and read timeouts of upstream calls
      * @return a configured {@link RestTemplate}
      */
     @Bean
-    public RestTemplate restTemplate(final RestTemplateBuilder builder) {
+    public RestTemplate restTemplate(final RestTemplateBuilder builder, final HttpClientProperties properties) {
         return builder
-            .requestFactory(() -> new BufferingClientHttpRequestFactory(createClientFactory()))
+            .requestFactory(() -> new BufferingClientHttpRequestFactory(createClientFactory(properties)))
             .messageConverters(jackson2HttpMessageConverter())
             .interceptors(auditionInterceptor())
             .build();
@@ -98,27 +111,30 @@ public class WebServiceConfiguration implements WebMvcConfigurer {
 
     /**
      * Create a low-level HTTP client factory used by the buffering request factory. The factory disables output
-     * streaming to allow buffering of requests where needed.
+     * streaming to allow buffering of requests where needed and bounds connecting and reading with the configured
+     * timeouts, shortened to the {@link com.audition.common.resilience.UpstreamDeadline} of the call when one is set.
      *
+     * @param properties the connect and read timeouts
      * @return a configured {@link SimpleClientHttpRequestFactory}
      */
-    private SimpleClientHttpRequestFactory createClientFactory() {
-        final SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+    private SimpleClientHttpRequestFactory createClientFactory(final HttpClientProperties properties) {
+        final SimpleClientHttpRequestFactory requestFactory = new DeadlineClientHttpRequestFactory();
         requestFactory.setOutputStreaming(false);
+        requestFactory.setConnectTimeout((int) properties.getConnectTimeout().toMillis());
+        requestFactory.setReadTimeout((int) properties.getReadTimeout().toMillis());
         return requestFactory;
     }
 
     /**
      * Create a Jackson message converter wired with the application's {@link ObjectMapper}. This ensures consistent
-     * serialization/deserialization behavior between MVC and RestTemplate.
+     * serialization/deserialization behavior between MVC and RestTemplate. The converter reports its reads and writes
+     * to the {@code Server-Timing} header when that is enabled.
      *
      * @return a configured {@link MappingJackson2HttpMessageConverter}
      */
     @Bean
     public MappingJackson2HttpMessageConverter jackson2HttpMessageConverter() {
-        final MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter();
-        converter.setObjectMapper(objectMapper());
-        return converter;
+        return new TimingJackson2HttpMessageConverter(objectMapper());
     }
 
     /**
@@ -1,12 +1,19 @@
 package com.audition.integration;
 
 import com.audition.common.exception.SystemException;
+import com.audition.common.resilience.RequestHedger;
+import com.audition.common.resilience.RetryExecutor;
+import com.audition.common.timing.RequestTimer;
 import com.audition.model.AuditionPost;
 import com.audition.model.Comment;
+import com.audition.model.Pagination;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
@@ -30,11 +37,27 @@ import org.springframework.web.util.UriComponentsBuilder;
  *   <li>{@link #getPostById(String)} - GET /posts/{id} returning a single {@link AuditionPost}
  *   <li>{@link #getCommentsByPostId(String)} - GET /posts/{postId}/comments returning a list of {@link Comment}
  *   <li>{@link #getCommentsForPost(String)} - GET /comments?postId={postId} returning a list of {@link Comment}
+ *   <li>{@link #getComments()} - GET /comments returning the comments of all posts
  * </ul>
  *
+ * <p>The post and comment collection lookups also have paged overloads taking a {@link Pagination}; the window is
+ * pushed down to the upstream as its {@code _start}/{@code _limit} query parameters so only the requested elements are
+ * transferred.
+ *
  * <p>Errors from the downstream service are converted to {@link SystemException} with an
  * appropriate title and numeric status code. Client (4xx) and server (5xx) errors are
  * handled separately by private helpers.
+ *
+ * <p>All lookups are idempotent GETs and go through a {@link RetryExecutor}, which retries transient upstream
+ * failures before they are translated (see {@code application.retry.*}). Single-post and comment lookups additionally
+ * go through a {@link RequestHedger}, which may send a second identical request when the first one is slower than
+ * usual (see {@code application.hedging.*}).
+ *
+ * <p>When the current request is timed for the {@code Server-Timing} header, the time from the first attempt of a
+ * lookup to its response and the number of attempts are recorded into its {@link RequestTimer}.
+ *
+ * <p>The response type references are constants, so resolving the target type does not allocate a new anonymous
+ * subclass and re-walk its generic signature on every call.
  */
 @Component
 @SuppressFBWarnings("EI_EXPOSE_REP2")
@@ -46,12 +69,44 @@ public class AuditionIntegrationClient {
     private static final String NO_POSTS_FOUND = "Cannot find any Posts";
     private static final String NO_POST_FOUND = "Cannot find a Post with id: ";
     private static final String NO_COMMENTS_FOR_POSTS = "Cannot find Comments with post id: ";
+    private static final String NO_COMMENTS_FOUND = "Cannot find any Comments";
+    private static final ParameterizedTypeReference<List<AuditionPost>> POST_LIST =
+        new ParameterizedTypeReference<List<AuditionPost>>() {
+        };
+    private static final ParameterizedTypeReference<AuditionPost> POST =
+        new ParameterizedTypeReference<AuditionPost>() {
+        };
+    private static final ParameterizedTypeReference<List<Comment>> COMMENT_LIST =
+        new ParameterizedTypeReference<List<Comment>>() {
+        };
     private final RestTemplate restTemplate;
+    private final RequestHedger requestHedger;
+    private final RetryExecutor retryExecutor;
     @Value("${api.host.baseurl}")
     private String baseUrl;
 
+    /**
+     * Convenience constructor that disables hedging and retries. Useful for unit tests.
+     *
+     * @param restTemplate the rest template used for upstream calls
+     */
     public AuditionIntegrationClient(final RestTemplate restTemplate) {
+        this(restTemplate, RequestHedger.disabled(), RetryExecutor.disabled());
+    }
+
+    /**
+     * Create the client.
+     *
+     * @param restTemplate  the rest template used for upstream calls
+     * @param requestHedger hedger applied to single-post and comment lookups
+     * @param retryExecutor retry policy applied to all lookups
+     */
+    @Autowired
+    public AuditionIntegrationClient(final RestTemplate restTemplate, final RequestHedger requestHedger,
+        final RetryExecutor retryExecutor) {
         this.restTemplate = restTemplate;
+        this.requestHedger = requestHedger;
+        this.retryExecutor = retryExecutor;
     }
 
     /**
@@ -63,13 +118,12 @@ public class AuditionIntegrationClient {
     public List<AuditionPost> getPosts() {
         ResponseEntity<List<AuditionPost>> response = null; //NOPMD
         try {
-            response = restTemplate.exchange(
+            response = retried("posts", () -> restTemplate.exchange(
                 baseUrl.concat("posts"),
                 HttpMethod.GET,
                 null,
-                new ParameterizedTypeReference<>() {
-                }
-            );
+                POST_LIST
+            ));
         } catch (final HttpClientErrorException e) {
             handleClientError(e, NO_POSTS_FOUND);
         } catch (final HttpServerErrorException e) {
@@ -88,13 +142,12 @@ public class AuditionIntegrationClient {
     public AuditionPost getPostById(final String id) {
         ResponseEntity<AuditionPost> response = null; //NOPMD
         try {
-            response = restTemplate.exchange(
+            response = hedged("posts.byId", () -> restTemplate.exchange(
                 baseUrl.concat("posts").concat(URL_SEPARATOR).concat(id),
                 HttpMethod.GET,
                 null,
-                new ParameterizedTypeReference<>() {
-                }
-            );
+                POST
+            ));
 
         } catch (final HttpClientErrorException e) {
             handleClientError(e, NO_POST_FOUND + id);
@@ -113,13 +166,12 @@ public class AuditionIntegrationClient {
     public List<Comment> getCommentsByPostId(final String postId) {
         ResponseEntity<List<Comment>> response = null; //NOPMD
         try {
-            response = restTemplate.exchange(
+            response = hedged("posts.comments", () -> restTemplate.exchange(
                 baseUrl.concat("posts").concat(URL_SEPARATOR).concat(postId).concat(URL_SEPARATOR).concat("comments"),
                 HttpMethod.GET,
                 null,
-                new ParameterizedTypeReference<>() {
-                }
-            );
+                COMMENT_LIST
+            ));
         } catch (final HttpClientErrorException e) {
             handleClientError(e, NO_COMMENTS_FOR_POSTS + postId);
         } catch (final HttpServerErrorException e) {
@@ -143,13 +195,12 @@ public class AuditionIntegrationClient {
                 .queryParam("postId", postId)
                 .toUriString();
 
-            response = restTemplate.exchange(
+            response = hedged("comments.byPostId", () -> restTemplate.exchange(
                 url,
                 HttpMethod.GET,
                 null,
-                new ParameterizedTypeReference<>() {
-                }
-            );
+                COMMENT_LIST
+            ));
         } catch (final HttpClientErrorException e) {
             handleClientError(e, NO_COMMENTS_FOR_POSTS + postId);
         } catch (final HttpServerErrorException e) {
@@ -158,6 +209,163 @@ public class AuditionIntegrationClient {
         return response.getBody();
     }
 
+    /**
+     * Fetch one window of posts, optionally restricted to a user. Both the user filter and the window are applied by
+     * the upstream service.
+     *
+     * @param userId     optional user id filter
+     * @param pagination the window to fetch
+     * @return the posts in the window or null when the upstream returned an empty body
+     * @throws SystemException when the upstream responds with a client (4xx) or server (5xx) error
+     */
+    public List<AuditionPost> getPosts(final Integer userId, final Pagination pagination) {
+        final String url = paged(UriComponentsBuilder.fromUriString(baseUrl).path("posts")
+            .queryParamIfPresent("userId", Optional.ofNullable(userId)), pagination);
+        return getList("posts.page", url, POST_LIST, NO_POSTS_FOUND, false);
+    }
+
+    /**
+     * Fetch one window of the comments of a post using the /posts/{postId}/comments endpoint.
+     *
+     * @param postId     the post identifier
+     * @param pagination the window to fetch
+     * @return the comments in the window or null when the upstream returned an empty body
+     * @throws SystemException when the upstream responds with a client (4xx) or server (5xx) error
+     */
+    public List<Comment> getCommentsByPostId(final String postId, final Pagination pagination) {
+        final String url = paged(UriComponentsBuilder.fromUriString(baseUrl)
+            .pathSegment("posts", postId, "comments"), pagination);
+        return getList("posts.comments", url, COMMENT_LIST, NO_COMMENTS_FOR_POSTS + postId, true);
+    }
+
+    /**
+     * Fetch one window of the comments of a post using the query endpoint /comments?postId={postId}.
+     *
+     * @param postId     the post identifier
+     * @param pagination the window to fetch
+     * @return the comments in the window or null when the upstream returned an empty body
+     * @throws SystemException when the upstream responds with a client (4xx) or server (5xx) error
+     */
+    public List<Comment> getCommentsForPost(final String postId, final Pagination pagination) {
+        final String url = paged(UriComponentsBuilder.fromUriString(baseUrl).path("comments")
+            .queryParam("postId", postId), pagination);
+        return getList("comments.byPostId", url, COMMENT_LIST, NO_COMMENTS_FOR_POSTS + postId, true);
+    }
+
+    /**
+     * Fetch the comments of all posts using the /comments endpoint.
+     *
+     * @return a list of {@link Comment} or null when the upstream returned an empty body
+     * @throws SystemException when the upstream responds with a client (4xx) or server (5xx) error
+     */
+    public List<Comment> getComments() {
+        ResponseEntity<List<Comment>> response = null; //NOPMD
+        try {
+            response = retried("comments", () -> restTemplate.exchange(
+                baseUrl.concat("comments"),
+                HttpMethod.GET,
+                null,
+                COMMENT_LIST
+            ));
+        } catch (final HttpClientErrorException e) {
+            handleClientError(e, NO_COMMENTS_FOUND);
+        } catch (final HttpServerErrorException e) {
+            handleServerError(e);
+        }
+        return response.getBody();
+    }
+
+    /**
+     * Fetch a list from the upstream service, translating upstream errors like the other lookups.
+     *
+     * @param operation      logical operation name used for latency tracking and metrics
+     * @param url            the complete upstream url
+     * @param type           the list type
+     * @param notFoundDetail detail used when the upstream answers 404
+     * @param hedge          whether individual attempts are hedged
+     * @param <T>            the element type
+     * @return the list or null when the upstream returned an empty body
+     */
+    private <T> List<T> getList(final String operation, final String url,
+        final ParameterizedTypeReference<List<T>> type, final String notFoundDetail, final boolean hedge) {
+        ResponseEntity<List<T>> response = null; //NOPMD
+        try {
+            final Supplier<ResponseEntity<List<T>>> exchange =
+                () -> restTemplate.exchange(url, HttpMethod.GET, null, type);
+            response = upstream(operation, exchange, hedge);
+        } catch (final HttpClientErrorException e) {
+            handleClientError(e, notFoundDetail);
+        } catch (final HttpServerErrorException e) {
+            handleServerError(e);
+        }
+        return response.getBody();
+    }
+
+    /**
+     * Push a window down to the upstream service using its {@code _start}/{@code _limit} query parameters.
+     *
+     * @param builder    the url being built
+     * @param pagination the window
+     * @return the complete url
+     */
+    private static String paged(final UriComponentsBuilder builder, final Pagination pagination) {
+        return builder.queryParam("_start", pagination.offset())
+            .queryParam("_limit", pagination.limit())
+            .toUriString();
+    }
+
+    /**
+     * Run an upstream exchange through the retry policy, hedging each individual attempt.
+     *
+     * @param operation logical operation name used for latency tracking and metrics
+     * @param exchange  the upstream exchange
+     * @param <T>       the response type
+     * @return the upstream response
+     */
+    private <T> T hedged(final String operation, final Supplier<T> exchange) {
+        return upstream(operation, exchange, true);
+    }
+
+    /**
+     * Run an upstream exchange through the retry policy.
+     *
+     * @param operation logical operation name used for latency tracking and metrics
+     * @param exchange  the upstream exchange
+     * @param <T>       the response type
+     * @return the upstream response
+     */
+    private <T> T retried(final String operation, final Supplier<T> exchange) {
+        return upstream(operation, exchange, false);
+    }
+
+    /**
+     * Run an upstream exchange through the retry policy, optionally hedging each attempt, and record the upstream
+     * time and the attempts into the timer of the current request.
+     *
+     * @param operation logical operation name used for latency tracking and metrics
+     * @param exchange  the upstream exchange
+     * @param hedge     whether individual attempts are hedged
+     * @param <T>       the response type
+     * @return the upstream response
+     */
+    private <T> T upstream(final String operation, final Supplier<T> exchange, final boolean hedge) {
+        final RequestTimer timer = RequestTimer.current();
+        final Supplier<T> attempt = timer == null ? exchange : () -> {
+            timer.attempt();
+            return exchange.get();
+        };
+        final Supplier<T> call = hedge ? () -> requestHedger.execute(operation, attempt) : attempt;
+        if (timer == null) {
+            return retryExecutor.execute(operation, call);
+        }
+        final long started = System.nanoTime();
+        try {
+            return retryExecutor.execute(operation, call);
+        } finally {
+            timer.record(RequestTimer.Phase.UPSTREAM, System.nanoTime() - started);
+        }
+    }
+
     /**
      * Convert downstream client errors to {@link SystemException} and include a friendly detail message. If the error
      * is a NOT_FOUND (404) the provided detail will be used as the exception detail. Otherwise the exception message
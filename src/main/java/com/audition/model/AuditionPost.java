@@ -1,15 +1,16 @@
 package com.audition.model;
 
-import lombok.Getter;
-import lombok.Setter;
-
-@Getter
-@Setter
-public class AuditionPost {
-
-    private int userId;
-    private int id;
-    private String title;
-    private String body;
+/**
+ * A post as published by the upstream posts API.
+ *
+ * <p>Immutable, so a single instance can be shared by the cache, the search index and concurrent requests without
+ * defensive copies. Jackson binds it through the canonical constructor.
+ *
+ * @param userId id of the user who wrote the post
+ * @param id     post id
+ * @param title  post title
+ * @param body   post body
+ */
+public record AuditionPost(int userId, int id, String title, String body) {
 
 }
@@ -0,0 +1,15 @@
+package com.audition.model;
+
+import java.util.List;
+
+/**
+ * Summary of the posts and comments seen so far.
+ *
+ * @param posts              number of distinct posts
+ * @param comments           number of distinct comments
+ * @param users              number of users with at least one post
+ * @param mostCommentedPosts the most commented posts, most comments first
+ */
+public record AuditionStatistics(int posts, int comments, int users, List<PostCommentCount> mostCommentedPosts) {
+
+}
@@ -1,14 +1,17 @@
 package com.audition.model;
 
-import lombok.Getter;
-import lombok.Setter;
+/**
+ * A comment on a post as published by the upstream comments API.
+ *
+ * <p>Immutable, so a single instance can be shared by the cache, the search index and concurrent requests without
+ * defensive copies. Jackson binds it through the canonical constructor.
+ *
+ * @param postId id of the post the comment belongs to
+ * @param id     comment id
+ * @param name   comment title
+ * @param email  email address of the author
+ * @param body   comment body
+ */
+public record Comment(int postId, int id, String name, String email, String body) {
 
-@Getter
-@Setter
-public class Comment {
-    private int postId;
-    private int id;
-    private String name;
-    private String email;
-    private String body;
 }
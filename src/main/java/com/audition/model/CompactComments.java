@@ -0,0 +1,124 @@
+package com.audition.model;
+
+import com.audition.common.collection.HeapLayout;
+import com.audition.common.collection.StringPool;
+import com.audition.common.collection.Utf8Column;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Read-only, column-oriented list of comments for long-lived caches.
+ *
+ * <p>Ids are kept in {@code int[]} columns and bodies as UTF-8 in one {@code byte[]}. Names and the two halves of each
+ * email address are deduplicated through a {@link StringPool}, so repeated names and the few distinct email domains
+ * are stored once. {@link #get(int)} materializes a short-lived {@link Comment}, so serializers and callers see
+ * an ordinary {@code List<Comment>}. Nothing is cached between reads: every access allocates the record and decodes
+ * its body and email again, which is the price paid for the smaller footprint.
+ */
+public final class CompactComments extends AbstractList<Comment> implements RandomAccess {
+
+    private static final char AT = '@';
+
+    private final int[] ids;
+    private final int[] postIds;
+    private final int[] names;
+    private final int[] emailLocalParts;
+    private final int[] emailDomains;
+    private final StringPool strings;
+    private final Utf8Column bodies;
+
+    private CompactComments(final int[] ids, final int[] postIds, final int[] names, final int[] emailLocalParts,
+        final int[] emailDomains, final StringPool strings, final Utf8Column bodies) {
+        super();
+        this.ids = ids;
+        this.postIds = postIds;
+        this.names = names;
+        this.emailLocalParts = emailLocalParts;
+        this.emailDomains = emailDomains;
+        this.strings = strings;
+        this.bodies = bodies;
+    }
+
+    /**
+     * Copy comments into columnar form. {@code null} elements are dropped.
+     *
+     * @param comments the comments
+     * @return the compact list
+     */
+    public static CompactComments of(final List<Comment> comments) {
+        final List<Comment> present = comments.stream().filter(comment -> comment != null).toList();
+        final int size = present.size();
+        final int[] ids = new int[size];
+        final int[] postIds = new int[size];
+        final int[] names = new int[size];
+        final int[] emailLocalParts = new int[size];
+        final int[] emailDomains = new int[size];
+        final StringPool.Builder strings = StringPool.builder();
+        final Utf8Column.Builder bodies = Utf8Column.builder(size);
+        for (int i = 0; i < size; i++) {
+            final Comment comment = present.get(i);
+            ids[i] = comment.id();
+            postIds[i] = comment.postId();
+            names[i] = strings.add(comment.name());
+            final String email = comment.email();
+            final int at = email == null ? -1 : email.lastIndexOf(AT);
+            if (at < 0) {
+                emailLocalParts[i] = strings.add(email);
+                emailDomains[i] = -1;
+            } else {
+                emailLocalParts[i] = strings.add(email.substring(0, at));
+                emailDomains[i] = strings.add(email.substring(at + 1));
+            }
+            bodies.add(comment.body());
+        }
+        return new CompactComments(ids, postIds, names, emailLocalParts, emailDomains, strings.build(),
+            bodies.build());
+    }
+
+    @Override
+    public Comment get(final int index) {
+        return new Comment(postIds[index], ids[index], strings.get(names[index]), email(index), bodies.get(index));
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Approximate retained heap size of this list, estimated from the field layout rather than measured; the
+     * {@code CompactCollectionBenchmark} reports the measured size next to it.
+     *
+     * @return the estimated size in bytes
+     */
+    public long footprintBytes() {
+        return HeapLayout.object(7L * HeapLayout.REFERENCE + Integer.BYTES)
+            + 5 * HeapLayout.array(ids.length, Integer.BYTES)
+            + strings.footprintBytes() + bodies.footprintBytes();
+    }
+
+    /**
+     * Approximate retained heap size of the same comments held as an {@code ArrayList} of beans, for comparison with
+     * {@link #footprintBytes()}.
+     *
+     * @param comments the comments
+     * @return the estimated size in bytes
+     */
+    public static long beanFootprintBytes(final List<Comment> comments) {
+        long bytes = HeapLayout.object(Integer.BYTES * 2L + HeapLayout.REFERENCE)
+            + HeapLayout.array(comments.size(), HeapLayout.REFERENCE);
+        for (final Comment comment : comments) {
+            bytes += HeapLayout.object(2L * Integer.BYTES + 3L * HeapLayout.REFERENCE)
+                + HeapLayout.string(comment.name()) + HeapLayout.string(comment.email())
+                + HeapLayout.string(comment.body());
+        }
+        return bytes;
+    }
+
+    private String email(final int index) {
+        final String local = strings.get(emailLocalParts[index]);
+        final int domain = emailDomains[index];
+        return domain < 0 ? local : local + AT + strings.get(domain);
+    }
+}
@@ -0,0 +1,92 @@
+package com.audition.model;
+
+import com.audition.common.collection.HeapLayout;
+import com.audition.common.collection.Utf8Column;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Read-only, column-oriented list of posts for long-lived caches.
+ *
+ * <p>Ids are kept in {@code int[]} columns and titles and bodies as UTF-8 in one {@code byte[]} each, instead of one
+ * bean plus two {@link String}s per post. {@link #get(int)} materializes a short-lived {@link AuditionPost}, so
+ * serializers and callers see an ordinary {@code List<AuditionPost>}. Nothing is cached between reads: every access
+ * allocates the record and decodes its strings again, which is the price paid for the smaller footprint.
+ */
+public final class CompactPosts extends AbstractList<AuditionPost> implements RandomAccess {
+
+    private final int[] ids;
+    private final int[] userIds;
+    private final Utf8Column titles;
+    private final Utf8Column bodies;
+
+    private CompactPosts(final int[] ids, final int[] userIds, final Utf8Column titles, final Utf8Column bodies) {
+        super();
+        this.ids = ids;
+        this.userIds = userIds;
+        this.titles = titles;
+        this.bodies = bodies;
+    }
+
+    /**
+     * Copy posts into columnar form. {@code null} elements are dropped.
+     *
+     * @param posts the posts
+     * @return the compact list
+     */
+    public static CompactPosts of(final List<AuditionPost> posts) {
+        final List<AuditionPost> present = posts.stream().filter(post -> post != null).toList();
+        final int[] ids = new int[present.size()];
+        final int[] userIds = new int[present.size()];
+        final Utf8Column.Builder titles = Utf8Column.builder(present.size());
+        final Utf8Column.Builder bodies = Utf8Column.builder(present.size());
+        for (int i = 0; i < ids.length; i++) {
+            final AuditionPost post = present.get(i);
+            ids[i] = post.id();
+            userIds[i] = post.userId();
+            titles.add(post.title());
+            bodies.add(post.body());
+        }
+        return new CompactPosts(ids, userIds, titles.build(), bodies.build());
+    }
+
+    @Override
+    public AuditionPost get(final int index) {
+        return new AuditionPost(userIds[index], ids[index], titles.get(index), bodies.get(index));
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Approximate retained heap size of this list, estimated from the field layout rather than measured; the
+     * {@code CompactCollectionBenchmark} reports the measured size next to it.
+     *
+     * @return the estimated size in bytes
+     */
+    public long footprintBytes() {
+        return HeapLayout.object(4L * HeapLayout.REFERENCE + Integer.BYTES)
+            + 2 * HeapLayout.array(ids.length, Integer.BYTES)
+            + titles.footprintBytes() + bodies.footprintBytes();
+    }
+
+    /**
+     * Approximate retained heap size of the same posts held as an {@code ArrayList} of beans, for comparison with
+     * {@link #footprintBytes()}.
+     *
+     * @param posts the posts
+     * @return the estimated size in bytes
+     */
+    public static long beanFootprintBytes(final List<AuditionPost> posts) {
+        long bytes = HeapLayout.object(Integer.BYTES * 2L + HeapLayout.REFERENCE)
+            + HeapLayout.array(posts.size(), HeapLayout.REFERENCE);
+        for (final AuditionPost post : posts) {
+            bytes += HeapLayout.object(2L * Integer.BYTES + 2L * HeapLayout.REFERENCE)
+                + HeapLayout.string(post.title()) + HeapLayout.string(post.body());
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,47 @@
+package com.audition.model;
+
+import java.util.List;
+
+/**
+ * One page of a collection together with whether further elements follow.
+ *
+ * @param items   the elements of the page
+ * @param hasNext {@code true} when the collection continues after this page
+ * @param <T>     the element type
+ */
+public record PagedResult<T>(List<T> items, boolean hasNext) {
+
+    /**
+     * Cut a page out of a complete collection. The page is a {@link List#subList(int, int)} view, so no elements are
+     * copied.
+     *
+     * @param all        the complete collection
+     * @param pagination the requested window
+     * @param <T>        the element type
+     * @return the page
+     */
+    public static <T> PagedResult<T> slice(final List<T> all, final Pagination pagination) {
+        final int from = Math.min(pagination.offset(), all.size());
+        final int to = (int) Math.min((long) from + pagination.limit(), all.size());
+        return new PagedResult<>(all.subList(from, to), to < all.size());
+    }
+
+    /**
+     * Build a page from an upstream response fetched with one element of look-ahead ({@code limit + 1}); the extra
+     * element only signals that a next page exists and is not returned.
+     *
+     * @param fetched the upstream response, may be {@code null}
+     * @param limit   the requested page size
+     * @param <T>     the element type
+     * @return the page
+     */
+    public static <T> PagedResult<T> fromLookahead(final List<T> fetched, final int limit) {
+        if (fetched == null) {
+            return new PagedResult<>(List.of(), false);
+        }
+        if (fetched.size() > limit) {
+            return new PagedResult<>(fetched.subList(0, limit), true);
+        }
+        return new PagedResult<>(fetched, false);
+    }
+}
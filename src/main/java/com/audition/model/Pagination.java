@@ -0,0 +1,32 @@
+package com.audition.model;
+
+/**
+ * A window into a collection: the zero-based offset of the first element and the maximum number of elements.
+ *
+ * @param offset zero-based index of the first element
+ * @param limit  maximum number of elements, always positive
+ */
+public record Pagination(int offset, int limit) {
+
+    /**
+     * Validate the window.
+     *
+     * @param offset zero-based index of the first element
+     * @param limit  maximum number of elements
+     */
+    public Pagination {
+        if (offset < 0 || limit <= 0) {
+            throw new IllegalArgumentException("offset must not be negative and limit must be positive");
+        }
+    }
+
+    /**
+     * The window immediately following this one.
+     *
+     * @return the next window of the same size
+     * @throws ArithmeticException when the next offset does not fit an {@code int}
+     */
+    public Pagination next() {
+        return new Pagination(Math.addExact(offset, limit), limit);
+    }
+}
@@ -0,0 +1,11 @@
+package com.audition.model;
+
+/**
+ * Number of comments of a post.
+ *
+ * @param postId   the post id
+ * @param comments number of comments
+ */
+public record PostCommentCount(int postId, int comments) {
+
+}
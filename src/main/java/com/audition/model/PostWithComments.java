@@ -0,0 +1,25 @@
+package com.audition.model;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A post together with its comments, returned by the <code>include=comments</code> expansion. The post properties are
+ * serialized inline, followed by a <code>comments</code> array.
+ *
+ * @param post     the post
+ * @param comments its comments, exposed as an unmodifiable list
+ */
+public record PostWithComments(@JsonUnwrapped AuditionPost post, List<Comment> comments) {
+
+    /**
+     * Create the expansion, wrapping the comments in an unmodifiable view.
+     *
+     * @param post     the post
+     * @param comments its comments
+     */
+    public PostWithComments {
+        comments = comments == null ? null : Collections.unmodifiableList(comments);
+    }
+}
@@ -0,0 +1,15 @@
+package com.audition.model;
+
+/**
+ * A single full-text search result.
+ *
+ * @param type     the document type, {@code post} or {@code comment}
+ * @param id       the id of the post or comment
+ * @param score    relevance score, higher is better
+ * @param document the matching {@link AuditionPost} or {@link Comment}
+ */
+public record SearchHit(String type, int id, double score, Object document) {
+
+    public static final String POST = "post";
+    public static final String COMMENT = "comment";
+}
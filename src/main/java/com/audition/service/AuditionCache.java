@@ -0,0 +1,237 @@
+package com.audition.service;
+
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.CacheProperties;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Time-based in-memory cache for upstream responses, keyed by logical lookup (for example {@code posts} or
+ * {@code posts.comments:1}).
+ *
+ * <p>Concurrent misses for the same key are coalesced: only the first caller loads the value from the upstream and
+ * the others wait for its result, for at most {@code application.cache.wait-timeout}. Failed loads and {@code null}
+ * results are not cached. When the cache is disabled every lookup goes straight to the loader.
+ *
+ * <p>The cache holds at most {@code application.cache.max-entries} entries. Once that many are held, expired entries
+ * are swept, at most once per {@value #SWEEP_INTERVAL_MILLIS} ms or per TTL when that is shorter. If the cache is still
+ * full, lookups of new keys load without caching until entries expire.
+ *
+ * <p>The cached values can be exported with their expiry time and put back, which is how a cache snapshot written at
+ * shutdown warms up the next instance.
+ */
+@Component
+@EnableConfigurationProperties(CacheProperties.class)
+public class AuditionCache {
+
+    static final long SWEEP_INTERVAL_MILLIS = 1000;
+
+    private final CacheProperties properties;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep = new AtomicLong(System.nanoTime());
+
+    /**
+     * Create the cache.
+     *
+     * @param properties cache settings
+     */
+    public AuditionCache(final CacheProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * A cache that never stores anything. Useful for unit tests.
+     *
+     * @return a disabled cache
+     */
+    public static AuditionCache disabled() {
+        return new AuditionCache(new CacheProperties());
+    }
+
+    /**
+     * Whether the cache is enabled.
+     *
+     * @return {@code true} when responses are cached
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Whether cached collections should be stored in compact columnar form.
+     *
+     * @return {@code true} when the cache is enabled and compaction is configured
+     */
+    public boolean isCompact() {
+        return properties.isEnabled() && properties.isCompact();
+    }
+
+    /**
+     * Return the cached value for the key, loading it when absent or expired.
+     *
+     * @param key    the cache key
+     * @param loader loads the value from the upstream service
+     * @param <T>    the value type
+     * @return the cached or freshly loaded value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(final String key, final Supplier<T> loader) {
+        if (!isEnabled()) {
+            return loader.get();
+        }
+        final Entry current = entries.get(key);
+        if (current != null && !current.isExpired()) {
+            return (T) join(current.value());
+        }
+        if (current == null && isFull()) {
+            return loader.get();
+        }
+        final Entry loading = new Entry(new CompletableFuture<>(), System.nanoTime() + properties.getTtl().toNanos());
+        final Entry winner = entries.compute(key,
+            (k, existing) -> existing == null || existing == current || existing.isExpired() ? loading : existing);
+        if (winner != loading) {
+            return (T) join(winner.value());
+        }
+        try {
+            final T value = loader.get();
+            if (value == null) {
+                entries.remove(key, loading);
+            }
+            loading.value().complete(value);
+            return value;
+        } catch (final RuntimeException e) {
+            entries.remove(key, loading);
+            loading.value().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Return the cached value for the key without loading it.
+     *
+     * @param key the cache key
+     * @param <T> the value type
+     * @return the cached value, or {@code null} when absent, expired or still loading
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getIfPresent(final String key) {
+        if (!isEnabled()) {
+            return null;
+        }
+        final Entry entry = entries.get(key);
+        if (entry == null || entry.isExpired() || !entry.value().isDone()
+            || entry.value().isCompletedExceptionally()) {
+            return null;
+        }
+        return (T) entry.value().join();
+    }
+
+    /**
+     * Return the values currently cached, leaving out expired and still loading entries.
+     *
+     * @return the cached values by key
+     */
+    public Map<String, CachedValue> cachedValues() {
+        final long nowMillis = System.currentTimeMillis();
+        final long nowNanos = System.nanoTime();
+        return entries.entrySet().stream()
+            .filter(entry -> !entry.getValue().isExpired() && entry.getValue().value().isDone()
+                && !entry.getValue().value().isCompletedExceptionally())
+            .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> new CachedValue(
+                entry.getValue().value().join(),
+                nowMillis + TimeUnit.NANOSECONDS.toMillis(entry.getValue().expiresAt() - nowNanos))));
+    }
+
+    /**
+     * Cache a value until the given time, replacing any cached value. Nothing is cached when the cache is disabled or
+     * the time has already passed.
+     *
+     * @param key             the cache key
+     * @param value           the value
+     * @param expiresAtMillis wall-clock time the value expires, in epoch milliseconds
+     * @return {@code true} when the value was cached
+     */
+    public boolean put(final String key, final Object value, final long expiresAtMillis) {
+        final long remainingMillis = expiresAtMillis - System.currentTimeMillis();
+        if (!isEnabled() || value == null || remainingMillis <= 0 || !entries.containsKey(key) && isFull()) {
+            return false;
+        }
+        entries.put(key, new Entry(CompletableFuture.completedFuture(value),
+            System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(remainingMillis)));
+        return true;
+    }
+
+    /**
+     * Remove all cached values.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Whether the cache holds its maximum number of entries, after sweeping expired ones when a sweep is due.
+     *
+     * @return {@code true} when no entry may be added
+     */
+    private boolean isFull() {
+        if (entries.size() < properties.getMaxEntries()) {
+            return false;
+        }
+        final long now = System.nanoTime();
+        final long due = nextSweep.get();
+        final long interval = Math.min(TimeUnit.MILLISECONDS.toNanos(SWEEP_INTERVAL_MILLIS), properties.getTtl().toNanos());
+        if (now - due >= 0 && nextSweep.compareAndSet(due, now + interval)) {
+            entries.values().removeIf(entry -> entry.isExpired() && entry.value().isDone());
+        }
+        return entries.size() >= properties.getMaxEntries();
+    }
+
+    private Object join(final CompletableFuture<Object> future) {
+        try {
+            return future.get(properties.getWaitTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new SystemException(e.getCause().getMessage(), HttpStatus.INTERNAL_SERVER_ERROR.value(), e.getCause());
+        } catch (final TimeoutException e) {
+            throw new SystemException("No upstream response within " + properties.getWaitTimeout(),
+                HttpStatus.GATEWAY_TIMEOUT.value(), e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SystemException("Interrupted while waiting for the upstream response",
+                HttpStatus.SERVICE_UNAVAILABLE.value(), e);
+        }
+    }
+
+    /**
+     * A cached value and the wall-clock time it expires.
+     *
+     * @param value           the value
+     * @param expiresAtMillis expiry time in epoch milliseconds
+     */
+    public record CachedValue(Object value, long expiresAtMillis) {
+
+    }
+
+    /**
+     * A cached (or loading) value and the time it expires, in {@link System#nanoTime()} units.
+     */
+    private record Entry(CompletableFuture<Object> value, long expiresAt) {
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAt > 0;
+        }
+    }
+}
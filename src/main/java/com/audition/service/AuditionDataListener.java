@@ -0,0 +1,46 @@
+package com.audition.service;
+
+import com.audition.model.AuditionPost;
+import com.audition.model.Comment;
+import java.util.List;
+
+/**
+ * Receives posts and comments whenever {@link AuditionService} fetches them from the upstream service.
+ *
+ * <p>Listeners are notified only for data that was actually fetched (cache misses and refreshes), never for cache
+ * hits, so they can maintain derived structures incrementally. A post or comment may be delivered more than once, for
+ * example after a refresh; listeners treat a repeated id as a replacement. Notifications happen on the thread that
+ * fetched the data, so implementations must be thread-safe and cheap.
+ */
+public interface AuditionDataListener {
+
+    /**
+     * Called with posts fetched from the upstream service.
+     *
+     * @param posts the fetched posts, never {@code null}
+     */
+    default void onPosts(final List<AuditionPost> posts) {
+    }
+
+    /**
+     * Called with comments fetched from the upstream service.
+     *
+     * @param comments the fetched comments, never {@code null}
+     */
+    default void onComments(final List<Comment> comments) {
+    }
+
+    /**
+     * Called after {@link #onPosts(List)} delivered the complete collection of posts, as opposed to a single post or
+     * a page of them.
+     */
+    default void onAllPosts() {
+    }
+
+    /**
+     * Called after {@link #onComments(List)} delivered the complete collection of comments, as opposed to the
+     * comments of a single post or a page of them.
+     */
+    default void onAllComments() {
+    }
+}
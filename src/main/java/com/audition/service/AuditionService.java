@@ -1,12 +1,30 @@
 package com.audition.service;
 
+import com.audition.common.timing.RequestTimer;
 import com.audition.integration.AuditionIntegrationClient;
 import com.audition.model.AuditionPost;
 import com.audition.model.Comment;
+import com.audition.model.CompactComments;
+import com.audition.model.CompactPosts;
+import com.audition.model.PagedResult;
+import com.audition.model.Pagination;
+import com.audition.model.PostWithComments;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 /**
@@ -16,17 +34,108 @@ import org.springframework.stereotype.Service;
  * is responsible for making HTTP calls to the upstream posts/comments API. The service exists to provide a stable,
  * testable adapter for controllers and other application components and to centralise any future business logic that
  * should be applied to audition data.
+ *
+ * <p>Every lookup also has an asynchronous variant returning a {@link CompletableFuture} that completes on the
+ * {@code auditionServiceExecutor}, so callers such as asynchronous controllers do not block while waiting for the
+ * upstream service.
+ *
+ * <p>The expansion methods {@link #getPostWithComments(String)} and {@link #getPostsWithComments(Integer)} fetch posts
+ * and comments concurrently: the comments are requested on the executor while the posts are fetched on the calling
+ * thread, so a composite document costs one upstream round trip instead of two.
+ *
+ * <p>Lookups are served from the {@link AuditionCache} when it is enabled. Paged lookups are cut out of a cached full
+ * collection when one is available (as a view, without copying) and are otherwise pushed down to the upstream with
+ * one element of look-ahead to learn whether a next page exists.
+ *
+ * <p>Whatever is fetched from the upstream (cache misses and refreshes, not cache hits) is also published to the
+ * registered {@link AuditionDataListener}s, which maintain derived views such as the search index incrementally.
+ * Loads of the complete post or comment collection are additionally signalled as complete, so listeners can tell a
+ * full view from the partial one built by lookups of single posts and pages.
+ * With {@code application.cache.compact} enabled, cached collections are held as {@link CompactPosts} and
+ * {@link CompactComments}.
+ *
+ * <p>The comments of a post are cached under one entry, whichever of the two equivalent upstream routes they were
+ * requested through. With adaptive comment routing enabled, the {@link CommentRouteSelector} decides which route a
+ * lookup actually uses.
+ *
+ * <p>With prefetching enabled, serving a post also warms the cache with its comments in the background through the
+ * {@link CommentPrefetcher}, anticipating the comment lookup that usually follows.
+ *
+ * <p>The cached posts and comments can be exported as a {@link CacheSnapshot} and restored from one, so an instance
+ * replacing this one starts with a warm cache; restored data is published to the listeners like fetched data.
+ *
+ * <p>Cache lookups and the filtering of fetched collections are recorded into the {@link RequestTimer} of the current
+ * request, when there is one, for the {@code Server-Timing} header.
+ *
+ * <p>Posts and comments are immutable records and every collection returned by the service is unmodifiable, so the
+ * cache, the listeners and all concurrent callers can share them without defensive copies. With
+ * {@code application.cache.compact} enabled, cached collections are the exception: each read of an element builds
+ * a new record from the columns, so callers receive equal but distinct instances.
  */
 @Service
 @Getter
 @Setter
 public class AuditionService {
 
+    private static final String POSTS = "posts";
+    private static final String POST_BY_ID = "posts.byId:";
+    private static final String POST_COMMENTS = "posts.comments:";
+    // key used for the query route before both routes shared one entry, still found in older cache snapshots
+    private static final String LEGACY_COMMENTS_FOR_POST = "comments.byPostId:";
+    private static final String ALL_COMMENTS = "comments";
+
     private final AuditionIntegrationClient auditionIntegrationClient;
+    private final Executor executor;
+    private final AuditionCache cache;
+    private final List<AuditionDataListener> listeners;
+    private final CommentRouteSelector commentRouteSelector;
+    private final CommentPrefetcher commentPrefetcher;
 
-    @Autowired
+    /**
+     * Convenience constructor that runs asynchronous variants on the calling thread and does not cache. Useful for
+     * unit tests.
+     *
+     * @param auditionIntegrationClient the upstream client
+     */
     public AuditionService(final AuditionIntegrationClient auditionIntegrationClient) {
+        this(auditionIntegrationClient, Runnable::run, AuditionCache.disabled(), List.of());
+    }
+
+    /**
+     * Convenience constructor without adaptive comment routing and prefetching. Useful for unit tests.
+     *
+     * @param auditionIntegrationClient the upstream client
+     * @param executor                  executor completing the asynchronous variants
+     * @param cache                     cache of upstream responses
+     * @param listeners                 notified of fetched posts and comments
+     */
+    public AuditionService(final AuditionIntegrationClient auditionIntegrationClient, final Executor executor,
+        final AuditionCache cache, final List<AuditionDataListener> listeners) {
+        this(auditionIntegrationClient, executor, cache, listeners, CommentRouteSelector.disabled(),
+            CommentPrefetcher.disabled());
+    }
+
+    /**
+     * Create the service.
+     *
+     * @param auditionIntegrationClient the upstream client
+     * @param executor                  executor completing the asynchronous variants
+     * @param cache                     cache of upstream responses
+     * @param listeners                 notified of fetched posts and comments
+     * @param commentRouteSelector      chooses the upstream route of comment lookups
+     * @param commentPrefetcher         prefetches the comments of served posts
+     */
+    @Autowired
+    public AuditionService(final AuditionIntegrationClient auditionIntegrationClient,
+        @Qualifier("auditionServiceExecutor") final Executor executor, final AuditionCache cache,
+        final List<AuditionDataListener> listeners, final CommentRouteSelector commentRouteSelector,
+        final CommentPrefetcher commentPrefetcher) {
         this.auditionIntegrationClient = auditionIntegrationClient;
+        this.executor = executor;
+        this.cache = cache;
+        this.listeners = List.copyOf(listeners);
+        this.commentRouteSelector = commentRouteSelector;
+        this.commentPrefetcher = commentPrefetcher;
     }
 
     /**
@@ -35,17 +144,62 @@ public class AuditionService {
      * @return a list of {@link AuditionPost}; may be {@code null} when the upstream returns no body
      */
     public List<AuditionPost> getPosts() {
-        return auditionIntegrationClient.getPosts();
+        return cached(POSTS, () -> compactPosts(publishAllPosts(auditionIntegrationClient.getPosts())));
     }
 
     /**
-     * Retrieve a single post by identifier.
+     * Retrieve one page of posts, optionally restricted to a user.
+     *
+     * @param userId     optional user id filter
+     * @param pagination the requested window
+     * @return the page of posts
+     */
+    public PagedResult<AuditionPost> getPosts(final Integer userId, final Pagination pagination) {
+        final List<AuditionPost> cached = cachedIfPresent(POSTS);
+        if (cached != null) {
+            final long filtering = RequestTimer.start();
+            final List<AuditionPost> matching = userId == null ? cached
+                : cached.stream().filter(post -> post.userId() == userId).toList();
+            final PagedResult<AuditionPost> page = PagedResult.slice(matching, pagination);
+            RequestTimer.stop(RequestTimer.Phase.FILTERING, filtering);
+            return page;
+        }
+        return PagedResult.fromLookahead(
+            publishPosts(auditionIntegrationClient.getPosts(userId, lookahead(pagination))), pagination.limit());
+    }
+
+    /**
+     * Asynchronous variant of {@link #getPosts()}.
+     *
+     * @return a future completed with the posts
+     */
+    public CompletableFuture<List<AuditionPost>> getPostsAsync() {
+        return CompletableFuture.supplyAsync(this::getPosts, executor);
+    }
+
+    /**
+     * Retrieve a single post by identifier and, with prefetching enabled, start warming the cache with its comments.
      *
      * @param postId the id of the post to fetch
      * @return the matching {@link AuditionPost} or {@code null} when no content was returned
      */
     public AuditionPost getPostById(final String postId) {
-        return auditionIntegrationClient.getPostById(postId);
+        final AuditionPost post = loadPostById(postId);
+        if (post != null && commentPrefetcher.isEnabled() && cache.isEnabled()
+            && cache.getIfPresent(POST_COMMENTS + postId) == null) {
+            commentPrefetcher.prefetch(postId, () -> loadCommentsOfPost(CommentRouteSelector.Route.NESTED, postId));
+        }
+        return post;
+    }
+
+    /**
+     * Asynchronous variant of {@link #getPostById(String)}.
+     *
+     * @param postId the id of the post to fetch
+     * @return a future completed with the post
+     */
+    public CompletableFuture<AuditionPost> getPostByIdAsync(final String postId) {
+        return CompletableFuture.supplyAsync(() -> getPostById(postId), executor);
     }
 
     /**
@@ -55,7 +209,28 @@ public class AuditionService {
      * @return a list of {@link Comment} or {@code null} when no content was returned by the upstream service
      */
     public List<Comment> getCommentsByPostId(final String postId) {
-        return auditionIntegrationClient.getCommentsByPostId(postId);
+        return getCommentsOfPost(CommentRouteSelector.Route.NESTED, postId);
+    }
+
+    /**
+     * Retrieve one page of the comments of a post using the /posts/{postId}/comments endpoint.
+     *
+     * @param postId     the post identifier
+     * @param pagination the requested window
+     * @return the page of comments
+     */
+    public PagedResult<Comment> getCommentsByPostId(final String postId, final Pagination pagination) {
+        return getCommentsOfPost(CommentRouteSelector.Route.NESTED, postId, pagination);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getCommentsByPostId(String)}.
+     *
+     * @param postId the post identifier
+     * @return a future completed with the comments
+     */
+    public CompletableFuture<List<Comment>> getCommentsByPostIdAsync(final String postId) {
+        return CompletableFuture.supplyAsync(() -> getCommentsByPostId(postId), executor);
     }
 
     /**
@@ -63,12 +238,274 @@ public class AuditionService {
      *
      * <p>This method delegates to the integration client which determines which upstream
      * endpoint to use. The difference between this method and {@link #getCommentsByPostId(String)} is the upstream
-     * route used (query vs nested resource) — both return equivalent data.
+     * route used (query vs nested resource) — both return equivalent data and share the cached entry. With adaptive
+     * comment routing the other route may be used instead.
      *
      * @param postId the post identifier
      * @return a list of {@link Comment} or {@code null} when the upstream returns no body
      */
     public List<Comment> getCommentsForPost(final String postId) {
-        return auditionIntegrationClient.getCommentsForPost(postId);
+        return getCommentsOfPost(CommentRouteSelector.Route.QUERY, postId);
+    }
+
+    /**
+     * Retrieve one page of the comments of a post using the query endpoint (/comments?postId={postId}).
+     *
+     * @param postId     the post identifier
+     * @param pagination the requested window
+     * @return the page of comments
+     */
+    public PagedResult<Comment> getCommentsForPost(final String postId, final Pagination pagination) {
+        return getCommentsOfPost(CommentRouteSelector.Route.QUERY, postId, pagination);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getCommentsForPost(String)}.
+     *
+     * @param postId the post identifier
+     * @return a future completed with the comments
+     */
+    public CompletableFuture<List<Comment>> getCommentsForPostAsync(final String postId) {
+        return CompletableFuture.supplyAsync(() -> getCommentsForPost(postId), executor);
+    }
+
+    /**
+     * Retrieve all comments of all posts.
+     *
+     * @return a list of {@link Comment} or {@code null} when the upstream returns no body
+     */
+    public List<Comment> getComments() {
+        return cached(ALL_COMMENTS,
+            () -> compactComments(publishAllComments(auditionIntegrationClient.getComments())));
+    }
+
+    /**
+     * Retrieve a post together with its comments, fetching both concurrently.
+     *
+     * @param postId the post identifier
+     * @return the post and its comments
+     */
+    public PostWithComments getPostWithComments(final String postId) {
+        final CompletableFuture<List<Comment>> comments = supplyConcurrently(() -> getCommentsByPostId(postId));
+        final AuditionPost post = loadPostById(postId);
+        return new PostWithComments(post, join(comments));
+    }
+
+    /**
+     * Retrieve all posts, optionally restricted to a user, each together with its comments. The comments of all posts
+     * are fetched once, concurrently with the posts, and grouped by post id instead of issuing one comment lookup per
+     * post.
+     *
+     * @param userId optional user id filter
+     * @return the matching posts and their comments
+     */
+    public List<PostWithComments> getPostsWithComments(final Integer userId) {
+        final CompletableFuture<List<Comment>> comments = supplyConcurrently(this::getComments);
+        final List<AuditionPost> posts = Objects.requireNonNullElse(getPosts(), List.of());
+        final List<Comment> allComments = Objects.requireNonNullElse(join(comments), List.of());
+        final long filtering = RequestTimer.start();
+        final Map<Integer, List<Comment>> commentsByPost = allComments.stream()
+            .collect(Collectors.groupingBy(Comment::postId));
+        final List<PostWithComments> postsWithComments = posts.stream()
+            .filter(post -> userId == null || post.userId() == userId)
+            .map(post -> new PostWithComments(post, commentsByPost.getOrDefault(post.id(), List.of())))
+            .toList();
+        RequestTimer.stop(RequestTimer.Phase.FILTERING, filtering);
+        return postsWithComments;
+    }
+
+    /**
+     * Export the cached posts and comments.
+     *
+     * @return the cache contents; empty when the cache is disabled
+     */
+    @SuppressWarnings("unchecked")
+    public CacheSnapshot.Contents snapshotCache() {
+        final List<CacheSnapshot.Entry<AuditionPost>> posts = new ArrayList<>();
+        final List<CacheSnapshot.Entry<Comment>> comments = new ArrayList<>();
+        cache.cachedValues().forEach((key, cached) -> {
+            if (key.startsWith(POST_BY_ID)) {
+                posts.add(new CacheSnapshot.Entry<>(key, cached.expiresAtMillis(),
+                    List.of((AuditionPost) cached.value())));
+            } else if (POSTS.equals(key)) {
+                posts.add(new CacheSnapshot.Entry<>(key, cached.expiresAtMillis(), (List<AuditionPost>) cached.value()));
+            } else {
+                comments.add(new CacheSnapshot.Entry<>(key, cached.expiresAtMillis(), (List<Comment>) cached.value()));
+            }
+        });
+        return new CacheSnapshot.Contents(posts, comments);
+    }
+
+    /**
+     * Put exported posts and comments back into the cache and publish them to the listeners. Entries that have
+     * expired in the meantime are skipped.
+     *
+     * @param contents the cache contents
+     * @return the number of restored entries
+     */
+    public int restoreCache(final CacheSnapshot.Contents contents) {
+        int restored = 0;
+        for (final CacheSnapshot.Entry<AuditionPost> entry : contents.posts()) {
+            final List<AuditionPost> posts = Collections.unmodifiableList(entry.values());
+            final Object value = entry.key().startsWith(POST_BY_ID)
+                ? posts.stream().findFirst().orElse(null) : compactPosts(posts);
+            if (cache.put(entry.key(), value, entry.expiresAtMillis())) {
+                if (POSTS.equals(entry.key())) {
+                    publishAllPosts(posts);
+                } else {
+                    publishPosts(posts);
+                }
+                restored++;
+            }
+        }
+        for (final CacheSnapshot.Entry<Comment> entry : contents.comments()) {
+            final List<Comment> comments = Collections.unmodifiableList(entry.values());
+            final String key = entry.key().startsWith(LEGACY_COMMENTS_FOR_POST)
+                ? POST_COMMENTS + entry.key().substring(LEGACY_COMMENTS_FOR_POST.length()) : entry.key();
+            if (cache.put(key, compactComments(comments), entry.expiresAtMillis())) {
+                if (ALL_COMMENTS.equals(key)) {
+                    publishAllComments(comments);
+                } else {
+                    publishComments(comments);
+                }
+                restored++;
+            }
+        }
+        return restored;
+    }
+
+    private AuditionPost loadPostById(final String postId) {
+        return cached(POST_BY_ID + postId, () -> {
+            final AuditionPost post = auditionIntegrationClient.getPostById(postId);
+            if (post != null) {
+                publishPosts(List.of(post));
+            }
+            return post;
+        });
+    }
+
+    private List<Comment> getCommentsOfPost(final CommentRouteSelector.Route requested, final String postId) {
+        commentPrefetcher.recordLookup(postId);
+        return loadCommentsOfPost(requested, postId);
+    }
+
+    private List<Comment> loadCommentsOfPost(final CommentRouteSelector.Route requested, final String postId) {
+        return cached(POST_COMMENTS + postId, () -> compactComments(publishComments(
+            commentRouteSelector.execute(requested, route -> route == CommentRouteSelector.Route.NESTED
+                ? auditionIntegrationClient.getCommentsByPostId(postId)
+                : auditionIntegrationClient.getCommentsForPost(postId)))));
+    }
+
+    private PagedResult<Comment> getCommentsOfPost(final CommentRouteSelector.Route requested, final String postId,
+        final Pagination pagination) {
+        commentPrefetcher.recordLookup(postId);
+        final List<Comment> cached = cachedIfPresent(POST_COMMENTS + postId);
+        if (cached != null) {
+            final long filtering = RequestTimer.start();
+            final PagedResult<Comment> page = PagedResult.slice(cached, pagination);
+            RequestTimer.stop(RequestTimer.Phase.FILTERING, filtering);
+            return page;
+        }
+        final Pagination window = lookahead(pagination);
+        return PagedResult.fromLookahead(publishComments(
+                commentRouteSelector.execute(requested, route -> route == CommentRouteSelector.Route.NESTED
+                    ? auditionIntegrationClient.getCommentsByPostId(postId, window)
+                    : auditionIntegrationClient.getCommentsForPost(postId, window))),
+            pagination.limit());
+    }
+
+    /**
+     * Cache lookup recording the time spent in the cache, but not in the loader, as the cache phase of the current
+     * request.
+     */
+    private <T> T cached(final String key, final Supplier<T> loader) {
+        final RequestTimer timer = RequestTimer.current();
+        if (timer == null || !cache.isEnabled()) {
+            return cache.get(key, loader);
+        }
+        final AtomicLong loading = new AtomicLong();
+        final long started = System.nanoTime();
+        final T value = cache.get(key, () -> {
+            final long loadStarted = System.nanoTime();
+            try {
+                return loader.get();
+            } finally {
+                loading.set(System.nanoTime() - loadStarted);
+            }
+        });
+        timer.record(RequestTimer.Phase.CACHE, System.nanoTime() - started - loading.get());
+        return value;
+    }
+
+    private <T> T cachedIfPresent(final String key) {
+        final long started = RequestTimer.start();
+        final T value = cache.getIfPresent(key);
+        RequestTimer.stop(RequestTimer.Phase.CACHE, started);
+        return value;
+    }
+
+    private List<AuditionPost> publishPosts(final List<AuditionPost> posts) {
+        if (posts == null) {
+            return null;
+        }
+        final List<AuditionPost> shared = Collections.unmodifiableList(posts);
+        listeners.forEach(listener -> listener.onPosts(shared));
+        return shared;
+    }
+
+    private List<AuditionPost> publishAllPosts(final List<AuditionPost> posts) {
+        final List<AuditionPost> shared = publishPosts(posts);
+        if (shared != null) {
+            listeners.forEach(AuditionDataListener::onAllPosts);
+        }
+        return shared;
+    }
+
+    private List<Comment> publishAllComments(final List<Comment> comments) {
+        final List<Comment> shared = publishComments(comments);
+        if (shared != null) {
+            listeners.forEach(AuditionDataListener::onAllComments);
+        }
+        return shared;
+    }
+
+    private List<Comment> publishComments(final List<Comment> comments) {
+        if (comments == null) {
+            return null;
+        }
+        final List<Comment> shared = Collections.unmodifiableList(comments);
+        listeners.forEach(listener -> listener.onComments(shared));
+        return shared;
+    }
+
+    private List<AuditionPost> compactPosts(final List<AuditionPost> posts) {
+        return posts != null && cache.isCompact() ? CompactPosts.of(posts) : posts;
+    }
+
+    private List<Comment> compactComments(final List<Comment> comments) {
+        return comments != null && cache.isCompact() ? CompactComments.of(comments) : comments;
+    }
+
+    private static Pagination lookahead(final Pagination pagination) {
+        return new Pagination(pagination.offset(), pagination.limit() + 1);
+    }
+
+    private <T> CompletableFuture<T> supplyConcurrently(final Supplier<T> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, executor);
+        } catch (final RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(supplier.get());
+        }
+    }
+
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
     }
 }
@@ -0,0 +1,100 @@
+package com.audition.service;
+
+import com.audition.common.io.AtomicFile;
+import com.audition.model.AuditionPost;
+import com.audition.model.Comment;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Local copy of the cached posts and comments, written at shutdown so the next instance can start with a warm cache.
+ *
+ * <p>The snapshot is a JSON document holding every cached post and comment collection under its cache key, together
+ * with the time it expires, so restored entries are not served longer than they would have been. It is an
+ * {@link AtomicFile}, replaced as a whole.
+ */
+public class CacheSnapshot {
+
+    private final AtomicFile file;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Create a snapshot handle.
+     *
+     * @param path         the snapshot file
+     * @param objectMapper mapper the snapshot is read and written with
+     */
+    public CacheSnapshot(final Path path, final ObjectMapper objectMapper) {
+        this.file = new AtomicFile(path);
+        this.objectMapper = objectMapper;
+    }
+
+    public Path getPath() {
+        return file.getPath();
+    }
+
+    /**
+     * Whether a snapshot can be read.
+     *
+     * @return {@code true} when the snapshot file exists and is readable
+     */
+    public boolean exists() {
+        return file.exists();
+    }
+
+    /**
+     * Read the snapshot.
+     *
+     * @return the snapshotted cache contents
+     * @throws IOException when the file cannot be read or parsed
+     */
+    public Contents read() throws IOException {
+        try (InputStream input = Files.newInputStream(file.getPath())) {
+            return objectMapper.readValue(input, Contents.class);
+        }
+    }
+
+    /**
+     * Replace the snapshot.
+     *
+     * @param contents the cache contents to store
+     * @throws IOException when the file cannot be written
+     */
+    public void write(final Contents contents) throws IOException {
+        file.replace(output -> objectMapper.writeValue(output, contents));
+    }
+
+    /**
+     * Snapshotted cache contents. Missing collections (the application mapper leaves empty ones out) are read as
+     * empty.
+     *
+     * @param posts    cached post collections and single posts (as a collection of one)
+     * @param comments cached comment collections
+     */
+    public record Contents(List<Entry<AuditionPost>> posts, List<Entry<Comment>> comments) {
+
+        public Contents {
+            posts = posts == null ? List.of() : posts;
+            comments = comments == null ? List.of() : comments;
+        }
+    }
+
+    /**
+     * A snapshotted cache entry.
+     *
+     * @param key             the cache key
+     * @param expiresAtMillis wall-clock time the entry expires, in epoch milliseconds
+     * @param values          the cached elements
+     * @param <T>             the element type
+     */
+    public record Entry<T>(String key, long expiresAtMillis, List<T> values) {
+
+        public Entry {
+            values = values == null ? List.of() : values;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.audition.service;
+
+import com.audition.common.logging.AuditionLogger;
+import com.audition.configuration.CacheProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Restores the cache from the {@link CacheSnapshot} at startup and flushes it to the snapshot at shutdown, when
+ * {@code application.cache.snapshot} is enabled.
+ *
+ * <p>It starts before the web server, so the first requests are served from the restored cache, and it stops last,
+ * after the web server has drained the in-flight requests and {@link com.audition.configuration.GracefulShutdown} has
+ * let the background work finish, so the snapshot holds everything fetched until the end.
+ */
+@Component
+public class CacheSnapshotStore implements SmartLifecycle {
+
+    /**
+     * Below the web server (default phase - 2048) and the graceful shutdown drain (default phase - 3072).
+     */
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    private static final Logger LOG = LoggerFactory.getLogger(CacheSnapshotStore.class);
+
+    private final CacheProperties properties;
+    private final AuditionService auditionService;
+    private final CacheSnapshot snapshot;
+    private final AuditionLogger auditionLogger;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * Create the store.
+     *
+     * @param properties      cache settings
+     * @param auditionService service owning the cached posts and comments
+     * @param objectMapper    mapper the snapshot is read and written with
+     * @param auditionLogger  application logger
+     */
+    public CacheSnapshotStore(final CacheProperties properties, final AuditionService auditionService,
+        final ObjectMapper objectMapper, final AuditionLogger auditionLogger) {
+        this.properties = properties;
+        this.auditionService = auditionService;
+        this.snapshot = new CacheSnapshot(properties.getSnapshotPath(), objectMapper);
+        this.auditionLogger = auditionLogger;
+    }
+
+    @Override
+    public void start() {
+        if (running.compareAndSet(false, true) && isEnabled() && snapshot.exists()) {
+            try {
+                final int restored = auditionService.restoreCache(snapshot.read());
+                auditionLogger.info(LOG, "Restored {} cache entries from the cache snapshot", restored);
+            } catch (final IOException e) {
+                auditionLogger.logErrorWithException(LOG, "Could not read the cache snapshot", e);
+            }
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (running.compareAndSet(true, false) && isEnabled()) {
+            try {
+                final CacheSnapshot.Contents contents = auditionService.snapshotCache();
+                snapshot.write(contents);
+                auditionLogger.info(LOG, "Wrote {} cache entries to the cache snapshot",
+                    contents.posts().size() + contents.comments().size());
+            } catch (final IOException e) {
+                auditionLogger.logErrorWithException(LOG, "Could not write the cache snapshot", e);
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private boolean isEnabled() {
+        return properties.isEnabled() && properties.isSnapshot();
+    }
+}
@@ -0,0 +1,144 @@
+package com.audition.service;
+
+import com.audition.configuration.CacheProperties;
+import com.audition.configuration.PrefetchProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Warms the comment cache of a post in the background after the post has been served, since a post lookup is almost
+ * always followed by a lookup of its comments.
+ *
+ * <p>Prefetches run on the bounded, low-priority {@code commentPrefetchExecutor}. Under load they are dropped rather
+ * than queued: when the executor queue is full, or when a prefetch waited longer than {@code max-queue-time} for a
+ * thread. A comment lookup for a post whose prefetch started within the cache TTL counts as a hit.
+ *
+ * <p>Metrics:
+ * <ul>
+ *   <li>{@code audition.prefetch.requests} - prefetches by {@code outcome} ({@code completed}, {@code failed},
+ *       {@code dropped} or {@code expired})
+ *   <li>{@code audition.prefetch.hits} - comment lookups served by a prefetch
+ *   <li>{@code audition.prefetch.hit.ratio} - hits per completed prefetch
+ * </ul>
+ */
+@Component
+@EnableConfigurationProperties({PrefetchProperties.class, CacheProperties.class})
+public class CommentPrefetcher {
+
+    private static final String REQUESTS = "audition.prefetch.requests";
+    private static final String OUTCOME_TAG = "outcome";
+    private static final int TRACKING_LIMIT = 1024;
+
+    private final PrefetchProperties properties;
+    private final long hitWindowNanos;
+    private final Executor executor;
+    private final ConcurrentMap<String, Long> prefetchedAt = new ConcurrentHashMap<>();
+    private final Counter completed;
+    private final Counter failed;
+    private final Counter dropped;
+    private final Counter expired;
+    private final Counter hits;
+
+    /**
+     * Create the prefetcher.
+     *
+     * @param properties      prefetch settings
+     * @param cacheProperties cache settings; a prefetch can only be hit within the cache TTL
+     * @param executor        bounded executor running the prefetches
+     * @param meterRegistry   registry receiving the prefetch metrics
+     */
+    public CommentPrefetcher(final PrefetchProperties properties, final CacheProperties cacheProperties,
+        @Qualifier("commentPrefetchExecutor") final Executor executor, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.hitWindowNanos = cacheProperties.getTtl().toNanos();
+        this.executor = executor;
+        this.completed = meterRegistry.counter(REQUESTS, OUTCOME_TAG, "completed");
+        this.failed = meterRegistry.counter(REQUESTS, OUTCOME_TAG, "failed");
+        this.dropped = meterRegistry.counter(REQUESTS, OUTCOME_TAG, "dropped");
+        this.expired = meterRegistry.counter(REQUESTS, OUTCOME_TAG, "expired");
+        this.hits = meterRegistry.counter("audition.prefetch.hits");
+        Gauge.builder("audition.prefetch.hit.ratio", this, CommentPrefetcher::hitRatio).register(meterRegistry);
+    }
+
+    /**
+     * A prefetcher that never prefetches. Useful for unit tests.
+     *
+     * @return a disabled prefetcher
+     */
+    public static CommentPrefetcher disabled() {
+        return new CommentPrefetcher(new PrefetchProperties(), new CacheProperties(), Runnable::run,
+            new SimpleMeterRegistry());
+    }
+
+    /**
+     * Whether prefetching is enabled.
+     *
+     * @return {@code true} when served posts trigger a prefetch of their comments
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Schedule the prefetch of the comments of a post, or drop it when the executor is saturated.
+     *
+     * @param postId the post identifier
+     * @param load   loads the comments into the cache
+     */
+    public void prefetch(final String postId, final Runnable load) {
+        final long scheduledAt = System.nanoTime();
+        try {
+            executor.execute(() -> run(postId, load, scheduledAt));
+        } catch (final RejectedExecutionException e) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Record a comment lookup, counting a hit when the comments of the post were prefetched.
+     *
+     * @param postId the post identifier
+     */
+    public void recordLookup(final String postId) {
+        if (prefetchedAt.isEmpty()) {
+            return;
+        }
+        final Long startedAt = prefetchedAt.remove(postId);
+        if (startedAt != null && System.nanoTime() - startedAt <= hitWindowNanos) {
+            hits.increment();
+        }
+    }
+
+    private void run(final String postId, final Runnable load, final long scheduledAt) {
+        final long startedAt = System.nanoTime();
+        if (startedAt - scheduledAt > properties.getMaxQueueTime().toNanos()) {
+            expired.increment();
+            return;
+        }
+        if (prefetchedAt.size() >= TRACKING_LIMIT) {
+            prefetchedAt.values().removeIf(at -> startedAt - at > hitWindowNanos);
+        }
+        prefetchedAt.put(postId, startedAt);
+        try {
+            load.run();
+            completed.increment();
+        } catch (final RuntimeException e) {
+            prefetchedAt.remove(postId, startedAt);
+            failed.increment();
+        }
+    }
+
+    private double hitRatio() {
+        final double prefetches = completed.count();
+        return prefetches == 0 ? 0 : hits.count() / prefetches;
+    }
+}
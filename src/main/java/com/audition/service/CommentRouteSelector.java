@@ -0,0 +1,212 @@
+package com.audition.service;
+
+import com.audition.common.exception.SystemException;
+import com.audition.common.resilience.LatencyWindow;
+import com.audition.configuration.CommentRoutingProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Chooses the upstream route of comment lookups by post id.
+ *
+ * <p>Both routes return the same comments, so with {@code application.comment-routing.enabled} a lookup is sent to
+ * the route with the lower error rate over the recent window or, within {@code error-rate-tolerance}, the lower median
+ * latency. A {@code probe-rate} share of lookups goes to the other route to notice when it recovers or becomes
+ * faster. Lookups answered with a 4xx status count as successful, since they say nothing about the route's health.
+ *
+ * <p>Metrics (all tagged with {@code route}):
+ * <ul>
+ *   <li>{@code audition.comments.route.requests} - timer of the lookups, tagged with {@code outcome}
+ *   <li>{@code audition.comments.route.selections} - routing decisions, tagged with {@code reason}
+ *       ({@code requested}, {@code preferred} or {@code probe})
+ *   <li>{@code audition.comments.route.error.rate} - error rate over the recent window
+ * </ul>
+ */
+@Component
+@EnableConfigurationProperties(CommentRoutingProperties.class)
+public class CommentRouteSelector {
+
+    private static final String ROUTE_TAG = "route";
+    private static final double MEDIAN = 0.5;
+
+    private final CommentRoutingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<Route, RouteStats> stats = new EnumMap<>(Route.class);
+
+    /**
+     * Create the selector.
+     *
+     * @param properties    routing settings
+     * @param meterRegistry registry receiving the routing metrics
+     */
+    public CommentRouteSelector(final CommentRoutingProperties properties, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        for (final Route route : Route.values()) {
+            final RouteStats routeStats = new RouteStats(properties.getWindowSize());
+            stats.put(route, routeStats);
+            Gauge.builder("audition.comments.route.error.rate", routeStats, RouteStats::errorRate)
+                .tag(ROUTE_TAG, route.tag)
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * A selector that always uses the requested route. Useful for unit tests.
+     *
+     * @return a disabled selector
+     */
+    public static CommentRouteSelector disabled() {
+        return new CommentRouteSelector(new CommentRoutingProperties(), new SimpleMeterRegistry());
+    }
+
+    /**
+     * Run a comment lookup on the chosen route and record its latency and outcome.
+     *
+     * @param requested the route the caller asked for
+     * @param lookup    performs the lookup on the given route
+     * @param <T>       the lookup result type
+     * @return the lookup result
+     */
+    public <T> T execute(final Route requested, final Function<Route, T> lookup) {
+        if (!properties.isEnabled()) {
+            return lookup.apply(requested);
+        }
+        final Route route = choose(requested);
+        final long start = System.nanoTime();
+        boolean success = false;
+        try {
+            final T result = lookup.apply(route);
+            success = true;
+            return result;
+        } catch (final SystemException e) {
+            success = e.getStatusCode() != null && e.getStatusCode() >= 400 && e.getStatusCode() < 500;
+            throw e;
+        } finally {
+            record(route, System.nanoTime() - start, success);
+        }
+    }
+
+    /**
+     * Choose the route for a lookup.
+     *
+     * @param requested the route the caller asked for
+     * @return the route to use
+     */
+    Route choose(final Route requested) {
+        final RouteStats requestedStats = stats.get(requested);
+        final RouteStats otherStats = stats.get(requested.other());
+        final String reason;
+        Route chosen;
+        if (requestedStats.samples() < properties.getMinSamples() || otherStats.samples() < properties.getMinSamples()) {
+            chosen = requested;
+            reason = "requested";
+        } else {
+            chosen = preferred(requested, requestedStats, otherStats);
+            reason = "preferred";
+        }
+        final boolean probe = ThreadLocalRandom.current().nextDouble() < properties.getProbeRate();
+        if (probe) {
+            chosen = chosen.other();
+        }
+        meterRegistry.counter("audition.comments.route.selections", ROUTE_TAG, chosen.tag,
+            "reason", probe ? "probe" : reason).increment();
+        return chosen;
+    }
+
+    /**
+     * Record the outcome of a lookup on a route.
+     *
+     * @param route   the route used
+     * @param nanos   time the lookup took
+     * @param success whether the route answered
+     */
+    void record(final Route route, final long nanos, final boolean success) {
+        stats.get(route).record(nanos, success);
+        Timer.builder("audition.comments.route.requests")
+            .tag(ROUTE_TAG, route.tag)
+            .tag("outcome", success ? "success" : "failure")
+            .register(meterRegistry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Route preferred(final Route requested, final RouteStats requestedStats, final RouteStats otherStats) {
+        final double errorRateDifference = requestedStats.errorRate() - otherStats.errorRate();
+        if (Math.abs(errorRateDifference) > properties.getErrorRateTolerance()) {
+            return errorRateDifference > 0 ? requested.other() : requested;
+        }
+        return otherStats.latencies.percentileNanos() < requestedStats.latencies.percentileNanos()
+            ? requested.other() : requested;
+    }
+
+    /**
+     * The two equivalent upstream routes returning the comments of a post.
+     */
+    public enum Route {
+        /**
+         * {@code GET /posts/{id}/comments}.
+         */
+        NESTED("posts.comments"),
+        /**
+         * {@code GET /comments?postId={id}}.
+         */
+        QUERY("comments.byPostId");
+
+        private final String tag;
+
+        Route(final String tag) {
+            this.tag = tag;
+        }
+
+        Route other() {
+            return this == NESTED ? QUERY : NESTED;
+        }
+    }
+
+    /**
+     * Rolling latency and error rate of one route. Latency is only taken from successful lookups, so fast failures do
+     * not make a failing route look attractive.
+     */
+    private static final class RouteStats {
+
+        private final LatencyWindow latencies;
+        private final AtomicIntegerArray outcomes;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        RouteStats(final int windowSize) {
+            this.latencies = new LatencyWindow(windowSize, MEDIAN);
+            this.outcomes = new AtomicIntegerArray(windowSize);
+        }
+
+        void record(final long nanos, final boolean success) {
+            if (success) {
+                latencies.record(nanos);
+            }
+            final int failed = success ? 0 : 1;
+            final int slot = (int) (count.getAndIncrement() % outcomes.length());
+            failures.addAndGet(failed - outcomes.getAndSet(slot, failed));
+        }
+
+        int samples() {
+            return (int) Math.min(count.get(), outcomes.length());
+        }
+
+        double errorRate() {
+            final int samples = samples();
+            return samples == 0 ? 0 : (double) failures.get() / samples;
+        }
+    }
+}
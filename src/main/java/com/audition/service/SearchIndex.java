@@ -0,0 +1,456 @@
+package com.audition.service;
+
+import com.audition.common.collection.IntIntHashMap;
+import com.audition.common.collection.StringIntHashMap;
+import com.audition.configuration.SearchProperties;
+import com.audition.model.AuditionPost;
+import com.audition.model.Comment;
+import com.audition.model.SearchHit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory inverted index over post titles/bodies and comment names/bodies/emails, ranked with BM25.
+ *
+ * <p>The index is fed incrementally through {@link AuditionDataListener} as the service fetches or refreshes data.
+ * Each distinct term is stored once in the term dictionary, a primitive {@link StringIntHashMap} from term to term
+ * number; its posting list is a primitive {@code int[]} of (document, term frequency) pairs in insertion order. Re-delivered posts and comments replace their
+ * previous document, which is tombstoned and dropped on the next compaction. Whether the index covers all posts and all
+ * comments is tracked separately from its size, since single posts and pages are indexed as they are fetched too.
+ *
+ * <p>Queries take the read lock only, so searches run in parallel with each other. Deliveries are first compared
+ * with the indexed documents under the read lock; the write lock is taken only when a document is new or changed, so
+ * the repeated fetches of unchanged data that make up most of the traffic do not serialize request threads.
+ *
+ * <p>Indexing is opt-in through {@code application.search.enabled}; while disabled, deliveries are ignored.
+ */
+@Component
+@EnableConfigurationProperties(SearchProperties.class)
+public class SearchIndex implements AuditionDataListener {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int COMPACTION_THRESHOLD = 1024;
+
+    private final SearchProperties properties;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final StringIntHashMap termDictionary = new StringIntHashMap(INITIAL_CAPACITY);
+    private int[][] postings = new int[INITIAL_CAPACITY][];
+    private int[] postingSizes = new int[INITIAL_CAPACITY];
+
+    private Object[] documents = new Object[INITIAL_CAPACITY];
+    private int[] documentLengths = new int[INITIAL_CAPACITY];
+    private int documentCount;
+    private final BitSet deleted = new BitSet();
+    private long liveTokens;
+
+    private final IntIntHashMap postDocuments = new IntIntHashMap();
+    private final IntIntHashMap commentDocuments = new IntIntHashMap();
+
+    private volatile boolean allPosts;
+    private volatile boolean allComments;
+
+    /**
+     * Create the index.
+     *
+     * @param properties search settings
+     */
+    public SearchIndex(final SearchProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void onPosts(final List<AuditionPost> posts) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        final List<AuditionPost> changed = changed(posts, postDocuments, AuditionPost::id);
+        if (changed.isEmpty()) {
+            return;
+        }
+        final Lock write = lock.writeLock();
+        write.lock();
+        try {
+            for (final AuditionPost post : changed) {
+                index(postDocuments, post.id(), post, post.title(), post.body());
+            }
+            compactIfNeeded();
+        } finally {
+            write.unlock();
+        }
+    }
+
+    @Override
+    public void onComments(final List<Comment> comments) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        final List<Comment> changed = changed(comments, commentDocuments, Comment::id);
+        if (changed.isEmpty()) {
+            return;
+        }
+        final Lock write = lock.writeLock();
+        write.lock();
+        try {
+            for (final Comment comment : changed) {
+                index(commentDocuments, comment.id(), comment, comment.name(), comment.body(),
+                    comment.email());
+            }
+            compactIfNeeded();
+        } finally {
+            write.unlock();
+        }
+    }
+
+    @Override
+    public void onAllPosts() {
+        if (properties.isEnabled()) {
+            allPosts = true;
+        }
+    }
+
+    @Override
+    public void onAllComments() {
+        if (properties.isEnabled()) {
+            allComments = true;
+        }
+    }
+
+    /**
+     * Whether fetched data is indexed and searches are served.
+     *
+     * @return {@code true} when {@code application.search.enabled} is set
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Whether the complete collection of posts has been indexed, rather than only single posts or pages.
+     *
+     * @return {@code true} once all posts were delivered
+     */
+    public boolean hasAllPosts() {
+        return allPosts;
+    }
+
+    /**
+     * Whether the complete collection of comments has been indexed, rather than only the comments of single posts.
+     *
+     * @return {@code true} once all comments were delivered
+     */
+    public boolean hasAllComments() {
+        return allComments;
+    }
+
+    /**
+     * Number of searchable documents.
+     *
+     * @return the number of indexed posts and comments
+     */
+    public int size() {
+        final Lock read = lock.readLock();
+        read.lock();
+        try {
+            return postDocuments.size() + commentDocuments.size();
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Return the best matching documents for a free text query. Documents matching any query term are candidates;
+     * they are ranked by BM25 and ties are broken in favour of the earlier indexed document.
+     *
+     * @param query free text query
+     * @param limit maximum number of hits
+     * @return up to {@code limit} hits, best first
+     */
+    public List<SearchHit> search(final String query, final int limit) {
+        final Set<String> terms = tokenize(query);
+        final Lock read = lock.readLock();
+        read.lock();
+        try {
+            final int live = documentCount - deleted.cardinality();
+            if (terms.isEmpty() || live == 0 || limit <= 0) {
+                return List.of();
+            }
+            final double averageLength = (double) liveTokens / live;
+            final double[] scores = new double[documentCount];
+            for (final String term : terms) {
+                final int termId = termDictionary.get(term, -1);
+                if (termId >= 0) {
+                    accumulate(postings[termId], postingSizes[termId], live, averageLength, scores);
+                }
+            }
+            return topK(scores, limit);
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Split text into lower-case alphanumeric terms, dropping terms shorter than two characters.
+     *
+     * @param text the text, may be {@code null}
+     * @return the distinct terms in order of first occurrence
+     */
+    static Set<String> tokenize(final String text) {
+        final Set<String> terms = new LinkedHashSet<>();
+        forEachToken(text, terms::add);
+        return terms;
+    }
+
+    /**
+     * Select the delivered documents that are not indexed yet or differ from their indexed version.
+     */
+    private <T> List<T> changed(final List<T> delivered, final IntIntHashMap documentIds, final ToIntFunction<T> id) {
+        final List<T> changed = new ArrayList<>();
+        final Lock read = lock.readLock();
+        read.lock();
+        try {
+            for (final T document : delivered) {
+                if (document != null) {
+                    final int previous = documentIds.get(id.applyAsInt(document), -1);
+                    if (previous < 0 || !document.equals(documents[previous])) {
+                        changed.add(document);
+                    }
+                }
+            }
+        } finally {
+            read.unlock();
+        }
+        return changed;
+    }
+
+    private void index(final IntIntHashMap documentIds, final int id, final Object document, final String... fields) {
+        final int previous = documentIds.get(id, -1);
+        if (previous >= 0 && document.equals(documents[previous])) {
+            // indexed by a concurrent delivery since it was compared
+            return;
+        }
+        if (previous >= 0) {
+            deleted.set(previous);
+            liveTokens -= documentLengths[previous];
+        }
+        final int documentId = addDocument(document);
+        documentIds.put(id, documentId);
+
+        final Map<String, int[]> frequencies = new HashMap<>();
+        for (final String field : fields) {
+            forEachToken(field, token -> frequencies.computeIfAbsent(token, t -> new int[1])[0]++);
+        }
+        int length = 0;
+        for (final Map.Entry<String, int[]> entry : frequencies.entrySet()) {
+            appendPosting(termId(entry.getKey()), documentId, entry.getValue()[0]);
+            length += entry.getValue()[0];
+        }
+        documentLengths[documentId] = length;
+        liveTokens += length;
+    }
+
+    private int addDocument(final Object document) {
+        if (documentCount == documents.length) {
+            documents = Arrays.copyOf(documents, documentCount * 2);
+            documentLengths = Arrays.copyOf(documentLengths, documentCount * 2);
+        }
+        documents[documentCount] = document;
+        return documentCount++;
+    }
+
+    private int termId(final String term) {
+        final int existing = termDictionary.get(term, -1);
+        if (existing >= 0) {
+            return existing;
+        }
+        final int termId = termDictionary.size();
+        if (termId == postings.length) {
+            postings = Arrays.copyOf(postings, termId * 2);
+            postingSizes = Arrays.copyOf(postingSizes, termId * 2);
+        }
+        postings[termId] = new int[4];
+        termDictionary.put(term, termId);
+        return termId;
+    }
+
+    private void appendPosting(final int termId, final int documentId, final int frequency) {
+        int[] list = postings[termId];
+        final int size = postingSizes[termId];
+        if (size + 2 > list.length) {
+            list = Arrays.copyOf(list, list.length * 2);
+            postings[termId] = list;
+        }
+        list[size] = documentId;
+        list[size + 1] = frequency;
+        postingSizes[termId] = size + 2;
+    }
+
+    private void accumulate(final int[] list, final int size, final int live, final double averageLength,
+        final double[] scores) {
+        int documentFrequency = 0;
+        for (int i = 0; i < size; i += 2) {
+            if (!deleted.get(list[i])) {
+                documentFrequency++;
+            }
+        }
+        if (documentFrequency == 0) {
+            return;
+        }
+        final double idf = Math.log(1 + (live - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        for (int i = 0; i < size; i += 2) {
+            final int documentId = list[i];
+            if (!deleted.get(documentId)) {
+                final double tf = list[i + 1];
+                final double norm = K1 * (1 - B + B * documentLengths[documentId] / averageLength);
+                scores[documentId] += idf * tf * (K1 + 1) / (tf + norm);
+            }
+        }
+    }
+
+    private List<SearchHit> topK(final double[] scores, final int limit) {
+        // min-heap of document ids, ordered by score, holding the best `limit` documents seen so far
+        final int[] heap = new int[Math.min(limit, scores.length)];
+        int heapSize = 0;
+        for (int documentId = 0; documentId < scores.length; documentId++) {
+            if (scores[documentId] <= 0) {
+                continue;
+            }
+            if (heapSize < heap.length) {
+                heap[heapSize] = documentId;
+                siftUp(heap, heapSize++, scores);
+            } else if (scores[documentId] > scores[heap[0]]) {
+                heap[0] = documentId;
+                siftDown(heap, heapSize, scores);
+            }
+        }
+        final SearchHit[] hits = new SearchHit[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            final int documentId = heap[0];
+            hits[i] = hit(documentId, scores[documentId]);
+            heap[0] = heap[i];
+            siftDown(heap, i, scores);
+        }
+        return List.of(hits);
+    }
+
+    private SearchHit hit(final int documentId, final double score) {
+        final Object document = documents[documentId];
+        if (document instanceof AuditionPost post) {
+            return new SearchHit(SearchHit.POST, post.id(), score, post);
+        }
+        final Comment comment = (Comment) document;
+        return new SearchHit(SearchHit.COMMENT, comment.id(), score, comment);
+    }
+
+    private static void siftUp(final int[] heap, final int index, final double[] scores) {
+        int child = index;
+        while (child > 0) {
+            final int parent = (child - 1) >>> 1;
+            if (!lower(heap[child], heap[parent], scores)) {
+                return;
+            }
+            swap(heap, child, parent);
+            child = parent;
+        }
+    }
+
+    private static void siftDown(final int[] heap, final int size, final double[] scores) {
+        int parent = 0;
+        while (true) {
+            final int left = 2 * parent + 1;
+            if (left >= size) {
+                return;
+            }
+            final int right = left + 1;
+            final int smallest = right < size && lower(heap[right], heap[left], scores) ? right : left;
+            if (!lower(heap[smallest], heap[parent], scores)) {
+                return;
+            }
+            swap(heap, parent, smallest);
+            parent = smallest;
+        }
+    }
+
+    /**
+     * Heap order: a lower score ranks lower; on equal scores the later indexed document ranks lower.
+     */
+    private static boolean lower(final int a, final int b, final double[] scores) {
+        return scores[a] < scores[b] || scores[a] == scores[b] && a > b;
+    }
+
+    private static void swap(final int[] heap, final int i, final int j) {
+        final int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+
+    /**
+     * Rebuild the index without tombstoned documents once they dominate it, so refreshes do not grow it unboundedly.
+     */
+    private void compactIfNeeded() {
+        final int tombstones = deleted.cardinality();
+        if (tombstones < COMPACTION_THRESHOLD || tombstones < documentCount / 2) {
+            return;
+        }
+        final List<Object> live = new ArrayList<>(documentCount - tombstones);
+        for (int documentId = 0; documentId < documentCount; documentId++) {
+            if (!deleted.get(documentId)) {
+                live.add(documents[documentId]);
+            }
+        }
+        termDictionary.clear();
+        postings = new int[INITIAL_CAPACITY][];
+        postingSizes = new int[INITIAL_CAPACITY];
+        documents = new Object[Math.max(INITIAL_CAPACITY, live.size())];
+        documentLengths = new int[documents.length];
+        documentCount = 0;
+        deleted.clear();
+        liveTokens = 0;
+        postDocuments.clear();
+        commentDocuments.clear();
+        for (final Object document : live) {
+            if (document instanceof AuditionPost post) {
+                index(postDocuments, post.id(), post, post.title(), post.body());
+            } else {
+                final Comment comment = (Comment) document;
+                index(commentDocuments, comment.id(), comment, comment.name(), comment.body(),
+                    comment.email());
+            }
+        }
+    }
+
+    private static void forEachToken(final String text, final Consumer<String> consumer) {
+        if (text == null) {
+            return;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            final boolean word = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (word && start < 0) {
+                start = i;
+            } else if (!word && start >= 0) {
+                if (i - start >= MIN_TOKEN_LENGTH) {
+                    consumer.accept(text.substring(start, i).toLowerCase(Locale.ROOT));
+                }
+                start = -1;
+            }
+        }
+    }
+}
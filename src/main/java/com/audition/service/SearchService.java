@@ -0,0 +1,47 @@
+package com.audition.service;
+
+import com.audition.common.exception.SystemException;
+import com.audition.model.SearchHit;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+/**
+ * Full-text search over posts and comments, served from the in-memory {@link SearchIndex}.
+ *
+ * <p>The index is kept current by the {@link AuditionService} as data is fetched. Until the complete collections of
+ * posts and comments have passed through it, a query first loads whichever of the two is missing, so a query never
+ * sees only the posts and comments that happened to be looked up individually.
+ *
+ * <p>Search is opt-in through {@code application.search.enabled}; while disabled, queries are answered with 404.
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private final AuditionService auditionService;
+    private final SearchIndex searchIndex;
+
+    /**
+     * Return the best matching posts and comments for a query.
+     *
+     * @param query free text query
+     * @param limit maximum number of hits
+     * @return the hits, best first
+     * @throws SystemException with status 404 when search is disabled
+     */
+    public List<SearchHit> search(final String query, final int limit) {
+        if (!searchIndex.isEnabled()) {
+            throw new SystemException("Search is disabled; set application.search.enabled to enable it",
+                HttpStatus.NOT_FOUND.getReasonPhrase(), HttpStatus.NOT_FOUND.value());
+        }
+        if (!searchIndex.hasAllPosts()) {
+            auditionService.getPosts();
+        }
+        if (!searchIndex.hasAllComments()) {
+            auditionService.getComments();
+        }
+        return searchIndex.search(query, limit);
+    }
+}
@@ -0,0 +1,275 @@
+package com.audition.service;
+
+import com.audition.common.collection.IndexedIntMaxHeap;
+import com.audition.common.collection.IntIntHashMap;
+import com.audition.configuration.StatisticsProperties;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionStatistics;
+import com.audition.model.Comment;
+import com.audition.model.PostCommentCount;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToIntFunction;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aggregate statistics over posts and comments, maintained incrementally as {@link AuditionService} fetches data.
+ *
+ * <p>All counters are primitive {@code int}-keyed maps. The comment count of every post lives in an indexed max-heap,
+ * so a new comment is an {@code O(log n)} update and the most commented posts are read in {@code O(k log k)}; no
+ * request ever recounts the underlying collections. Posts and comments are tracked by id, so data that is fetched
+ * again is not counted twice, and a post or comment that moved to another user or post is re-attributed. Whether the
+ * aggregates cover all posts and all comments is tracked separately, since single posts and pages are counted too.
+ *
+ * <p>Deliveries are first checked under the read lock; the write lock is taken only when a post or comment is new or
+ * was re-attributed, so repeated fetches of unchanged data do not serialize request threads.
+ *
+ * <p>Aggregation is opt-in through {@code application.statistics.enabled}; while disabled, deliveries are ignored.
+ */
+@Component
+@EnableConfigurationProperties(StatisticsProperties.class)
+public class StatisticsAggregator implements AuditionDataListener {
+
+    private final StatisticsProperties properties;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final IntIntHashMap postOwners = new IntIntHashMap();
+    private final IntIntHashMap postsPerUser = new IntIntHashMap();
+    private final IntIntHashMap commentPosts = new IntIntHashMap();
+    private final IndexedIntMaxHeap commentsPerPost = new IndexedIntMaxHeap();
+    private int users;
+    private volatile boolean allPosts;
+    private volatile boolean allComments;
+
+    /**
+     * Create the aggregator.
+     *
+     * @param properties statistics settings
+     */
+    public StatisticsAggregator(final StatisticsProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void onPosts(final List<AuditionPost> posts) {
+        if (!properties.isEnabled() || !anyChanged(posts, postOwners, AuditionPost::id, AuditionPost::userId)) {
+            return;
+        }
+        final Lock write = lock.writeLock();
+        write.lock();
+        try {
+            for (final AuditionPost post : posts) {
+                if (post != null) {
+                    addPost(post.id(), post.userId());
+                }
+            }
+        } finally {
+            write.unlock();
+        }
+    }
+
+    @Override
+    public void onComments(final List<Comment> comments) {
+        if (!properties.isEnabled() || !anyChanged(comments, commentPosts, Comment::id, Comment::postId)) {
+            return;
+        }
+        final Lock write = lock.writeLock();
+        write.lock();
+        try {
+            for (final Comment comment : comments) {
+                if (comment != null) {
+                    addComment(comment.id(), comment.postId());
+                }
+            }
+        } finally {
+            write.unlock();
+        }
+    }
+
+    @Override
+    public void onAllPosts() {
+        if (properties.isEnabled()) {
+            allPosts = true;
+        }
+    }
+
+    @Override
+    public void onAllComments() {
+        if (properties.isEnabled()) {
+            allComments = true;
+        }
+    }
+
+    /**
+     * Whether fetched data is aggregated and statistics are served.
+     *
+     * @return {@code true} when {@code application.statistics.enabled} is set
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Whether the complete collection of posts has been aggregated, rather than only single posts or pages.
+     *
+     * @return {@code true} once all posts were delivered
+     */
+    public boolean hasAllPosts() {
+        return allPosts;
+    }
+
+    /**
+     * Whether the complete collection of comments has been aggregated, rather than only the comments of single posts.
+     *
+     * @return {@code true} once all comments were delivered
+     */
+    public boolean hasAllComments() {
+        return allComments;
+    }
+
+    /**
+     * Summary counts and the most commented posts.
+     *
+     * @param top number of most commented posts to include
+     * @return the summary
+     */
+    public AuditionStatistics summary(final int top) {
+        final Lock read = lock.readLock();
+        read.lock();
+        try {
+            return new AuditionStatistics(postOwners.size(), commentPosts.size(), users, topCommented(top));
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Number of posts per user id, for users with at least one post.
+     *
+     * @return post counts ordered by user id
+     */
+    public SortedMap<Integer, Integer> postsPerUser() {
+        final Lock read = lock.readLock();
+        read.lock();
+        try {
+            final SortedMap<Integer, Integer> counts = new TreeMap<>();
+            postsPerUser.forEach((userId, count) -> {
+                if (count > 0) {
+                    counts.put(userId, count);
+                }
+            });
+            return counts;
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Number of comments per post id, for posts with at least one comment.
+     *
+     * @return comment counts ordered by post id
+     */
+    public SortedMap<Integer, Integer> commentsPerPost() {
+        final Lock read = lock.readLock();
+        read.lock();
+        try {
+            final SortedMap<Integer, Integer> counts = new TreeMap<>();
+            commentsPerPost.forEach((postId, count) -> {
+                if (count > 0) {
+                    counts.put(postId, count);
+                }
+            });
+            return counts;
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * The posts with the most comments.
+     *
+     * @param k maximum number of posts
+     * @return up to {@code k} posts, most comments first, ties by lower post id
+     */
+    public List<PostCommentCount> mostCommentedPosts(final int k) {
+        final Lock read = lock.readLock();
+        read.lock();
+        try {
+            return topCommented(k);
+        } finally {
+            read.unlock();
+        }
+    }
+
+    private List<PostCommentCount> topCommented(final int k) {
+        final List<PostCommentCount> top = new ArrayList<>(Math.min(k, commentsPerPost.size()));
+        commentsPerPost.top(k, (postId, count) -> {
+            if (count > 0) {
+                top.add(new PostCommentCount(postId, count));
+            }
+        });
+        return top;
+    }
+
+    /**
+     * Whether any delivered element is not tracked yet or is tracked under another owner.
+     */
+    private <T> boolean anyChanged(final List<T> delivered, final IntIntHashMap owners, final ToIntFunction<T> id,
+        final ToIntFunction<T> owner) {
+        final Lock read = lock.readLock();
+        read.lock();
+        try {
+            for (final T element : delivered) {
+                if (element != null) {
+                    final int key = id.applyAsInt(element);
+                    final int value = owner.applyAsInt(element);
+                    if (!owners.containsKey(key) || owners.get(key, value) != value) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } finally {
+            read.unlock();
+        }
+    }
+
+    private void addPost(final int postId, final int userId) {
+        if (postOwners.containsKey(postId)) {
+            final int previousUser = postOwners.get(postId, userId);
+            if (previousUser == userId) {
+                return;
+            }
+            countPost(previousUser, -1);
+        }
+        postOwners.put(postId, userId);
+        countPost(userId, 1);
+    }
+
+    private void countPost(final int userId, final int delta) {
+        final int count = postsPerUser.addTo(userId, delta);
+        if (delta > 0 && count == 1) {
+            users++;
+        } else if (delta < 0 && count == 0) {
+            users--;
+        }
+    }
+
+    private void addComment(final int commentId, final int postId) {
+        if (commentPosts.containsKey(commentId)) {
+            final int previousPost = commentPosts.get(commentId, postId);
+            if (previousPost == postId) {
+                return;
+            }
+            commentsPerPost.set(previousPost, commentsPerPost.priority(previousPost, 1) - 1);
+        }
+        commentPosts.put(commentId, postId);
+        commentsPerPost.set(postId, commentsPerPost.priority(postId, 0) + 1);
+    }
+}
@@ -0,0 +1,84 @@
+package com.audition.service;
+
+import com.audition.common.exception.SystemException;
+import com.audition.model.AuditionStatistics;
+import com.audition.model.PostCommentCount;
+import java.util.List;
+import java.util.SortedMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+/**
+ * Aggregate statistics over posts and comments, served from the incrementally maintained
+ * {@link StatisticsAggregator}.
+ *
+ * <p>Until the complete collections of posts and comments have passed through the aggregator, a request first loads
+ * whichever of the two is missing through the regular ingestion path, so statistics never describe only the posts and
+ * comments that happened to be looked up individually.
+ *
+ * <p>Statistics are opt-in through {@code application.statistics.enabled}; while disabled, requests are answered
+ * with 404.
+ */
+@Service
+@RequiredArgsConstructor
+public class StatisticsService {
+
+    private final AuditionService auditionService;
+    private final StatisticsAggregator aggregator;
+
+    /**
+     * Summary counts and the most commented posts.
+     *
+     * @param top number of most commented posts to include
+     * @return the summary
+     */
+    public AuditionStatistics getSummary(final int top) {
+        ensureLoaded();
+        return aggregator.summary(top);
+    }
+
+    /**
+     * Number of posts per user id.
+     *
+     * @return post counts ordered by user id
+     */
+    public SortedMap<Integer, Integer> getPostsPerUser() {
+        ensureLoaded();
+        return aggregator.postsPerUser();
+    }
+
+    /**
+     * Number of comments per post id.
+     *
+     * @return comment counts ordered by post id
+     */
+    public SortedMap<Integer, Integer> getCommentsPerPost() {
+        ensureLoaded();
+        return aggregator.commentsPerPost();
+    }
+
+    /**
+     * The posts with the most comments.
+     *
+     * @param limit maximum number of posts
+     * @return the most commented posts, most comments first
+     */
+    public List<PostCommentCount> getMostCommentedPosts(final int limit) {
+        ensureLoaded();
+        return aggregator.mostCommentedPosts(limit);
+    }
+
+    private void ensureLoaded() {
+        if (!aggregator.isEnabled()) {
+            throw new SystemException("Statistics are disabled; set application.statistics.enabled to enable them",
+                HttpStatus.NOT_FOUND.getReasonPhrase(), HttpStatus.NOT_FOUND.value());
+        }
+        if (!aggregator.hasAllPosts()) {
+            auditionService.getPosts();
+        }
+        if (!aggregator.hasAllComments()) {
+            auditionService.getComments();
+        }
+    }
+}
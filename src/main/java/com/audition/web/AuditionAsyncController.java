@@ -0,0 +1,117 @@
+package com.audition.web;
+
+import com.audition.common.timing.RequestTimer;
+import com.audition.model.AuditionPost;
+import com.audition.model.Comment;
+import com.audition.service.AuditionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Asynchronous variants of the {@link AuditionController} endpoints, served under the <code>/async</code> prefix.
+ *
+ * <p>Each method returns a {@link CompletableFuture} produced by the asynchronous {@link AuditionService} methods, so
+ * the servlet worker thread is released while the upstream call is in flight and throughput is no longer capped by
+ * the servlet thread pool size. Responses, validation and error mapping are identical to the synchronous endpoints;
+ * requests exceeding {@code application.async.timeout} are answered with 503.
+ */
+@Validated
+@RestController
+@RequestMapping("/async")
+@Getter
+@Setter
+public class AuditionAsyncController {
+
+    private final AuditionService auditionService;
+
+    /**
+     * Controller constructor.
+     *
+     * @param auditionService the service used to fetch posts and comments (injected)
+     */
+    public AuditionAsyncController(final AuditionService auditionService) {
+        this.auditionService = auditionService;
+    }
+
+    /**
+     * Asynchronously fetch all posts, optionally filtered by user id.
+     *
+     * @param userId optional user id filter
+     * @return a future completed with the matching posts
+     */
+    @Tag(name = "Get Audition Posts (async)")
+    @Operation(description = "Fetch all audition posts or for a particular user id without blocking a servlet thread")
+    @RequestMapping(value = "/posts", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+    public @ResponseBody CompletableFuture<List<AuditionPost>> getPosts(
+        @RequestParam(required = false) @Positive final Integer userId) {
+        if (userId == null) {
+            return auditionService.getPostsAsync();
+        }
+        return auditionService.getPostsAsync()
+            .thenApply(posts -> {
+                final long filtering = RequestTimer.start();
+                final List<AuditionPost> matching = posts.stream()
+                    .filter(ap -> ap.userId() == userId)
+                    .toList();
+                RequestTimer.stop(RequestTimer.Phase.FILTERING, filtering);
+                return matching;
+            });
+    }
+
+    /**
+     * Asynchronously fetch a single post by id.
+     *
+     * @param postId the post identifier (numeric string, validated)
+     * @return a future completed with the matching {@link AuditionPost}
+     */
+    @Tag(name = "Get Audition Posts (async)")
+    @Operation(description = "Fetch an audition post by id without blocking a servlet thread")
+    @RequestMapping(value = "/posts/{id}", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+    public @ResponseBody CompletableFuture<AuditionPost> getPosts(
+        @Valid @Pattern(regexp = "[1-9]\\d*", message = "Audition Post Id should be a number") @PathVariable("id") final String postId) {
+        return auditionService.getPostByIdAsync(postId);
+    }
+
+    /**
+     * Asynchronously fetch comments for a post using the nested resource endpoint.
+     *
+     * @param postId the post identifier (numeric string, validated)
+     * @return a future completed with the comments of the post
+     */
+    @Tag(name = "Get Comments (async)")
+    @Operation(description = "Fetch all comments for an audition post id without blocking a servlet thread")
+    @RequestMapping(value = "/posts/{id}/comments", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+    public @ResponseBody CompletableFuture<List<Comment>> getComments(
+        @Valid @Pattern(regexp = "[1-9]\\d*", message = "Audition Post Id should be a number") @PathVariable("id") final String postId) {
+        return auditionService.getCommentsByPostIdAsync(postId);
+    }
+
+    /**
+     * Asynchronously fetch comments for a post using the query endpoint.
+     *
+     * @param postId the post identifier (numeric string, validated)
+     * @return a future completed with the comments of the post
+     */
+    @Tag(name = "Get Comments (async)")
+    @Operation(description = "Fetch all comments for an audition post id passing Request Parameters without blocking a servlet thread")
+    @RequestMapping(value = "/comments", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+    public @ResponseBody CompletableFuture<List<Comment>> getCommentsForPost(
+        @Valid @Pattern(regexp = "[1-9]\\d*", message = "Audition Post Id should be a number") @RequestParam(required = true) final String postId) {
+        return auditionService.getCommentsForPostAsync(postId);
+    }
+}
@@ -1,7 +1,11 @@
 package com.audition.web;
 
+import com.audition.common.timing.RequestTimer;
 import com.audition.model.AuditionPost;
 import com.audition.model.Comment;
+import com.audition.model.PagedResult;
+import com.audition.model.Pagination;
+import com.audition.model.PostWithComments;
 import com.audition.service.AuditionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -9,9 +13,12 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
 import java.util.List;
+import java.util.Optional;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -19,6 +26,7 @@ import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @Validated
 @RestController
@@ -26,6 +34,8 @@ import org.springframework.web.bind.annotation.RestController;
 @Setter
 public class AuditionController {
 
+    private static final String INCLUDE_COMMENTS = "include=comments";
+
     private final AuditionService auditionService;
 
     /**
@@ -37,21 +47,56 @@ public class AuditionController {
         this.auditionService = auditionService;
     }
 
+    /**
+     * Fetch all posts or the posts of a particular user.
+     *
+     * <p>When any of the paging parameters (<code>limit</code>, <code>offset</code>, <code>cursor</code>) is present
+     * only the requested page is returned, and a <code>Link</code> header with <code>rel="next"</code> points at the
+     * following page if there is one.
+     *
+     * @param userId optional user id filter
+     * @param page   optional paging parameters
+     * @return the matching posts
+     */
     @Tag(name = "Get Audition Posts")
-    @Operation(description = "Fetch all audition posts or for a particular user id")
+    @Operation(description = "Fetch all audition posts or for a particular user id, optionally paged")
     @RequestMapping(value = "/posts", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
-    public @ResponseBody List<AuditionPost> getPosts(@RequestParam(required = false) @Positive final Integer userId) {
-
+    public ResponseEntity<List<AuditionPost>> getPosts(@RequestParam(required = false) @Positive final Integer userId,
+        @Valid final PageParameters page) {
+        final Optional<Pagination> pagination = page.toPagination();
+        if (pagination.isPresent()) {
+            return paged(auditionService.getPosts(userId, pagination.get()), pagination.get());
+        }
         if (userId != null) {
-            return auditionService.getPosts()
+            final List<AuditionPost> posts = auditionService.getPosts();
+            final long filtering = RequestTimer.start();
+            final List<AuditionPost> matching = posts
                 .stream()
-                .filter(ap -> ap.getUserId() == userId)
+                .filter(ap -> ap.userId() == userId)
                 .toList();
+            RequestTimer.stop(RequestTimer.Phase.FILTERING, filtering);
+            return ResponseEntity.ok(matching);
         } else {
-            return auditionService.getPosts();
+            return ResponseEntity.ok(auditionService.getPosts());
         }
     }
 
+    /**
+     * Fetch all posts, or the posts of a particular user, each expanded with its comments. Selected when the request
+     * carries <code>include=comments</code>; the comments of all posts are fetched once and grouped by post id.
+     *
+     * @param userId optional user id filter
+     * @return the matching posts, each with its comments
+     */
+    @Tag(name = "Get Audition Posts")
+    @Operation(description = "Fetch all audition posts or for a particular user id, including their comments")
+    @RequestMapping(value = "/posts", params = INCLUDE_COMMENTS, method = RequestMethod.GET,
+        produces = MediaType.APPLICATION_JSON_VALUE)
+    public @ResponseBody List<PostWithComments> getPostsWithComments(
+        @RequestParam(required = false) @Positive final Integer userId) {
+        return auditionService.getPostsWithComments(userId);
+    }
+
     /**
      * Fetch a single AuditionPost by id.
      *
@@ -72,6 +117,22 @@ public class AuditionController {
 
     }
 
+    /**
+     * Fetch a single post expanded with its comments. Selected when the request carries
+     * <code>include=comments</code>; the post and its comments are fetched concurrently.
+     *
+     * @param postId the post identifier (numeric string, validated)
+     * @return the post with its comments
+     */
+    @Tag(name = "Get Audition Posts")
+    @Operation(description = "Fetch an audition post by id including its comments")
+    @RequestMapping(value = "/posts/{id}", params = INCLUDE_COMMENTS, method = RequestMethod.GET,
+        produces = MediaType.APPLICATION_JSON_VALUE)
+    public @ResponseBody PostWithComments getPostWithComments(
+        @Valid @Pattern(regexp = "[1-9]\\d*", message = "Audition Post Id should be a number") @PathVariable("id") final String postId) {
+        return auditionService.getPostWithComments(postId);
+    }
+
     // DONE Add additional methods to return comments for each post. Hint: Check https://jsonplaceholder.typicode.com/
 
     /**
@@ -80,15 +141,23 @@ public class AuditionController {
      * <p>This endpoint accepts the post id as a path variable (validated). It delegates
      * to {@link AuditionService#getCommentsByPostId(String)} and returns the service response.
      *
+     * <p>Supports the same optional paging parameters as <code>/posts</code>.
+     *
      * @param postId the post identifier (numeric string, validated)
+     * @param page   optional paging parameters
      * @return a list of {@link Comment} or {@code null} when the upstream returns no body
      */
     @Tag(name = "Get Comments")
-    @Operation(description = "Fetch all comments for a particular Audition Post id")
+    @Operation(description = "Fetch all comments for a particular Audition Post id, optionally paged")
     @RequestMapping(value = "/posts/{id}/comments", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
-    public @ResponseBody List<Comment> getComments(
-        @Valid @Pattern(regexp = "[1-9]\\d*", message = "Audition Post Id should be a number") @PathVariable("id") final String postId) {
-        return auditionService.getCommentsByPostId(postId);
+    public ResponseEntity<List<Comment>> getComments(
+        @Valid @Pattern(regexp = "[1-9]\\d*", message = "Audition Post Id should be a number") @PathVariable("id") final String postId,
+        @Valid final PageParameters page) {
+        final Optional<Pagination> pagination = page.toPagination();
+        if (pagination.isPresent()) {
+            return paged(auditionService.getCommentsByPostId(postId, pagination.get()), pagination.get());
+        }
+        return ResponseEntity.ok(auditionService.getCommentsByPostId(postId));
     }
 
     /**
@@ -97,14 +166,45 @@ public class AuditionController {
      * <p>This endpoint accepts the post id as a required request parameter (validated). It delegates
      * to {@link AuditionService#getCommentsForPost(String)} and returns the service response.
      *
+     * <p>Supports the same optional paging parameters as <code>/posts</code>.
+     *
      * @param postId the post identifier (numeric string, validated)
+     * @param page   optional paging parameters
      * @return a list of {@link Comment} or {@code null} when the upstream returns no body
      */
     @Tag(name = "Get Comments")
-    @Operation(description = "Fetch all comments for a particular Audition Post id passing Request Parameters")
+    @Operation(description = "Fetch all comments for a particular Audition Post id passing Request Parameters, optionally paged")
     @RequestMapping(value = "/comments", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
-    public @ResponseBody List<Comment> getCommentsForPost(
-        @Valid @Pattern(regexp = "[1-9]\\d*", message = "Audition Post Id should be a number") @RequestParam(required = true) final String postId) {
-        return auditionService.getCommentsForPost(postId);
+    public ResponseEntity<List<Comment>> getCommentsForPost(
+        @Valid @Pattern(regexp = "[1-9]\\d*", message = "Audition Post Id should be a number") @RequestParam(required = true) final String postId,
+        @Valid final PageParameters page) {
+        final Optional<Pagination> pagination = page.toPagination();
+        if (pagination.isPresent()) {
+            return paged(auditionService.getCommentsForPost(postId, pagination.get()), pagination.get());
+        }
+        return ResponseEntity.ok(auditionService.getCommentsForPost(postId));
+    }
+
+    /**
+     * Build the response for a page, adding a <code>Link: &lt;...&gt;; rel="next"</code> header when another page
+     * follows. The link repeats the current request with the <code>offset</code> replaced by a cursor.
+     *
+     * @param result     the page
+     * @param pagination the window the page was requested with
+     * @param <T>        the element type
+     * @return the response entity
+     */
+    private static <T> ResponseEntity<List<T>> paged(final PagedResult<T> result, final Pagination pagination) {
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (result.hasNext()) {
+            final Pagination next = pagination.next();
+            final String link = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("offset")
+                .replaceQueryParam("cursor", PageParameters.encodeCursor(next.offset()))
+                .replaceQueryParam("limit", next.limit())
+                .toUriString();
+            response.header(HttpHeaders.LINK, "<" + link + ">; rel=\"next\"");
+        }
+        return response.body(result.items());
     }
 }
@@ -0,0 +1,59 @@
+package com.audition.web;
+
+import com.audition.model.SearchHit;
+import com.audition.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Full-text search over post titles and bodies and comment names, bodies and emails.
+ */
+@Validated
+@RestController
+@Getter
+@Setter
+public class AuditionSearchController {
+
+    private static final int MAX_QUERY_LENGTH = 256;
+
+    private final SearchService searchService;
+
+    /**
+     * Controller constructor.
+     *
+     * @param searchService the service answering search queries (injected)
+     */
+    public AuditionSearchController(final SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    /**
+     * Search posts and comments. Documents matching any of the query terms are returned, best match first.
+     *
+     * @param query free text query
+     * @param limit maximum number of hits, 10 by default
+     * @return the ranked hits
+     */
+    @Tag(name = "Search")
+    @Operation(description = "Full-text search over audition posts and comments, ranked by relevance")
+    @RequestMapping(value = "/search", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+    public @ResponseBody List<SearchHit> search(
+        @RequestParam("q") @NotBlank @Size(max = MAX_QUERY_LENGTH) final String query,
+        @RequestParam(defaultValue = "10") @Positive @Max(PageParameters.MAX_LIMIT) final int limit) {
+        return searchService.search(query, limit);
+    }
+}
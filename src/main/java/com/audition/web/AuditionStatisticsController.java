@@ -0,0 +1,96 @@
+package com.audition.web;
+
+import com.audition.model.AuditionStatistics;
+import com.audition.model.PostCommentCount;
+import com.audition.service.StatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import java.util.List;
+import java.util.SortedMap;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Aggregate statistics over posts and comments, for dashboards. The aggregates are maintained incrementally, so these
+ * endpoints never pull or recount the underlying collections.
+ */
+@Validated
+@RestController
+@RequestMapping("/stats")
+@Getter
+@Setter
+public class AuditionStatisticsController {
+
+    private final StatisticsService statisticsService;
+
+    /**
+     * Controller constructor.
+     *
+     * @param statisticsService the service providing the aggregates (injected)
+     */
+    public AuditionStatisticsController(final StatisticsService statisticsService) {
+        this.statisticsService = statisticsService;
+    }
+
+    /**
+     * Summary counts and the most commented posts.
+     *
+     * @param top number of most commented posts to include, 10 by default
+     * @return the summary
+     */
+    @Tag(name = "Statistics")
+    @Operation(description = "Post, comment and user counts together with the most commented posts")
+    @RequestMapping(method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+    public @ResponseBody AuditionStatistics getSummary(
+        @RequestParam(defaultValue = "10") @Positive @Max(PageParameters.MAX_LIMIT) final int top) {
+        return statisticsService.getSummary(top);
+    }
+
+    /**
+     * Number of posts per user id.
+     *
+     * @return post counts keyed by user id
+     */
+    @Tag(name = "Statistics")
+    @Operation(description = "Number of posts per user id")
+    @RequestMapping(value = "/posts-per-user", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+    public @ResponseBody SortedMap<Integer, Integer> getPostsPerUser() {
+        return statisticsService.getPostsPerUser();
+    }
+
+    /**
+     * Number of comments per post id.
+     *
+     * @return comment counts keyed by post id
+     */
+    @Tag(name = "Statistics")
+    @Operation(description = "Number of comments per post id")
+    @RequestMapping(value = "/comments-per-post", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+    public @ResponseBody SortedMap<Integer, Integer> getCommentsPerPost() {
+        return statisticsService.getCommentsPerPost();
+    }
+
+    /**
+     * The posts with the most comments.
+     *
+     * @param limit maximum number of posts, 10 by default
+     * @return the most commented posts, most comments first
+     */
+    @Tag(name = "Statistics")
+    @Operation(description = "The most commented posts")
+    @RequestMapping(value = "/most-commented-posts", method = RequestMethod.GET,
+        produces = MediaType.APPLICATION_JSON_VALUE)
+    public @ResponseBody List<PostCommentCount> getMostCommentedPosts(
+        @RequestParam(defaultValue = "10") @Positive @Max(PageParameters.MAX_LIMIT) final int limit) {
+        return statisticsService.getMostCommentedPosts(limit);
+    }
+}
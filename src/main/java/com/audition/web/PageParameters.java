@@ -0,0 +1,87 @@
+package com.audition.web;
+
+import com.audition.common.exception.SystemException;
+import com.audition.model.Pagination;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Optional paging query parameters of the collection endpoints: <code>limit</code>, <code>offset</code> and
+ * <code>cursor</code>.
+ *
+ * <p>A request is paged as soon as one of them is present. The cursor is an opaque token handed out in the
+ * <code>Link: &lt;...&gt;; rel="next"</code> response header; it encodes the offset of the next page and takes
+ * precedence over <code>offset</code>. Without a <code>limit</code> pages hold {@value #DEFAULT_LIMIT} elements.
+ *
+ * <p>Offsets, whether given directly or through a cursor, are capped at {@value #MAX_OFFSET} so the offset of the
+ * following page cannot overflow; larger ones are rejected with 400.
+ */
+@Getter
+@Setter
+public class PageParameters {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+    public static final int MAX_OFFSET = 1_000_000;
+    private static final String CURSOR_PREFIX = "o:";
+    private static final String INVALID_CURSOR = "Invalid pagination cursor";
+
+    @Positive
+    @Max(MAX_LIMIT)
+    private Integer limit;
+
+    @PositiveOrZero
+    @Max(MAX_OFFSET)
+    private Integer offset;
+
+    private String cursor;
+
+    /**
+     * Encode the cursor pointing at the given offset.
+     *
+     * @param offset zero-based offset of the page the cursor points to
+     * @return the opaque cursor
+     */
+    public static String encodeCursor(final int offset) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((CURSOR_PREFIX + offset).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Resolve the requested window.
+     *
+     * @return the window, or empty when the request is not paged
+     * @throws SystemException with status 400 when the cursor cannot be decoded or points beyond {@value #MAX_OFFSET}
+     */
+    public Optional<Pagination> toPagination() {
+        if (limit == null && offset == null && cursor == null) {
+            return Optional.empty();
+        }
+        final int start = cursor == null ? Optional.ofNullable(offset).orElse(0) : decodeCursor(cursor);
+        return Optional.of(new Pagination(start, Optional.ofNullable(limit).orElse(DEFAULT_LIMIT)));
+    }
+
+    private static int decodeCursor(final String cursor) {
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if (decoded.startsWith(CURSOR_PREFIX)) {
+                final int start = Integer.parseInt(decoded.substring(CURSOR_PREFIX.length()));
+                if (start >= 0 && start <= MAX_OFFSET) {
+                    return start;
+                }
+            }
+        } catch (final IllegalArgumentException e) {
+            throw new SystemException(INVALID_CURSOR, HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                HttpStatus.BAD_REQUEST.value(), e);
+        }
+        throw new SystemException(INVALID_CURSOR, HttpStatus.BAD_REQUEST.getReasonPhrase(),
+            HttpStatus.BAD_REQUEST.value());
+    }
+}
@@ -2,11 +2,13 @@ package com.audition.web.advice;
 
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.METHOD_NOT_ALLOWED;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 
 import com.audition.common.exception.SystemException;
 import com.audition.common.logging.AuditionLogger;
 import io.micrometer.common.util.StringUtils;
 import jakarta.validation.ConstraintViolationException;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -161,6 +163,7 @@ public class ExceptionControllerAdvice extends ResponseEntityExceptionHandler {
      * <ul>
      *   <li>{@link HttpClientErrorException} -> its embedded status code
      *   <li>{@link HttpRequestMethodNotSupportedException} -> 405 Method Not Allowed
+     *   <li>{@link RejectedExecutionException} -> 503 Service Unavailable (the service executor is saturated)
      *   <li>otherwise -> 500 Internal Server Error
      * </ul>
      *
@@ -172,6 +175,8 @@ public class ExceptionControllerAdvice extends ResponseEntityExceptionHandler {
             return ((HttpClientErrorException) exception).getStatusCode();
         } else if (exception instanceof HttpRequestMethodNotSupportedException) {
             return METHOD_NOT_ALLOWED;
+        } else if (exception instanceof RejectedExecutionException) {
+            return SERVICE_UNAVAILABLE;
         }
         return INTERNAL_SERVER_ERROR;
     }
@@ -0,0 +1,55 @@
+package com.audition.web.advice;
+
+import com.audition.web.AuditionController;
+import com.audition.web.projection.FieldProjection;
+import com.audition.web.projection.ProjectedValue;
+import io.micrometer.common.util.StringUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Applies sparse fieldsets to JSON responses: when a request carries <code>fields=a,b,c</code> the response body is
+ * serialized with the precompiled {@link FieldProjection} writer for that field set, so only the requested properties
+ * are written.
+ *
+ * <p>Applies to the post and comment endpoints of {@link AuditionController} only; the search, statistics and
+ * asynchronous endpoints are written unchanged. Error responses ({@link ProblemDetail}) are never projected. An
+ * invalid field list results in a 400 response through {@link ExceptionControllerAdvice}.
+ */
+@ControllerAdvice(assignableTypes = AuditionController.class)
+@RequiredArgsConstructor
+public class FieldProjectionAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String FIELDS_PARAMETER = "fields";
+
+    private final FieldProjection fieldProjection;
+
+    @Override
+    public boolean supports(final MethodParameter returnType,
+        final Class<? extends HttpMessageConverter<?>> converterType) {
+        return MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(final Object body, final MethodParameter returnType,
+        final MediaType selectedContentType, final Class<? extends HttpMessageConverter<?>> selectedConverterType,
+        final ServerHttpRequest request, final ServerHttpResponse response) {
+        if (body == null || body instanceof ProblemDetail || !(request instanceof ServletServerHttpRequest)) {
+            return body;
+        }
+        final String fields = ((ServletServerHttpRequest) request).getServletRequest().getParameter(FIELDS_PARAMETER);
+        if (StringUtils.isBlank(fields)) {
+            return body;
+        }
+        return new ProjectedValue(body, fieldProjection.writerFor(fieldProjection.parse(fields)));
+    }
+}
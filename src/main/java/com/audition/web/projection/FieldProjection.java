@@ -0,0 +1,131 @@
+package com.audition.web.projection;
+
+import com.audition.common.exception.SystemException;
+import com.audition.model.AuditionPost;
+import com.audition.model.Comment;
+import com.audition.model.PostWithComments;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds and caches {@link ObjectWriter}s that serialize only a requested subset of the model properties (sparse
+ * fieldsets, <code>?fields=id,title</code>).
+ *
+ * <p>Every distinct field set gets its own copy of the application {@link ObjectMapper} whose bean serializers have
+ * the unrequested properties removed at construction time. Serializing a projection therefore costs the same as a
+ * regular response; there is no per-request, per-property filtering. Field sets are normalized (sorted, deduplicated)
+ * and restricted to known model properties, so the number of cached writers is bounded by the model itself.
+ *
+ * <p>The field set applies to every model type in the response ({@link AuditionPost}, {@link Comment} and
+ * {@link PostWithComments}); unwrapped properties are always kept so expanded documents stay flat.
+ */
+@Component
+public class FieldProjection {
+
+    private static final List<Class<?>> PROJECTABLE_TYPES = List.of(AuditionPost.class, Comment.class,
+        PostWithComments.class);
+
+    private final ObjectMapper objectMapper;
+    private final Set<String> knownFields;
+    private final ConcurrentMap<Set<String>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    /**
+     * Create the projection support for the application mapper.
+     *
+     * @param objectMapper the application object mapper
+     */
+    public FieldProjection(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        final SerializationConfig config = objectMapper.getSerializationConfig();
+        this.knownFields = PROJECTABLE_TYPES.stream()
+            .map(type -> config.introspect(config.constructType(type)))
+            .flatMap(description -> description.findProperties().stream())
+            .map(BeanPropertyDefinition::getName)
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Parse a <code>fields</code> request parameter into a normalized field set.
+     *
+     * @param fields comma separated property names
+     * @return the sorted, deduplicated field set
+     * @throws SystemException with status 400 when the parameter is empty or names unknown properties
+     */
+    public SortedSet<String> parse(final String fields) {
+        final SortedSet<String> requested = Arrays.stream(fields.split(","))
+            .map(String::trim)
+            .filter(field -> !field.isEmpty())
+            .collect(Collectors.toCollection(TreeSet::new));
+        final List<String> unknown = requested.stream().filter(field -> !knownFields.contains(field)).toList();
+        if (requested.isEmpty() || !unknown.isEmpty()) {
+            throw new SystemException("Unknown or missing fields requested: " + unknown + ", supported fields are "
+                + new TreeSet<>(knownFields), HttpStatus.BAD_REQUEST.getReasonPhrase(), HttpStatus.BAD_REQUEST.value());
+        }
+        return Collections.unmodifiableSortedSet(requested);
+    }
+
+    /**
+     * Return the cached writer for the field set, building it on first use.
+     *
+     * @param fields a field set returned by {@link #parse(String)}
+     * @return the projection writer
+     */
+    public ObjectWriter writerFor(final SortedSet<String> fields) {
+        return writers.computeIfAbsent(fields, this::createWriter);
+    }
+
+    private ObjectWriter createWriter(final Set<String> fields) {
+        final ObjectMapper projected = objectMapper.copy();
+        projected.setSerializerFactory(projected.getSerializerFactory()
+            .withSerializerModifier(new FieldSetModifier(fields)));
+        return projected.writer();
+    }
+
+    /**
+     * Removes the properties that are not part of the field set from the serializers of projectable types.
+     */
+    private static final class FieldSetModifier extends BeanSerializerModifier {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Set<String> fields;
+
+        FieldSetModifier(final Set<String> fields) {
+            super();
+            this.fields = Set.copyOf(fields);
+        }
+
+        @Override
+        public List<BeanPropertyWriter> changeProperties(final SerializationConfig config,
+            final BeanDescription beanDesc, final List<BeanPropertyWriter> beanProperties) {
+            if (!PROJECTABLE_TYPES.contains(beanDesc.getBeanClass())) {
+                return beanProperties;
+            }
+            final List<BeanPropertyWriter> kept = new ArrayList<>();
+            for (final BeanPropertyWriter property : beanProperties) {
+                if (fields.contains(property.getName()) || property.getAnnotation(JsonUnwrapped.class) != null) {
+                    kept.add(property);
+                }
+            }
+            return kept;
+        }
+    }
+}
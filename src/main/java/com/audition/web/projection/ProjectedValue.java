@@ -0,0 +1,32 @@
+package com.audition.web.projection;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import java.io.IOException;
+
+/**
+ * A response body that is written with a projection-specific {@link ObjectWriter} instead of the default one.
+ *
+ * <p>The regular Jackson message converter serializes this wrapper like any other value; Jackson then delegates to
+ * {@link #serialize(JsonGenerator, SerializerProvider)}, which streams the wrapped value into the same generator using
+ * the precompiled projection writer.
+ *
+ * @param value  the original response body
+ * @param writer the writer serializing only the projected properties
+ */
+public record ProjectedValue(Object value, ObjectWriter writer) implements JsonSerializable {
+
+    @Override
+    public void serialize(final JsonGenerator gen, final SerializerProvider serializers) throws IOException {
+        writer.writeValue(gen, value);
+    }
+
+    @Override
+    public void serializeWithType(final JsonGenerator gen, final SerializerProvider serializers,
+        final TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+}
@@ -59,7 +59,7 @@ class AuditionApplicationTests {
         final AuditionPost[] body = resp.getBody();
         assertThat(body).isNotNull();
         assertThat(body).hasSize(2);
-        assertThat(body[0].getId()).isEqualTo(10);
+        assertThat(body[0].id()).isEqualTo(10);
         mockServer.verify();
     }
 
@@ -75,8 +75,8 @@ class AuditionApplicationTests {
         assertThat(resp.getStatusCode().is2xxSuccessful()).isTrue();
         final AuditionPost body = resp.getBody();
         assertThat(body).isNotNull();
-        assertThat(body.getId()).isEqualTo(1);
-        assertThat(body.getTitle()).isEqualTo("Single");
+        assertThat(body.id()).isEqualTo(1);
+        assertThat(body.title()).isEqualTo("Single");
         mockServer.verify();
     }
 
@@ -93,7 +93,7 @@ class AuditionApplicationTests {
         final Comment[] body = resp.getBody();
         assertThat(body).isNotNull();
         assertThat(body).hasSize(1);
-        assertThat(body[0].getPostId()).isEqualTo(1);
+        assertThat(body[0].postId()).isEqualTo(1);
         mockServer.verify();
     }
 
@@ -136,7 +136,7 @@ class AuditionApplicationTests {
         final AuditionPost[] body = resp.getBody();
         assertThat(body).isNotNull();
         assertThat(body).hasSize(2);
-        assertThat(body[0].getUserId()).isEqualTo(1);
+        assertThat(body[0].userId()).isEqualTo(1);
         mockServer.verify();
     }
 
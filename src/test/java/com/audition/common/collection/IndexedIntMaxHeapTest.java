@@ -0,0 +1,63 @@
+package com.audition.common.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class IndexedIntMaxHeapTest {
+
+    @Test
+    void topReturnsHighestPrioritiesFirstWithTiesBySmallerKey() {
+        final IndexedIntMaxHeap heap = new IndexedIntMaxHeap();
+        heap.set(1, 5);
+        heap.set(2, 9);
+        heap.set(3, 5);
+        heap.set(4, 1);
+
+        assertThat(top(heap, 3)).containsExactly(2, 1, 3);
+        assertThat(top(heap, 10)).containsExactly(2, 1, 3, 4);
+        assertThat(heap.size()).isEqualTo(4);
+    }
+
+    @Test
+    void prioritiesCanBeRaisedAndLowered() {
+        final IndexedIntMaxHeap heap = new IndexedIntMaxHeap();
+        heap.set(1, 5);
+        heap.set(2, 9);
+        heap.set(1, 10);
+        heap.set(2, 0);
+
+        assertThat(top(heap, 2)).containsExactly(1, 2);
+        assertThat(heap.priority(2, -1)).isZero();
+        assertThat(heap.priority(3, -1)).isEqualTo(-1);
+    }
+
+    @Test
+    void topMatchesFullSortAfterRandomUpdates() {
+        final IndexedIntMaxHeap heap = new IndexedIntMaxHeap();
+        final int[] expected = new int[500];
+        final Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            final int key = random.nextInt(expected.length);
+            expected[key] = random.nextInt(1_000);
+            heap.set(key, expected[key]);
+        }
+        final List<Integer> sorted = new ArrayList<>();
+        for (int key = 0; key < expected.length; key++) {
+            sorted.add(key);
+        }
+        sorted.sort(Comparator.comparingInt((Integer key) -> -expected[key]).thenComparingInt(key -> key));
+
+        assertThat(top(heap, 25)).isEqualTo(sorted.subList(0, 25));
+    }
+
+    private static List<Integer> top(final IndexedIntMaxHeap heap, final int k) {
+        final List<Integer> keys = new ArrayList<>();
+        heap.top(k, (key, priority) -> keys.add(key));
+        return keys;
+    }
+}
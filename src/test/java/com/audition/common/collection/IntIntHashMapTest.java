@@ -0,0 +1,59 @@
+package com.audition.common.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class IntIntHashMapTest {
+
+    @Test
+    void putAndGet() {
+        final IntIntHashMap map = new IntIntHashMap();
+        map.put(0, 5);
+        map.put(-7, 3);
+        map.put(0, 6);
+
+        assertThat(map.get(0, -1)).isEqualTo(6);
+        assertThat(map.get(-7, -1)).isEqualTo(3);
+        assertThat(map.get(42, -1)).isEqualTo(-1);
+        assertThat(map.containsKey(42)).isFalse();
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    void addToTreatsAbsentKeyAsZero() {
+        final IntIntHashMap map = new IntIntHashMap();
+
+        assertThat(map.addTo(9, 2)).isEqualTo(2);
+        assertThat(map.addTo(9, 3)).isEqualTo(5);
+        assertThat(map.addTo(9, -5)).isZero();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void growsAndKeepsAllEntries() {
+        final IntIntHashMap map = new IntIntHashMap(1);
+        for (int i = 0; i < 10_000; i++) {
+            map.put(i * 31, i);
+        }
+
+        final Map<Integer, Integer> visited = new HashMap<>();
+        map.forEach(visited::put);
+
+        assertThat(map.size()).isEqualTo(10_000);
+        assertThat(visited).hasSize(10_000).containsEntry(31 * 9_999, 9_999);
+        assertThat(map.get(31 * 5_000, -1)).isEqualTo(5_000);
+    }
+
+    @Test
+    void clearRemovesEntries() {
+        final IntIntHashMap map = new IntIntHashMap();
+        map.put(1, 1);
+        map.clear();
+
+        assertThat(map.size()).isZero();
+        assertThat(map.containsKey(1)).isFalse();
+    }
+}
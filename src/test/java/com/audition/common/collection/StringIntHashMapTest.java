@@ -0,0 +1,72 @@
+package com.audition.common.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import org.junit.jupiter.api.Test;
+
+class StringIntHashMapTest {
+
+    @Test
+    void putAndGet() {
+        final StringIntHashMap map = new StringIntHashMap();
+        map.put("alpha", 5);
+        map.put("", 3);
+        map.put("alpha", 6);
+
+        assertThat(map.get("alpha", -1)).isEqualTo(6);
+        assertThat(map.get("", -1)).isEqualTo(3);
+        assertThat(map.get("beta", -1)).isEqualTo(-1);
+        assertThat(map.containsKey("beta")).isFalse();
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    void matchesEqualKeysThatAreDifferentInstances() {
+        final StringIntHashMap map = new StringIntHashMap();
+        map.put(new StringBuilder("term").toString(), 1);
+
+        assertThat(map.get(new StringBuilder("term").toString(), -1)).isEqualTo(1);
+    }
+
+    @Test
+    void keepsKeysWithCollidingHashCodes() {
+        final StringIntHashMap map = new StringIntHashMap();
+        map.put("Aa", 1);
+        map.put("BB", 2);
+
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        assertThat(map.get("Aa", -1)).isEqualTo(1);
+        assertThat(map.get("BB", -1)).isEqualTo(2);
+    }
+
+    @Test
+    void growsAndKeepsAllEntries() {
+        final StringIntHashMap map = new StringIntHashMap(1);
+        for (int i = 0; i < 10_000; i++) {
+            map.put("term" + i, i);
+        }
+
+        assertThat(map.size()).isEqualTo(10_000);
+        assertThat(map.get("term0", -1)).isZero();
+        assertThat(map.get("term9999", -1)).isEqualTo(9_999);
+        assertThat(map.get("term10000", -1)).isEqualTo(-1);
+    }
+
+    @Test
+    void clearRemovesEntries() {
+        final StringIntHashMap map = new StringIntHashMap();
+        map.put("alpha", 1);
+        map.clear();
+
+        assertThat(map.size()).isZero();
+        assertThat(map.containsKey("alpha")).isFalse();
+    }
+
+    @Test
+    void rejectsNullKeys() {
+        final StringIntHashMap map = new StringIntHashMap();
+
+        assertThatNullPointerException().isThrownBy(() -> map.put(null, 1));
+    }
+}
@@ -0,0 +1,24 @@
+package com.audition.common.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class StringPoolTest {
+
+    @Test
+    void equalValuesShareOneReference() {
+        final StringPool.Builder builder = StringPool.builder();
+        final int first = builder.add("gardner.biz");
+        final int second = builder.add(new String("gardner.biz"));
+        final int other = builder.add("sydney.com");
+
+        final StringPool pool = builder.build();
+
+        assertThat(first).isEqualTo(second).isNotEqualTo(other);
+        assertThat(builder.add(null)).isEqualTo(-1);
+        assertThat(pool.size()).isEqualTo(2);
+        assertThat(pool.get(first)).isEqualTo("gardner.biz");
+        assertThat(pool.get(-1)).isNull();
+    }
+}
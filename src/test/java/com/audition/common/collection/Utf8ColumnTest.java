@@ -0,0 +1,38 @@
+package com.audition.common.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class Utf8ColumnTest {
+
+    @Test
+    void roundTripsValuesIncludingNullsAndMultiByteCharacters() {
+        final Utf8Column column = Utf8Column.builder(1)
+            .add("quia et suscipit")
+            .add(null)
+            .add("")
+            .add("naïve — ✓")
+            .build();
+
+        assertThat(column.size()).isEqualTo(4);
+        assertThat(column.get(0)).isEqualTo("quia et suscipit");
+        assertThat(column.get(1)).isNull();
+        assertThat(column.get(2)).isEmpty();
+        assertThat(column.get(3)).isEqualTo("naïve — ✓");
+    }
+
+    @Test
+    void growsBeyondInitialCapacity() {
+        final Utf8Column.Builder builder = Utf8Column.builder(1);
+        for (int i = 0; i < 1_000; i++) {
+            builder.add("value-" + i);
+        }
+
+        final Utf8Column column = builder.build();
+
+        assertThat(column.size()).isEqualTo(1_000);
+        assertThat(column.get(999)).isEqualTo("value-999");
+        assertThat(column.footprintBytes()).isPositive();
+    }
+}
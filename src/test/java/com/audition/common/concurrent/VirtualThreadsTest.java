@@ -0,0 +1,36 @@
+package com.audition.common.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.concurrent.ExecutorService;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadsTest {
+
+    @Test
+    void olderRuntimesFailFast() {
+        assumeFalse(VirtualThreads.isSupported());
+
+        assertThatThrownBy(() -> VirtualThreads.newThreadPerTaskExecutor("vt-"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("JDK 21");
+    }
+
+    @Test
+    @SneakyThrows
+    void tasksRunOnNamedVirtualThreads() {
+        assumeTrue(VirtualThreads.isSupported());
+        final ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("vt-");
+        try {
+            final String name = executor.submit(() -> Thread.currentThread().getName()).get();
+
+            assertThat(name).startsWith("vt-");
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.audition.common.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.audition.common.logging.AuditionLogger;
+import com.audition.common.resilience.UpstreamLoadBalancer;
+import com.audition.configuration.LoadBalancingProperties;
+import com.audition.simulator.SimulatorProfile;
+import com.audition.simulator.UpstreamSimulator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+class LoadBalancingClientHttpRequestInterceptorTest {
+
+    private static final String BASE_URL = "http://upstream.invalid/";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private UpstreamSimulator live;
+    private String stoppedUrl;
+    private UpstreamLoadBalancer balancer;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final SimulatorProfile profile = new SimulatorProfile();
+        profile.setPosts(5);
+        live = UpstreamSimulator.start(profile);
+        final UpstreamSimulator stopped = UpstreamSimulator.start(profile);
+        stoppedUrl = stopped.baseUrl();
+        stopped.close();
+        final LoadBalancingProperties properties = new LoadBalancingProperties();
+        properties.setFailureThreshold(2);
+        balancer = new UpstreamLoadBalancer(properties,
+            List.of(URI.create(stoppedUrl), URI.create(live.baseUrl())), uri -> true, registry, new AuditionLogger());
+        restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(new LoadBalancingClientHttpRequestInterceptor(BASE_URL, balancer));
+    }
+
+    @AfterEach
+    void tearDown() {
+        live.close();
+    }
+
+    @Test
+    void requestsMoveToTheLiveEndpointOnceTheStoppedOneIsEjected() {
+        // an endpoint without latency samples looks fastest, so the stopped one is tried until it is ejected
+        int failures = 0;
+        for (int i = 0; i < 7; i++) {
+            try {
+                assertThat(restTemplate.getForObject(BASE_URL + "posts/1", String.class)).contains("\"id\":1,");
+            } catch (final ResourceAccessException e) {
+                failures++;
+            }
+        }
+
+        assertThat(failures).isEqualTo(2);
+        assertThat(restTemplate.getForObject(BASE_URL + "posts/1", String.class)).contains("\"id\":1,");
+        assertThat(registry.get("audition.upstream.endpoint.requests").tag("endpoint", live.baseUrl())
+            .tag("outcome", "success").timer().count()).isEqualTo(6);
+        assertThat(registry.get("audition.upstream.endpoint.ejections").tag("endpoint", stoppedUrl)
+            .counter().count()).isEqualTo(1);
+        assertThat(balancer.getEndpoints()).allMatch(endpoint -> endpoint.getOutstanding() == 0);
+    }
+
+    @Test
+    void requestsToOtherHostsPassThrough() {
+        assertThat(restTemplate.getForObject(live.baseUrl() + "posts/2", String.class)).contains("\"id\":2,");
+        assertThat(registry.find("audition.upstream.endpoint.requests").timer()).isNull();
+    }
+}
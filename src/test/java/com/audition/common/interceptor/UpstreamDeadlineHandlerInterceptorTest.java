@@ -0,0 +1,29 @@
+package com.audition.common.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.audition.common.resilience.UpstreamDeadline;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class UpstreamDeadlineHandlerInterceptorTest {
+
+    private final UpstreamDeadlineHandlerInterceptor interceptor =
+        new UpstreamDeadlineHandlerInterceptor(Duration.ofSeconds(10));
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/async/posts");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void deadlineIsBoundWhileTheHandlerRuns() {
+        interceptor.preHandle(request, response, new Object());
+
+        assertThat(UpstreamDeadline.remainingNanos()).isPositive()
+            .isLessThanOrEqualTo(Duration.ofSeconds(10).toNanos());
+
+        interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+
+        assertThat(UpstreamDeadline.remainingNanos()).isEqualTo(UpstreamDeadline.UNBOUNDED);
+    }
+}
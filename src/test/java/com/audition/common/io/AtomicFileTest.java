@@ -0,0 +1,53 @@
+package com.audition.common.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AtomicFileTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testReplaceCreatesOwnerOnlyFile() throws Exception {
+        final AtomicFile file = new AtomicFile(directory.resolve("nested/file.txt"));
+
+        assertThat(file.exists()).isFalse();
+        file.replace(output -> output.write("first".getBytes(StandardCharsets.UTF_8)));
+        file.replace(output -> output.write("second".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(file.exists()).isTrue();
+        assertThat(Files.readString(file.getPath())).isEqualTo("second");
+        try (var files = Files.list(file.getPath().getParent())) {
+            assertThat(files).containsExactly(file.getPath());
+        }
+        if (Files.getFileStore(file.getPath()).supportsFileAttributeView("posix")) {
+            assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(file.getPath())))
+                .isEqualTo("rw-------");
+        }
+    }
+
+    @Test
+    void testFailedWriteKeepsPreviousContents() throws Exception {
+        final AtomicFile file = new AtomicFile(directory.resolve("file.txt"));
+        file.replace(output -> output.write("kept".getBytes(StandardCharsets.UTF_8)));
+
+        assertThatThrownBy(() -> file.replace(output -> {
+            output.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        })).hasMessage("disk full");
+
+        assertThat(Files.readString(file.getPath())).isEqualTo("kept");
+        try (var files = Files.list(directory)) {
+            assertThat(files).containsExactly(file.getPath());
+        }
+    }
+}
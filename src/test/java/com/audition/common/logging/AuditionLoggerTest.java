@@ -1,6 +1,8 @@
 package com.audition.common.logging;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
@@ -42,6 +44,20 @@ class AuditionLoggerTest {
         auditionLogger.info(mockLogger, "msg {}", "x");
     }
 
+    @Test
+    void infoWithArgumentsPassesThemUnformattedWhenEnabled() {
+        when(mockLogger.isInfoEnabled()).thenReturn(true);
+        auditionLogger.info(mockLogger, "msg {} {}", "x", 1);
+        verify(mockLogger).info("msg {} {}", new Object[]{"x", 1});
+    }
+
+    @Test
+    void infoWithArgumentsSkipsLoggerWhenInfoDisabled() {
+        when(mockLogger.isInfoEnabled()).thenReturn(false);
+        auditionLogger.info(mockLogger, "msg {} {}", "x", 1);
+        verifyNoMoreInteractions(mockLogger);
+    }
+
     @Test
     @SneakyThrows
     void createStandardProblemDetailMessageBuildsExpectedString() {
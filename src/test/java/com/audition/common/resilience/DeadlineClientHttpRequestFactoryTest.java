@@ -0,0 +1,56 @@
+package com.audition.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DeadlineClientHttpRequestFactoryTest {
+
+    private final DeadlineClientHttpRequestFactory factory = new DeadlineClientHttpRequestFactory();
+    private HttpURLConnection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        factory.setConnectTimeout(2000);
+        factory.setReadTimeout(5000);
+        connection = (HttpURLConnection) URI.create("http://localhost:1/posts").toURL().openConnection();
+    }
+
+    @AfterEach
+    void tearDown() {
+        UpstreamDeadline.restore(null);
+    }
+
+    @Test
+    void configuredTimeoutsApplyWithoutDeadline() throws Exception {
+        factory.prepareConnection(connection, "GET");
+
+        assertThat(connection.getConnectTimeout()).isEqualTo(2000);
+        assertThat(connection.getReadTimeout()).isEqualTo(5000);
+    }
+
+    @Test
+    void timeoutsAreShortenedToTheRemainingDeadline() throws Exception {
+        UpstreamDeadline.bind(System.nanoTime() + Duration.ofSeconds(3).toNanos());
+
+        factory.prepareConnection(connection, "GET");
+
+        assertThat(connection.getConnectTimeout()).isEqualTo(2000);
+        assertThat(connection.getReadTimeout()).isBetween(2000, 3000);
+    }
+
+    @Test
+    void expiredDeadlineRefusesTheConnection() {
+        UpstreamDeadline.bind(System.nanoTime() - 1);
+
+        assertThatThrownBy(() -> factory.prepareConnection(connection, "GET"))
+            .isInstanceOf(SocketTimeoutException.class);
+    }
+}
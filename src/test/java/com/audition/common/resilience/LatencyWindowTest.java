@@ -0,0 +1,36 @@
+package com.audition.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyWindowTest {
+
+    @Test
+    void reportsConfiguredPercentile() {
+        final LatencyWindow window = new LatencyWindow(100, 0.9);
+        for (int i = 1; i <= 100; i++) {
+            window.record(i);
+        }
+
+        assertThat(window.size()).isEqualTo(100);
+        assertThat(window.percentileNanos()).isEqualTo(90);
+    }
+
+    @Test
+    void keepsOnlyMostRecentSamples() {
+        final LatencyWindow window = new LatencyWindow(10, 1.0);
+        for (int i = 1; i <= 1000; i++) {
+            window.record(i);
+        }
+
+        assertThat(window.size()).isEqualTo(10);
+        assertThat(window.percentileNanos()).isEqualTo(1000);
+    }
+
+    @Test
+    void rejectsInvalidPercentile() {
+        assertThatThrownBy(() -> new LatencyWindow(10, 1.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
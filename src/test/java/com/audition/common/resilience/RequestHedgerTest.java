@@ -0,0 +1,144 @@
+package com.audition.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.HedgingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RequestHedgerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ExecutorService executor;
+    private HedgingProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        properties = new HedgingProperties();
+        properties.setEnabled(true);
+        properties.setMinSamples(0);
+        properties.setMinDelay(Duration.ofMillis(20));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void disabledHedgerInvokesCallDirectly() {
+        final RequestHedger hedger = RequestHedger.disabled();
+
+        assertThat(hedger.execute("op", () -> Thread.currentThread().getName()))
+            .isEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    void slowPrimaryIsHedgedAndHedgeWins() {
+        final RequestHedger hedger = new RequestHedger(properties, executor, registry);
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch neverReleased = new CountDownLatch(1);
+
+        final String result = hedger.execute("op", () -> {
+            if (calls.incrementAndGet() == 1) {
+                awaitQuietly(neverReleased);
+                return "primary";
+            }
+            return "hedge";
+        });
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(registry.counter("audition.hedge.sent", "operation", "op").count()).isEqualTo(1.0);
+        assertThat(registry.counter("audition.hedge.wins", "operation", "op").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void fastPrimaryIsNotHedged() {
+        final RequestHedger hedger = new RequestHedger(properties, executor, registry);
+        final AtomicInteger calls = new AtomicInteger();
+
+        final String result = hedger.execute("op", () -> {
+            calls.incrementAndGet();
+            return "primary";
+        });
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(registry.counter("audition.hedge.sent", "operation", "op").count()).isZero();
+    }
+
+    @Test
+    void exhaustedBudgetSkipsHedge() {
+        properties.setBudgetBurst(0);
+        properties.setBudgetRatio(0);
+        final RequestHedger hedger = new RequestHedger(properties, executor, registry);
+        final AtomicInteger calls = new AtomicInteger();
+
+        final String result = hedger.execute("op", () -> {
+            calls.incrementAndGet();
+            sleepQuietly(60);
+            return "primary";
+        });
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(registry.counter("audition.hedge.budget.exhausted", "operation", "op").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void failureIsPropagatedToCaller() {
+        final RequestHedger hedger = new RequestHedger(properties, executor, registry);
+
+        assertThatThrownBy(() -> hedger.execute("op", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+    }
+
+    @Test
+    void primaryRunsOnCallerThreadUntilEnoughSamples() {
+        properties.setMinSamples(2);
+        final RequestHedger hedger = new RequestHedger(properties, executor, registry);
+        final String caller = Thread.currentThread().getName();
+
+        assertThat(hedger.execute("op", () -> Thread.currentThread().getName())).isEqualTo(caller);
+        assertThat(hedger.execute("op", () -> Thread.currentThread().getName())).isEqualTo(caller);
+        assertThat(hedger.execute("op", () -> Thread.currentThread().getName())).isNotEqualTo(caller);
+    }
+
+    @Test
+    void callerStopsWaitingForStuckAttemptsAfterTimeout() {
+        properties.setTimeout(Duration.ofMillis(100));
+        final RequestHedger hedger = new RequestHedger(properties, executor, registry);
+        final CountDownLatch neverReleased = new CountDownLatch(1);
+
+        assertThatThrownBy(() -> hedger.execute("op", () -> {
+            awaitQuietly(neverReleased);
+            return "late";
+        })).isInstanceOf(SystemException.class)
+            .satisfies(e -> assertThat(((SystemException) e).getStatusCode()).isEqualTo(504));
+        assertThat(registry.counter("audition.hedge.sent", "operation", "op").count()).isEqualTo(1.0);
+    }
+
+    @SneakyThrows
+    private static void awaitQuietly(final CountDownLatch latch) {
+        latch.await(5, TimeUnit.SECONDS);
+    }
+
+    @SneakyThrows
+    private static void sleepQuietly(final long millis) {
+        Thread.sleep(millis);
+    }
+}
@@ -0,0 +1,143 @@
+package com.audition.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.audition.configuration.RetryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+class RetryExecutorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private RetryProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RetryProperties();
+        properties.setEnabled(true);
+        properties.setInitialBackoff(Duration.ofMillis(1));
+        properties.setMaxBackoff(Duration.ofMillis(2));
+    }
+
+    @Test
+    void retriesRetryableStatusUntilSuccess() {
+        final RetryExecutor executor = new RetryExecutor(properties, registry);
+        final AtomicInteger calls = new AtomicInteger();
+
+        final String result = executor.execute("op", () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(registry.summary("audition.upstream.attempts", "operation", "op", "outcome", "success")
+            .totalAmount()).isEqualTo(3.0);
+    }
+
+    @Test
+    void stopsAfterMaxAttempts() {
+        final RetryExecutor executor = new RetryExecutor(properties, registry);
+        final AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute("op", () -> {
+            calls.incrementAndGet();
+            throw new ResourceAccessException("reset", new IOException("reset"));
+        })).isInstanceOf(ResourceAccessException.class);
+
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void doesNotRetryNonRetryableStatus() {
+        final RetryExecutor executor = new RetryExecutor(properties, registry);
+        final AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute("op", () -> {
+            calls.incrementAndGet();
+            throw new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR);
+        })).isInstanceOf(HttpServerErrorException.class);
+        assertThatThrownBy(() -> executor.execute("op", () -> {
+            calls.incrementAndGet();
+            throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+        })).isInstanceOf(HttpClientErrorException.class);
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void emptyBudgetPreventsRetries() {
+        properties.setBudgetBurst(0);
+        properties.setBudgetRatio(0);
+        final RetryExecutor executor = new RetryExecutor(properties, registry);
+        final AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute("op", () -> {
+            calls.incrementAndGet();
+            throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+        })).isInstanceOf(HttpServerErrorException.class);
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(registry.counter("audition.retry.budget.exhausted", "operation", "op").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void deadlineStopsRetries() {
+        properties.setInitialBackoff(Duration.ofSeconds(10));
+        properties.setMaxBackoff(Duration.ofSeconds(10));
+        properties.setDeadline(Duration.ZERO);
+        final RetryExecutor executor = new RetryExecutor(properties, registry);
+        final AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute("op", () -> {
+            calls.incrementAndGet();
+            throw new HttpServerErrorException(HttpStatus.GATEWAY_TIMEOUT);
+        })).isInstanceOf(HttpServerErrorException.class);
+
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void backoffStaysWithinExponentialCap() {
+        properties.setInitialBackoff(Duration.ofMillis(100));
+        properties.setMaxBackoff(Duration.ofMillis(250));
+        final RetryExecutor executor = new RetryExecutor(properties, registry);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(executor.backoffNanos(1)).isBetween(0L, Duration.ofMillis(100).toNanos());
+            assertThat(executor.backoffNanos(5)).isBetween(0L, Duration.ofMillis(250).toNanos());
+        }
+    }
+
+    @Test
+    void attemptsRunWithinTheCallDeadline() {
+        properties.setDeadline(Duration.ofSeconds(3));
+        final RetryExecutor executor = new RetryExecutor(properties, registry);
+
+        final long remaining = executor.execute("op", UpstreamDeadline::remainingNanos);
+
+        assertThat(remaining).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(3).toNanos());
+        assertThat(UpstreamDeadline.remainingNanos()).isEqualTo(UpstreamDeadline.UNBOUNDED);
+    }
+
+    @Test
+    void earlierCallerDeadlineIsKept() {
+        final RetryExecutor executor = new RetryExecutor(properties, registry);
+
+        final long remaining = UpstreamDeadline.within(System.nanoTime() + Duration.ofMillis(500).toNanos(),
+            () -> executor.execute("op", UpstreamDeadline::remainingNanos));
+
+        assertThat(remaining).isLessThanOrEqualTo(Duration.ofMillis(500).toNanos());
+    }
+}
@@ -0,0 +1,31 @@
+package com.audition.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBudgetTest {
+
+    @Test
+    void startsFullAndRefusesWhenEmpty() {
+        final TokenBudget budget = new TokenBudget(0.5, 2);
+
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isFalse();
+    }
+
+    @Test
+    void depositsRefillUpToMaximum() {
+        final TokenBudget budget = new TokenBudget(0.5, 1);
+        budget.tryWithdraw();
+
+        budget.deposit();
+        assertThat(budget.tryWithdraw()).isFalse();
+        budget.deposit();
+        budget.deposit();
+        budget.deposit();
+
+        assertThat(budget.available()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,170 @@
+package com.audition.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.audition.common.logging.AuditionLogger;
+import com.audition.configuration.LoadBalancingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UpstreamLoadBalancerTest {
+
+    private static final List<URI> ENDPOINTS = List.of(URI.create("http://a.test"), URI.create("http://b.test/"));
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Set<URI> unhealthy = new HashSet<>();
+    private LoadBalancingProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LoadBalancingProperties();
+        properties.setFailureThreshold(2);
+        properties.setMinSamples(3);
+    }
+
+    @Test
+    void endpointsAreRequired() {
+        assertThatThrownBy(() -> balancer(List.of())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void baseUrlsEndWithSlashAndOutstandingRequestsAreCounted() {
+        final UpstreamLoadBalancer balancer = balancer(ENDPOINTS);
+
+        assertThat(balancer.getEndpoints()).extracting(UpstreamLoadBalancer.Endpoint::getBaseUrl)
+            .containsExactly("http://a.test/", "http://b.test/");
+        final UpstreamLoadBalancer.Endpoint endpoint = balancer.choose();
+        assertThat(endpoint.getOutstanding()).isEqualTo(1);
+        balancer.complete(endpoint, 1_000, true);
+        assertThat(endpoint.getOutstanding()).isZero();
+        assertThat(registry.get("audition.upstream.endpoint.requests").tag("endpoint", endpoint.getBaseUrl())
+            .tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void powerOfTwoChoicesAvoidsLoadedEndpoint() {
+        final UpstreamLoadBalancer balancer = balancer(ENDPOINTS);
+        balancer.getEndpoints().forEach(endpoint -> record(endpoint, 1_000, 4));
+        final UpstreamLoadBalancer.Endpoint busy = balancer.choose();
+
+        for (int i = 0; i < 10; i++) {
+            final UpstreamLoadBalancer.Endpoint chosen = balancer.choose();
+            assertThat(chosen).isNotSameAs(busy);
+            balancer.complete(chosen, 1_000, true);
+        }
+    }
+
+    @Test
+    void leastOutstandingPrefersFasterEndpointOnTies() {
+        properties.setStrategy(LoadBalancingProperties.Strategy.LEAST_OUTSTANDING);
+        final UpstreamLoadBalancer balancer = balancer(ENDPOINTS);
+        final UpstreamLoadBalancer.Endpoint slow = balancer.getEndpoints().get(0);
+        final UpstreamLoadBalancer.Endpoint fast = balancer.getEndpoints().get(1);
+        record(slow, TimeUnit.MILLISECONDS.toNanos(50), 4);
+        record(fast, TimeUnit.MILLISECONDS.toNanos(5), 4);
+
+        assertThat(balancer.choose()).isSameAs(fast);
+        assertThat(balancer.choose()).isSameAs(slow);
+    }
+
+    @Test
+    void consecutiveFailuresEjectAnEndpointUpToTheEjectionLimit() {
+        final UpstreamLoadBalancer balancer = balancer(ENDPOINTS);
+        final UpstreamLoadBalancer.Endpoint first = balancer.getEndpoints().get(0);
+        final UpstreamLoadBalancer.Endpoint second = balancer.getEndpoints().get(1);
+
+        fail(balancer, first);
+        fail(balancer, second);
+
+        for (int i = 0; i < 10; i++) {
+            final UpstreamLoadBalancer.Endpoint chosen = balancer.choose();
+            assertThat(chosen).isSameAs(second);
+            balancer.complete(chosen, 1_000, true);
+        }
+        assertThat(registry.get("audition.upstream.endpoint.ejections").tag("reason", "failures").counter().count())
+            .isEqualTo(1);
+        assertThat(registry.get("audition.upstream.endpoint.available").tag("endpoint", first.getBaseUrl()).gauge()
+            .value()).isZero();
+    }
+
+    @Test
+    void healthChecksTakeFailingEndpointsOutOfRotation() {
+        final UpstreamLoadBalancer balancer = balancer(ENDPOINTS);
+        unhealthy.add(URI.create("http://a.test/posts/1"));
+
+        balancer.checkHealth();
+
+        assertThat(balancer.getEndpoints().get(0).isHealthy()).isFalse();
+        for (int i = 0; i < 10; i++) {
+            final UpstreamLoadBalancer.Endpoint chosen = balancer.choose();
+            assertThat(chosen).isSameAs(balancer.getEndpoints().get(1));
+            balancer.complete(chosen, 1_000, true);
+        }
+    }
+
+    @Test
+    void failingHealthCheckIsLoggedInsteadOfThrown() {
+        properties.setHealthCheckPath("http://[invalid");
+        final UpstreamLoadBalancer balancer = balancer(ENDPOINTS);
+
+        assertThatCode(balancer::checkHealth).doesNotThrowAnyException();
+        assertThat(balancer.getEndpoints()).allMatch(UpstreamLoadBalancer.Endpoint::isHealthy);
+    }
+
+    @Test
+    void allEndpointsAreUsedWhenNoneIsAvailable() {
+        final UpstreamLoadBalancer balancer = balancer(ENDPOINTS);
+        unhealthy.add(URI.create("http://a.test/posts/1"));
+        unhealthy.add(URI.create("http://b.test/posts/1"));
+        balancer.checkHealth();
+
+        final UpstreamLoadBalancer.Endpoint busy = balancer.choose();
+
+        assertThat(balancer.choose()).isNotSameAs(busy);
+    }
+
+    @Test
+    void latencyOutliersAreEjectedOnceEnoughSamplesExist() {
+        final UpstreamLoadBalancer balancer = balancer(ENDPOINTS);
+        final UpstreamLoadBalancer.Endpoint slow = balancer.getEndpoints().get(0);
+        final UpstreamLoadBalancer.Endpoint fast = balancer.getEndpoints().get(1);
+        record(slow, TimeUnit.MILLISECONDS.toNanos(100), 2);
+        record(fast, TimeUnit.MILLISECONDS.toNanos(5), 2);
+
+        balancer.checkHealth();
+        assertThat(registry.find("audition.upstream.endpoint.ejections").counter()).isNull();
+
+        record(slow, TimeUnit.MILLISECONDS.toNanos(100), 2);
+        record(fast, TimeUnit.MILLISECONDS.toNanos(5), 2);
+        balancer.checkHealth();
+
+        assertThat(registry.get("audition.upstream.endpoint.ejections").tag("endpoint", slow.getBaseUrl())
+            .tag("reason", "latency").counter().count()).isEqualTo(1);
+        assertThat(balancer.choose()).isSameAs(fast);
+    }
+
+    private UpstreamLoadBalancer balancer(final List<URI> endpoints) {
+        return new UpstreamLoadBalancer(properties, endpoints, uri -> !unhealthy.contains(uri), registry,
+            new AuditionLogger());
+    }
+
+    private static void record(final UpstreamLoadBalancer.Endpoint endpoint, final long nanos, final int times) {
+        for (int i = 0; i < times; i++) {
+            endpoint.latencies().record(nanos);
+        }
+    }
+
+    private static void fail(final UpstreamLoadBalancer balancer, final UpstreamLoadBalancer.Endpoint endpoint) {
+        for (int i = 0; i < 2; i++) {
+            balancer.complete(endpoint, 1_000, false);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.audition.common.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshot;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestTimerTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTimer.bind(null);
+    }
+
+    @Test
+    void startAndStopDoNothingWithoutBoundTimer() {
+        final long started = RequestTimer.start();
+
+        RequestTimer.stop(RequestTimer.Phase.CACHE, started);
+
+        assertThat(started).isEqualTo(RequestTimer.NOT_TIMED);
+        assertThat(RequestTimer.current()).isNull();
+    }
+
+    @Test
+    void boundTimerAccumulatesPhases() {
+        final RequestTimer timer = new RequestTimer();
+        assertThat(RequestTimer.bind(timer)).isNull();
+
+        final long started = RequestTimer.start();
+        RequestTimer.stop(RequestTimer.Phase.FILTERING, started);
+        timer.record(RequestTimer.Phase.CACHE, 1_000);
+        timer.record(RequestTimer.Phase.CACHE, 2_000);
+
+        assertThat(RequestTimer.bind(null)).isSameAs(timer);
+        assertThat(timer.nanos(RequestTimer.Phase.CACHE)).isEqualTo(3_000);
+        assertThat(timer.nanos(RequestTimer.Phase.FILTERING)).isPositive();
+    }
+
+    @Test
+    void headerListsRecordedPhasesInMillisecondsWithAttemptCount() {
+        final RequestTimer timer = new RequestTimer();
+        timer.record(RequestTimer.Phase.CACHE, 20_000);
+        timer.record(RequestTimer.Phase.UPSTREAM, 12_406_000);
+        timer.attempt();
+        timer.attempt();
+        timer.record(RequestTimer.Phase.SERIALIZATION, 350_000);
+
+        assertThat(timer.toHeaderValue())
+            .isEqualTo("cache;dur=0.02, upstream;dur=12.41;desc=\"2 attempts\", serialization;dur=0.35");
+        assertThat(new RequestTimer().toHeaderValue()).isEmpty();
+    }
+
+    @Test
+    void timerFollowsTasksOntoContextPropagatingExecutors() throws Exception {
+        RequestTimer.propagateAcrossThreads();
+        final ExecutorService executor = ContextExecutorService.wrap(Executors.newSingleThreadExecutor(),
+            ContextSnapshot::captureAll);
+        final RequestTimer timer = new RequestTimer();
+        try {
+            RequestTimer.bind(timer);
+
+            assertThat(executor.submit(RequestTimer::current).get()).isSameAs(timer);
+            RequestTimer.bind(null);
+            assertThat(executor.submit(RequestTimer::current).get()).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.audition.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.audition.common.exception.SystemException;
+import com.audition.common.logging.AuditionLogger;
+import com.audition.integration.AuditionIntegrationClient;
+import com.audition.model.AuditionPost;
+import com.audition.model.Comment;
+import com.audition.service.AuditionService;
+import com.audition.web.AuditionController;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.validation.beanvalidation.MethodValidationInterceptor;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationWarmupTest {
+
+    @Mock
+    private AuditionIntegrationClient client;
+
+    private final WarmupProperties properties = new WarmupProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        properties.setEnabled(true);
+        properties.setConnections(3);
+        properties.setIterations(50);
+    }
+
+    @Test
+    void testReplaysFetchedDataWithoutFurtherUpstreamCalls() {
+        when(client.getPosts()).thenReturn(List.of(new AuditionPost(1, 1, "title", "body")));
+        when(client.getComments()).thenReturn(List.of(new Comment(1, 1, "name", "name@example.com", "body")));
+        final ApplicationWarmup warmup = warmup();
+
+        warmup.run();
+
+        assertThat(warmup.progress().state()).isEqualTo(ApplicationWarmup.State.COMPLETED);
+        assertThat(warmup.progress().completed()).isEqualTo(53);
+        assertThat(warmup.progress().total()).isEqualTo(53);
+        assertThat(meterRegistry.get(ApplicationWarmup.PHASE_TIMER).timers()).hasSize(2);
+        verify(client, times(1)).getPosts();
+        verify(client, times(1)).getPostById("1");
+        verify(client, times(0)).getCommentsByPostId(any());
+        verify(client, never()).getPostById("0");
+    }
+
+    @Test
+    void testReplaysGeneratedDataWhenUpstreamIsUnavailable() {
+        when(client.getPosts()).thenThrow(new SystemException("Cannot find any Posts", 503));
+        final ApplicationWarmup warmup = warmup();
+
+        warmup.run();
+
+        assertThat(warmup.progress().state()).isEqualTo(ApplicationWarmup.State.COMPLETED);
+        assertThat(warmup.progress().completed()).isEqualTo(53);
+    }
+
+    @Test
+    void testDisabledWarmupDoesNothing() {
+        properties.setEnabled(false);
+        final ApplicationWarmup warmup = warmup();
+
+        warmup.onApplicationReady();
+
+        assertThat(warmup.progress().state()).isEqualTo(ApplicationWarmup.State.DISABLED);
+        assertThat(warmup.progress().durationMillis()).isZero();
+        verify(client, times(0)).getPosts();
+    }
+
+    private ApplicationWarmup warmup() {
+        final AuditionService auditionService = new AuditionService(client);
+        return new ApplicationWarmup(properties, auditionService, Runnable::run, validated(auditionService),
+            new ObjectMapper(), meterRegistry, new AuditionLogger());
+    }
+
+    // the controller as the application context provides it: proxied for method validation
+    private static AuditionController validated(final AuditionService auditionService) {
+        final ProxyFactory proxyFactory = new ProxyFactory(new AuditionController(auditionService));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(
+            new MethodValidationInterceptor(Validation.buildDefaultValidatorFactory().getValidator()));
+        return (AuditionController) proxyFactory.getProxy();
+    }
+}
@@ -0,0 +1,53 @@
+package com.audition.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.audition.model.AuditionPost;
+import com.audition.model.Comment;
+import com.audition.service.CacheSnapshot;
+import com.audition.web.PageParameters;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.http.ProblemDetail;
+
+class AuditionRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new AuditionRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void testRegistersRecordConstructorsAndAccessorsForJackson() throws Exception {
+        assertThat(RuntimeHintsPredicates.reflection().onConstructor(AuditionPost.class.getDeclaredConstructor(
+            int.class, int.class, String.class, String.class))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(Comment.class, "email")).accepts(hints);
+    }
+
+    @Test
+    void testRegistersCacheSnapshotContents() throws Exception {
+        assertThat(RuntimeHintsPredicates.reflection().onConstructor(CacheSnapshot.Contents.class
+            .getDeclaredConstructor(List.class, List.class))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(CacheSnapshot.Entry.class, "expiresAtMillis"))
+            .accepts(hints);
+    }
+
+    @Test
+    void testRegistersProblemDetailAndBoundParameters() {
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(ProblemDetail.class, "getTitle")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(PageParameters.class)).accepts(hints);
+    }
+
+    @Test
+    void testRegistersVirtualThreadLookups() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of("java.lang.Thread$Builder")))
+            .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(Thread.class, "getName")).accepts(hints);
+    }
+}
@@ -0,0 +1,66 @@
+package com.audition.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+class ConfigSnapshotEnvironmentPostProcessorTest {
+
+    private final ConfigSnapshotEnvironmentPostProcessor postProcessor = new ConfigSnapshotEnvironmentPostProcessor();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testImportsExistingSnapshot() throws Exception {
+        final Path snapshot = Files.writeString(directory.resolve("snapshot.properties"), "a=b\n");
+        final MockEnvironment environment = new MockEnvironment()
+            .withProperty(ConfigSnapshotEnvironmentPostProcessor.PATH, snapshot.toString());
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.getProperty(ConfigSnapshotEnvironmentPostProcessor.IMPORT))
+            .isEqualTo("optional:file:" + snapshot.toAbsolutePath());
+        assertThat(ConfigSnapshotEnvironmentPostProcessor.isActive(environment)).isTrue();
+    }
+
+    @Test
+    void testLeavesConfigServerImportWithoutSnapshot() {
+        final MockEnvironment environment = new MockEnvironment()
+            .withProperty(ConfigSnapshotEnvironmentPostProcessor.PATH, directory.resolve("missing").toString());
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.containsProperty(ConfigSnapshotEnvironmentPostProcessor.IMPORT)).isFalse();
+        assertThat(ConfigSnapshotEnvironmentPostProcessor.isActive(environment)).isFalse();
+    }
+
+    @Test
+    void testIgnoresSnapshotWhenDisabled() throws Exception {
+        final Path snapshot = Files.writeString(directory.resolve("snapshot.properties"), "a=b\n");
+        final MockEnvironment environment = new MockEnvironment()
+            .withProperty(ConfigSnapshotEnvironmentPostProcessor.PATH, snapshot.toString())
+            .withProperty(ConfigSnapshotEnvironmentPostProcessor.ENABLED, "false");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(ConfigSnapshotEnvironmentPostProcessor.isActive(environment)).isFalse();
+    }
+
+    @Test
+    void testIgnoresSnapshotWhenRefreshing() throws Exception {
+        final Path snapshot = Files.writeString(directory.resolve("snapshot.properties"), "a=b\n");
+        final MockEnvironment environment = new MockEnvironment()
+            .withProperty(ConfigSnapshotEnvironmentPostProcessor.PATH, snapshot.toString())
+            .withProperty(ConfigSnapshotEnvironmentPostProcessor.REFRESHING, "true");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.containsProperty(ConfigSnapshotEnvironmentPostProcessor.IMPORT)).isFalse();
+    }
+}
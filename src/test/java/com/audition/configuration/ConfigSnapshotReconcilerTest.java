@@ -0,0 +1,125 @@
+package com.audition.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.audition.common.logging.AuditionLogger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.cloud.context.refresh.ConfigDataContextRefresher;
+import org.springframework.cloud.context.refresh.ContextRefresher;
+import org.springframework.cloud.context.scope.refresh.RefreshScope;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigSnapshotReconcilerTest {
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private ObjectProvider<ContextRefresher> refresherProvider;
+
+    @Mock
+    private ContextRefresher refresher;
+
+    private final StandardEnvironment environment = new StandardEnvironment();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ConfigSnapshotProperties properties;
+    private ConfigSnapshotReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConfigSnapshotProperties();
+        properties.setPath(directory.resolve("snapshot.properties"));
+        reconciler = new ConfigSnapshotReconciler(properties, environment, refresherProvider, meterRegistry,
+            new AuditionLogger());
+    }
+
+    @AfterEach
+    void tearDown() {
+        reconciler.shutdown();
+    }
+
+    @Test
+    void testSnapshotsConfigurationFetchedAtStartup() throws Exception {
+        environment.getPropertySources().addFirst(new MapPropertySource("configserver:audition.yml",
+            Map.of("application.cache.enabled", "true")));
+
+        reconciler.onApplicationReady();
+
+        assertThat(new ConfigSnapshot(properties.getPath()).read())
+            .containsEntry("application.cache.enabled", "true");
+    }
+
+    @Test
+    void testDoesNotSnapshotWithoutConfigServerSources() {
+        reconciler.onApplicationReady();
+
+        assertThat(new ConfigSnapshot(properties.getPath()).exists()).isFalse();
+    }
+
+    @Test
+    void testReconcileReplacesSnapshotOnceConfigServerAnswers() throws Exception {
+        when(refresherProvider.getIfAvailable()).thenReturn(refresher);
+        when(refresher.refresh()).thenReturn(Set.of()).thenAnswer(invocation -> {
+            environment.getPropertySources().addFirst(new MapPropertySource("configserver:audition.yml",
+                Map.of("api.host.baseurl", "https://example.com/")));
+            return Set.of("api.host.baseurl");
+        });
+
+        assertThat(reconciler.reconcile()).isFalse();
+        assertThat(reconciler.reconcile()).isTrue();
+
+        assertThat(new ConfigSnapshot(properties.getPath()).read())
+            .containsEntry("api.host.baseurl", "https://example.com/");
+        assertThat(meterRegistry.get(ConfigSnapshotReconciler.RECONCILE_TIMER).tag("outcome", "unavailable").timer()
+            .count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ConfigSnapshotReconciler.RECONCILE_TIMER).tag("outcome", "success").timer()
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    void testRefreshImportsFromConfigServerInsteadOfSnapshot() throws Exception {
+        final Path snapshot = Files.writeString(properties.getPath(), "greeting=from-snapshot\n");
+        // a refresh only carries the command line arguments and default properties over to the refreshed environment
+        environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(
+            "--spring.config.location=classpath:config-reconcile/application.properties",
+            "--" + ConfigSnapshotEnvironmentPostProcessor.PATH + "=" + snapshot));
+        new ConfigSnapshotEnvironmentPostProcessor().postProcessEnvironment(environment, new SpringApplication());
+        ConfigDataEnvironmentPostProcessor.applyTo(environment);
+        assertThat(environment.getProperty("greeting")).isEqualTo("from-snapshot");
+
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.setEnvironment(environment);
+            context.refresh();
+            final RefreshScope scope = new RefreshScope();
+            scope.setApplicationContext(context);
+            when(refresherProvider.getIfAvailable()).thenReturn(
+                new ConfigDataContextRefresher(context, scope, new RefreshAutoConfiguration.RefreshProperties()));
+
+            reconciler.reconcile();
+
+            assertThat(environment.getPropertySources().stream().map(PropertySource::getName))
+                .anyMatch(name -> name.contains("config-reconcile/server.properties"));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.audition.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+class ConfigSnapshotTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testWrittenSnapshotIsReadBack() throws Exception {
+        final ConfigSnapshot snapshot = new ConfigSnapshot(directory.resolve("nested/snapshot.properties"));
+        final Properties properties = new Properties();
+        properties.setProperty("application.cache.enabled", "true");
+        properties.setProperty("api.host.baseurl", "https://example.com/");
+
+        assertThat(snapshot.exists()).isFalse();
+        snapshot.write(properties);
+
+        assertThat(snapshot.exists()).isTrue();
+        assertThat(snapshot.read()).isEqualTo(properties);
+        try (var files = Files.list(snapshot.getPath().getParent())) {
+            assertThat(files).containsExactly(snapshot.getPath());
+        }
+        if (Files.getFileStore(snapshot.getPath()).supportsFileAttributeView("posix")) {
+            assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(snapshot.getPath())))
+                .isEqualTo("rw-------");
+        }
+    }
+
+    @Test
+    void testCollectsEffectiveConfigServerValuesOnly() {
+        final StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("configserver:application-default.yml",
+            Map.of("a", "default", "b", 2)));
+        environment.getPropertySources().addFirst(new MapPropertySource("configserver:audition.yml",
+            Map.of("a", "specific")));
+        environment.getPropertySources().addFirst(new MapPropertySource("local", Map.of("c", "local")));
+
+        final Properties properties = ConfigSnapshot.fromConfigServer(environment);
+
+        assertThat(properties).containsOnly(Map.entry("a", "specific"), Map.entry("b", "2"));
+    }
+}
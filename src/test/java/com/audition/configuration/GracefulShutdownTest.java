@@ -0,0 +1,58 @@
+package com.audition.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.audition.common.logging.AuditionLogger;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.support.StaticApplicationContext;
+
+@ExtendWith(MockitoExtension.class)
+class GracefulShutdownTest {
+
+    @Mock
+    private ConfigSnapshotReconciler reconciler;
+
+    private final ShutdownProperties properties = new ShutdownProperties();
+
+    @Test
+    void testStopLetsRunningTasksAndRefreshFinish() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicBoolean finished = new AtomicBoolean();
+        executor.execute(() -> {
+            started.countDown();
+            sleep();
+            finished.set(true);
+        });
+        started.await();
+        when(reconciler.drain(any())).thenReturn(true);
+        final GracefulShutdown shutdown = new GracefulShutdown(properties, new StaticApplicationContext(), executor,
+            reconciler, new AuditionLogger());
+        shutdown.start();
+
+        shutdown.stop();
+
+        assertThat(finished).isTrue();
+        assertThat(executor.isTerminated()).isTrue();
+        assertThat(shutdown.isRunning()).isFalse();
+        verify(reconciler).drain(any());
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.audition.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.audition.common.logging.AuditionLogger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class JfrProfilerTest {
+
+    private final ProfilingProperties properties = new ProfilingProperties();
+    private final JfrProfiler profiler = new JfrProfiler(properties, new AuditionLogger());
+
+    @Test
+    void testRecordingIsSummarizedToApplicationMethods() throws Exception {
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final Thread worker = new Thread(() -> spin(running), "profiled-worker");
+        worker.start();
+        final Path file;
+        try {
+            file = profiler.record(Duration.ofSeconds(1), "profile");
+        } finally {
+            running.set(false);
+            worker.join();
+        }
+        try {
+            assertThat(Files.size(file)).isPositive();
+
+            final JfrProfiler.ProfileSummary summary = profiler.summarize(file, "profile", Duration.ofSeconds(1));
+
+            assertThat(summary.settings()).isEqualTo("profile");
+            assertThat(summary.durationMillis()).isEqualTo(1000);
+            assertThat(summary.executionSamples()).isPositive();
+            assertThat(summary.hotMethods())
+                .extracting(JfrProfiler.HotMethod::method)
+                .contains(JfrProfilerTest.class.getName() + ".spin")
+                .allMatch(method -> method.startsWith("com.audition."));
+            assertThat(summary.hotMethods()).allMatch(method -> method.percent() > 0 && method.percent() <= 100);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testDurationAboveMaximumIsRejected() {
+        properties.setMaxDuration(Duration.ofSeconds(10));
+
+        assertThatThrownBy(() -> profiler.record(Duration.ofSeconds(11), "default"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("at most");
+        assertThatThrownBy(() -> profiler.record(Duration.ZERO, "default"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testUnknownSettingsAreRejected() {
+        assertThat(profiler.settingsNames()).contains("default", "profile");
+
+        assertThatThrownBy(() -> profiler.record(Duration.ofSeconds(1), "no-such-settings"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("no-such-settings");
+    }
+
+    private static long spin(final AtomicBoolean running) {
+        long sum = 0;
+        while (running.get()) {
+            final StringBuilder text = new StringBuilder();
+            for (int i = 0; i < 1000; i++) {
+                text.append(i);
+                sum += text.length() * 31L + i;
+            }
+        }
+        return sum;
+    }
+}
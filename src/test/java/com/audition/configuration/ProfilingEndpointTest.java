@@ -0,0 +1,71 @@
+package com.audition.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+@ExtendWith(MockitoExtension.class)
+class ProfilingEndpointTest {
+
+    @Mock
+    private JfrProfiler profiler;
+
+    private final ProfilingProperties properties = new ProfilingProperties();
+
+    @Test
+    void testRecordingIsStreamedAndDeletedOnceRead() throws Exception {
+        final Path file = Files.createTempFile("profiling-endpoint-", ".jfr");
+        Files.write(file, new byte[] {1, 2, 3});
+        when(profiler.record(properties.getDefaultDuration(), properties.getDefaultSettings())).thenReturn(file);
+
+        final WebEndpointResponse<Resource> response = new ProfilingEndpoint(profiler, properties).recording(null, null);
+
+        assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        try (var body = response.getBody().getInputStream()) {
+            assertThat(body.readAllBytes()).containsExactly(1, 2, 3);
+        }
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void testSummaryIsReturnedAndRecordingDeleted() throws Exception {
+        final Path file = Files.createTempFile("profiling-endpoint-", ".jfr");
+        final var summary = new JfrProfiler.ProfileSummary("default", 2000, 10, List.of(), List.of());
+        when(profiler.record(Duration.ofSeconds(2), "default")).thenReturn(file);
+        when(profiler.summarize(file, "default", Duration.ofSeconds(2))).thenReturn(summary);
+
+        final var response = new ProfilingEndpoint(profiler, properties)
+            .summary(ProfilingEndpoint.SUMMARY, Duration.ofSeconds(2), "default");
+
+        assertThat(response.getBody()).isSameAs(summary);
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void testInvalidParametersAndConcurrentRecordingsAreRejected() throws Exception {
+        when(profiler.record(eq(Duration.ofHours(1)), any())).thenThrow(new IllegalArgumentException("too long"));
+        when(profiler.record(eq(Duration.ofSeconds(1)), any())).thenThrow(new IllegalStateException("busy"));
+        final ProfilingEndpoint endpoint = new ProfilingEndpoint(profiler, properties);
+
+        assertThat(endpoint.recording(Duration.ofHours(1), null).getStatus())
+            .isEqualTo(WebEndpointResponse.STATUS_BAD_REQUEST);
+        assertThat(endpoint.summary(ProfilingEndpoint.SUMMARY, Duration.ofSeconds(1), "profile").getStatus())
+            .isEqualTo(ProfilingEndpoint.STATUS_CONFLICT);
+        assertThat(endpoint.summary("flamegraph", null, null).getStatus())
+            .isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+        verify(profiler).record(Duration.ofSeconds(1), "profile");
+    }
+}
@@ -0,0 +1,72 @@
+package com.audition.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.audition.common.timing.RequestTimer;
+import com.audition.common.timing.TimingJackson2HttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ResponseHeaderInjectorServerTimingTest {
+
+    private final TimingJackson2HttpMessageConverter converter =
+        new TimingJackson2HttpMessageConverter(new ObjectMapper());
+    private ResponseHeaderInjector filter;
+
+    @BeforeEach
+    void setUp() {
+        final ServerTimingProperties properties = new ServerTimingProperties();
+        properties.setEnabled(true);
+        filter = new ResponseHeaderInjector(null, properties);
+    }
+
+    @Test
+    @SneakyThrows
+    void serverTimingHeaderReportsPhasesRecordedDuringTheRequest() {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/posts"), response, (req, res) -> {
+            RequestTimer.current().attempt();
+            RequestTimer.current().record(RequestTimer.Phase.UPSTREAM, 2_000_000);
+            converter.write(List.of(1, 2), MediaType.APPLICATION_JSON,
+                new ServletServerHttpResponse((HttpServletResponse) res));
+        });
+
+        assertThat(response.getHeader(ResponseHeaderInjector.SERVER_TIMING))
+            .startsWith("upstream;dur=2.00;desc=\"1 attempt\", serialization;dur=");
+        assertThat(response.getContentAsString()).isEqualTo("[1,2]");
+        assertThat(RequestTimer.current()).isNull();
+    }
+
+    @Test
+    @SneakyThrows
+    void actuatorResponsesAreNeitherTimedNorBuffered() {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, (req, res) -> {
+            assertThat(RequestTimer.current()).isNull();
+            assertThat(res).isSameAs(response);
+        });
+
+        assertThat(response.getHeaderNames()).doesNotContain(ResponseHeaderInjector.SERVER_TIMING);
+    }
+
+    @Test
+    @SneakyThrows
+    void disabledFilterAddsNoServerTimingHeader() {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new ResponseHeaderInjector(null).doFilter(new MockHttpServletRequest("GET", "/posts"), response,
+            (req, res) -> assertThat(RequestTimer.current()).isNull());
+
+        assertThat(response.getHeaderNames()).doesNotContain(ResponseHeaderInjector.SERVER_TIMING);
+    }
+}
@@ -0,0 +1,34 @@
+package com.audition.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.audition.service.AuditionCache;
+import com.audition.web.AuditionController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+class StartupConfigurationTest {
+
+    private final LazyInitializationExcludeFilter filter =
+        StartupConfiguration.requestPathLazyInitializationExcludeFilter();
+
+    @Test
+    void testRequestPathBeansStayEager() {
+        assertThat(isExcluded(AuditionController.class)).isTrue();
+        assertThat(isExcluded(RequestMappingHandlerMapping.class)).isTrue();
+        assertThat(isExcluded(RestTemplate.class)).isTrue();
+    }
+
+    @Test
+    void testOtherBeansAreLazy() {
+        assertThat(isExcluded(AuditionCache.class)).isFalse();
+        assertThat(isExcluded(StartupMetrics.class)).isFalse();
+    }
+
+    private boolean isExcluded(final Class<?> beanType) {
+        return filter.isExcluded("bean", new RootBeanDefinition(beanType), beanType);
+    }
+}
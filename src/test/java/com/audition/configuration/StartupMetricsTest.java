@@ -0,0 +1,38 @@
+package com.audition.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.audition.common.logging.AuditionLogger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+class StartupMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StartupMetrics startupMetrics = new StartupMetrics(meterRegistry, new AuditionLogger());
+
+    @Test
+    void testRecordsTopLevelPhasesOnly() {
+        final BufferingApplicationStartup startup = new BufferingApplicationStartup(16);
+        final StartupStep environment = startup.start("spring.boot.application.environment-prepared");
+        startup.start("nested.step").end();
+        environment.end();
+        startup.start("spring.context.refresh").end();
+
+        startupMetrics.record(startup.getBufferedTimeline());
+
+        assertThat(meterRegistry.get(StartupMetrics.PHASE_TIMER).timers()).hasSize(2);
+        assertThat(meterRegistry.get(StartupMetrics.PHASE_TIMER)
+            .tag("phase", "spring.boot.application.environment-prepared").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find(StartupMetrics.PHASE_TIMER).tag("phase", "nested.step").timer()).isNull();
+    }
+
+    @Test
+    void testRecordsHeapInUseWhenReady() {
+        startupMetrics.recordFootprint(1500, 64L * 1024 * 1024);
+
+        assertThat(meterRegistry.get(StartupMetrics.HEAP_GAUGE).gauge().value()).isEqualTo(64.0 * 1024 * 1024);
+    }
+}
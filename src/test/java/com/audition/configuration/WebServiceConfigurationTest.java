@@ -3,7 +3,9 @@ package com.audition.configuration;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.audition.common.logging.AuditionLogger;
+import com.audition.model.AuditionPost;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 
@@ -23,6 +25,15 @@ class WebServiceConfigurationTest {
             .isEnabled(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)).isFalse();
     }
 
+    @Test
+    void objectMapper_registersBlackbirdAndBindsModels() throws Exception {
+        final ObjectMapper mapper = new WebServiceConfiguration(mockLogger).objectMapper();
+        final AuditionPost post = new AuditionPost(1, 2, "t", "b");
+
+        assertThat(mapper.getRegisteredModuleIds()).contains(BlackbirdModule.class.getName());
+        assertThat(mapper.readValue(mapper.writeValueAsString(post), AuditionPost.class)).isEqualTo(post);
+    }
+
     @Test
     void jacksonConverter_usesObjectMapper() {
         final WebServiceConfiguration cfg = new WebServiceConfiguration(mockLogger);
@@ -7,8 +7,10 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import com.audition.common.exception.SystemException;
+import com.audition.common.timing.RequestTimer;
 import com.audition.model.AuditionPost;
 import com.audition.model.Comment;
+import com.audition.model.Pagination;
 import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
@@ -45,7 +47,7 @@ class AuditionIntegrationClientTest {
 
     @Test
     void testPostsSuccessReturnsBody() {
-        final var posts = List.of(new AuditionPost());
+        final var posts = List.of(new AuditionPost(1, 1, "title", "body"));
         final ResponseEntity<List<AuditionPost>> response = ResponseEntity.ok(posts);
         when(restTemplate.exchange(eq("https://example.com/posts"), eq(HttpMethod.GET), any(),
             any(ParameterizedTypeReference.class)))
@@ -69,7 +71,7 @@ class AuditionIntegrationClientTest {
 
     @Test
     void testPostByIdSuccessReturnsBody() {
-        final var post = new AuditionPost();
+        final var post = new AuditionPost(1, 1, "title", "body");
         final ResponseEntity<AuditionPost> response = ResponseEntity.ok(post);
         when(restTemplate.exchange(eq("https://example.com/posts/1"), eq(HttpMethod.GET), any(),
             any(ParameterizedTypeReference.class)))
@@ -93,7 +95,7 @@ class AuditionIntegrationClientTest {
 
     @Test
     void testCommentsByPostIdSuccessReturnsBody() {
-        final var comments = List.of(new Comment());
+        final var comments = List.of(new Comment(1, 1, "name", "name@example.com", "body"));
         final ResponseEntity<List<Comment>> response = ResponseEntity.ok(comments);
         when(restTemplate.exchange(eq("https://example.com/posts/1/comments"), eq(HttpMethod.GET), any(),
             any(ParameterizedTypeReference.class)))
@@ -117,7 +119,7 @@ class AuditionIntegrationClientTest {
 
     @Test
     void testCommentsForPostSuccessBuildsCorrectUrlAndReturnsBody() {
-        final var comments = List.of(new Comment());
+        final var comments = List.of(new Comment(1, 1, "name", "name@example.com", "body"));
         final ResponseEntity<List<Comment>> response = ResponseEntity.ok(comments);
         final ArgumentCaptor<String> urlCaptor = ArgumentCaptor.forClass(String.class);
         when(restTemplate.exchange(urlCaptor.capture(), eq(HttpMethod.GET), any(),
@@ -141,4 +143,50 @@ class AuditionIntegrationClientTest {
             .isInstanceOf(SystemException.class)
             .hasMessageContaining("Server Error");
     }
+
+    @Test
+    void testAllCommentsSuccessReturnsBody() {
+        final var comments = List.of(new Comment(1, 1, "name", "name@example.com", "body"));
+        final ResponseEntity<List<Comment>> response = ResponseEntity.ok(comments);
+        when(restTemplate.exchange(eq("https://example.com/comments"), eq(HttpMethod.GET), any(),
+            any(ParameterizedTypeReference.class)))
+            .thenReturn(response);
+
+        assertThat(client.getComments()).isSameAs(comments);
+    }
+
+    @Test
+    void testTimedLookupRecordsUpstreamTimeAndAttempts() {
+        final var post = new AuditionPost(1, 1, "title", "body");
+        when(restTemplate.exchange(eq("https://example.com/posts/1"), eq(HttpMethod.GET), any(),
+            any(ParameterizedTypeReference.class)))
+            .thenReturn(ResponseEntity.ok(post));
+        final RequestTimer timer = new RequestTimer();
+        final RequestTimer previous = RequestTimer.bind(timer);
+        try {
+            client.getPostById("1");
+        } finally {
+            RequestTimer.bind(previous);
+        }
+
+        assertThat(timer.getAttempts()).isEqualTo(1);
+        assertThat(timer.nanos(RequestTimer.Phase.UPSTREAM)).isPositive();
+    }
+
+    @Test
+    void testPagedLookupsPushDownStartAndLimit() {
+        final ArgumentCaptor<String> urlCaptor = ArgumentCaptor.forClass(String.class);
+        when(restTemplate.exchange(urlCaptor.capture(), eq(HttpMethod.GET), any(),
+            any(ParameterizedTypeReference.class)))
+            .thenReturn(ResponseEntity.ok(List.of()));
+
+        client.getPosts(3, new Pagination(10, 5));
+        client.getCommentsByPostId("2", new Pagination(0, 3));
+        client.getCommentsForPost("2", new Pagination(0, 3));
+
+        assertThat(urlCaptor.getAllValues()).containsExactly(
+            "https://example.com/posts?userId=3&_start=10&_limit=5",
+            "https://example.com/posts/2/comments?_start=0&_limit=3",
+            "https://example.com/comments?postId=2&_start=0&_limit=3");
+    }
 }
@@ -0,0 +1,45 @@
+package com.audition.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CompactCommentsTest {
+
+    @Test
+    void viewsMatchOriginalComments() {
+        final List<Comment> comments = List.of(comment(1, 1, "id labore", "Eliseo@gardner.biz", "laudantium"),
+            comment(2, 1, "quo vero", "not-an-email", null), comment(3, 2, null, null, "est"));
+
+        final CompactComments compact = CompactComments.of(comments);
+
+        assertThat(compact).hasSize(3);
+        assertThat(compact.get(0).email()).isEqualTo("Eliseo@gardner.biz");
+        assertThat(compact.get(0).name()).isEqualTo("id labore");
+        assertThat(compact.get(1).email()).isEqualTo("not-an-email");
+        assertThat(compact.get(1).body()).isNull();
+        assertThat(compact.get(2).postId()).isEqualTo(2);
+        assertThat(compact.get(2).name()).isNull();
+        assertThat(compact.get(2).email()).isNull();
+    }
+
+    @Test
+    void footprintIsSmallerThanListOfBeans() {
+        final List<Comment> comments = new ArrayList<>();
+        for (int i = 1; i <= 500; i++) {
+            comments.add(comment(i, i / 5, "odio adipisci rerum aut animi",
+                "user" + i + "@" + (i % 3 == 0 ? "garfield.biz" : "jackeline.com"),
+                "quia molestiae reprehenderit quasi aspernatur aut expedita occaecati " + i));
+        }
+
+        assertThat(CompactComments.of(comments).footprintBytes())
+            .isLessThan(CompactComments.beanFootprintBytes(comments));
+    }
+
+    private static Comment comment(final int id, final int postId, final String name, final String email,
+        final String body) {
+        return new Comment(postId, id, name, email, body);
+    }
+}
@@ -0,0 +1,49 @@
+package com.audition.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CompactPostsTest {
+
+    @Test
+    void viewsMatchOriginalPosts() {
+        final List<AuditionPost> posts = Arrays.asList(post(1, 1, "sunt aut facere", "quia et suscipit"), null,
+            post(2, 1, null, "est rerum"));
+
+        final CompactPosts compact = CompactPosts.of(posts);
+
+        assertThat(compact).hasSize(2);
+        assertThat(compact.get(0).id()).isEqualTo(1);
+        assertThat(compact.get(0).title()).isEqualTo("sunt aut facere");
+        assertThat(compact.get(1).title()).isNull();
+        assertThat(compact.get(1).body()).isEqualTo("est rerum");
+        assertThat(compact.subList(1, 2)).extracting(AuditionPost::id).containsExactly(2);
+    }
+
+    @Test
+    void isReadOnly() {
+        final CompactPosts compact = CompactPosts.of(List.of(post(1, 1, "t", "b")));
+
+        assertThatThrownBy(() -> compact.add(post(2, 1, "t", "b"))).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void footprintIsSmallerThanListOfBeans() {
+        final List<AuditionPost> posts = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            posts.add(post(i, i % 10, "sunt aut facere repellat provident " + i,
+                "quia et suscipit suscipit recusandae consequuntur expedita et cum " + i));
+        }
+
+        assertThat(CompactPosts.of(posts).footprintBytes()).isLessThan(CompactPosts.beanFootprintBytes(posts));
+    }
+
+    private static AuditionPost post(final int id, final int userId, final String title, final String body) {
+        return new AuditionPost(userId, id, title, body);
+    }
+}
@@ -1,37 +1,57 @@
 package com.audition.model;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class ModelPojoTest {
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
     @Test
-    void auditionPostGettersSetters() {
-        final AuditionPost p = new AuditionPost();
-        p.setId(10);
-        p.setUserId(5);
-        p.setTitle("t");
-        p.setBody("b");
-
-        assertThat(p.getId()).isEqualTo(10);
-        assertThat(p.getUserId()).isEqualTo(5);
-        assertThat(p.getTitle()).isEqualTo("t");
-        assertThat(p.getBody()).isEqualTo("b");
+    void auditionPostAccessorsAndValueEquality() {
+        final AuditionPost p = new AuditionPost(5, 10, "t", "b");
+
+        assertThat(p.id()).isEqualTo(10);
+        assertThat(p.userId()).isEqualTo(5);
+        assertThat(p.title()).isEqualTo("t");
+        assertThat(p.body()).isEqualTo("b");
+        assertThat(p).isEqualTo(new AuditionPost(5, 10, "t", "b")).hasSameHashCodeAs(new AuditionPost(5, 10, "t", "b"));
     }
 
     @Test
-    void commentGettersSetters() {
-        final Comment c = new Comment();
-        c.setId(2);
-        c.setPostId(10);
-        c.setName("n");
-        c.setBody("bb");
-        c.setEmail("e@e.com");
-
-        assertThat(c.getId()).isEqualTo(2);
-        assertThat(c.getPostId()).isEqualTo(10);
-        assertThat(c.getEmail()).isEqualTo("e@e.com");
+    void commentAccessors() {
+        final Comment c = new Comment(10, 2, "n", "e@e.com", "bb");
+
+        assertThat(c.id()).isEqualTo(2);
+        assertThat(c.postId()).isEqualTo(10);
+        assertThat(c.name()).isEqualTo("n");
+        assertThat(c.email()).isEqualTo("e@e.com");
+        assertThat(c.body()).isEqualTo("bb");
+    }
+
+    @Test
+    void recordsBindThroughJackson() throws Exception {
+        final AuditionPost post = objectMapper.readValue(
+            "{\"userId\":1,\"id\":2,\"title\":\"t\",\"body\":\"b\"}", AuditionPost.class);
+        final Comment comment = objectMapper.readValue(
+            "{\"postId\":1,\"id\":3,\"name\":\"n\",\"email\":\"e@e.com\",\"body\":\"b\"}", Comment.class);
+
+        assertThat(post).isEqualTo(new AuditionPost(1, 2, "t", "b"));
+        assertThat(comment).isEqualTo(new Comment(1, 3, "n", "e@e.com", "b"));
+        assertThat(objectMapper.readValue(objectMapper.writeValueAsString(post), AuditionPost.class)).isEqualTo(post);
     }
-}
 
+    @Test
+    void postWithCommentsExposesUnmodifiableComments() {
+        final List<Comment> comments = new ArrayList<>(List.of(new Comment(1, 1, "n", "e@e.com", "b")));
+        final PostWithComments expanded = new PostWithComments(new AuditionPost(1, 1, "t", "b"), comments);
+
+        assertThatThrownBy(() -> expanded.comments().clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(expanded.comments()).containsExactlyElementsOf(comments);
+    }
+}
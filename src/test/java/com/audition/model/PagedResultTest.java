@@ -0,0 +1,40 @@
+package com.audition.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PagedResultTest {
+
+    private static final List<Integer> ALL = List.of(1, 2, 3, 4, 5);
+
+    @Test
+    void sliceReturnsWindowAndSignalsNextPage() {
+        final PagedResult<Integer> page = PagedResult.slice(ALL, new Pagination(1, 2));
+
+        assertThat(page.items()).containsExactly(2, 3);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    void sliceAtEndHasNoNextPage() {
+        assertThat(PagedResult.slice(ALL, new Pagination(3, 2)).hasNext()).isFalse();
+        assertThat(PagedResult.slice(ALL, new Pagination(10, 2)).items()).isEmpty();
+    }
+
+    @Test
+    void lookaheadElementIsDroppedAndSignalsNextPage() {
+        final PagedResult<Integer> page = PagedResult.fromLookahead(List.of(1, 2, 3), 2);
+
+        assertThat(page.items()).containsExactly(1, 2);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(PagedResult.fromLookahead(List.of(1, 2), 2).hasNext()).isFalse();
+        assertThat(PagedResult.<Integer>fromLookahead(null, 2).items()).isEmpty();
+    }
+
+    @Test
+    void paginationAdvancesByLimit() {
+        assertThat(new Pagination(4, 2).next()).isEqualTo(new Pagination(6, 2));
+    }
+}
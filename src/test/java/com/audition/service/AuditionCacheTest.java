@@ -0,0 +1,136 @@
+package com.audition.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.CacheProperties;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AuditionCacheTest {
+
+    private CacheProperties properties;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheProperties();
+        properties.setEnabled(true);
+    }
+
+    @Test
+    void cachesLoadedValueUntilExpiry() {
+        final AuditionCache cache = new AuditionCache(properties);
+
+        assertThat(cache.get("k", this::load)).isEqualTo("v1");
+        assertThat(cache.get("k", this::load)).isEqualTo("v1");
+        assertThat(cache.<String>getIfPresent("k")).isEqualTo("v1");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredValuesAreReloaded() {
+        properties.setTtl(Duration.ZERO);
+        final AuditionCache cache = new AuditionCache(properties);
+
+        cache.get("k", this::load);
+
+        assertThat(cache.<String>getIfPresent("k")).isNull();
+        assertThat(cache.get("k", this::load)).isEqualTo("v2");
+    }
+
+    @Test
+    void failuresAndNullsAreNotCached() {
+        final AuditionCache cache = new AuditionCache(properties);
+
+        assertThatThrownBy(() -> cache.get("k", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.<String>get("n", () -> null)).isNull();
+
+        assertThat(cache.<String>getIfPresent("k")).isNull();
+        assertThat(cache.get("n", this::load)).isEqualTo("v1");
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        final AuditionCache cache = AuditionCache.disabled();
+
+        cache.get("k", this::load);
+        cache.get("k", this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.<String>getIfPresent("k")).isNull();
+    }
+
+    @Test
+    void exportedValuesArePutBackUntilTheirExpiry() {
+        final AuditionCache cache = new AuditionCache(properties);
+        cache.get("k", this::load);
+        final AuditionCache.CachedValue exported = cache.cachedValues().get("k");
+        final AuditionCache restored = new AuditionCache(properties);
+
+        assertThat(restored.put("k", exported.value(), exported.expiresAtMillis())).isTrue();
+        assertThat(restored.put("old", "v", System.currentTimeMillis() - 1)).isFalse();
+
+        assertThat(restored.<String>getIfPresent("k")).isEqualTo("v1");
+        assertThat(restored.cachedValues()).containsOnlyKeys("k");
+        assertThat(AuditionCache.disabled().put("k", "v", Long.MAX_VALUE)).isFalse();
+    }
+
+    @Test
+    void fullCacheSweepsExpiredEntriesAndOtherwiseLoadsWithoutCaching() throws Exception {
+        properties.setMaxEntries(2);
+        properties.setTtl(Duration.ofMillis(50));
+        final AuditionCache cache = new AuditionCache(properties);
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+
+        cache.get("c", this::load);
+
+        assertThat(cache.cachedValues()).containsOnlyKeys("a", "b");
+        Thread.sleep(60);
+        cache.get("c", this::load);
+        assertThat(cache.cachedValues()).containsOnlyKeys("c");
+    }
+
+    @Test
+    void waitersGiveUpOnAStuckLoad() throws Exception {
+        properties.setWaitTimeout(Duration.ofMillis(50));
+        final AuditionCache cache = new AuditionCache(properties);
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Thread loader = new Thread(() -> cache.get("k", () -> {
+            loading.countDown();
+            awaitQuietly(release);
+            return "v";
+        }));
+        loader.start();
+        loading.await();
+
+        try {
+            assertThatThrownBy(() -> cache.get("k", this::load))
+                .isInstanceOf(SystemException.class)
+                .satisfies(e -> assertThat(((SystemException) e).getStatusCode()).isEqualTo(504));
+        } finally {
+            release.countDown();
+            loader.join();
+        }
+        assertThat(loads.get()).isZero();
+    }
+
+    @SneakyThrows
+    private static void awaitQuietly(final CountDownLatch latch) {
+        latch.await(5, TimeUnit.SECONDS);
+    }
+
+    private String load() {
+        return "v" + loads.incrementAndGet();
+    }
+}
@@ -1,12 +1,25 @@
 package com.audition.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.CacheProperties;
+import com.audition.configuration.CommentRoutingProperties;
+import com.audition.configuration.PrefetchProperties;
 import com.audition.integration.AuditionIntegrationClient;
 import com.audition.model.AuditionPost;
 import com.audition.model.Comment;
+import com.audition.model.CompactComments;
+import com.audition.model.CompactPosts;
+import com.audition.model.Pagination;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
@@ -35,18 +48,19 @@ class AuditionServiceTest {
 
     @Test
     void testPostsDelegatesToIntegrationClient() {
-        final var posts = List.of(new AuditionPost());
+        final var posts = List.of(new AuditionPost(1, 1, "title", "body"));
         when(mockClient.getPosts()).thenReturn(posts);
 
         final var result = auditionService.getPosts();
 
-        assertThat(result).isSameAs(posts);
+        assertThat(result).isEqualTo(posts);
+        assertThatThrownBy(() -> result.add(result.get(0))).isInstanceOf(UnsupportedOperationException.class);
         verify(mockClient).getPosts();
     }
 
     @Test
     void testPostByIdDelegatesToIntegrationClient() {
-        final var post = new AuditionPost();
+        final var post = new AuditionPost(1, 1, "title", "body");
         when(mockClient.getPostById("1")).thenReturn(post);
 
         final var result = auditionService.getPostById("1");
@@ -57,23 +71,262 @@ class AuditionServiceTest {
 
     @Test
     void testCommentsByPostIdDelegatesToIntegrationClient() {
-        final var comments = List.of(new Comment());
+        final var comments = List.of(new Comment(1, 1, "name", "name@example.com", "body"));
         when(mockClient.getCommentsByPostId("1")).thenReturn(comments);
 
         final var result = auditionService.getCommentsByPostId("1");
 
-        assertThat(result).isSameAs(comments);
+        assertThat(result).isEqualTo(comments);
         verify(mockClient).getCommentsByPostId("1");
     }
 
     @Test
     void testCommentsForPostDelegatesToIntegrationClient() {
-        final var comments = List.of(new Comment());
+        final var comments = List.of(new Comment(1, 1, "name", "name@example.com", "body"));
         when(mockClient.getCommentsForPost("1")).thenReturn(comments);
 
         final var result = auditionService.getCommentsForPost("1");
 
-        assertThat(result).isSameAs(comments);
+        assertThat(result).isEqualTo(comments);
         verify(mockClient).getCommentsForPost("1");
     }
+
+    @Test
+    void testBothCommentRoutesShareOneCacheEntry() {
+        final var properties = new CacheProperties();
+        properties.setEnabled(true);
+        final var cachingService = new AuditionService(mockClient, Runnable::run, new AuditionCache(properties),
+            List.of());
+        final var comments = List.of(comment(1));
+        when(mockClient.getCommentsByPostId("1")).thenReturn(comments);
+
+        assertThat(cachingService.getCommentsByPostId("1")).isEqualTo(comments);
+        assertThat(cachingService.getCommentsForPost("1")).isEqualTo(comments);
+        assertThat(cachingService.getCommentsForPost("1", new Pagination(0, 5)).items()).isEqualTo(comments);
+        verify(mockClient, never()).getCommentsForPost(any());
+        verify(mockClient, never()).getCommentsForPost(any(), any());
+    }
+
+    @Test
+    void testAdaptiveRoutingSendsCommentLookupsToTheHealthierRoute() {
+        final var routing = new CommentRoutingProperties();
+        routing.setEnabled(true);
+        routing.setMinSamples(2);
+        routing.setProbeRate(0);
+        final var routingService = new AuditionService(mockClient, Runnable::run, AuditionCache.disabled(),
+            List.of(), new CommentRouteSelector(routing, new SimpleMeterRegistry()), CommentPrefetcher.disabled());
+        final var comments = List.of(comment(1));
+        when(mockClient.getCommentsByPostId("1")).thenReturn(comments);
+        when(mockClient.getCommentsForPost("1")).thenThrow(new SystemException("Bad Gateway", "Bad Gateway", 502));
+        for (int i = 0; i < 2; i++) {
+            routingService.getCommentsByPostId("1");
+            assertThatThrownBy(() -> routingService.getCommentsForPost("1")).isInstanceOf(SystemException.class);
+        }
+
+        assertThat(routingService.getCommentsForPost("1")).isEqualTo(comments);
+        verify(mockClient, times(2)).getCommentsForPost("1");
+    }
+
+    @Test
+    void testServedPostPrefetchesItsCommentsOnce() {
+        final var cacheProperties = new CacheProperties();
+        cacheProperties.setEnabled(true);
+        final var prefetchProperties = new PrefetchProperties();
+        prefetchProperties.setEnabled(true);
+        final var registry = new SimpleMeterRegistry();
+        final var prefetchingService = new AuditionService(mockClient, Runnable::run,
+            new AuditionCache(cacheProperties), List.of(), CommentRouteSelector.disabled(),
+            new CommentPrefetcher(prefetchProperties, cacheProperties, Runnable::run, registry));
+        final var post = post(1, 1);
+        final var comments = List.of(comment(1));
+        when(mockClient.getPostById("1")).thenReturn(post);
+        when(mockClient.getCommentsByPostId("1")).thenReturn(comments);
+
+        assertThat(prefetchingService.getPostById("1")).isSameAs(post);
+        assertThat(prefetchingService.getCommentsForPost("1")).isEqualTo(comments);
+        prefetchingService.getPostById("1");
+
+        verify(mockClient, times(1)).getCommentsByPostId("1");
+        verify(mockClient, never()).getCommentsForPost(any());
+        assertThat(registry.get("audition.prefetch.hits").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testAsyncVariantsCompleteWithIntegrationClientResults() {
+        final var posts = List.of(new AuditionPost(1, 1, "title", "body"));
+        final var post = new AuditionPost(1, 1, "title", "body");
+        final var comments = List.of(new Comment(1, 1, "name", "name@example.com", "body"));
+        when(mockClient.getPosts()).thenReturn(posts);
+        when(mockClient.getPostById("1")).thenReturn(post);
+        when(mockClient.getCommentsByPostId("1")).thenReturn(comments);
+        when(mockClient.getCommentsForPost("1")).thenReturn(comments);
+
+        assertThat(auditionService.getPostsAsync().join()).isEqualTo(posts);
+        assertThat(auditionService.getPostByIdAsync("1").join()).isSameAs(post);
+        assertThat(auditionService.getCommentsByPostIdAsync("1").join()).isEqualTo(comments);
+        assertThat(auditionService.getCommentsForPostAsync("1").join()).isEqualTo(comments);
+    }
+
+    @Test
+    void testPostWithCommentsCombinesPostAndComments() {
+        final var post = new AuditionPost(1, 1, "title", "body");
+        final var comments = List.of(new Comment(1, 1, "name", "name@example.com", "body"));
+        when(mockClient.getPostById("1")).thenReturn(post);
+        when(mockClient.getCommentsByPostId("1")).thenReturn(comments);
+
+        final var result = auditionService.getPostWithComments("1");
+
+        assertThat(result.post()).isSameAs(post);
+        assertThat(result.comments()).isEqualTo(comments);
+    }
+
+    @Test
+    void testPostsWithCommentsFetchesAllCommentsOnceAndGroupsByPost() {
+        final var p1 = post(1, 10);
+        final var p2 = post(2, 20);
+        final var p3 = post(1, 30);
+        final var c1 = comment(10);
+        final var c2 = comment(10);
+        final var c3 = comment(30);
+        when(mockClient.getPosts()).thenReturn(List.of(p1, p2, p3));
+        when(mockClient.getComments()).thenReturn(List.of(c1, c2, c3));
+
+        final var result = auditionService.getPostsWithComments(1);
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).post()).isSameAs(p1);
+        assertThat(result.get(0).comments()).containsExactly(c1, c2);
+        assertThat(result.get(1).post()).isSameAs(p3);
+        assertThat(result.get(1).comments()).containsExactly(c3);
+        verify(mockClient).getComments();
+        verify(mockClient, never()).getCommentsByPostId(any());
+    }
+
+    @Test
+    void testPagedPostsArePushedDownWithLookahead() {
+        final var posts = List.of(post(1, 1), post(1, 2), post(1, 3));
+        when(mockClient.getPosts(1, new Pagination(0, 3))).thenReturn(posts);
+
+        final var result = auditionService.getPosts(1, new Pagination(0, 2));
+
+        assertThat(result.items()).containsExactly(posts.get(0), posts.get(1));
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    void testPagedPostsAreSlicedFromCachedCollection() {
+        final var properties = new CacheProperties();
+        properties.setEnabled(true);
+        final var cachingService = new AuditionService(mockClient, Runnable::run, new AuditionCache(properties),
+            List.of());
+        final var posts = List.of(post(1, 1), post(2, 2), post(1, 3), post(1, 4));
+        when(mockClient.getPosts()).thenReturn(posts);
+        cachingService.getPosts();
+
+        final var result = cachingService.getPosts(1, new Pagination(1, 1));
+
+        assertThat(result.items()).containsExactly(posts.get(2));
+        assertThat(result.hasNext()).isTrue();
+        verify(mockClient, never()).getPosts(any(), any());
+    }
+
+    @Test
+    void testPagedCommentsArePushedDownForBothRoutes() {
+        final var comments = List.of(comment(1));
+        when(mockClient.getCommentsByPostId("1", new Pagination(5, 6))).thenReturn(comments);
+        when(mockClient.getCommentsForPost("1", new Pagination(5, 6))).thenReturn(comments);
+
+        assertThat(auditionService.getCommentsByPostId("1", new Pagination(5, 5)).hasNext()).isFalse();
+        assertThat(auditionService.getCommentsForPost("1", new Pagination(5, 5)).items()).isEqualTo(comments);
+    }
+
+    @Test
+    void testListenersReceiveFetchedDataButNotCacheHits() {
+        final var properties = new CacheProperties();
+        properties.setEnabled(true);
+        final var listener = mock(AuditionDataListener.class);
+        final var cachingService = new AuditionService(mockClient, Runnable::run, new AuditionCache(properties),
+            List.of(listener));
+        final var posts = List.of(post(1, 1));
+        final var comments = List.of(comment(1));
+        when(mockClient.getPosts()).thenReturn(posts);
+        when(mockClient.getComments()).thenReturn(comments);
+
+        cachingService.getPosts();
+        cachingService.getPosts();
+        cachingService.getComments();
+
+        verify(listener, times(1)).onPosts(posts);
+        verify(listener, times(1)).onComments(comments);
+        verify(listener, times(1)).onAllPosts();
+        verify(listener, times(1)).onAllComments();
+    }
+
+    @Test
+    void testPagedFetchIsNotSignalledAsComplete() {
+        final var listener = mock(AuditionDataListener.class);
+        final var listeningService = new AuditionService(mockClient, Runnable::run, AuditionCache.disabled(),
+            List.of(listener));
+        final var posts = List.of(post(1, 1));
+        when(mockClient.getPosts(1, new Pagination(0, 3))).thenReturn(posts);
+
+        listeningService.getPosts(1, new Pagination(0, 2));
+
+        verify(listener).onPosts(posts);
+        verify(listener, never()).onAllPosts();
+    }
+
+    @Test
+    void testCompactCacheStoresColumnarCollections() {
+        final var properties = new CacheProperties();
+        properties.setEnabled(true);
+        properties.setCompact(true);
+        final var cachingService = new AuditionService(mockClient, Runnable::run, new AuditionCache(properties),
+            List.of());
+        when(mockClient.getPosts()).thenReturn(List.of(post(1, 1), post(2, 2)));
+        when(mockClient.getComments()).thenReturn(List.of(comment(1)));
+
+        assertThat(cachingService.getPosts()).isInstanceOf(CompactPosts.class)
+            .extracting(AuditionPost::id).containsExactly(1, 2);
+        assertThat(cachingService.getComments()).isInstanceOf(CompactComments.class).hasSize(1);
+        assertThat(cachingService.getPosts(2, new Pagination(0, 5)).items())
+            .extracting(AuditionPost::id).containsExactly(2);
+    }
+
+    @Test
+    void testCacheSnapshotIsRestoredIntoAnotherInstance() {
+        final CacheProperties properties = new CacheProperties();
+        properties.setEnabled(true);
+        final AuditionService cachingService = new AuditionService(mockClient, Runnable::run,
+            new AuditionCache(properties), List.of());
+        final List<AuditionPost> posts = List.of(post(1, 1), post(2, 2));
+        final List<Comment> comments = List.of(comment(1));
+        when(mockClient.getPosts()).thenReturn(posts);
+        when(mockClient.getPostById("2")).thenReturn(posts.get(1));
+        when(mockClient.getCommentsByPostId("1")).thenReturn(comments);
+        cachingService.getPosts();
+        cachingService.getPostById("2");
+        cachingService.getCommentsByPostId("1");
+        final AuditionDataListener listener = mock(AuditionDataListener.class);
+        final AuditionService restored = new AuditionService(mockClient, Runnable::run, new AuditionCache(properties),
+            List.of(listener));
+
+        assertThat(restored.restoreCache(cachingService.snapshotCache())).isEqualTo(3);
+
+        assertThat(restored.getPosts()).isEqualTo(posts);
+        assertThat(restored.getPostById("2")).isEqualTo(posts.get(1));
+        assertThat(restored.getCommentsByPostId("1")).isEqualTo(comments);
+        verify(mockClient, times(1)).getPosts();
+        verify(listener).onComments(comments);
+        verify(listener).onAllPosts();
+        verify(listener, never()).onAllComments();
+    }
+
+    private static AuditionPost post(final int userId, final int id) {
+        return new AuditionPost(userId, id, "title", "body");
+    }
+
+    private static Comment comment(final int postId) {
+        return new Comment(postId, 1, "name", "name@example.com", "body");
+    }
 }
@@ -0,0 +1,76 @@
+package com.audition.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.audition.common.logging.AuditionLogger;
+import com.audition.configuration.CacheProperties;
+import com.audition.integration.AuditionIntegrationClient;
+import com.audition.model.AuditionPost;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CacheSnapshotStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private AuditionIntegrationClient client;
+
+    private final CacheProperties properties = new CacheProperties();
+
+    @BeforeEach
+    void setUp() {
+        properties.setEnabled(true);
+        properties.setSnapshot(true);
+        properties.setSnapshotPath(directory.resolve("cache-snapshot.json"));
+    }
+
+    @Test
+    void testCacheFlushedAtStopIsRestoredAtStart() {
+        final List<AuditionPost> posts = List.of(new AuditionPost(1, 1, "title", "body"));
+        when(client.getPosts()).thenReturn(posts);
+        final AuditionService stopping = service();
+        final CacheSnapshotStore stoppingStore = store(stopping);
+        stoppingStore.start();
+        stopping.getPosts();
+
+        stoppingStore.stop();
+        final AuditionService starting = service();
+        store(starting).start();
+
+        assertThat(starting.getPosts()).isEqualTo(posts);
+        verify(client, times(1)).getPosts();
+    }
+
+    @Test
+    void testNothingIsWrittenWhenSnapshotIsDisabled() {
+        properties.setSnapshot(false);
+        final CacheSnapshotStore store = store(service());
+        store.start();
+
+        store.stop();
+
+        assertThat(properties.getSnapshotPath()).doesNotExist();
+        assertThat(store.isRunning()).isFalse();
+    }
+
+    private AuditionService service() {
+        return new AuditionService(client, Runnable::run, new AuditionCache(properties), List.of());
+    }
+
+    private CacheSnapshotStore store(final AuditionService service) {
+        return new CacheSnapshotStore(properties, service, new ObjectMapper(), new AuditionLogger());
+    }
+}
@@ -0,0 +1,51 @@
+package com.audition.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.audition.model.AuditionPost;
+import com.audition.model.Comment;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CacheSnapshotTest {
+
+    @TempDir
+    private Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+
+    @Test
+    void testWrittenSnapshotIsReadBack() throws Exception {
+        final CacheSnapshot snapshot = new CacheSnapshot(directory.resolve("nested/cache.json"), objectMapper);
+        final CacheSnapshot.Contents contents = new CacheSnapshot.Contents(
+            List.of(new CacheSnapshot.Entry<>("posts", 1000L, List.of(new AuditionPost(1, 2, "title", "body")))),
+            List.of(new CacheSnapshot.Entry<>("comments", 2000L,
+                List.of(new Comment(2, 3, "name", "name@example.com", "body")))));
+
+        assertThat(snapshot.exists()).isFalse();
+        snapshot.write(contents);
+
+        assertThat(snapshot.exists()).isTrue();
+        assertThat(snapshot.read()).isEqualTo(contents);
+        try (var files = Files.list(snapshot.getPath().getParent())) {
+            assertThat(files).containsExactly(snapshot.getPath());
+        }
+    }
+
+    @Test
+    void testOmittedCollectionsAreReadAsEmpty() throws Exception {
+        final CacheSnapshot snapshot = new CacheSnapshot(directory.resolve("cache.json"), objectMapper);
+
+        snapshot.write(new CacheSnapshot.Contents(List.of(), List.of()));
+
+        assertThat(Files.readString(snapshot.getPath())).isEqualTo("{}");
+        assertThat(snapshot.read().posts()).isEmpty();
+        assertThat(snapshot.read().comments()).isEmpty();
+    }
+}
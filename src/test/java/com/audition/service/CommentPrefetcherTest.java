@@ -0,0 +1,97 @@
+package com.audition.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.audition.configuration.CacheProperties;
+import com.audition.configuration.PrefetchProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CommentPrefetcherTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CacheProperties cacheProperties = new CacheProperties();
+    private PrefetchProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PrefetchProperties();
+        properties.setEnabled(true);
+    }
+
+    @Test
+    void disabledPrefetcherReportsDisabled() {
+        assertThat(CommentPrefetcher.disabled().isEnabled()).isFalse();
+    }
+
+    @Test
+    void lookupAfterPrefetchCountsAsHitOnce() {
+        final CommentPrefetcher prefetcher = new CommentPrefetcher(properties, cacheProperties, Runnable::run,
+            registry);
+        final AtomicInteger loads = new AtomicInteger();
+
+        prefetcher.prefetch("1", loads::incrementAndGet);
+        prefetcher.prefetch("2", loads::incrementAndGet);
+        prefetcher.recordLookup("1");
+        prefetcher.recordLookup("1");
+        prefetcher.recordLookup("3");
+
+        assertThat(loads).hasValue(2);
+        assertThat(count("completed")).isEqualTo(2);
+        assertThat(registry.get("audition.prefetch.hits").counter().count()).isEqualTo(1);
+        assertThat(registry.get("audition.prefetch.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    void failedPrefetchIsNotAHit() {
+        final CommentPrefetcher prefetcher = new CommentPrefetcher(properties, cacheProperties, Runnable::run,
+            registry);
+
+        prefetcher.prefetch("1", () -> {
+            throw new IllegalStateException("upstream down");
+        });
+        prefetcher.recordLookup("1");
+
+        assertThat(count("failed")).isEqualTo(1);
+        assertThat(registry.get("audition.prefetch.hits").counter().count()).isZero();
+    }
+
+    @Test
+    void prefetchIsDroppedWhenExecutorIsSaturated() {
+        final CommentPrefetcher prefetcher = new CommentPrefetcher(properties, cacheProperties, task -> {
+            throw new RejectedExecutionException("queue full");
+        }, registry);
+        final AtomicInteger loads = new AtomicInteger();
+
+        prefetcher.prefetch("1", loads::incrementAndGet);
+
+        assertThat(loads).hasValue(0);
+        assertThat(count("dropped")).isEqualTo(1);
+    }
+
+    @Test
+    void prefetchThatWaitedTooLongIsDropped() throws InterruptedException {
+        properties.setMaxQueueTime(Duration.ofMillis(1));
+        final List<Runnable> queued = new ArrayList<>();
+        final CommentPrefetcher prefetcher = new CommentPrefetcher(properties, cacheProperties, queued::add,
+            registry);
+        final AtomicInteger loads = new AtomicInteger();
+
+        prefetcher.prefetch("1", loads::incrementAndGet);
+        Thread.sleep(20);
+        queued.forEach(Runnable::run);
+
+        assertThat(loads).hasValue(0);
+        assertThat(count("expired")).isEqualTo(1);
+    }
+
+    private double count(final String outcome) {
+        return registry.get("audition.prefetch.requests").tag("outcome", outcome).counter().count();
+    }
+}
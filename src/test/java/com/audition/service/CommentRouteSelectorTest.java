@@ -0,0 +1,99 @@
+package com.audition.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.CommentRoutingProperties;
+import com.audition.service.CommentRouteSelector.Route;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CommentRouteSelectorTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private CommentRoutingProperties properties;
+    private CommentRouteSelector selector;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CommentRoutingProperties();
+        properties.setEnabled(true);
+        properties.setMinSamples(4);
+        properties.setProbeRate(0);
+        selector = new CommentRouteSelector(properties, registry);
+    }
+
+    @Test
+    void disabledSelectorUsesRequestedRoute() {
+        final CommentRouteSelector disabled = CommentRouteSelector.disabled();
+
+        assertThat(disabled.execute(Route.QUERY, Route::name)).isEqualTo("QUERY");
+        assertThat(disabled.execute(Route.NESTED, Route::name)).isEqualTo("NESTED");
+    }
+
+    @Test
+    void requestedRouteIsUsedUntilBothRoutesHaveEnoughSamples() {
+        record(Route.NESTED, SLOW, true, 4);
+        record(Route.QUERY, FAST, true, 3);
+
+        assertThat(selector.choose(Route.NESTED)).isEqualTo(Route.NESTED);
+        assertThat(registry.get("audition.comments.route.selections").tag("reason", "requested").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void fasterRouteIsPreferredWhenBothAreEquallyHealthy() {
+        record(Route.NESTED, SLOW, true, 4);
+        record(Route.QUERY, FAST, true, 4);
+
+        assertThat(selector.choose(Route.NESTED)).isEqualTo(Route.QUERY);
+        assertThat(selector.choose(Route.QUERY)).isEqualTo(Route.QUERY);
+    }
+
+    @Test
+    void routeWithFewerErrorsIsPreferredOverFasterOne() {
+        record(Route.NESTED, SLOW, true, 4);
+        record(Route.QUERY, FAST, true, 3);
+        record(Route.QUERY, FAST, false, 1);
+
+        assertThat(selector.choose(Route.QUERY)).isEqualTo(Route.NESTED);
+        assertThat(registry.get("audition.comments.route.error.rate").tag("route", "comments.byPostId").gauge()
+            .value()).isEqualTo(0.25);
+    }
+
+    @Test
+    void otherRouteIsProbed() {
+        properties.setProbeRate(1);
+
+        assertThat(selector.choose(Route.NESTED)).isEqualTo(Route.QUERY);
+        assertThat(registry.get("audition.comments.route.selections").tag("reason", "probe").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void clientErrorsDoNotCountAgainstTheRoute() {
+        assertThatThrownBy(() -> selector.execute(Route.NESTED, route -> {
+            throw new SystemException("Not Found", "Not Found", 404);
+        })).isInstanceOf(SystemException.class);
+        assertThatThrownBy(() -> selector.execute(Route.NESTED, route -> {
+            throw new SystemException("Bad Gateway", "Bad Gateway", 502);
+        })).isInstanceOf(SystemException.class);
+
+        assertThat(registry.get("audition.comments.route.requests").tag("outcome", "success").timer().count())
+            .isEqualTo(1);
+        assertThat(registry.get("audition.comments.route.error.rate").tag("route", "posts.comments").gauge()
+            .value()).isEqualTo(0.5);
+    }
+
+    private void record(final Route route, final long nanos, final boolean success, final int times) {
+        for (int i = 0; i < times; i++) {
+            selector.record(route, nanos, success);
+        }
+    }
+}
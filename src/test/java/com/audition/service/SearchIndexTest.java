@@ -0,0 +1,133 @@
+package com.audition.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.audition.configuration.SearchProperties;
+import com.audition.model.AuditionPost;
+import com.audition.model.Comment;
+import com.audition.model.SearchHit;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SearchIndexTest {
+
+    private SearchProperties properties;
+    private SearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SearchProperties();
+        properties.setEnabled(true);
+        index = new SearchIndex(properties);
+    }
+
+    @Test
+    void tokenizeLowercasesAndDropsShortTerms() {
+        assertThat(SearchIndex.tokenize("Qui est-ce? A b, Eliseo@Gardner.biz qui"))
+            .containsExactly("qui", "est", "ce", "eliseo", "gardner", "biz");
+    }
+
+    @Test
+    void searchRanksPostsAndCommentsByRelevance() {
+        index.onPosts(List.of(post(1, "sunt aut facere", "quia et suscipit"), post(2, "qui est esse", "est rerum")));
+        index.onComments(List.of(comment(10, "facere facere", "laudantium", "eliseo@gardner.biz")));
+
+        final List<SearchHit> hits = index.search("FACERE", 10);
+
+        assertThat(hits).extracting(SearchHit::type, SearchHit::id)
+            .containsExactly(Tuple.tuple(SearchHit.COMMENT, 10),
+                Tuple.tuple(SearchHit.POST, 1));
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+        assertThat(index.search("gardner", 10)).extracting(SearchHit::id).containsExactly(10);
+        assertThat(index.search("unknown", 10)).isEmpty();
+    }
+
+    @Test
+    void searchReturnsTopKOnly() {
+        final List<AuditionPost> posts = new ArrayList<>();
+        for (int i = 1; i <= 50; i++) {
+            posts.add(post(i, "common", "filler ".repeat(i)));
+        }
+        index.onPosts(posts);
+
+        final List<SearchHit> hits = index.search("common", 3);
+
+        // shorter documents score higher under length normalization
+        assertThat(hits).extracting(SearchHit::id).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void redeliveredDocumentReplacesPreviousVersion() {
+        index.onPosts(List.of(post(1, "old title", "")));
+        index.onPosts(List.of(post(1, "new title", "")));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("old", 10)).isEmpty();
+        assertThat(index.search("title", 10)).singleElement()
+            .satisfies(hit -> assertThat(((AuditionPost) hit.document()).title()).isEqualTo("new title"));
+    }
+
+    @Test
+    void unchangedRedeliveryKeepsIndexedDocument() {
+        final AuditionPost post = post(1, "same title", "");
+        index.onPosts(List.of(post));
+        final Object indexed = index.search("same", 10).get(0).document();
+
+        index.onPosts(List.of(post(1, "same title", "")));
+
+        assertThat(index.search("same", 10)).singleElement()
+            .satisfies(hit -> assertThat(hit.document()).isSameAs(indexed));
+    }
+
+    @Test
+    void completenessIsTrackedSeparatelyFromSize() {
+        index.onPosts(List.of(post(1, "title", "")));
+        index.onComments(List.of(comment(10, "name", "body", "a@b.c")));
+
+        assertThat(index.hasAllPosts()).isFalse();
+        assertThat(index.hasAllComments()).isFalse();
+
+        index.onAllPosts();
+
+        assertThat(index.hasAllPosts()).isTrue();
+        assertThat(index.hasAllComments()).isFalse();
+    }
+
+    @Test
+    void disabledIndexIgnoresDeliveries() {
+        properties.setEnabled(false);
+
+        index.onPosts(List.of(post(1, "title", "")));
+        index.onAllPosts();
+
+        assertThat(index.isEnabled()).isFalse();
+        assertThat(index.size()).isZero();
+        assertThat(index.hasAllPosts()).isFalse();
+    }
+
+    @Test
+    void repeatedRefreshesStaySearchableAcrossCompaction() {
+        for (int round = 0; round < 30; round++) {
+            final List<Comment> comments = new ArrayList<>();
+            for (int id = 1; id <= 100; id++) {
+                comments.add(comment(id, "round" + round, "body", "a@b.c"));
+            }
+            index.onComments(comments);
+        }
+
+        assertThat(index.size()).isEqualTo(100);
+        assertThat(index.search("round29", 200)).hasSize(100);
+        assertThat(index.search("round0", 200)).isEmpty();
+    }
+
+    private static AuditionPost post(final int id, final String title, final String body) {
+        return new AuditionPost(1, id, title, body);
+    }
+
+    private static Comment comment(final int id, final String name, final String body, final String email) {
+        return new Comment(1, id, name, email, body);
+    }
+}
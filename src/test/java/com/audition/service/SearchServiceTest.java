@@ -0,0 +1,72 @@
+package com.audition.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.audition.common.exception.SystemException;
+import com.audition.model.AuditionPost;
+import com.audition.model.SearchHit;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @Mock
+    private AuditionService auditionService;
+
+    @Mock
+    private SearchIndex searchIndex;
+
+    @Test
+    void searchLoadsCollectionsNotYetIndexedInFull() {
+        final var hits = List.of(new SearchHit(SearchHit.POST, 1, 1.0, new AuditionPost(1, 1, "title", "body")));
+        when(searchIndex.isEnabled()).thenReturn(true);
+        when(searchIndex.hasAllPosts()).thenReturn(false);
+        when(searchIndex.hasAllComments()).thenReturn(false);
+        when(searchIndex.search("qui", 5)).thenReturn(hits);
+
+        assertThat(new SearchService(auditionService, searchIndex).search("qui", 5)).isSameAs(hits);
+        verify(auditionService).getPosts();
+        verify(auditionService).getComments();
+    }
+
+    @Test
+    void searchLoadsOnlyTheMissingCollection() {
+        when(searchIndex.isEnabled()).thenReturn(true);
+        when(searchIndex.hasAllPosts()).thenReturn(true);
+        when(searchIndex.hasAllComments()).thenReturn(false);
+        when(searchIndex.search("qui", 5)).thenReturn(List.of());
+
+        assertThat(new SearchService(auditionService, searchIndex).search("qui", 5)).isEmpty();
+        verify(auditionService, never()).getPosts();
+        verify(auditionService).getComments();
+    }
+
+    @Test
+    void searchDoesNotFetchWhenIndexIsComplete() {
+        when(searchIndex.isEnabled()).thenReturn(true);
+        when(searchIndex.hasAllPosts()).thenReturn(true);
+        when(searchIndex.hasAllComments()).thenReturn(true);
+        when(searchIndex.search("qui", 5)).thenReturn(List.of());
+
+        assertThat(new SearchService(auditionService, searchIndex).search("qui", 5)).isEmpty();
+        verifyNoInteractions(auditionService);
+    }
+
+    @Test
+    void searchIsNotFoundWhenDisabled() {
+        final SearchService service = new SearchService(auditionService, searchIndex);
+
+        assertThatThrownBy(() -> service.search("qui", 5))
+            .isInstanceOfSatisfying(SystemException.class, e -> assertThat(e.getStatusCode()).isEqualTo(404));
+        verifyNoInteractions(auditionService);
+    }
+}
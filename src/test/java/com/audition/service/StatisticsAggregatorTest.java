@@ -0,0 +1,104 @@
+package com.audition.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.audition.configuration.StatisticsProperties;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionStatistics;
+import com.audition.model.Comment;
+import com.audition.model.PostCommentCount;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StatisticsAggregatorTest {
+
+    private StatisticsProperties properties;
+    private StatisticsAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StatisticsProperties();
+        properties.setEnabled(true);
+        aggregator = new StatisticsAggregator(properties);
+    }
+
+    @Test
+    void countsPostsPerUserAndCommentsPerPost() {
+        aggregator.onPosts(List.of(post(1, 1), post(2, 1), post(3, 2)));
+        aggregator.onComments(List.of(comment(1, 1), comment(2, 1), comment(3, 3)));
+
+        assertThat(aggregator.postsPerUser()).isEqualTo(Map.of(1, 2, 2, 1));
+        assertThat(aggregator.commentsPerPost()).isEqualTo(Map.of(1, 2, 3, 1));
+        assertThat(aggregator.summary(5))
+            .isEqualTo(new AuditionStatistics(3, 3, 2,
+                List.of(new PostCommentCount(1, 2), new PostCommentCount(3, 1))));
+    }
+
+    @Test
+    void refetchedDataIsNotCountedTwice() {
+        aggregator.onPosts(List.of(post(1, 1)));
+        aggregator.onPosts(List.of(post(1, 1)));
+        aggregator.onComments(List.of(comment(1, 1)));
+        aggregator.onComments(List.of(comment(1, 1)));
+
+        assertThat(aggregator.postsPerUser()).isEqualTo(Map.of(1, 1));
+        assertThat(aggregator.commentsPerPost()).isEqualTo(Map.of(1, 1));
+    }
+
+    @Test
+    void movedPostsAndCommentsAreReattributed() {
+        aggregator.onPosts(List.of(post(1, 1)));
+        aggregator.onComments(List.of(comment(1, 1)));
+
+        aggregator.onPosts(List.of(post(1, 2)));
+        aggregator.onComments(List.of(comment(1, 2)));
+
+        assertThat(aggregator.postsPerUser()).isEqualTo(Map.of(2, 1));
+        assertThat(aggregator.commentsPerPost()).isEqualTo(Map.of(2, 1));
+        assertThat(aggregator.summary(1).users()).isEqualTo(1);
+    }
+
+    @Test
+    void mostCommentedPostsAreOrderedAndLimited() {
+        aggregator.onComments(List.of(comment(1, 5), comment(2, 7), comment(3, 7), comment(4, 9), comment(5, 9)));
+
+        assertThat(aggregator.mostCommentedPosts(2))
+            .containsExactly(new PostCommentCount(7, 2), new PostCommentCount(9, 2));
+    }
+
+    @Test
+    void completenessIsTrackedSeparatelyFromCounts() {
+        aggregator.onPosts(List.of(post(1, 1)));
+        aggregator.onComments(List.of(comment(1, 1)));
+
+        assertThat(aggregator.hasAllPosts()).isFalse();
+        assertThat(aggregator.hasAllComments()).isFalse();
+
+        aggregator.onAllComments();
+
+        assertThat(aggregator.hasAllPosts()).isFalse();
+        assertThat(aggregator.hasAllComments()).isTrue();
+    }
+
+    @Test
+    void disabledAggregatorIgnoresDeliveries() {
+        properties.setEnabled(false);
+
+        aggregator.onPosts(List.of(post(1, 1)));
+        aggregator.onAllPosts();
+
+        assertThat(aggregator.isEnabled()).isFalse();
+        assertThat(aggregator.postsPerUser()).isEmpty();
+        assertThat(aggregator.hasAllPosts()).isFalse();
+    }
+
+    private static AuditionPost post(final int id, final int userId) {
+        return new AuditionPost(userId, id, "title", "body");
+    }
+
+    private static Comment comment(final int id, final int postId) {
+        return new Comment(postId, id, "name", "name@example.com", "body");
+    }
+}
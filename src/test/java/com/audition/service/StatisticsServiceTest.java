@@ -0,0 +1,74 @@
+package com.audition.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.audition.common.exception.SystemException;
+import com.audition.model.PostCommentCount;
+import java.util.List;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StatisticsServiceTest {
+
+    @Mock
+    private AuditionService auditionService;
+
+    @Mock
+    private StatisticsAggregator aggregator;
+
+    @Test
+    void loadsCollectionsNotYetAggregatedInFull() {
+        final var top = List.of(new PostCommentCount(1, 5));
+        when(aggregator.isEnabled()).thenReturn(true);
+        when(aggregator.hasAllPosts()).thenReturn(false);
+        when(aggregator.hasAllComments()).thenReturn(false);
+        when(aggregator.mostCommentedPosts(3)).thenReturn(top);
+
+        assertThat(new StatisticsService(auditionService, aggregator).getMostCommentedPosts(3)).isSameAs(top);
+        verify(auditionService).getPosts();
+        verify(auditionService).getComments();
+    }
+
+    @Test
+    void loadsOnlyTheMissingCollection() {
+        final var counts = new TreeMap<Integer, Integer>();
+        when(aggregator.isEnabled()).thenReturn(true);
+        when(aggregator.hasAllPosts()).thenReturn(false);
+        when(aggregator.hasAllComments()).thenReturn(true);
+        when(aggregator.postsPerUser()).thenReturn(counts);
+
+        assertThat(new StatisticsService(auditionService, aggregator).getPostsPerUser()).isSameAs(counts);
+        verify(auditionService).getPosts();
+        verify(auditionService, never()).getComments();
+    }
+
+    @Test
+    void servesAggregatesWithoutFetching() {
+        final var counts = new TreeMap<Integer, Integer>();
+        when(aggregator.isEnabled()).thenReturn(true);
+        when(aggregator.hasAllPosts()).thenReturn(true);
+        when(aggregator.hasAllComments()).thenReturn(true);
+        when(aggregator.postsPerUser()).thenReturn(counts);
+
+        assertThat(new StatisticsService(auditionService, aggregator).getPostsPerUser()).isSameAs(counts);
+        verifyNoInteractions(auditionService);
+    }
+
+    @Test
+    void statisticsAreNotFoundWhenDisabled() {
+        final StatisticsService service = new StatisticsService(auditionService, aggregator);
+
+        assertThatThrownBy(() -> service.getSummary(3))
+            .isInstanceOfSatisfying(SystemException.class, e -> assertThat(e.getStatusCode()).isEqualTo(404));
+        verifyNoInteractions(auditionService);
+    }
+}
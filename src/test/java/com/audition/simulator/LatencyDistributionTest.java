@@ -0,0 +1,87 @@
+package com.audition.simulator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class LatencyDistributionTest {
+
+    private final SplittableRandom random = new SplittableRandom(1);
+
+    @Test
+    void testParsesDurations() {
+        assertThat(LatencyDistribution.parseDuration("250us")).isEqualTo(Duration.ofNanos(250_000));
+        assertThat(LatencyDistribution.parseDuration("20ms")).isEqualTo(Duration.ofMillis(20));
+        assertThat(LatencyDistribution.parseDuration("1.5s")).isEqualTo(Duration.ofMillis(1500));
+        assertThat(LatencyDistribution.parseDuration("0")).isZero();
+        assertThatThrownBy(() -> LatencyDistribution.parseDuration("20")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testFixedAndUniformStayWithinBounds() {
+        assertThat(LatencyDistribution.parse("none").sampleNanos(random)).isZero();
+        assertThat(LatencyDistribution.parse("fixed:20ms").sampleNanos(random)).isEqualTo(20_000_000L);
+        final LatencyDistribution uniform = LatencyDistribution.parse("uniform:5ms:10ms");
+        for (int i = 0; i < 1000; i++) {
+            assertThat(uniform.sampleNanos(random)).isBetween(5_000_000L, 10_000_000L);
+        }
+    }
+
+    @Test
+    void testLogNormalIsCentredOnMedian() {
+        final LatencyDistribution logNormal = LatencyDistribution.parse("lognormal:20ms:0.5");
+        final long[] samples = new long[10_001];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = logNormal.sampleNanos(random);
+        }
+        Arrays.sort(samples);
+
+        assertThat(samples[samples.length / 2]).isBetween(18_000_000L, 22_000_000L);
+        assertThat(samples[samples.length - 1]).isGreaterThan(40_000_000L);
+    }
+
+    @Test
+    void testSpikeOccursAtConfiguredRate() {
+        final LatencyDistribution spike = LatencyDistribution.parse("spike:1ms:500ms:0.1");
+        int spikes = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (spike.sampleNanos(random) == 500_000_000L) {
+                spikes++;
+            }
+        }
+
+        assertThat(spikes).isBetween(800, 1200);
+    }
+
+    @Test
+    void testRejectsMalformedSpecifications() {
+        assertThatThrownBy(() -> LatencyDistribution.parse("gamma:1ms")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LatencyDistribution.parse("uniform:1ms")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LatencyDistribution.parse("uniform:9ms:1ms"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testProfileReadsPrefixedProperties() {
+        final Properties properties = new Properties();
+        properties.setProperty("simulator.posts", "500");
+        properties.setProperty("simulator.latency", "fixed:5ms");
+        properties.setProperty("simulator.error-rate", "0.25");
+        properties.setProperty("simulator.slow-drip-chunk-delay", "10ms");
+        properties.setProperty("simulator.seed", "7");
+
+        final SimulatorProfile profile = SimulatorProfile.fromProperties(properties, "simulator.");
+
+        assertThat(profile.getPosts()).isEqualTo(500);
+        assertThat(profile.getLatency().sampleNanos(random)).isEqualTo(5_000_000L);
+        assertThat(profile.getErrorRate()).isEqualTo(0.25);
+        assertThat(profile.getSlowDripChunkDelay()).isEqualTo(Duration.ofMillis(10));
+        assertThat(profile.getSeed()).isEqualTo(7L);
+        assertThat(profile.getCommentsPerPost()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,96 @@
+package com.audition.simulator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UpstreamSimulatorTest {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private UpstreamSimulator simulator;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final SimulatorProfile profile = new SimulatorProfile();
+        profile.setPosts(30);
+        profile.setCommentsPerPost(4);
+        profile.setSeed(42L);
+        simulator = UpstreamSimulator.start(profile);
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulator.close();
+    }
+
+    @Test
+    void testGeneratesConfiguredDataset() {
+        assertThat(simulator.posts()).hasSize(30);
+        assertThat(simulator.comments()).hasSize(120);
+        assertThat(simulator.posts().get(10).userId()).isEqualTo(2);
+        assertThat(simulator.baseUrl()).endsWith("/");
+    }
+
+    @Test
+    void testServesUpstreamRoutesWithFiltersAndWindows() throws Exception {
+        assertThat(get("posts").body()).startsWith("[{\"userId\":1,\"id\":1,");
+        assertThat(get("posts/3").body()).contains("\"id\":3,");
+        assertThat(get("posts?userId=2&_start=1&_limit=3").body())
+            .contains("\"id\":12,", "\"id\":14,").doesNotContain("\"id\":11,", "\"id\":15,");
+        assertThat(get("posts/2/comments").body()).contains("\"id\":5,", "\"id\":8,").doesNotContain("\"id\":9,");
+        assertThat(get("comments?postId=3&_limit=1").body()).contains("\"id\":9,").doesNotContain("\"id\":10,");
+        assertThat(get("posts/99").statusCode()).isEqualTo(404);
+        assertThat(get("posts/99/comments").body()).isEqualTo("[]");
+    }
+
+    @Test
+    void testInjectsErrorStatus() throws Exception {
+        final SimulatorProfile failing = simulator.profile();
+        failing.setErrorRate(1);
+        failing.setErrorStatus(502);
+        simulator.setProfile(failing);
+
+        assertThat(get("posts").statusCode()).isEqualTo(502);
+    }
+
+    @Test
+    void testResetsConnections() {
+        final SimulatorProfile resetting = simulator.profile();
+        resetting.setResetRate(1);
+        simulator.setProfile(resetting);
+
+        assertThatThrownBy(() -> get("posts")).isInstanceOf(IOException.class);
+        assertThat(simulator.requestCount()).isPositive();
+    }
+
+    @Test
+    void testDelaysAndDripsBodiesWithoutCorruptingThem() throws Exception {
+        final String expected = get("posts/1").body();
+        final SimulatorProfile slow = simulator.profile();
+        slow.setLatency(LatencyDistribution.fixed(Duration.ofMillis(50)));
+        slow.setSlowDripRate(1);
+        slow.setSlowDripChunkBytes(64);
+        slow.setSlowDripChunkDelay(Duration.ofMillis(5));
+        simulator.setProfile(slow);
+
+        final long start = System.nanoTime();
+        final HttpResponse<String> response = get("posts/1");
+
+        assertThat(response.body()).isEqualTo(expected);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(60));
+    }
+
+    private HttpResponse<String> get(final String path) throws IOException, InterruptedException {
+        return httpClient.send(HttpRequest.newBuilder(URI.create(simulator.baseUrl() + path)).build(),
+            HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,75 @@
+package com.audition.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import com.audition.common.exception.SystemException;
+import com.audition.model.AuditionPost;
+import com.audition.model.Comment;
+import com.audition.service.AuditionService;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@Getter
+@Setter
+class AuditionAsyncControllerTest {
+
+    private AuditionAsyncController controller;
+
+    @Mock
+    private AuditionService mockService;
+
+    @BeforeEach
+    void setUp() {
+        controller = new AuditionAsyncController(mockService);
+    }
+
+    @Test
+    void getPostsWithUserIdFiltersAsynchronously() {
+        final var p1 = new AuditionPost(1, 1, "t1", "b1");
+        final var p2 = new AuditionPost(2, 2, "t2", "b2");
+        when(mockService.getPostsAsync()).thenReturn(CompletableFuture.completedFuture(List.of(p1, p2)));
+
+        final var result = controller.getPosts(1).join();
+
+        assertThat(result).containsExactly(p1);
+    }
+
+    @Test
+    void getPostByIdDelegates() {
+        final var p = new AuditionPost(1, 1, "title", "body");
+        when(mockService.getPostByIdAsync("5")).thenReturn(CompletableFuture.completedFuture(p));
+
+        assertThat(controller.getPosts("5").join()).isSameAs(p);
+    }
+
+    @Test
+    void getCommentsDelegatesToBothRoutes() {
+        final var comments = List.of(new Comment(1, 1, "name", "name@example.com", "body"));
+        when(mockService.getCommentsByPostIdAsync("1")).thenReturn(CompletableFuture.completedFuture(comments));
+        when(mockService.getCommentsForPostAsync("1")).thenReturn(CompletableFuture.completedFuture(comments));
+
+        assertThat(controller.getComments("1").join()).isSameAs(comments);
+        assertThat(controller.getCommentsForPost("1").join()).isSameAs(comments);
+    }
+
+    @Test
+    void upstreamFailureCompletesFutureExceptionally() {
+        when(mockService.getPostByIdAsync("9"))
+            .thenReturn(CompletableFuture.failedFuture(new SystemException("Cannot find a Post with id: 9", 404)));
+
+        assertThatThrownBy(() -> controller.getPosts("9").join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(SystemException.class);
+    }
+}
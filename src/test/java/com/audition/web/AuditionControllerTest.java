@@ -1,12 +1,18 @@
 package com.audition.web;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.when;
 
+import com.audition.common.exception.SystemException;
 import com.audition.model.AuditionPost;
 import com.audition.model.Comment;
+import com.audition.model.PagedResult;
+import com.audition.model.Pagination;
+import com.audition.model.PostWithComments;
 import com.audition.service.AuditionService;
+import jakarta.validation.Validation;
 import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
@@ -15,6 +21,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 @ExtendWith(MockitoExtension.class)
 @Getter
@@ -33,31 +43,29 @@ class AuditionControllerTest {
 
     @Test
     void getPostsWithoutUserIdReturnsAll() {
-        final var posts = List.of(new AuditionPost(), new AuditionPost());
+        final var posts = List.of(new AuditionPost(1, 1, "title", "body"), new AuditionPost(1, 1, "title", "body"));
         when(mockService.getPosts()).thenReturn(posts);
 
-        final var result = controller.getPosts((Integer) null);
+        final var result = controller.getPosts(null, new PageParameters()).getBody();
 
         assertEquals(posts, result);
     }
 
     @Test
     void getPostsWithUserIdFiltersByUserId() {
-        final var p1 = new AuditionPost();
-        p1.setUserId(1);
-        final var p2 = new AuditionPost();
-        p2.setUserId(2);
+        final var p1 = new AuditionPost(1, 1, "t1", "b1");
+        final var p2 = new AuditionPost(2, 2, "t2", "b2");
         when(mockService.getPosts()).thenReturn(List.of(p1, p2));
 
-        final var result = controller.getPosts(1);
+        final var result = controller.getPosts(1, new PageParameters()).getBody();
 
         assertThat(result).hasSize(1);
-        assertEquals(1, result.get(0).getUserId());
+        assertEquals(1, result.get(0).userId());
     }
 
     @Test
     void getPostByIdDelegates() {
-        final var p = new AuditionPost();
+        final var p = new AuditionPost(1, 1, "title", "body");
         when(mockService.getPostById("5")).thenReturn(p);
 
         final var result = controller.getPosts("5");
@@ -67,21 +75,113 @@ class AuditionControllerTest {
 
     @Test
     void getCommentsDelegates() {
-        final var comments = List.of(new Comment());
+        final var comments = List.of(new Comment(1, 1, "name", "name@example.com", "body"));
         when(mockService.getCommentsByPostId("1")).thenReturn(comments);
 
-        final var result = controller.getComments("1");
+        final var result = controller.getComments("1", new PageParameters()).getBody();
 
         assertEquals(comments, result);
     }
 
     @Test
     void getCommentsForPostDelegates() {
-        final var comments = List.of(new Comment());
+        final var comments = List.of(new Comment(1, 1, "name", "name@example.com", "body"));
         when(mockService.getCommentsForPost("1")).thenReturn(comments);
 
-        final var result = controller.getCommentsForPost("1");
+        final var result = controller.getCommentsForPost("1", new PageParameters()).getBody();
 
         assertEquals(comments, result);
     }
+
+    @Test
+    void getPostWithCommentsDelegates() {
+        final var expanded = new PostWithComments(new AuditionPost(1, 1, "title", "body"), List.of(new Comment(1, 1, "name", "name@example.com", "body")));
+        when(mockService.getPostWithComments("1")).thenReturn(expanded);
+
+        assertEquals(expanded, controller.getPostWithComments("1"));
+    }
+
+    @Test
+    void getPostsWithCommentsDelegatesWithUserId() {
+        final var expanded = List.of(new PostWithComments(new AuditionPost(1, 1, "title", "body"), List.of()));
+        when(mockService.getPostsWithComments(3)).thenReturn(expanded);
+
+        assertEquals(expanded, controller.getPostsWithComments(3));
+    }
+
+    @Test
+    void pagedPostsAddNextLinkWithCursor() {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        request.setQueryString("userId=1&limit=2&offset=4");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            final var posts = List.of(new AuditionPost(1, 1, "title", "body"), new AuditionPost(1, 1, "title", "body"));
+            when(mockService.getPosts(1, new Pagination(4, 2))).thenReturn(new PagedResult<>(posts, true));
+            final var page = new PageParameters();
+            page.setLimit(2);
+            page.setOffset(4);
+
+            final var response = controller.getPosts(1, page);
+
+            assertEquals(posts, response.getBody());
+            assertThat(response.getHeaders().getFirst(HttpHeaders.LINK))
+                .contains("cursor=" + PageParameters.encodeCursor(6))
+                .contains("limit=2")
+                .contains("userId=1")
+                .doesNotContain("offset=")
+                .endsWith("rel=\"next\"");
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    void lastPageHasNoNextLink() {
+        final var comments = List.of(new Comment(1, 1, "name", "name@example.com", "body"));
+        when(mockService.getCommentsByPostId("1", new Pagination(0, 5))).thenReturn(new PagedResult<>(comments, false));
+        final var page = new PageParameters();
+        page.setLimit(5);
+
+        final var response = controller.getComments("1", page);
+
+        assertEquals(comments, response.getBody());
+        assertThat(response.getHeaders().containsKey(HttpHeaders.LINK)).isFalse();
+    }
+
+    @Test
+    void cursorSelectsOffset() {
+        final var comments = List.of(new Comment(1, 1, "name", "name@example.com", "body"));
+        when(mockService.getCommentsForPost("1", new Pagination(40, PageParameters.DEFAULT_LIMIT)))
+            .thenReturn(new PagedResult<>(comments, false));
+        final var page = new PageParameters();
+        page.setCursor(PageParameters.encodeCursor(40));
+
+        assertEquals(comments, controller.getCommentsForPost("1", page).getBody());
+    }
+
+    @Test
+    void invalidCursorIsRejected() {
+        final var page = new PageParameters();
+        page.setCursor("not-a-cursor");
+
+        assertThatThrownBy(() -> controller.getComments("1", page))
+            .isInstanceOf(SystemException.class)
+            .hasMessage("Invalid pagination cursor");
+    }
+
+    @Test
+    void offsetsThatWouldOverflowTheNextPageAreRejected() {
+        final var page = new PageParameters();
+        page.setOffset(Integer.MAX_VALUE);
+        try (var factory = Validation.buildDefaultValidatorFactory()) {
+            assertThat(factory.getValidator().validate(page)).extracting(v -> v.getPropertyPath().toString())
+                .containsExactly("offset");
+        }
+
+        final var cursorPage = new PageParameters();
+        cursorPage.setCursor(PageParameters.encodeCursor(Integer.MAX_VALUE));
+        assertThatThrownBy(() -> controller.getComments("1", cursorPage))
+            .isInstanceOf(SystemException.class)
+            .hasMessage("Invalid pagination cursor");
+    }
 }
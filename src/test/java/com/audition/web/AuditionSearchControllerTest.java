@@ -0,0 +1,28 @@
+package com.audition.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.audition.model.Comment;
+import com.audition.model.SearchHit;
+import com.audition.service.SearchService;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuditionSearchControllerTest {
+
+    @Mock
+    private SearchService searchService;
+
+    @Test
+    void searchDelegatesToService() {
+        final var hits = List.of(new SearchHit(SearchHit.COMMENT, 4, 2.5, new Comment(1, 1, "name", "name@example.com", "body")));
+        when(searchService.search("laudantium", 10)).thenReturn(hits);
+
+        assertThat(new AuditionSearchController(searchService).search("laudantium", 10)).isSameAs(hits);
+    }
+}
@@ -0,0 +1,45 @@
+package com.audition.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.audition.model.AuditionStatistics;
+import com.audition.model.PostCommentCount;
+import com.audition.service.StatisticsService;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuditionStatisticsControllerTest {
+
+    @Mock
+    private StatisticsService statisticsService;
+
+    private AuditionStatisticsController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new AuditionStatisticsController(statisticsService);
+    }
+
+    @Test
+    void endpointsDelegateToService() {
+        final var summary = new AuditionStatistics(1, 2, 1, List.of(new PostCommentCount(1, 2)));
+        final var counts = new TreeMap<>(Map.of(1, 2));
+        when(statisticsService.getSummary(10)).thenReturn(summary);
+        when(statisticsService.getPostsPerUser()).thenReturn(counts);
+        when(statisticsService.getCommentsPerPost()).thenReturn(counts);
+        when(statisticsService.getMostCommentedPosts(5)).thenReturn(summary.mostCommentedPosts());
+
+        assertThat(controller.getSummary(10)).isSameAs(summary);
+        assertThat(controller.getPostsPerUser()).isSameAs(counts);
+        assertThat(controller.getCommentsPerPost()).isSameAs(counts);
+        assertThat(controller.getMostCommentedPosts(5)).containsExactly(new PostCommentCount(1, 2));
+    }
+}
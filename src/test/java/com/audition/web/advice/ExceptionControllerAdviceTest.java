@@ -6,6 +6,7 @@ import com.audition.common.exception.SystemException;
 import com.audition.common.logging.AuditionLogger;
 import jakarta.validation.ConstraintViolationException;
 import java.lang.reflect.Field;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.Getter;
 import lombok.Setter;
 import org.junit.jupiter.api.BeforeEach;
@@ -75,6 +76,13 @@ class ExceptionControllerAdviceTest {
         assertThat(pd.getStatus()).isEqualTo(org.springframework.http.HttpStatus.METHOD_NOT_ALLOWED.value());
     }
 
+    @Test
+    void handleMainExceptionWithRejectedExecutionReturnsServiceUnavailable() {
+        final ProblemDetail pd = advice.handleMainException(new RejectedExecutionException("saturated"));
+
+        assertThat(pd.getStatus()).isEqualTo(org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE.value());
+    }
+
     @Test
     void handleMainExceptionWithConstraintViolationReturnsBadRequestTitle() {
         final ConstraintViolationException e = new ConstraintViolationException(null);
@@ -0,0 +1,69 @@
+package com.audition.web.advice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.audition.model.AuditionPost;
+import com.audition.web.AuditionController;
+import com.audition.web.projection.FieldProjection;
+import com.audition.web.projection.ProjectedValue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+
+class FieldProjectionAdviceTest {
+
+    private final FieldProjectionAdvice advice = new FieldProjectionAdvice(new FieldProjection(new ObjectMapper()));
+
+    @Test
+    void supportsOnlyJacksonConverter() {
+        assertThat(advice.supports(null, MappingJackson2HttpMessageConverter.class)).isTrue();
+        assertThat(advice.supports(null, StringHttpMessageConverter.class)).isFalse();
+    }
+
+    @Test
+    void bodyIsUnchangedWithoutFieldsParameter() {
+        final List<AuditionPost> body = List.of(new AuditionPost(1, 1, "title", "body"));
+
+        assertThat(write(body, new MockHttpServletRequest())).isSameAs(body);
+    }
+
+    @Test
+    void bodyIsProjectedWhenFieldsParameterPresent() {
+        final List<AuditionPost> body = List.of(new AuditionPost(1, 1, "title", "body"));
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter(FieldProjectionAdvice.FIELDS_PARAMETER, "id");
+
+        final Object written = write(body, request);
+
+        assertThat(written).isInstanceOf(ProjectedValue.class);
+        assertThat(((ProjectedValue) written).value()).isSameAs(body);
+    }
+
+    @Test
+    void problemDetailIsNeverProjected() {
+        final ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter(FieldProjectionAdvice.FIELDS_PARAMETER, "id");
+
+        assertThat(write(problem, request)).isSameAs(problem);
+    }
+
+    @Test
+    void appliesToThePostAndCommentControllerOnly() {
+        assertThat(FieldProjectionAdvice.class.getAnnotation(ControllerAdvice.class).assignableTypes())
+            .containsExactly(AuditionController.class);
+    }
+
+    private Object write(final Object body, final MockHttpServletRequest request) {
+        return advice.beforeBodyWrite(body, null, MediaType.APPLICATION_JSON, MappingJackson2HttpMessageConverter.class,
+            new ServletServerHttpRequest(request), null);
+    }
+}
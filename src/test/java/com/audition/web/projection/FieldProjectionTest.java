@@ -0,0 +1,76 @@
+package com.audition.web.projection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.audition.common.exception.SystemException;
+import com.audition.model.AuditionPost;
+import com.audition.model.Comment;
+import com.audition.model.PostWithComments;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FieldProjectionTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FieldProjection projection = new FieldProjection(objectMapper);
+
+    @Test
+    void parseNormalizesFieldSet() {
+        assertThat(projection.parse(" title,id,,title ")).containsExactly("id", "title");
+    }
+
+    @Test
+    void parseRejectsUnknownFields() {
+        assertThatThrownBy(() -> projection.parse("id,password"))
+            .isInstanceOf(SystemException.class)
+            .satisfies(e -> assertThat(((SystemException) e).getStatusCode()).isEqualTo(400));
+    }
+
+    @Test
+    void parseRejectsEmptyFieldList() {
+        assertThatThrownBy(() -> projection.parse(" , ")).isInstanceOf(SystemException.class);
+    }
+
+    @Test
+    void writerIsCachedPerFieldSet() {
+        assertThat(projection.writerFor(projection.parse("title,id")))
+            .isSameAs(projection.writerFor(projection.parse("id,title")))
+            .isNotSameAs(projection.writerFor(projection.parse("id")));
+    }
+
+    @Test
+    void writerSerializesOnlyRequestedFields() throws Exception {
+        final AuditionPost post = post(1, "t");
+
+        final JsonNode json = objectMapper.readTree(
+            projection.writerFor(projection.parse("id,title")).writeValueAsString(List.of(post)));
+
+        assertThat(json.get(0).fieldNames()).toIterable().containsExactlyInAnyOrder("id", "title");
+    }
+
+    @Test
+    void projectionAppliesToUnwrappedPostAndNestedComments() throws Exception {
+        final Comment comment = new Comment(1, 7, null, "a@b.c", null);
+        final PostWithComments expanded = new PostWithComments(post(1, "t"), List.of(comment));
+
+        final JsonNode json = objectMapper.readTree(
+            projection.writerFor(projection.parse("id,comments")).writeValueAsString(expanded));
+
+        assertThat(json.fieldNames()).toIterable().containsExactlyInAnyOrder("id", "comments");
+        assertThat(json.get("comments").get(0).fieldNames()).toIterable().containsExactly("id");
+    }
+
+    @Test
+    void projectedValueDelegatesToProjectionWriter() throws Exception {
+        final ProjectedValue value = new ProjectedValue(post(3, "x"), projection.writerFor(projection.parse("title")));
+
+        assertThat(objectMapper.writeValueAsString(value)).isEqualTo("{\"title\":\"x\"}");
+    }
+
+    private static AuditionPost post(final int id, final String title) {
+        return new AuditionPost(1, id, title, "body");
+    }
+}
@@ -0,0 +1,121 @@
+package com.audition.simulator;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+/**
+ * Distribution the {@link UpstreamSimulator} draws the latency of each response from.
+ *
+ * <p>Distributions can be written as specifications, which is how they are configured from system properties:
+ * <ul>
+ *   <li>{@code none} - no added latency
+ *   <li>{@code fixed:20ms} - always the given latency
+ *   <li>{@code uniform:5ms:50ms} - uniformly distributed between the bounds
+ *   <li>{@code lognormal:20ms:0.5} - log-normal with the given median and shape (sigma); a long right tail like real
+ *       services
+ *   <li>{@code spike:5ms:800ms:0.01} - the base latency, and with the given probability the spike latency instead
+ * </ul>
+ * Durations are written as a number with one of the units {@code us}, {@code ms} or {@code s}.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * Draw one latency.
+     *
+     * @param random the random source
+     * @return the latency in nanoseconds, never negative
+     */
+    long sampleNanos(RandomGenerator random);
+
+    static LatencyDistribution none() {
+        return random -> 0;
+    }
+
+    static LatencyDistribution fixed(final Duration latency) {
+        final long nanos = latency.toNanos();
+        return random -> nanos;
+    }
+
+    static LatencyDistribution uniform(final Duration min, final Duration max) {
+        final long low = min.toNanos();
+        final long high = max.toNanos();
+        if (high < low) {
+            throw new IllegalArgumentException("max must not be lower than min");
+        }
+        return random -> high == low ? low : random.nextLong(low, high + 1);
+    }
+
+    static LatencyDistribution logNormal(final Duration median, final double sigma) {
+        final double medianNanos = median.toNanos();
+        if (sigma < 0) {
+            throw new IllegalArgumentException("sigma must not be negative");
+        }
+        return random -> Math.round(medianNanos * Math.exp(sigma * random.nextGaussian()));
+    }
+
+    static LatencyDistribution spike(final Duration base, final Duration spike, final double probability) {
+        final long baseNanos = base.toNanos();
+        final long spikeNanos = spike.toNanos();
+        return random -> random.nextDouble() < probability ? spikeNanos : baseNanos;
+    }
+
+    /**
+     * Parse a distribution specification (see the type documentation).
+     *
+     * @param specification the specification, e.g. {@code lognormal:20ms:0.5}
+     * @return the distribution
+     * @throws IllegalArgumentException when the specification is malformed
+     */
+    static LatencyDistribution parse(final String specification) {
+        final String[] parts = specification.trim().split(":");
+        final String kind = parts[0].toLowerCase(Locale.ROOT);
+        try {
+            return switch (kind) {
+                case "none" -> none();
+                case "fixed" -> fixed(parseDuration(parts[1]));
+                case "uniform" -> uniform(parseDuration(parts[1]), parseDuration(parts[2]));
+                case "lognormal" -> logNormal(parseDuration(parts[1]), Double.parseDouble(parts[2]));
+                case "spike" -> spike(parseDuration(parts[1]), parseDuration(parts[2]), Double.parseDouble(parts[3]));
+                default -> throw new IllegalArgumentException("Unknown latency distribution: " + specification);
+            };
+        } catch (final ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Missing parameters in latency distribution: " + specification, e);
+        }
+    }
+
+    /**
+     * Parse a duration written as a number and one of the units {@code us}, {@code ms} or {@code s}; {@code 0} needs
+     * no unit.
+     *
+     * @param text the duration, e.g. {@code 20ms} or {@code 1.5s}
+     * @return the duration
+     * @throws IllegalArgumentException when the duration is malformed
+     */
+    static Duration parseDuration(final String text) {
+        final String value = text.trim().toLowerCase(Locale.ROOT);
+        if ("0".equals(value)) {
+            return Duration.ZERO;
+        }
+        final double nanosPerUnit;
+        final String number;
+        if (value.endsWith("us")) {
+            nanosPerUnit = 1e3;
+            number = value.substring(0, value.length() - 2);
+        } else if (value.endsWith("ms")) {
+            nanosPerUnit = 1e6;
+            number = value.substring(0, value.length() - 2);
+        } else if (value.endsWith("s")) {
+            nanosPerUnit = 1e9;
+            number = value.substring(0, value.length() - 1);
+        } else {
+            throw new IllegalArgumentException("Duration needs a unit (us, ms or s): " + text);
+        }
+        final double amount = Double.parseDouble(number);
+        if (amount < 0) {
+            throw new IllegalArgumentException("Duration must not be negative: " + text);
+        }
+        return Duration.ofNanos(Math.round(amount * nanosPerUnit));
+    }
+}
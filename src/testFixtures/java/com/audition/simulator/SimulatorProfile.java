@@ -0,0 +1,156 @@
+package com.audition.simulator;
+
+import java.time.Duration;
+import java.util.Properties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Dataset size and fault injection settings of the {@link UpstreamSimulator}.
+ *
+ * <p>Faults are decided per request, in this order: the latency drawn from {@link #getLatency()} is waited out, then
+ * the connection is reset with {@link #getResetRate()}, then an error status is answered with {@link #getErrorRate()},
+ * and otherwise the body is sent, dripped slowly in small chunks with {@link #getSlowDripRate()}.
+ *
+ * <p>A profile can be read from properties (see {@link #fromProperties(Properties, String)}), with the keys
+ * {@code posts}, {@code posts-per-user}, {@code comments-per-post}, {@code latency}, {@code error-rate},
+ * {@code error-status}, {@code reset-rate}, {@code slow-drip-rate}, {@code slow-drip-chunk-bytes},
+ * {@code slow-drip-chunk-delay} and {@code seed}.
+ */
+@Getter
+@Setter
+public class SimulatorProfile {
+
+    /**
+     * Number of generated posts.
+     */
+    private int posts = 100;
+
+    /**
+     * Number of consecutive posts owned by each user.
+     */
+    private int postsPerUser = 10;
+
+    /**
+     * Number of generated comments per post.
+     */
+    private int commentsPerPost = 5;
+
+    /**
+     * Latency added before each response.
+     */
+    private LatencyDistribution latency = LatencyDistribution.none();
+
+    /**
+     * Fraction of requests answered with {@link #getErrorStatus()}.
+     */
+    private double errorRate;
+
+    /**
+     * Status of injected errors.
+     */
+    private int errorStatus = 503;
+
+    /**
+     * Fraction of requests whose connection is closed without any response.
+     */
+    private double resetRate;
+
+    /**
+     * Fraction of successful responses whose body is sent in small, delayed chunks.
+     */
+    private double slowDripRate;
+
+    /**
+     * Size of each chunk of a slowly dripped body.
+     */
+    private int slowDripChunkBytes = 256;
+
+    /**
+     * Pause after each chunk of a slowly dripped body.
+     */
+    private Duration slowDripChunkDelay = Duration.ofMillis(50);
+
+    /**
+     * Seed making the fault decisions of the n-th request reproducible; {@code null} for a random run.
+     */
+    private Long seed;
+
+    /**
+     * Read a profile from properties, keeping the defaults for absent keys.
+     *
+     * @param properties the properties, e.g. the system properties
+     * @param prefix     prefix of the keys, e.g. {@code simulator.}
+     * @return the profile
+     * @throws IllegalArgumentException when a value is malformed
+     */
+    public static SimulatorProfile fromProperties(final Properties properties, final String prefix) {
+        final SimulatorProfile profile = new SimulatorProfile();
+        final String posts = properties.getProperty(prefix + "posts");
+        if (posts != null) {
+            profile.setPosts(Integer.parseInt(posts.trim()));
+        }
+        final String postsPerUser = properties.getProperty(prefix + "posts-per-user");
+        if (postsPerUser != null) {
+            profile.setPostsPerUser(Integer.parseInt(postsPerUser.trim()));
+        }
+        final String commentsPerPost = properties.getProperty(prefix + "comments-per-post");
+        if (commentsPerPost != null) {
+            profile.setCommentsPerPost(Integer.parseInt(commentsPerPost.trim()));
+        }
+        final String latency = properties.getProperty(prefix + "latency");
+        if (latency != null) {
+            profile.setLatency(LatencyDistribution.parse(latency));
+        }
+        final String errorRate = properties.getProperty(prefix + "error-rate");
+        if (errorRate != null) {
+            profile.setErrorRate(Double.parseDouble(errorRate.trim()));
+        }
+        final String errorStatus = properties.getProperty(prefix + "error-status");
+        if (errorStatus != null) {
+            profile.setErrorStatus(Integer.parseInt(errorStatus.trim()));
+        }
+        final String resetRate = properties.getProperty(prefix + "reset-rate");
+        if (resetRate != null) {
+            profile.setResetRate(Double.parseDouble(resetRate.trim()));
+        }
+        final String slowDripRate = properties.getProperty(prefix + "slow-drip-rate");
+        if (slowDripRate != null) {
+            profile.setSlowDripRate(Double.parseDouble(slowDripRate.trim()));
+        }
+        final String chunkBytes = properties.getProperty(prefix + "slow-drip-chunk-bytes");
+        if (chunkBytes != null) {
+            profile.setSlowDripChunkBytes(Integer.parseInt(chunkBytes.trim()));
+        }
+        final String chunkDelay = properties.getProperty(prefix + "slow-drip-chunk-delay");
+        if (chunkDelay != null) {
+            profile.setSlowDripChunkDelay(LatencyDistribution.parseDuration(chunkDelay));
+        }
+        final String seed = properties.getProperty(prefix + "seed");
+        if (seed != null) {
+            profile.setSeed(Long.valueOf(seed.trim()));
+        }
+        return profile;
+    }
+
+    /**
+     * Copy of this profile, so a running simulator can be switched to modified settings.
+     *
+     * @return the copy
+     */
+    public SimulatorProfile copy() {
+        final SimulatorProfile copy = new SimulatorProfile();
+        copy.setPosts(posts);
+        copy.setPostsPerUser(postsPerUser);
+        copy.setCommentsPerPost(commentsPerPost);
+        copy.setLatency(latency);
+        copy.setErrorRate(errorRate);
+        copy.setErrorStatus(errorStatus);
+        copy.setResetRate(resetRate);
+        copy.setSlowDripRate(slowDripRate);
+        copy.setSlowDripChunkBytes(slowDripChunkBytes);
+        copy.setSlowDripChunkDelay(slowDripChunkDelay);
+        copy.setSeed(seed);
+        return copy;
+    }
+}
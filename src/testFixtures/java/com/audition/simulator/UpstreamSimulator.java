@@ -0,0 +1,360 @@
+package com.audition.simulator;
+
+import com.audition.model.AuditionPost;
+import com.audition.model.Comment;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Self-contained stand-in for the JSONPlaceholder upstream, for reproducing slow or failing upstreams offline.
+ *
+ * <p>The simulator serves {@code /posts}, {@code /posts/{id}}, {@code /posts/{id}/comments} and {@code /comments}
+ * from generated datasets, including the {@code userId}/{@code postId} filters and the {@code _start}/{@code _limit}
+ * windows the client pushes down. Latency, error statuses, connection resets and slowly dripped bodies are injected
+ * as described by the current {@link SimulatorProfile}, which can be switched while the simulator runs (for example to
+ * start an error burst); the dataset is generated once at start.
+ *
+ * <p>Requests are handled on their own threads, so injected latency does not hold up other requests. Run it
+ * standalone with {@code ./gradlew runSimulator} and start the application with the {@code simulator} profile.
+ */
+public final class UpstreamSimulator implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 8089;
+    public static final String PROPERTY_PREFIX = "simulator.";
+
+    private static final String CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final byte[] EMPTY_ARRAY = "[]".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EMPTY_OBJECT = "{}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ERROR_BODY = "{\"error\":\"simulated upstream failure\"}"
+        .getBytes(StandardCharsets.UTF_8);
+    private static final Pattern POST_PATH = Pattern.compile("/posts/(\\d{1,9})");
+    private static final Pattern POST_COMMENTS_PATH = Pattern.compile("/posts/(\\d{1,9})/comments");
+    private static final long SEED_INCREMENT = 0x9E37_79B9_7F4A_7C15L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<AuditionPost> posts;
+    private final List<Comment> comments;
+    private final byte[] postsJson;
+    private final byte[] commentsJson;
+    private final Map<Integer, byte[]> postJson = new HashMap<>();
+    private final Map<Integer, byte[]> postCommentsJson = new HashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final ExecutorService executor;
+    private final HttpServer server;
+    private volatile SimulatorProfile profile;
+
+    private UpstreamSimulator(final SimulatorProfile profile, final int port) throws IOException {
+        this.profile = profile.copy();
+        this.posts = generatePosts(profile);
+        this.comments = generateComments(profile);
+        this.postsJson = objectMapper.writeValueAsBytes(posts);
+        this.commentsJson = objectMapper.writeValueAsBytes(comments);
+        final Map<Integer, List<Comment>> byPost = new HashMap<>();
+        for (final Comment comment : comments) {
+            byPost.computeIfAbsent(comment.postId(), id -> new ArrayList<>()).add(comment);
+        }
+        for (final AuditionPost post : posts) {
+            postJson.put(post.id(), objectMapper.writeValueAsBytes(post));
+            postCommentsJson.put(post.id(), objectMapper.writeValueAsBytes(byPost.getOrDefault(post.id(), List.of())));
+        }
+        final AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(task -> {
+            final Thread thread = new Thread(task, "upstream-simulator-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Start a simulator on a free loopback port.
+     *
+     * @param profile dataset size and initial fault settings
+     * @return the running simulator
+     * @throws IOException when the server cannot be started
+     */
+    public static UpstreamSimulator start(final SimulatorProfile profile) throws IOException {
+        return start(profile, 0);
+    }
+
+    /**
+     * Start a simulator on the given loopback port.
+     *
+     * @param profile dataset size and initial fault settings
+     * @param port    the port, or {@code 0} for a free one
+     * @return the running simulator
+     * @throws IOException when the server cannot be started
+     */
+    public static UpstreamSimulator start(final SimulatorProfile profile, final int port) throws IOException {
+        return new UpstreamSimulator(profile, port);
+    }
+
+    /**
+     * Base URL in the form expected by {@code api.host.baseurl}, with a trailing slash.
+     *
+     * @return the base URL
+     */
+    public String baseUrl() {
+        return "http://127.0.0.1:" + port() + "/";
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Number of requests received so far, including failed ones.
+     *
+     * @return the request count
+     */
+    public long requestCount() {
+        return requests.get();
+    }
+
+    public List<AuditionPost> posts() {
+        return posts;
+    }
+
+    public List<Comment> comments() {
+        return comments;
+    }
+
+    public SimulatorProfile profile() {
+        return profile.copy();
+    }
+
+    /**
+     * Switch to new fault settings; requests already in progress finish with the previous ones. The dataset settings
+     * of the new profile are ignored.
+     *
+     * @param newProfile the new settings
+     */
+    public void setProfile(final SimulatorProfile newProfile) {
+        this.profile = newProfile.copy();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Run the simulator until the JVM is stopped. The port is read from the {@code simulator.port} system property
+     * (default {@value #DEFAULT_PORT}) and the profile from the other {@code simulator.*} system properties.
+     *
+     * <p>With {@code simulator.instances=N} N replicas are started on consecutive ports, for example to try client-side
+     * load balancing; {@code simulator.<i>.*} properties override the profile of the replica with index {@code i},
+     * e.g. {@code -Dsimulator.1.latency=200ms} slows down the second one.
+     *
+     * @param args ignored
+     * @throws IOException          when the server cannot be started
+     * @throws InterruptedException when interrupted while running
+     */
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        final int port = Integer.getInteger(PROPERTY_PREFIX + "port", DEFAULT_PORT);
+        final int instances = Integer.getInteger(PROPERTY_PREFIX + "instances", 1);
+        final List<UpstreamSimulator> simulators = new ArrayList<>(instances);
+        for (int i = 0; i < instances; i++) {
+            final SimulatorProfile profile = SimulatorProfile.fromProperties(instanceProperties(i), PROPERTY_PREFIX);
+            simulators.add(start(profile, port + i));
+        }
+        final CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            simulators.forEach(UpstreamSimulator::close);
+            stopped.countDown();
+        }));
+        for (final UpstreamSimulator simulator : simulators) {
+            System.out.println("Upstream simulator serving " + simulator.posts.size() + " posts and " //NOPMD
+                + simulator.comments.size() + " comments at " + simulator.baseUrl());
+        }
+        stopped.await();
+    }
+
+    private static Properties instanceProperties(final int index) {
+        final Properties properties = new Properties();
+        properties.putAll(System.getProperties());
+        final String instancePrefix = PROPERTY_PREFIX + index + ".";
+        for (final String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(instancePrefix)) {
+                properties.setProperty(PROPERTY_PREFIX + name.substring(instancePrefix.length()),
+                    System.getProperty(name));
+            }
+        }
+        return properties;
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        final long request = requests.getAndIncrement();
+        final SimulatorProfile current = profile;
+        final SplittableRandom random = current.getSeed() == null ? new SplittableRandom()
+            : new SplittableRandom(current.getSeed() + request * SEED_INCREMENT);
+        try {
+            exchange.getRequestBody().readAllBytes();
+            pause(current.getLatency().sampleNanos(random));
+            if (random.nextDouble() < current.getResetRate()) {
+                // closing the exchange before any response byte closes the connection
+                return;
+            }
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, EMPTY_OBJECT, null);
+            } else if (random.nextDouble() < current.getErrorRate()) {
+                send(exchange, current.getErrorStatus(), ERROR_BODY, null);
+            } else {
+                final byte[] body = route(exchange.getRequestURI());
+                if (body == null) {
+                    send(exchange, 404, EMPTY_OBJECT, null);
+                } else {
+                    send(exchange, 200, body, random.nextDouble() < current.getSlowDripRate() ? current : null);
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private byte[] route(final URI uri) throws JsonProcessingException {
+        final String path = uri.getPath();
+        final Map<String, String> query = query(uri.getRawQuery());
+        if ("/posts".equals(path)) {
+            final String userId = query.get("userId");
+            return window(posts, post -> userId == null || userId.equals(Integer.toString(post.userId())), query,
+                userId == null ? postsJson : null);
+        }
+        if ("/comments".equals(path)) {
+            final String postId = query.get("postId");
+            return window(comments, comment -> postId == null || postId.equals(Integer.toString(comment.postId())),
+                query, postId == null ? commentsJson : null);
+        }
+        final Matcher postComments = POST_COMMENTS_PATH.matcher(path);
+        if (postComments.matches()) {
+            final int postId = Integer.parseInt(postComments.group(1));
+            return window(comments, comment -> comment.postId() == postId, query,
+                postCommentsJson.getOrDefault(postId, EMPTY_ARRAY));
+        }
+        final Matcher post = POST_PATH.matcher(path);
+        if (post.matches()) {
+            return postJson.get(Integer.parseInt(post.group(1)));
+        }
+        return null;
+    }
+
+    /**
+     * Apply the filter and the {@code _start}/{@code _limit} window. Without a window the precomputed body is used
+     * when there is one.
+     */
+    private <T> byte[] window(final List<T> items, final Predicate<T> filter, final Map<String, String> query,
+        final byte[] precomputed) throws JsonProcessingException {
+        final int start = parseOrDefault(query.get("_start"), 0);
+        final int limit = parseOrDefault(query.get("_limit"), Integer.MAX_VALUE);
+        if (precomputed != null && start == 0 && limit == Integer.MAX_VALUE) {
+            return precomputed;
+        }
+        return objectMapper.writeValueAsBytes(items.stream().filter(filter).skip(start).limit(limit).toList());
+    }
+
+    private static void send(final HttpExchange exchange, final int status, final byte[] body,
+        final SimulatorProfile slowDrip) throws IOException, InterruptedException {
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, body.length);
+        final OutputStream out = exchange.getResponseBody();
+        if (slowDrip == null) {
+            out.write(body);
+        } else {
+            final int chunk = Math.max(1, slowDrip.getSlowDripChunkBytes());
+            for (int offset = 0; offset < body.length; offset += chunk) {
+                out.write(body, offset, Math.min(chunk, body.length - offset));
+                out.flush();
+                pause(slowDrip.getSlowDripChunkDelay().toNanos());
+            }
+        }
+        out.close();
+    }
+
+    private static void pause(final long nanos) throws InterruptedException {
+        if (nanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        }
+    }
+
+    private static Map<String, String> query(final String rawQuery) {
+        final Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (final String pair : rawQuery.split("&")) {
+            final int separator = pair.indexOf('=');
+            if (separator > 0) {
+                parameters.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    private static int parseOrDefault(final String value, final int defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(value));
+        } catch (final NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static List<AuditionPost> generatePosts(final SimulatorProfile profile) {
+        final int perUser = Math.max(1, profile.getPostsPerUser());
+        final List<AuditionPost> generated = new ArrayList<>(profile.getPosts());
+        for (int id = 1; id <= profile.getPosts(); id++) {
+            generated.add(new AuditionPost(1 + (id - 1) / perUser, id,
+                "sunt aut facere repellat provident occaecati excepturi optio reprehenderit " + id,
+                "quia et suscipit\nsuscipit recusandae consequuntur expedita et cum\nreprehenderit molestiae ut ut "
+                    + "quas totam\nnostrum rerum est autem sunt rem eveniet architecto " + id));
+        }
+        return List.copyOf(generated);
+    }
+
+    private static List<Comment> generateComments(final SimulatorProfile profile) {
+        final List<Comment> generated = new ArrayList<>(profile.getPosts() * profile.getCommentsPerPost());
+        int id = 1;
+        for (int postId = 1; postId <= profile.getPosts(); postId++) {
+            for (int i = 0; i < profile.getCommentsPerPost(); i++, id++) {
+                generated.add(new Comment(postId, id, "id labore ex et quam laborum " + id,
+                    "user" + id + "@" + (id % 2 == 0 ? "gardner.biz" : "sydney.com"),
+                    "laudantium enim quasi est quidem magnam voluptate ipsam eos\ntempora quo necessitatibus\n"
+                        + "dolor quam autem quasi\nreiciendis et nam sapiente accusantium " + id));
+            }
+        }
+        return List.copyOf(generated);
+    }
+}